@@ -0,0 +1,205 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.madgear.ninjatrials.benchmarks.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.madgear.ninjatrials.achievements.AchievementSetNinjaTrial;
+import com.madgear.ninjatrials.achievements.TrialEvent;
+import com.madgear.ninjatrials.hud.AngleCursor;
+import com.madgear.ninjatrials.hud.TimeDigits;
+import com.madgear.ninjatrials.managers.SaveFormat;
+import com.madgear.ninjatrials.records.Leaderboard;
+import com.madgear.ninjatrials.records.Record;
+import com.madgear.ninjatrials.trials.shuriken.ShurikenSpatialIndex;
+import com.madgear.ninjatrials.utils.FixedStepLoop;
+import com.madgear.ninjatrials.utils.ParallaxTiles;
+
+/**
+ * The operations of HotPathsBenchmark in JMH. Run with the gc profiler (-prof gc): the
+ * gc.alloc.rate.norm of the per frame operations (parallaxFrame, angleCursorStep, chronoDigits,
+ * achievementEvent, shurikenHitCheck) must be 0 bytes per operation.
+ *
+ * The inputs change in every call, like in HotPathsBenchmark, so the results can be compared.
+ * achievementEvent publishes the events of a trial to achievements reset before every call, so
+ * it doesn't measure only completed achievements after the warmup.
+ *
+ * @author Madgear Games
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HotPathsBenchmark {
+    private static final float WIDTH = 1920;
+    private static final float HEIGHT = 1080;
+    // Events published in a call of achievementEvent:
+    private static final int TRIAL_EVENTS = 100;
+
+    private ParallaxTiles[] layers;
+    private AngleCursor cursor;
+    private AngleCursor powerCursor;
+    private char[] digits;
+    private AchievementSetNinjaTrial achiev;
+    private ShurikenSpatialIndex index;
+    private Record[] records;
+    private Leaderboard leaderboard;
+    private byte[] binary;
+    private int i = 0;
+
+    @Setup
+    public void setUp() {
+        // The 19 layers of the Jump background:
+        final float[] factors = {-0.5f, -1.8f, -2.0f, -2.0f, -4.0f, -4.5f, -5.5f, -5.5f, -5.5f,
+                -9.0f, -9.0f, -9.0f, -9.0f, -10.0f, -10.0f, -10.0f, -10.0f};
+        layers = new ParallaxTiles[factors.length + 2];
+        for (int l = 0; l < factors.length; l++) {
+            layers[l] = new ParallaxTiles(factors[l], factors[l], false, false, false, -1, -1);
+        }
+        // The bamboo that repeats up to the top:
+        layers[factors.length] = new ParallaxTiles(-10.0f, -10.0f, false, true, false, -1, 10);
+        layers[factors.length + 1] = new ParallaxTiles(-10.0f, -10.0f, false, true, false, -1, 10);
+
+        cursor = new AngleCursor(2);
+        cursor.start();
+        powerCursor = new AngleCursor(2);
+        digits = new char[TimeDigits.length(2, 2)];
+        achiev = new AchievementSetNinjaTrial();
+        index = new ShurikenSpatialIndex(WIDTH, 10, 16);
+
+        final Random random = new Random(1);
+        records = new Record[1024];
+        for (int r = 0; r < records.length; r++) {
+            records[r] = new Record(1, "Player1", random.nextInt(2), random.nextInt(100000));
+        }
+        leaderboard = new Leaderboard(1000);
+        binary = SaveFormat.writeAchievements(achiev);
+    }
+
+    @Benchmark
+    public int parallaxFrame() {
+        final float value = i++ % 906;
+        int tiles = 0;
+        for (int l = 0; l < layers.length; l++) {
+            tiles += layers[l].compute(0, value, WIDTH, HEIGHT, WIDTH, HEIGHT);
+        }
+        return tiles;
+    }
+
+    @Benchmark
+    public float angleCursorStep() {
+        cursor.onStep(FixedStepLoop.DEFAULT_STEP);
+        if (cursor.getJumpValue() == -1) {
+            cursor.setValueToBeginning();
+        }
+        return cursor.getValue();
+    }
+
+    /**
+     * Once per jump, returns a new array.
+     */
+    @Benchmark
+    public float[] anglePowerValue() {
+        powerCursor.setValue(i++ % AngleCursor.MAX_VALUE);
+        return powerCursor.getPowerValue();
+    }
+
+    @Benchmark
+    public char[] chronoDigits() {
+        TimeDigits.fill(i++ * FixedStepLoop.DEFAULT_STEP % 100, 2, 2, digits);
+        return digits;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TRIAL_EVENTS)
+    public int achievementEvent(final TrialAchievements trial) {
+        int changed = 0;
+        for (int e = 0; e < TRIAL_EVENTS; e++) {
+            final int n = i++;
+            if (trial.achiev.publish(n % TrialEvent.COUNT, n % 100)) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 10 enemies moving in the index and a shuriken launched.
+     */
+    @Benchmark
+    public int shurikenHitCheck() {
+        final int n = i++;
+        for (int slot = 0; slot < 10; slot++) {
+            index.update(slot, (slot * 192 + n * 4) % WIDTH);
+        }
+        return index.findNearest((n * 7) % WIDTH, WIDTH * 0.1f);
+    }
+
+    @Benchmark
+    public int recordsInsert() {
+        return leaderboard.insert(records[i++ % records.length]);
+    }
+
+    @Benchmark
+    public byte[] achievementsSave() {
+        return SaveFormat.writeAchievements(achiev);
+    }
+
+    @Benchmark
+    public AchievementSetNinjaTrial achievementsLoad() throws Exception {
+        final AchievementSetNinjaTrial loaded = new AchievementSetNinjaTrial();
+        SaveFormat.readAchievements(binary, loaded);
+        return loaded;
+    }
+
+    /**
+     * The achievements of achievementEvent, none completed at the start of every call. They are
+     * reset, not created again, so the reset doesn't allocate.
+     */
+    @State(Scope.Thread)
+    public static class TrialAchievements {
+        final AchievementSetNinjaTrial achiev = new AchievementSetNinjaTrial();
+
+        @Setup(Level.Invocation)
+        public void reset() {
+            for (int a = 0; a < AchievementSetNinjaTrial.ACHIEV_NUM; a++) {
+                achiev.restore(a, false, 0);
+            }
+            achiev.recount();
+        }
+    }
+}
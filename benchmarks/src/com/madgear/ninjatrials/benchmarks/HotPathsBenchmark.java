@@ -0,0 +1,241 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import com.madgear.ninjatrials.achievements.AchievementSetNinjaTrial;
+import com.madgear.ninjatrials.achievements.TrialEvent;
+import com.madgear.ninjatrials.hud.AngleCursor;
+import com.madgear.ninjatrials.hud.TimeDigits;
+import com.madgear.ninjatrials.managers.SaveFormat;
+import com.madgear.ninjatrials.records.Leaderboard;
+import com.madgear.ninjatrials.records.Record;
+import com.madgear.ninjatrials.trials.shuriken.ShurikenSpatialIndex;
+import com.madgear.ninjatrials.utils.FixedStepLoop;
+import com.madgear.ninjatrials.utils.ParallaxTiles;
+
+/**
+ * Time and memory allocated per operation of the code that runs every frame (parallax tiles of
+ * the Jump background, angle bar cursor, chrono digits, achievement events, shuriken hit check),
+ * and of the records insert and the achievements save and load for reference.
+ *
+ * The allocated bytes are read from the HotSpot thread allocation counter, like the gc profiler
+ * of JMH. The per frame operations must not allocate: if any of them does, it's marked and the
+ * benchmark exits with status 1, so it can be run before a release. Runs in a desktop JVM (see
+ * README.md).
+ *
+ * @author Madgear Games
+ */
+public class HotPathsBenchmark {
+    private static final int WARMUP = 200000;
+    private static final int ITERATIONS = 2000000;
+    private static final float WIDTH = 1920;
+    private static final float HEIGHT = 1080;
+    // Events of a trial: the achievements are reset every TRIAL_EVENTS events, so the events
+    // don't go only to completed achievements after the first ones:
+    private static final int TRIAL_EVENTS = 100;
+
+    // Keeps the JIT from removing the work:
+    private static long sink = 0;
+    private static boolean failed = false;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("operation                 ns/op      B/op");
+        runParallax();
+        runAngleCursor();
+        runTimeDigits();
+        runAchievements();
+        runShurikenHits();
+        runRecords();
+        runSave();
+        System.out.println("(sink " + sink + ")");
+        if (failed) {
+            System.out.println("A per frame operation allocates memory.");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * The 19 layers of the Jump background, with the parallax values of the climb.
+     */
+    private static void runParallax() throws Exception {
+        final float[] factors = {-0.5f, -1.8f, -2.0f, -2.0f, -4.0f, -4.5f, -5.5f, -5.5f, -5.5f,
+                -9.0f, -9.0f, -9.0f, -9.0f, -10.0f, -10.0f, -10.0f, -10.0f};
+        final ParallaxTiles[] layers = new ParallaxTiles[factors.length + 2];
+        for (int i = 0; i < factors.length; i++) {
+            layers[i] = new ParallaxTiles(factors[i], factors[i], false, false, false, -1, -1);
+        }
+        // The bamboo that repeats up to the top:
+        layers[factors.length] = new ParallaxTiles(-10.0f, -10.0f, false, true, false, -1, 10);
+        layers[factors.length + 1] = new ParallaxTiles(-10.0f, -10.0f, false, true, false, -1, 10);
+        measure("parallax frame (19)", true, new Task() {
+            public void run(int i) {
+                final float value = i % 906;
+                for (int l = 0; l < layers.length; l++) {
+                    sink += layers[l].compute(0, value, WIDTH, HEIGHT, WIDTH, HEIGHT);
+                }
+            }
+        });
+    }
+
+    private static void runAngleCursor() throws Exception {
+        final AngleCursor cursor = new AngleCursor(2);
+        cursor.start();
+        measure("angle cursor step", true, new Task() {
+            public void run(int i) {
+                cursor.onStep(FixedStepLoop.DEFAULT_STEP);
+                if (cursor.getJumpValue() == -1) {
+                    cursor.setValueToBeginning();
+                }
+                sink += (long) cursor.getValue();
+            }
+        });
+        // Once per jump, returns a new array:
+        measure("angle power value", false, new Task() {
+            public void run(int i) {
+                cursor.setValue(i % AngleCursor.MAX_VALUE);
+                sink += (long) cursor.getPowerValue()[0];
+            }
+        });
+    }
+
+    private static void runTimeDigits() throws Exception {
+        final char[] digits = new char[TimeDigits.length(2, 2)];
+        measure("chrono digits", true, new Task() {
+            public void run(int i) {
+                sink += TimeDigits.fill(i * FixedStepLoop.DEFAULT_STEP % 100, 2, 2, digits);
+                sink += digits[0];
+            }
+        });
+    }
+
+    private static void runAchievements() throws Exception {
+        final AchievementSetNinjaTrial achiev = new AchievementSetNinjaTrial();
+        measure("achievement event", true, new Task() {
+            public void run(int i) {
+                if (i % TRIAL_EVENTS == 0) {
+                    for (int a = 0; a < AchievementSetNinjaTrial.ACHIEV_NUM; a++) {
+                        achiev.restore(a, false, 0);
+                    }
+                    achiev.recount();
+                }
+                if (achiev.publish(i % TrialEvent.COUNT, i % 100)) {
+                    sink++;
+                }
+                sink += achiev.getCompletedAchievements();
+            }
+        });
+    }
+
+    /**
+     * 10 enemies moving in the index and a shuriken launched every frame.
+     */
+    private static void runShurikenHits() throws Exception {
+        final ShurikenSpatialIndex index = new ShurikenSpatialIndex(WIDTH, 10, 16);
+        measure("shuriken hit check", true, new Task() {
+            public void run(int i) {
+                for (int slot = 0; slot < 10; slot++) {
+                    index.update(slot, (slot * 192 + i * 4) % WIDTH);
+                }
+                sink += index.findNearest((i * 7) % WIDTH, WIDTH * 0.1f);
+            }
+        });
+    }
+
+    private static void runRecords() throws Exception {
+        final Random random = new Random(1);
+        final Record[] records = new Record[1024];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = new Record(1, "Player1", random.nextInt(2), random.nextInt(100000));
+        }
+        final Leaderboard leaderboard = new Leaderboard(1000);
+        measure("records insert (1000)", false, new Task() {
+            public void run(int i) {
+                sink += leaderboard.insert(records[i % records.length]);
+            }
+        });
+    }
+
+    private static void runSave() throws Exception {
+        final AchievementSetNinjaTrial achiev = new AchievementSetNinjaTrial();
+        final byte[] binary = SaveFormat.writeAchievements(achiev);
+        measure("achievements save", false, new Task() {
+            public void run(int i) {
+                sink += SaveFormat.writeAchievements(achiev).length;
+            }
+        });
+        measure("achievements load", false, new Task() {
+            public void run(int i) throws Exception {
+                AchievementSetNinjaTrial loaded = new AchievementSetNinjaTrial();
+                SaveFormat.readAchievements(binary, loaded);
+                sink += loaded.getCompletedAchievements();
+            }
+        });
+    }
+
+    private interface Task {
+        void run(int i) throws Exception;
+    }
+
+    /**
+     * Runs a task and prints the time and the bytes allocated per run.
+     * @param perFrame True if the task runs every frame and must not allocate.
+     */
+    private static void measure(String name, boolean perFrame, Task task)
+            throws Exception {
+        // Save and load are 1000 times slower than the rest:
+        final int iterations = perFrame ? ITERATIONS : ITERATIONS / 100;
+        for (int i = 0; i < WARMUP; i++) {
+            task.run(i);
+        }
+        final long bytesBefore = allocatedBytes();
+        final long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.run(i);
+        }
+        final double ns = (System.nanoTime() - start) / (double) iterations;
+        final long bytesAfter = allocatedBytes();
+        String bytes = "n/a";
+        if (bytesBefore >= 0) {
+            final double bytesPerRun = (bytesAfter - bytesBefore) / (double) iterations;
+            bytes = String.format("%.1f", bytesPerRun);
+            // A few bytes of the counter itself, or of a rare array growth:
+            if (perFrame && bytesPerRun >= 1) {
+                bytes += "  ALLOCATES";
+                failed = true;
+            }
+        }
+        System.out.println(String.format("%-22s %9.1f %9s", name, ns, bytes));
+    }
+
+    /**
+     * @return Bytes allocated by this thread, or -1 if the JVM doesn't count them.
+     */
+    private static long allocatedBytes() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(
+                Thread.currentThread().getId());
+    }
+}
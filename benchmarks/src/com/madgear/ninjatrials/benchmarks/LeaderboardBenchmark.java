@@ -0,0 +1,138 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.madgear.ninjatrials.benchmarks;
+
+import java.util.Random;
+
+import com.madgear.ninjatrials.records.Leaderboard;
+import com.madgear.ninjatrials.records.Record;
+import com.madgear.ninjatrials.records.RecordFilters;
+import com.madgear.ninjatrials.records.RecordsTableSet;
+
+/**
+ * Cost of the records operations with the Leaderboard at several sizes, and of the three 12
+ * places tables with bubble insert of older versions. "update" is the period check done before
+ * showing the today, month and all time tables. Runs in a desktop JVM (see README.md).
+ *
+ * @author Madgear Games
+ *
+ */
+public class LeaderboardBenchmark {
+    private static final int[] SIZES = {12, 1000, 10000, 100000};
+    private static final int OPERATIONS = 200000;
+
+    // Keeps the JIT from removing the work:
+    private static long sink = 0;
+
+    public static void main(String[] args) {
+        Random random = new Random(1);
+        Record[] records = new Record[OPERATIONS];
+        for (int i = 0; i < records.length; i++)
+            records[i] = randomRecord(random);
+        int[] scores = new int[OPERATIONS];
+        for (int i = 0; i < scores.length; i++)
+            scores[i] = random.nextInt(100000);
+
+        // The first pass warms up the JIT:
+        for (int pass = 0; pass < 2; pass++) {
+            boolean print = pass == 1;
+            if (print) {
+                System.out.println("records   insert ns   rank ns   update ns   per char us");
+                System.out.println(String.format("old 12   %9.1f", legacyInsert(scores)));
+            }
+            else {
+                legacyInsert(scores);
+            }
+            for (int size : SIZES)
+                run(size, records, scores, print);
+        }
+        System.out.println("(sink " + sink + ")");
+    }
+
+    private static void run(int size, Record[] records, int[] scores, boolean print) {
+        Leaderboard leaderboard = new Leaderboard(size);
+        for (int i = 0; i < size; i++)
+            leaderboard.insert(records[i % records.length]);
+        // Full leaderboard: every insert also drops the lowest record.
+        long start = System.nanoTime();
+        for (int i = 0; i < records.length; i++)
+            sink += leaderboard.insert(records[i]);
+        double insertNs = (System.nanoTime() - start) / (double) records.length;
+
+        start = System.nanoTime();
+        for (int i = 0; i < scores.length; i++)
+            sink += leaderboard.rankOf(scores[i]);
+        double rankNs = (System.nanoTime() - start) / (double) scores.length;
+
+        RecordsTableSet set = new RecordsTableSet(leaderboard);
+        start = System.nanoTime();
+        for (int i = 0; i < scores.length; i++) {
+            set.update();
+            sink += set.todayRecords.getMin();
+        }
+        double updateNs = (System.nanoTime() - start) / (double) scores.length;
+
+        int views = 2000;
+
+        start = System.nanoTime();
+        for (int i = 0; i < views; i++)
+            sink += set.view(RecordFilters.character(i % 2), RecordsTableSet.SIZE).getMin();
+        double characterUs = (System.nanoTime() - start) / 1000.0 / views;
+
+        if (print)
+            System.out.println(String.format("%-7d  %9.1f %9.1f %11.1f %13.2f", size, insertNs,
+                    rankNs, updateNs, characterUs));
+    }
+
+    private static Record randomRecord(Random random) {
+        Record record = new Record(1, "Player1", random.nextInt(2), random.nextInt(100000));
+        // Records of the last 60 days:
+        record.date.setTime(System.currentTimeMillis() - (long) random.nextInt(60 * 24) * 3600000);
+        return record;
+    }
+
+    /**
+     * The records of older versions: three tables of 12 records, every record inserted in the
+     * three with a bubble insert after a full scan for the minimum.
+     */
+    private static double legacyInsert(int[] scores) {
+        int[][] tables = new int[3][RecordsTableSet.SIZE];
+        long start = System.nanoTime();
+        for (int n = 0; n < scores.length; n++) {
+            int score = scores[n];
+            for (int[] table : tables) {
+                int min = table[0];
+                for (int i = 0; i < table.length; i++)
+                    if (table[i] < min)
+                        min = table[i];
+                if (score > min) {
+                    table[0] = score;
+                    for (int i = 1; i < table.length; i++) {
+                        if (score > table[i]) {
+                            table[i - 1] = table[i];
+                            table[i] = score;
+                        }
+                    }
+                }
+            }
+            sink += tables[2][0];
+        }
+        return (System.nanoTime() - start) / (double) scores.length;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.madgear.ninjatrials.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import com.madgear.ninjatrials.achievements.AchievementSetNinjaTrial;
+import com.madgear.ninjatrials.managers.SaveFormat;
+import com.madgear.ninjatrials.records.Leaderboard;
+import com.madgear.ninjatrials.records.Record;
+import com.madgear.ninjatrials.records.RecordsTableSet;
+
+/**
+ * Compares the save files written with Java serialization and with SaveFormat: size, save time
+ * and load time of the achievements and the records (36 records; the serialized records are
+ * the three tables older versions saved). Runs in a desktop JVM (see README.md).
+ *
+ * @author Madgear Games
+ */
+public class SaveFormatBenchmark {
+    private static final int WARMUP = 2000;
+    private static final int ITERATIONS = 20000;
+
+    // Keeps the JIT from removing the work:
+    private static int sink = 0;
+
+    public static void main(String[] args) throws Exception {
+        AchievementSetNinjaTrial achiev = new AchievementSetNinjaTrial();
+        RecordsTableSet records = createRecords();
+
+        System.out.println("data          format   bytes   save us   load us");
+        runAchiev(achiev);
+        runRecords(records);
+        System.out.println("(sink " + sink + ")");
+    }
+
+    private static RecordsTableSet createRecords() {
+        Leaderboard leaderboard = new Leaderboard();
+        for (int i = 0; i < 3 * RecordsTableSet.SIZE; i++) {
+            leaderboard.insert(new Record(1, i % 3 == 0 ? "Player1" : "Player2", 1 + i % 2,
+                    1000 * (i + 1)));
+        }
+        return new RecordsTableSet(leaderboard);
+    }
+
+    private static void runAchiev(final AchievementSetNinjaTrial achiev) throws Exception {
+        final byte[] serialized = serialize(achiev);
+        final byte[] binary = SaveFormat.writeAchievements(achiev);
+        Task serialSave = new Task() {
+            public void run() throws Exception { sink += serialize(achiev).length; }
+        };
+        Task serialLoad = new Task() {
+            public void run() throws Exception {
+                sink += ((AchievementSetNinjaTrial) deserialize(serialized)).getAchievementNum();
+            }
+        };
+        Task binarySave = new Task() {
+            public void run() { sink += SaveFormat.writeAchievements(achiev).length; }
+        };
+        Task binaryLoad = new Task() {
+            public void run() throws Exception {
+                AchievementSetNinjaTrial loaded = new AchievementSetNinjaTrial();
+                SaveFormat.readAchievements(binary, loaded);
+                sink += loaded.getCompletedAchievements();
+            }
+        };
+        print("achievements", "serial", serialized.length, serialSave, serialLoad);
+        print("achievements", "binary", binary.length, binarySave, binaryLoad);
+    }
+
+    private static void runRecords(final RecordsTableSet records) throws Exception {
+        final byte[] serialized = serialize(records);
+        final byte[] binary = SaveFormat.writeRecords(records);
+        Task serialSave = new Task() {
+            public void run() throws Exception { sink += serialize(records).length; }
+        };
+        Task serialLoad = new Task() {
+            public void run() throws Exception {
+                sink += ((RecordsTableSet) deserialize(serialized)).getLeaderboard().size();
+            }
+        };
+        Task binarySave = new Task() {
+            public void run() { sink += SaveFormat.writeRecords(records).length; }
+        };
+        Task binaryLoad = new Task() {
+            public void run() throws Exception {
+                sink += SaveFormat.readRecords(binary).getLeaderboard().size();
+            }
+        };
+        print("records", "serial", serialized.length, serialSave, serialLoad);
+        print("records", "binary", binary.length, binarySave, binaryLoad);
+    }
+
+    private interface Task {
+        void run() throws Exception;
+    }
+
+    private static void print(String data, String format, int bytes, Task save, Task load)
+            throws Exception {
+        System.out.println(String.format("%-13s %-6s %7d %9.2f %9.2f", data, format, bytes,
+                time(save), time(load)));
+    }
+
+    /**
+     * @return Microseconds per run.
+     */
+    private static double time(Task task) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1000.0 / ITERATIONS;
+    }
+
+    private static byte[] serialize(Object o) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream os = new ObjectOutputStream(bytes);
+        os.writeObject(o);
+        os.close();
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] data) throws Exception {
+        ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(data));
+        Object o = is.readObject();
+        is.close();
+        return o;
+    }
+}
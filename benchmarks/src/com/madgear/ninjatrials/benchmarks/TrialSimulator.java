@@ -0,0 +1,323 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import com.madgear.ninjatrials.hud.AngleCursor;
+import com.madgear.ninjatrials.managers.GameManager;
+import com.madgear.ninjatrials.trials.cut.CutRules;
+import com.madgear.ninjatrials.trials.jump.JumpRules;
+import com.madgear.ninjatrials.trials.shuriken.ShurikenRules;
+import com.madgear.ninjatrials.utils.FixedStepLoop;
+
+/**
+ * Plays the Cut, Jump and Shuriken trials without scenes, with bots at every difficulty, and
+ * prints the score distribution and the cost of the logic. Used to tune the difficulty and the
+ * score limits of the stamps. Runs in a desktop JVM (see README.md).
+ *
+ * The games advance in the fixed steps of the trial scenes and run on the rules of the trials
+ * (CutRules, JumpRules, ShurikenRules), like the scenes. Only the player is modeled here: the
+ * angle bar cursor of Jump and the hands of Shuriken.
+ *
+ * The bots press the button aiming at the best moment with a normal timing error of sigma
+ * seconds. The random bot presses at any moment.
+ *
+ * @author Madgear Games
+ */
+public class TrialSimulator {
+    private static final float STEP = FixedStepLoop.DEFAULT_STEP;
+    private static final int GAMES = 20000;
+    private static final String[] TRIALS = {"cut", "jump", "shuriken"};
+    private static final int[] DIFFS = {GameManager.DIFF_EASY, GameManager.DIFF_MEDIUM,
+            GameManager.DIFF_HARD};
+    private static final String[] DIFF_NAMES = {"easy", "medium", "hard"};
+    private static final String[] BOTS = {"random", "novice", "average", "expert"};
+    private static final float[] BOT_SIGMAS = {-1, 0.12f, 0.06f, 0.02f};
+
+    // The character starts half a screen (1080 pixels high) over the floor, like in the scene:
+    private static final float JUMP_START_HEIGHT = 1080 / 2;
+    // Center of the perfect range of the angle bar:
+    private static final float JUMP_TARGET_VALUE =
+            (AngleCursor.PERFECT_SCORE_RANGE + AngleCursor.MAX_VALUE) / 2;
+
+    // Shuriken, in the 1920 pixels of the screen width:
+    private static final float WIDTH = 1920;
+    private static final float HANDS_SPEED = 25 / 0.025f; // pixels per second
+    private static final float HIT_MARGIN = WIDTH * ShurikenRules.HIT_MARGIN;
+    private static final float FIRE_INTERVAL = 0.2f; // fastest presses of the bots
+    private static final float RANDOM_FIRE_INTERVAL = 0.5f; // mean
+
+    private static boolean won;
+    private static long steps;
+    // Keeps the JIT from removing the work:
+    private static long sink = 0;
+
+    public static void main(String[] args) {
+        final int games = args.length > 0 ? Integer.parseInt(args[0]) : GAMES;
+        // The first pass warms up the JIT:
+        for (int pass = 0; pass < 2; pass++) {
+            final boolean print = pass == 1;
+            if (print) {
+                System.out.println("trial     diff    bot      win %   mean    p10    p50    p90"
+                        + "   thug ninja master grand   steps/game  ns/step");
+            }
+            for (int trial = 0; trial < TRIALS.length; trial++) {
+                for (int d = 0; d < DIFFS.length; d++) {
+                    for (int b = 0; b < BOTS.length; b++) {
+                        run(trial, d, b, print ? games : games / 10, print);
+                    }
+                }
+            }
+        }
+        System.out.println("(" + sink + ")");
+    }
+
+    private static void run(int trial, int d, int b, int games, boolean print) {
+        final Random random = new Random(1000 * trial + 10 * d + b);
+        final float sigma = BOT_SIGMAS[b];
+        final CutRules cut = new CutRules(DIFFS[d]);
+        final JumpRules jump = new JumpRules(JUMP_START_HEIGHT);
+        final float jumpTimeRound = JumpRules.getTimeRound(DIFFS[d]);
+        final AngleCursor angle = new AngleCursor(jumpTimeRound);
+        final ShurikenRules shuriken = new ShurikenRules();
+        final int[] scores = new int[games];
+        int wins = 0;
+        steps = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            if (trial == 0) {
+                scores[i] = playCut(cut, CutRules.getTimeRound(DIFFS[d]), random, sigma);
+            } else if (trial == 1) {
+                scores[i] = playJump(jump, angle, jumpTimeRound, random, sigma);
+            } else {
+                scores[i] = playShuriken(shuriken, random, sigma);
+            }
+            if (won) {
+                wins++;
+            }
+        }
+        final long nanos = System.nanoTime() - start;
+        sink += steps;
+        if (!print) {
+            return;
+        }
+
+        final int[] stamps = new int[4];
+        long total = 0;
+        for (int i = 0; i < games; i++) {
+            total += scores[i];
+            if (scores[i] >= JumpRules.SCORE_GRAND_MASTER) {
+                stamps[3]++;
+            } else if (scores[i] >= JumpRules.SCORE_NINJA_MASTER) {
+                stamps[2]++;
+            } else if (scores[i] >= JumpRules.SCORE_NINJA) {
+                stamps[1]++;
+            } else {
+                stamps[0]++;
+            }
+        }
+        Arrays.sort(scores);
+        System.out.println(String.format(
+                "%-9s %-7s %-8s %5.1f %6d %6d %6d %6d  %5.1f %5.1f %6.1f %5.1f %12.1f %8.1f",
+                TRIALS[trial], DIFF_NAMES[d], BOTS[b], 100.0 * wins / games, total / games,
+                scores[games / 10], scores[games / 2], scores[games * 9 / 10],
+                100.0 * stamps[0] / games, 100.0 * stamps[1] / games,
+                100.0 * stamps[2] / games, 100.0 * stamps[3] / games,
+                steps / (double) games, nanos / (double) steps));
+    }
+
+    /**
+     * The moment a bot presses the button.
+     * @param sigma Timing error of the bot, or negative for the random bot.
+     * @param target Best moment.
+     * @param max Latest moment of the random bot.
+     */
+    private static float pressTime(Random random, float sigma, float target, float max) {
+        if (sigma < 0) {
+            return random.nextFloat() * max;
+        }
+        return Math.max(0, target + (float) random.nextGaussian() * sigma);
+    }
+
+    /**
+     * A Cut game. The bot aims at the center of the bar in the first semi-cycle.
+     * @return The score, 0 if the time is over.
+     */
+    private static int playCut(CutRules rules, float timeRound, Random random, float sigma) {
+        rules.reset();
+        rules.start();
+        final float pressAt = pressTime(random, sigma, timeRound / 4, CutRules.TIME_LIMIT);
+        while (!rules.isFinished()) {
+            rules.onStep(STEP);
+            steps++;
+            if (rules.getTime() >= pressAt) {
+                // The press happened inside the step:
+                rules.cut(rules.getTime() - pressAt);
+            }
+        }
+        won = !rules.isTimeOut();
+        return won ? rules.getScore() : 0;
+    }
+
+    /**
+     * A Jump game. The bot aims at the center of the perfect range of the angle bar in every
+     * jump. The chrono starts with the first jump, like in the scene.
+     * @return The score. If the ninja dies or the time is over the time is the time limit, and
+     * the perfect jumps aren't saved (like in the scene).
+     */
+    private static int playJump(JumpRules rules, AngleCursor cursor, float timeRound,
+            Random random, float sigma) {
+        rules.reset();
+        // Seconds of the cursor from the beginning to the end of the bar:
+        final float cursorTime = timeRound / 2.5f;
+        final float target = JUMP_TARGET_VALUE / AngleCursor.MAX_VALUE * cursorTime;
+        float time = 0;
+        boolean started = false;
+        won = false;
+        while (true) {
+            cursor.setValueToBeginning();
+            cursor.start();
+            final float pressAt = pressTime(random, sigma, target, cursorTime);
+            float cursorAge = 0;
+            // The cursor passing the end of the bar also makes the ninja jump (and fall):
+            while (cursorAge < pressAt && cursor.getJumpValue() != -1) {
+                cursor.onStep(STEP);
+                cursorAge += STEP;
+                if (started) {
+                    time += STEP;
+                }
+                steps++;
+            }
+            if (cursor.getJumpValue() == -1) {
+                cursor.stop();
+            } else {
+                cursor.stop(cursorAge - pressAt);
+            }
+            started = true;
+            final int result = rules.jump(cursor.getPowerValue());
+            if (result == JumpRules.REACHED_TOP) {
+                won = true;
+                break;
+            }
+            if (result == JumpRules.DIED) {
+                break;
+            }
+            time += result == JumpRules.FELL ? JumpRules.FALL_RESTART_TIME
+                    : JumpRules.JUMP_RESTART_TIME;
+            if (time >= JumpRules.TIME_LIMIT) {
+                break;
+            }
+        }
+        if (!won) {
+            return JumpRules.getScore(JumpRules.TIME_LIMIT, 0, 0);
+        }
+        return JumpRules.getScore(time, rules.getPerfectJumps(), rules.getPerfectJumpsInARowMax());
+    }
+
+    /**
+     * A Shuriken game. The bot follows the oldest alive enemy with the hands and throws when it
+     * is in front of it, reacting sigma seconds late on average. The random bot moves and throws
+     * at random. The enemies come and move as the rules say, the status is checked in every step.
+     * @return The score, 0 if an enemy hits the player.
+     */
+    private static int playShuriken(ShurikenRules rules, Random random, float sigma) {
+        final float[] spawnTime = new float[ShurikenRules.ENEMY_COUNT];
+        final boolean[] alive = new boolean[ShurikenRules.ENEMY_COUNT];
+        rules.reset();
+        float time = 0;
+        float handsX = WIDTH / 2;
+        float randomTargetX = handsX;
+        float nextFire = 0;
+        float pressAt = -1;
+        while (true) {
+            final int spawned = rules.getEnemiesSpawned();
+            int target = -1;
+            for (int i = 0; i < spawned; i++) {
+                if (alive[i]) {
+                    if (ShurikenRules.hasHitPlayer(time - spawnTime[i])) {
+                        alive[i] = false;
+                        rules.enemyHitPlayer();
+                    } else if (target < 0) {
+                        target = i;
+                    }
+                }
+            }
+            if (rules.isFinished()) {
+                break;
+            }
+            if (rules.isSpawnTime(time)) {
+                spawnTime[spawned] = time;
+                alive[spawned] = true;
+                rules.enemySpawned();
+            }
+
+            float targetX;
+            if (sigma < 0) {
+                if (random.nextFloat() < STEP) {
+                    randomTargetX = random.nextFloat() * WIDTH;
+                }
+                targetX = randomTargetX;
+                if (random.nextFloat() < STEP / RANDOM_FIRE_INTERVAL) {
+                    pressAt = time;
+                }
+            } else {
+                targetX = target < 0 ? WIDTH / 2
+                        : ShurikenRules.getEnemyX(time - spawnTime[target], WIDTH);
+                if (pressAt < 0 && time >= nextFire && target >= 0
+                        && Math.abs(handsX - targetX) < HIT_MARGIN / 2) {
+                    pressAt = time + Math.abs((float) random.nextGaussian()) * sigma;
+                }
+            }
+            final float move = HANDS_SPEED * STEP;
+            handsX += Math.max(-move, Math.min(move, targetX - handsX));
+
+            if (pressAt >= 0 && time >= pressAt) {
+                pressAt = -1;
+                nextFire = time + FIRE_INTERVAL;
+                rules.shurikenLaunched();
+                // The nearest alive enemy in the margin is hit:
+                int hit = -1;
+                float nearest = HIT_MARGIN;
+                for (int i = 0; i < rules.getEnemiesSpawned(); i++) {
+                    final float distance =
+                            Math.abs(ShurikenRules.getEnemyX(time - spawnTime[i], WIDTH) - handsX);
+                    if (alive[i] && distance < nearest) {
+                        nearest = distance;
+                        hit = i;
+                    }
+                }
+                if (hit >= 0) {
+                    alive[hit] = false;
+                    rules.enemyDefeated();
+                }
+            }
+            time += STEP;
+            steps++;
+        }
+        won = !rules.isLost();
+        if (!won) {
+            return 0;
+        }
+        return ShurikenRules.getScore(time,
+                ShurikenRules.getPrecission(rules.getEnemiesDefeated(), rules.getShurikensLaunched()));
+    }
+}
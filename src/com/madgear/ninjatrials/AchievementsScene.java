@@ -85,6 +85,7 @@ public class AchievementsScene extends GameScene {
         attachChild(achievTittle);
         
         // Main achievements grid:
+        GameManager.player1achiev.loadTexts();
         achievementGrid = new AchievementGrid(662, HEIGHT/2, GameManager.player1achiev);
         attachChild(achievementGrid);
         
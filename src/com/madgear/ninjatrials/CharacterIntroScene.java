@@ -56,9 +56,9 @@ public class CharacterIntroScene extends GameScene{
 	IUpdateHandler updateHandler;
 	private int animationState = 0;
 	private final String CHARACTER_NAME_RYOKO = ResourceManager.getInstance().
-			loadAndroidRes().getString(R.string.app_ryoko);
+			getString(R.string.app_ryoko);
 	private final String CHARACTER_NAME_SHO = ResourceManager.getInstance().
-			loadAndroidRes().getString(R.string.app_sho);
+			getString(R.string.app_sho);
 	private static String lastCharacterShown;
 	private String character;
 
@@ -175,15 +175,15 @@ public class CharacterIntroScene extends GameScene{
 				ITextureRegion characterITR;
 				if (character == "Ryoko") {
 					characterITR = ResourceManager.getInstance().characterProfileRyoko;
-					name = ResourceManager.getInstance().loadAndroidRes().getString(R.string.profile_ryoko_name);
-					name_jp = ResourceManager.getInstance().loadAndroidRes().getString(R.string.profile_ryoko_name_jap);
-					info = ResourceManager.getInstance().loadAndroidRes().getString(R.string.profile_ryoko_info);
+					name = ResourceManager.getInstance().getString(R.string.profile_ryoko_name);
+					name_jp = ResourceManager.getInstance().getString(R.string.profile_ryoko_name_jap);
+					info = ResourceManager.getInstance().getString(R.string.profile_ryoko_info);
 		        }
 		        else {
 		        	characterITR = ResourceManager.getInstance().characterProfileSho;
-                    name = ResourceManager.getInstance().loadAndroidRes().getString(R.string.profile_sho_name);
-					name_jp = ResourceManager.getInstance().loadAndroidRes().getString(R.string.profile_sho_name_jap);
-					info = ResourceManager.getInstance().loadAndroidRes().getString(R.string.profile_sho_info);
+                    name = ResourceManager.getInstance().getString(R.string.profile_sho_name);
+					name_jp = ResourceManager.getInstance().getString(R.string.profile_sho_name_jap);
+					info = ResourceManager.getInstance().getString(R.string.profile_sho_info);
 		        }
 				
 				sprite = new Sprite(spritePosX, spritePosY, characterITR, ResourceManager.getInstance().engine.getVertexBufferObjectManager());
@@ -26,13 +26,35 @@ import org.andengine.input.touch.TouchEvent;
 import tv.ouya.console.api.OuyaController;
 
 import com.madgear.ninjatrials.managers.GameManager;
+import com.madgear.ninjatrials.utils.InputQueue;
 
+import android.os.SystemClock;
 import android.view.KeyEvent;
 
 /*
  * Clased GameScene.
+ * The key and touch events arrive in the UI thread. They are queued with their time and the
+ * press and release methods are called in the update thread, at the start of the scene update.
  */
 public abstract class GameScene extends ManagedScene implements IUserInput, IOnSceneTouchListener {
+    // Maximum value of getInputDelay(), so a late event can't move the trial too far back:
+    public static final float MAX_INPUT_DELAY = 0.1f;
+
+    private final InputQueue input = new InputQueue();
+    private final InputQueue.Listener inputListener = new InputQueue.Listener() {
+        @Override
+        public void onInput(int button, boolean pressed, long time) {
+            if (time < shownTime) {
+                return;
+            }
+            inputTime = time;
+            dispatchInput(button, pressed);
+        }
+    };
+    // Events that happened before the scene was shown are dropped:
+    private volatile long shownTime = 0;
+    private long drainTime = 0;
+    private long inputTime = 0;
 
     /**
      * GameScene constructor that disables the loading screen.
@@ -57,15 +79,17 @@ public abstract class GameScene extends ManagedScene implements IUserInput, IOnS
      */
     @Override
     public boolean onSceneTouchEvent(Scene pScene, TouchEvent pSceneTouchEvent) {
+        final long touchTime = pSceneTouchEvent.getMotionEvent() == null ?
+                SystemClock.uptimeMillis() : pSceneTouchEvent.getMotionEvent().getEventTime();
         if(pSceneTouchEvent.getX() < 600)
             if(pSceneTouchEvent.getY() > 540)
-                onPressDpadUp();
+                postInput(InputQueue.DPAD_UP, true, touchTime);
             else
-                onPressDpadDown();
+                postInput(InputQueue.DPAD_DOWN, true, touchTime);
         else if (pSceneTouchEvent.isActionDown())
-            onPressButtonO();
+            postInput(InputQueue.BUTTON_O, true, touchTime);
         else if (pSceneTouchEvent.isActionUp())
-            onReleaseButtonO();
+            postInput(InputQueue.BUTTON_O, false, touchTime);
         return true;
     }
 
@@ -84,16 +108,16 @@ public abstract class GameScene extends ManagedScene implements IUserInput, IOnS
             // System.out.println("Mando usado = " + event.getDeviceId() );
             switch (keyCode) {
             case OuyaController.BUTTON_O:
-                onPressButtonO();
+                postInput(InputQueue.BUTTON_O, true, event.getEventTime());
                 break;
             case OuyaController.BUTTON_U:
-                onPressButtonU();
+                postInput(InputQueue.BUTTON_U, true, event.getEventTime());
                 break;
             case OuyaController.BUTTON_Y:
-                onPressButtonY();
+                postInput(InputQueue.BUTTON_Y, true, event.getEventTime());
                 break;
             case OuyaController.BUTTON_A:
-                onPressButtonA();
+                postInput(InputQueue.BUTTON_A, true, event.getEventTime());
                 break;
             case OuyaController.BUTTON_L1:
                 
@@ -108,19 +132,19 @@ public abstract class GameScene extends ManagedScene implements IUserInput, IOnS
                 
                 break;
             case OuyaController.BUTTON_DPAD_UP:
-                onPressDpadUp();
+                postInput(InputQueue.DPAD_UP, true, event.getEventTime());
                 break;
             case OuyaController.BUTTON_DPAD_DOWN:
-                onPressDpadDown();
+                postInput(InputQueue.DPAD_DOWN, true, event.getEventTime());
                 break;
             case OuyaController.BUTTON_DPAD_LEFT:
-                onPressDpadLeft();
+                postInput(InputQueue.DPAD_LEFT, true, event.getEventTime());
                 break;
             case OuyaController.BUTTON_DPAD_RIGHT:
-                onPressDpadRight();
+                postInput(InputQueue.DPAD_RIGHT, true, event.getEventTime());
                 break;
             case OuyaController.BUTTON_MENU:
-                onPressButtonMenu();
+                postInput(InputQueue.BUTTON_MENU, true, event.getEventTime());
                 break;
             default:
                 break;
@@ -129,15 +153,15 @@ public abstract class GameScene extends ManagedScene implements IUserInput, IOnS
         }
         else{
             if ((keyCode == KeyEvent.KEYCODE_VOLUME_DOWN)){
-                onPressDpadRight();
+                postInput(InputQueue.DPAD_RIGHT, true, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_VOLUME_UP)){
-                onPressDpadLeft();
+                postInput(InputQueue.DPAD_LEFT, true, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_BACK)){
-                onPressButtonMenu();
+                postInput(InputQueue.BUTTON_MENU, true, event.getEventTime());
                 return true;
             }
             /*
@@ -146,39 +170,39 @@ public abstract class GameScene extends ManagedScene implements IUserInput, IOnS
              * Custom keys option might be included in the future.
              */
             if ((keyCode == KeyEvent.KEYCODE_DEL)){
-                onPressButtonMenu();
+                postInput(InputQueue.BUTTON_MENU, true, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_S)){
-                onPressButtonO();
+                postInput(InputQueue.BUTTON_O, true, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_A)){
-                onPressButtonU();
+                postInput(InputQueue.BUTTON_U, true, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_W)){
-                onPressButtonY();
+                postInput(InputQueue.BUTTON_Y, true, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_D)){
-                onPressButtonA();
+                postInput(InputQueue.BUTTON_A, true, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_DPAD_UP)){
-                onPressDpadUp();
+                postInput(InputQueue.DPAD_UP, true, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_DPAD_DOWN)){
-                onPressDpadDown();
+                postInput(InputQueue.DPAD_DOWN, true, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_DPAD_RIGHT)){
-                onPressDpadRight();
+                postInput(InputQueue.DPAD_RIGHT, true, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_DPAD_LEFT)){
-                onPressDpadLeft();
+                postInput(InputQueue.DPAD_LEFT, true, event.getEventTime());
                 return true;
             }
             /*
@@ -200,16 +224,16 @@ public abstract class GameScene extends ManagedScene implements IUserInput, IOnS
             boolean handled = OuyaController.onKeyUp(keyCode, event);
             switch (keyCode) {
             case OuyaController.BUTTON_O:
-                onReleaseButtonO();
+                postInput(InputQueue.BUTTON_O, false, event.getEventTime());
                 break;
             case OuyaController.BUTTON_U:
-                onReleaseButtonU();
+                postInput(InputQueue.BUTTON_U, false, event.getEventTime());
                 break;
             case OuyaController.BUTTON_Y:
-                onReleaseButtonY();
+                postInput(InputQueue.BUTTON_Y, false, event.getEventTime());
                 break;
             case OuyaController.BUTTON_A:
-                onReleaseButtonA();
+                postInput(InputQueue.BUTTON_A, false, event.getEventTime());
                 break;
             case OuyaController.BUTTON_L1:
                 
@@ -224,19 +248,19 @@ public abstract class GameScene extends ManagedScene implements IUserInput, IOnS
                 
                 break;
             case OuyaController.BUTTON_DPAD_UP:
-                onReleaseDpadUp();
+                postInput(InputQueue.DPAD_UP, false, event.getEventTime());
                 break;
             case OuyaController.BUTTON_DPAD_DOWN:
-                onReleaseDpadDown();
+                postInput(InputQueue.DPAD_DOWN, false, event.getEventTime());
                 break;
             case OuyaController.BUTTON_DPAD_LEFT:
-                onReleaseDpadLeft();
+                postInput(InputQueue.DPAD_LEFT, false, event.getEventTime());
                 break;
             case OuyaController.BUTTON_DPAD_RIGHT:
-                onReleaseDpadRight();
+                postInput(InputQueue.DPAD_RIGHT, false, event.getEventTime());
                 break;
             case OuyaController.BUTTON_MENU:
-                onReleaseButtonMenu();
+                postInput(InputQueue.BUTTON_MENU, false, event.getEventTime());
                 break;
             default:
                 break;
@@ -245,15 +269,15 @@ public abstract class GameScene extends ManagedScene implements IUserInput, IOnS
         }
         else{
             if ((keyCode == KeyEvent.KEYCODE_VOLUME_DOWN)){
-                onReleaseDpadRight();
+                postInput(InputQueue.DPAD_RIGHT, false, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_VOLUME_UP)){
-                onReleaseDpadLeft();
+                postInput(InputQueue.DPAD_LEFT, false, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_BACK)){
-                onReleaseButtonMenu();
+                postInput(InputQueue.BUTTON_MENU, false, event.getEventTime());
                 return true;
             }
             /*
@@ -262,39 +286,39 @@ public abstract class GameScene extends ManagedScene implements IUserInput, IOnS
              * Custom keys option might be included in the future.
              */
             if ((keyCode == KeyEvent.KEYCODE_DEL)){
-                onReleaseButtonMenu();
+                postInput(InputQueue.BUTTON_MENU, false, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_S)){
-                onReleaseButtonO();
+                postInput(InputQueue.BUTTON_O, false, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_A)){
-                onReleaseButtonU();
+                postInput(InputQueue.BUTTON_U, false, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_W)){
-                onReleaseButtonY();
+                postInput(InputQueue.BUTTON_Y, false, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_D)){
-                onReleaseButtonA();
+                postInput(InputQueue.BUTTON_A, false, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_DPAD_UP)){
-                onReleaseDpadUp();
+                postInput(InputQueue.DPAD_UP, false, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_DPAD_DOWN)){
-                onReleaseDpadDown();
+                postInput(InputQueue.DPAD_DOWN, false, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_DPAD_RIGHT)){
-                onReleaseDpadRight();
+                postInput(InputQueue.DPAD_RIGHT, false, event.getEventTime());
                 return true;
             }
             if ((keyCode == KeyEvent.KEYCODE_DPAD_LEFT)){
-                onReleaseDpadLeft();
+                postInput(InputQueue.DPAD_LEFT, false, event.getEventTime());
                 return true;
             }
             /*
@@ -304,6 +328,76 @@ public abstract class GameScene extends ManagedScene implements IUserInput, IOnS
         return false;
     }
 
+    @Override
+    public void onShowManagedScene() {
+        shownTime = SystemClock.uptimeMillis();
+        super.onShowManagedScene();
+    }
+
+    /**
+     * Calls the press and release methods of the queued events before updating the scene.
+     */
+    @Override
+    protected void onManagedUpdate(final float pSecondsElapsed) {
+        drainTime = SystemClock.uptimeMillis();
+        input.drain(inputListener);
+        super.onManagedUpdate(pSecondsElapsed);
+    }
+
+    /**
+     * Queues a button event. The press or release method is called in the next update.
+     * @param button One of the InputQueue button constants.
+     * @param pressed True if pressed, false if released.
+     * @param time When the event happened, in SystemClock.uptimeMillis() milliseconds.
+     */
+    protected void postInput(int button, boolean pressed, long time) {
+        input.offer(button, pressed, time);
+    }
+
+    /**
+     * Seconds between the event being handled and the start of this update (up to
+     * MAX_INPUT_DELAY). Use it in the press and release methods to take the action at the moment
+     * the button was pressed, not at the frame it was handled in.
+     */
+    protected float getInputDelay() {
+        final float delay = (drainTime - inputTime) / 1000f;
+        return Math.max(0f, Math.min(MAX_INPUT_DELAY, delay));
+    }
+
+    private void dispatchInput(int button, boolean pressed) {
+        switch (button) {
+        case InputQueue.BUTTON_O:
+            if (pressed) onPressButtonO(); else onReleaseButtonO();
+            break;
+        case InputQueue.BUTTON_U:
+            if (pressed) onPressButtonU(); else onReleaseButtonU();
+            break;
+        case InputQueue.BUTTON_Y:
+            if (pressed) onPressButtonY(); else onReleaseButtonY();
+            break;
+        case InputQueue.BUTTON_A:
+            if (pressed) onPressButtonA(); else onReleaseButtonA();
+            break;
+        case InputQueue.BUTTON_MENU:
+            if (pressed) onPressButtonMenu(); else onReleaseButtonMenu();
+            break;
+        case InputQueue.DPAD_UP:
+            if (pressed) onPressDpadUp(); else onReleaseDpadUp();
+            break;
+        case InputQueue.DPAD_DOWN:
+            if (pressed) onPressDpadDown(); else onReleaseDpadDown();
+            break;
+        case InputQueue.DPAD_LEFT:
+            if (pressed) onPressDpadLeft(); else onReleaseDpadLeft();
+            break;
+        case InputQueue.DPAD_RIGHT:
+            if (pressed) onPressDpadRight(); else onReleaseDpadRight();
+            break;
+        default:
+            break;
+        }
+    }
+
     // Methods that Subclasses should overwrite:
     public void onPressButtonO() {}
     public void onReleaseButtonO() {}
@@ -47,11 +47,11 @@ public class MainOptionsScene extends GameScene {
     private final static float HEIGHT = ResourceManager.getInstance().cameraHeight;
     private SelectionStripe selectionStripe;
     private final String[] menuOptions = {
-    		ResourceManager.getInstance().loadAndroidRes().getString(R.string.option_menu_config_ctrl),
-    		ResourceManager.getInstance().loadAndroidRes().getString(R.string.option_menu_music_vol),
-    		ResourceManager.getInstance().loadAndroidRes().getString(R.string.option_menu_sound_vol),
-    		ResourceManager.getInstance().loadAndroidRes().getString(R.string.option_menu_music_test),
-    		ResourceManager.getInstance().loadAndroidRes().getString(R.string.option_menu_sound_test)};
+    		ResourceManager.getInstance().getString(R.string.option_menu_config_ctrl),
+    		ResourceManager.getInstance().getString(R.string.option_menu_music_vol),
+    		ResourceManager.getInstance().getString(R.string.option_menu_sound_vol),
+    		ResourceManager.getInstance().getString(R.string.option_menu_music_test),
+    		ResourceManager.getInstance().getString(R.string.option_menu_sound_test)};
     private Text musicPercentageText;
     private Text soundPercentageText;
     private VolumeBar musicVolumeBar;
@@ -110,7 +110,7 @@ public class MainOptionsScene extends GameScene {
         
         // Options tittle:
         final Text tittle = new Text(WIDTH/2, HEIGHT - 150,
-                ResourceManager.getInstance().fontXBig, ResourceManager.getInstance().loadAndroidRes().getString(R.string.option_menu_title),
+                ResourceManager.getInstance().fontXBig, ResourceManager.getInstance().getString(R.string.option_menu_title),
                 new TextOptions(HorizontalAlign.CENTER),
                 ResourceManager.getInstance().engine.getVertexBufferObjectManager());
         attachChild(tittle);
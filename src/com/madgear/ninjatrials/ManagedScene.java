@@ -23,6 +23,8 @@ import org.andengine.entity.scene.Scene;
 
 import android.view.KeyEvent;
 
+import com.madgear.ninjatrials.managers.ResourceGroup;
+
 
 public abstract class ManagedScene extends Scene {
     // Tells the Scene Manager that the managed scene either has or doesn't have a loading screen.
@@ -77,6 +79,12 @@ public abstract class ManagedScene extends Scene {
         onHideScene();
     }
 
+    // Resources of the scene. The Scene Manager keeps the ones shared with the previous scene
+    // loaded while switching. Override it if the scene loads a ResourceGroup.
+    public ResourceGroup getResourceGroup() {
+        return null;
+    }
+
     // Methods to Override in the subclasses.
     public abstract Scene onLoadingScreenLoadAndShown();
     public abstract void onLoadingScreenUnloadAndHidden();
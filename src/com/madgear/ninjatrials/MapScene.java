@@ -20,6 +20,7 @@ import org.andengine.opengl.texture.region.ITiledTextureRegion;
 import android.util.Log;
 
 import com.madgear.ninjatrials.managers.GameManager;
+import com.madgear.ninjatrials.managers.ResourceGroup;
 import com.madgear.ninjatrials.managers.ResourceManager;
 import com.madgear.ninjatrials.managers.SFXManager;
 import com.madgear.ninjatrials.managers.SceneManager;
@@ -55,6 +56,7 @@ public class MapScene extends GameScene {
 	private String previousTrial; //"jump", "run", "shuriken" or "cut"
 	private int currentPosition;
 	private int previousPosition;
+	private ManagedScene nextTrialScene;
 
 	@Override
 	public Scene onLoadingScreenLoadAndShown() {
@@ -64,6 +66,11 @@ public class MapScene extends GameScene {
 	@Override
 	public void onLoadingScreenUnloadAndHidden() { }
 
+	@Override
+	public ResourceGroup getResourceGroup() {
+		return ResourceManager.MENU_MAP_GROUP;
+	}
+
 	@Override
 	public void onLoadScene() {
 		ResourceManager.getInstance().loadMenuMapResources();
@@ -74,14 +81,14 @@ public class MapScene extends GameScene {
 	@Override
 	public void onShowScene() {
 		places = new ArrayList<Place>();
-		places.add(new Place(SCRNWIDTH/1920*184, SCRNHEIGHT/1080*368, ResourceManager.getInstance().loadAndroidRes().getString(R.string.map_stage_run)));
-		places.add(new Place(SCRNWIDTH/1920*344, SCRNHEIGHT/1080*370, ResourceManager.getInstance().loadAndroidRes().getString(R.string.map_stage_jump)));
-		places.add(new Place(SCRNWIDTH/1920*920, SCRNHEIGHT/1080*220, ResourceManager.getInstance().loadAndroidRes().getString(R.string.map_stage_cut)));
-		places.add(new Place(SCRNWIDTH/1920*1076, SCRNHEIGHT/1080*210, ResourceManager.getInstance().loadAndroidRes().getString(R.string.map_stage_shuriken)));
-		places.add(new Place(SCRNWIDTH/1920*1322, SCRNHEIGHT/1080*350, ResourceManager.getInstance().loadAndroidRes().getString(R.string.map_stage_air_cut)));
-		places.add(new Place(SCRNWIDTH/1920*1040, SCRNHEIGHT/1080*572, ResourceManager.getInstance().loadAndroidRes().getString(R.string.map_stage_vanish)));
-		places.add(new Place(SCRNWIDTH/1920*966, SCRNHEIGHT/1080*978, ResourceManager.getInstance().loadAndroidRes().getString(R.string.map_stage_balance)));
-		// places.add(new Place(0, 0, 7, ResourceManager.getInstance().loadAndroidRes().getString(R.string.map_stage_ninpo)));
+		places.add(new Place(SCRNWIDTH/1920*184, SCRNHEIGHT/1080*368, ResourceManager.getInstance().getString(R.string.map_stage_run)));
+		places.add(new Place(SCRNWIDTH/1920*344, SCRNHEIGHT/1080*370, ResourceManager.getInstance().getString(R.string.map_stage_jump)));
+		places.add(new Place(SCRNWIDTH/1920*920, SCRNHEIGHT/1080*220, ResourceManager.getInstance().getString(R.string.map_stage_cut)));
+		places.add(new Place(SCRNWIDTH/1920*1076, SCRNHEIGHT/1080*210, ResourceManager.getInstance().getString(R.string.map_stage_shuriken)));
+		places.add(new Place(SCRNWIDTH/1920*1322, SCRNHEIGHT/1080*350, ResourceManager.getInstance().getString(R.string.map_stage_air_cut)));
+		places.add(new Place(SCRNWIDTH/1920*1040, SCRNHEIGHT/1080*572, ResourceManager.getInstance().getString(R.string.map_stage_vanish)));
+		places.add(new Place(SCRNWIDTH/1920*966, SCRNHEIGHT/1080*978, ResourceManager.getInstance().getString(R.string.map_stage_balance)));
+		// places.add(new Place(0, 0, 7, ResourceManager.getInstance().getString(R.string.map_stage_ninpo)));
 		for(Place p : places) {
 			attachChild(p);
 		}
@@ -132,6 +139,11 @@ public class MapScene extends GameScene {
         };
         registerUpdateHandler(updateHandler);
         Log.d("MapScene", "Previous trial was "+previousTrial+" next trial will be "+currentTrial+".");
+        // The trial resources are loaded in background while the map animation is shown:
+        nextTrialScene = createCurrentTrialScene();
+        if (nextTrialScene != null) {
+            SceneManager.getInstance().prefetch(nextTrialScene);
+        }
 	}
 
 	@Override
@@ -164,19 +176,8 @@ public class MapScene extends GameScene {
     @Override
     public void onPressButtonO() {
         // Go to the current trial again:
-        switch(GameManager.getCurrentTrial()) {
-        case GameManager.TRIAL_RUN:
-            SceneManager.getInstance().showScene(new TrialSceneRun());
-            break;
-        case GameManager.TRIAL_CUT:
-            SceneManager.getInstance().showScene(new TrialSceneCut());
-            break;
-        case GameManager.TRIAL_JUMP:
-            SceneManager.getInstance().showScene(new TrialSceneJump());
-            break;
-        case GameManager.TRIAL_SHURIKEN:
-            SceneManager.getInstance().showScene(new TrialSceneShuriken());
-            break;
+        if (nextTrialScene != null) {
+            SceneManager.getInstance().showScene(nextTrialScene);
         }
     }
     //----------------------------------------------------------------------------------------
@@ -190,6 +191,24 @@ public class MapScene extends GameScene {
         return new SpriteBackground(backgroundSprite);     
 	}
 	
+	/**
+	 * Creates the scene of the current trial.
+	 */
+	private ManagedScene createCurrentTrialScene() {
+		switch(GameManager.getCurrentTrial()) {
+		case GameManager.TRIAL_RUN:
+			return new TrialSceneRun();
+		case GameManager.TRIAL_CUT:
+			return new TrialSceneCut();
+		case GameManager.TRIAL_JUMP:
+			return new TrialSceneJump();
+		case GameManager.TRIAL_SHURIKEN:
+			return new TrialSceneShuriken();
+		default:
+			return null;
+		}
+	}
+
 	/**
 	 * Gets current and next trials from GameManager.
 	 * Sets currentTrial, currentPosition, nextTrial, nextPosition values.
@@ -37,6 +37,7 @@ import com.madgear.ninjatrials.managers.GameManager;
 import com.madgear.ninjatrials.managers.ResourceManager;
 import com.madgear.ninjatrials.managers.SceneManager;
 import com.madgear.ninjatrials.managers.UserData;
+import com.madgear.ninjatrials.profiler.ProfilingEngine;
 import com.madgear.ninjatrials.sequences.SplashIntroScene;
 import com.madgear.ninjatrials.test.TestingScene;
 
@@ -85,6 +86,8 @@ public class NinjaTrials extends BaseGameActivity {
     // Engine de Máximo FPS = 60;
     @Override
     public Engine onCreateEngine(EngineOptions pEngineOptions) {
+        if (GameManager.PROFILER_MODE)
+            return new ProfilingEngine(pEngineOptions, 60);
         return new LimitedFPSEngine(pEngineOptions, 60);
     }
 
@@ -173,9 +176,18 @@ public class NinjaTrials extends BaseGameActivity {
                 && ResourceManager.getInstance().music.isPlaying()) {
             ResourceManager.getInstance().music.pause();
         }
+        // Escribimos los datos pendientes de guardar:
+        UserData.flush();
         super.onPauseGame();
     }
 
+    // Contexto GL recreado, el engine vuelve a subir las texturas:
+    @Override
+    public synchronized void onReloadResources() {
+        ResourceManager.getInstance().onReloadResources();
+        super.onReloadResources();
+    }
+
     /*
      * // Liberamos la memoria: public void onUnloadResources () {
      *
@@ -213,6 +225,8 @@ public class NinjaTrials extends BaseGameActivity {
      */
     @Override
     public boolean onKeyDown(int keyCode, KeyEvent event) {
+        if (GameManager.PROFILER_MODE && ((ProfilingEngine) getEngine()).onKeyDown(keyCode))
+            return true;
         if(SceneManager.getInstance().mCurrentScene != null)
             return SceneManager.getInstance().mCurrentScene.onKeyDown(keyCode, event);
         return false;
@@ -83,7 +83,7 @@ public class RecordsScene extends GameScene {
         // tittle:
         recordsTittle = new Text(WIDTH/2, HEIGHT - 110,
                 ResourceManager.getInstance().fontBig,
-                ResourceManager.getInstance().loadAndroidRes().
+                ResourceManager.getInstance().
                     getString(R.string.record_title),
                 new TextOptions(HorizontalAlign.CENTER),
                 ResourceManager.getInstance().engine.getVertexBufferObjectManager());
@@ -94,19 +94,19 @@ public class RecordsScene extends GameScene {
         
         // Today records:
         todayRT = new RecordsTableEntity(372, HEIGHT - 230,
-                ResourceManager.getInstance().loadAndroidRes().getString(R.string.record_today),
+                ResourceManager.getInstance().getString(R.string.record_today),
                 GameManager.recordsTableSet.todayRecords);
         attachChild(todayRT);
         
         // Month records:
         monthRT = new RecordsTableEntity(WIDTH/2, HEIGHT - 230,
-                ResourceManager.getInstance().loadAndroidRes().getString(R.string.record_month),
+                ResourceManager.getInstance().getString(R.string.record_month),
                 GameManager.recordsTableSet.monthRecords);
         attachChild(monthRT);
         
         // All Time records:
         alltimeRT = new RecordsTableEntity(1570, HEIGHT - 230,
-                ResourceManager.getInstance().loadAndroidRes().getString(R.string.record_ever),
+                ResourceManager.getInstance().getString(R.string.record_ever),
                 GameManager.recordsTableSet.allTimeRecords);
         attachChild(alltimeRT);
         
@@ -187,9 +187,13 @@ public class RecordsScene extends GameScene {
                     ResourceManager.getInstance().engine.getVertexBufferObjectManager());
             attachChild(tittleText);
             
+            // Shown in the empty places:
+            Record emptyRecord = new Record();
+            
             for (int i = 0; i < RecordsTableSet.SIZE; i++) {
+                Record record = rt.recordsTable[RecordsTableSet.SIZE-i-1];
                 RecordItem r = new RecordItem(x, y - 80 - RecordItem.ITEM_HEIGHT * i,
-                        rt.recordsTable[RecordsTableSet.SIZE-i-1],
+                        record == null ? emptyRecord : record,
                         i == 0 ? true : false);
                 attachChild(r);
             }
@@ -32,9 +32,11 @@ import org.andengine.util.adt.align.HorizontalAlign;
 import com.madgear.ninjatrials.hud.SelectionStripe;
 import com.madgear.ninjatrials.layers.GameOverLayer;
 import com.madgear.ninjatrials.managers.GameManager;
+import com.madgear.ninjatrials.managers.ResourceGroup;
 import com.madgear.ninjatrials.managers.ResourceManager;
 import com.madgear.ninjatrials.managers.SFXManager;
 import com.madgear.ninjatrials.managers.SceneManager;
+import com.madgear.ninjatrials.managers.UserData;
 import com.madgear.ninjatrials.records.Record;
 import com.madgear.ninjatrials.test.TestingScene;
 import com.madgear.ninjatrials.trials.TrialSceneCut;
@@ -71,6 +73,11 @@ public class ResultLoseScene extends GameScene {
     @Override
     public void onLoadingScreenUnloadAndHidden() {}
 
+    @Override
+    public ResourceGroup getResourceGroup() {
+        return ResourceManager.RESULT_LOSE_GROUP;
+    }
+
     @Override
     public void onLoadScene() {
         ResourceManager.getInstance().loadResultLoseSceneResources();
@@ -86,7 +93,7 @@ public class ResultLoseScene extends GameScene {
 
         // Continue?
         continueText = new Text(WIDTH - 400, HEIGHT - 200,
-                ResourceManager.getInstance().fontBig, ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_lose_continue),
+                ResourceManager.getInstance().fontBig, ResourceManager.getInstance().getString(R.string.result_lose_continue),
                 new TextOptions(HorizontalAlign.CENTER),
                 ResourceManager.getInstance().engine.getVertexBufferObjectManager());
         attachChild(continueText);
@@ -100,7 +107,7 @@ public class ResultLoseScene extends GameScene {
 
         // You Lost
         youLostText = new Text(400, 300,
-                ResourceManager.getInstance().fontBig, ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_lose_you_lost),
+                ResourceManager.getInstance().fontBig, ResourceManager.getInstance().getString(R.string.result_lose_you_lost),
                 new TextOptions(HorizontalAlign.CENTER),
                 ResourceManager.getInstance().engine.getVertexBufferObjectManager());
         youLostText.setColor(android.graphics.Color.YELLOW);
@@ -109,8 +116,8 @@ public class ResultLoseScene extends GameScene {
         // SelectionStripe:
         selectionStripe = new SelectionStripe(continueText.getX(), continueText.getY() - 200, 
                 SelectionStripe.DISP_HORIZONTAL, 200f,
-                new String[] {ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_lose_yes),
-	        		ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_lose_no)}, 
+                new String[] {ResourceManager.getInstance().getString(R.string.result_lose_yes),
+	        		ResourceManager.getInstance().getString(R.string.result_lose_no)}, 
 	        	SelectionStripe.TEXT_ALIGN_CENTER, 0);
         attachChild(selectionStripe);
 
@@ -225,6 +232,8 @@ public class ResultLoseScene extends GameScene {
     private void gameOver() {
         // Save player score:
         GameManager.recordsTableSet.savePlayerScore();                
+        UserData.saveRecords(ResourceManager.getInstance().context);
+        UserData.saveAchiev(ResourceManager.getInstance().context);
         
         clearUpdateHandlers();
         SFXManager.stopMusic(ResourceManager.getInstance().loseMusic);
@@ -33,6 +33,7 @@ public class ResultTrial {
     public int runMaxSpeedCombo;
     public int runMaxSpeedComboTotal;
     public int runMaxSpeed;
+    public float[] runSplits;
 
     // CUT
     public int cutRound;
@@ -42,6 +43,7 @@ public class ResultTrial {
     public float jumpTime;
     public int jumpPerfectJumpCombo;
     public int jumpMaxPerfectJumpCombo;
+    public float[] jumpSplits;
     
     // SHURIKEN
     public float shurikenTime;
@@ -33,9 +33,11 @@ import org.andengine.util.adt.align.HorizontalAlign;
 import android.util.Log;
 
 import com.madgear.ninjatrials.managers.GameManager;
+import com.madgear.ninjatrials.managers.ResourceGroup;
 import com.madgear.ninjatrials.managers.ResourceManager;
 import com.madgear.ninjatrials.managers.SFXManager;
 import com.madgear.ninjatrials.managers.SceneManager;
+import com.madgear.ninjatrials.managers.UserData;
 import com.madgear.ninjatrials.sequences.EndingScene;
 import com.madgear.ninjatrials.test.TestingScene;
 import com.madgear.ninjatrials.trials.TrialSceneCut;
@@ -88,6 +90,11 @@ public class ResultWinScene extends GameScene {
     @Override
     public void onLoadingScreenUnloadAndHidden() {}
 
+    @Override
+    public ResourceGroup getResourceGroup() {
+        return ResourceManager.RESULT_WIN_GROUP;
+    }
+
     @SuppressWarnings("static-access")
     @Override
     public void onLoadScene() {
@@ -189,62 +196,62 @@ public class ResultWinScene extends GameScene {
 
         switch(GameManager.getCurrentTrial()) {
         case GameManager.TRIAL_RUN:
-            tittleText.setText(ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_win_run));
+            tittleText.setText(ResourceManager.getInstance().getString(R.string.result_win_run));
             drawings.setCurrentTileIndex(2);
             stamp.setCurrentTileIndex(TrialSceneRun.getStamp(TrialSceneRun.getScore()));
             scoreItemsNumber = 4;
-            scoreItemArray[0] = new ScoreItem(ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_win_run_time),
+            scoreItemArray[0] = new ScoreItem(ResourceManager.getInstance().getString(R.string.result_win_run_time),
                     String.valueOf(GameManager.player1result.runTime),
                     TrialSceneRun.getTimeScore());
-            scoreItemArray[1] = new ScoreItem(ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_win_run_max_speed_combo),
+            scoreItemArray[1] = new ScoreItem(ResourceManager.getInstance().getString(R.string.result_win_run_max_speed_combo),
                     String.valueOf(GameManager.player1result.runMaxSpeedCombo),
                     TrialSceneRun.getMaxSpeedComboScore());
-            scoreItemArray[2] = new ScoreItem(ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_win_run_max_speed_combo_total),
+            scoreItemArray[2] = new ScoreItem(ResourceManager.getInstance().getString(R.string.result_win_run_max_speed_combo_total),
                     String.valueOf(GameManager.player1result.runMaxSpeedComboTotal),
                     TrialSceneRun.getMaxSpeedComboTotalScore());
-            scoreItemArray[3] = new ScoreItem(ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_win_run_max_speed),
+            scoreItemArray[3] = new ScoreItem(ResourceManager.getInstance().getString(R.string.result_win_run_max_speed),
                     String.valueOf(GameManager.player1result.runMaxSpeed),
                     TrialSceneRun.getMaxSpeedScore());
             break;
 
         case GameManager.TRIAL_CUT:
-            tittleText.setText(ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_win_cut));
+            tittleText.setText(ResourceManager.getInstance().getString(R.string.result_win_cut));
             drawings.setCurrentTileIndex(3);
             stamp.setCurrentTileIndex(TrialSceneCut.getStamp(TrialSceneCut.getScore()));
             scoreItemsNumber = 2;
-            scoreItemArray[0] = new ScoreItem(ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_win_cut_rounds),
+            scoreItemArray[0] = new ScoreItem(ResourceManager.getInstance().getString(R.string.result_win_cut_rounds),
                     String.valueOf(GameManager.player1result.cutRound),
                     TrialSceneCut.getRoundScore());
-            scoreItemArray[1] = new ScoreItem(ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_win_cut_concentration),
+            scoreItemArray[1] = new ScoreItem(ResourceManager.getInstance().getString(R.string.result_win_cut_concentration),
                     String.valueOf(GameManager.player1result.cutConcentration),
                     TrialSceneCut.getConcentrationScore());
             break;
             
         case GameManager.TRIAL_JUMP:
-            tittleText.setText(ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_win_jump));
+            tittleText.setText(ResourceManager.getInstance().getString(R.string.result_win_jump));
             drawings.setCurrentTileIndex(0);
             stamp.setCurrentTileIndex(TrialSceneJump.getStamp(TrialSceneJump.getScore()));
             scoreItemsNumber = 3;
-            scoreItemArray[0] = new ScoreItem(ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_win_jump_time),
+            scoreItemArray[0] = new ScoreItem(ResourceManager.getInstance().getString(R.string.result_win_jump_time),
                     String.valueOf(String.format("%.2f", GameManager.player1result.jumpTime)),
                     TrialSceneJump.getTimeScore());
-            scoreItemArray[1] = new ScoreItem(ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_win_jump_perfect_jump_combo),
+            scoreItemArray[1] = new ScoreItem(ResourceManager.getInstance().getString(R.string.result_win_jump_perfect_jump_combo),
                     String.valueOf(GameManager.player1result.jumpPerfectJumpCombo),
                     TrialSceneJump.getPerfectJumpScore());
-            scoreItemArray[2] = new ScoreItem(ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_win_jump_max_perfect_jump_combo),
+            scoreItemArray[2] = new ScoreItem(ResourceManager.getInstance().getString(R.string.result_win_jump_max_perfect_jump_combo),
                     String.valueOf(GameManager.player1result.jumpMaxPerfectJumpCombo),
                     TrialSceneJump.getMaxPerfectJumpScore());
             break;
             
         case GameManager.TRIAL_SHURIKEN:
-            tittleText.setText(ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_win_shuriken));
+            tittleText.setText(ResourceManager.getInstance().getString(R.string.result_win_shuriken));
             drawings.setCurrentTileIndex(1);
             stamp.setCurrentTileIndex(TrialSceneShuriken.getStamp(TrialSceneShuriken.getScore()));
             scoreItemsNumber = 2;
-            scoreItemArray[0] = new ScoreItem(ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_win_shuriken_time),
+            scoreItemArray[0] = new ScoreItem(ResourceManager.getInstance().getString(R.string.result_win_shuriken_time),
                     String.valueOf(GameManager.player1result.shurikenTime),
                     TrialSceneShuriken.getTimeScore());
-            scoreItemArray[1] = new ScoreItem(ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_win_shuriken_precission),
+            scoreItemArray[1] = new ScoreItem(ResourceManager.getInstance().getString(R.string.result_win_shuriken_precission),
                     String.valueOf(GameManager.player1result.shurikenPrecission),
                     TrialSceneShuriken.getPrecissionScore());
             break;
@@ -309,6 +316,8 @@ public class ResultWinScene extends GameScene {
      */
     private void endingSequence() {
         SFXManager.stopMusic(ResourceManager.getInstance().winMusic);
+        // Save the achievements progress:
+        UserData.saveAchiev(ResourceManager.getInstance().context);
         
         if(GameManager.DEBUG_MODE)
             SceneManager.getInstance().showScene(new TestingScene());
@@ -316,6 +325,7 @@ public class ResultWinScene extends GameScene {
             if(GameManager.getCurrentTrial() == GameManager.TRIAL_FINAL) {
                 // Save player score:
                 GameManager.recordsTableSet.savePlayerScore();
+                UserData.saveRecords(ResourceManager.getInstance().context);
                 // Go to ending scene!
                 SceneManager.getInstance().showScene(new EndingScene());
             }
@@ -137,6 +137,16 @@ public class Achievement implements Serializable {
     }
     
     
+    /**
+     * Completes the achievement (and its progress if it's progressive).
+     */
+    public void complete() {
+        completed = true;
+        if(isProgressive)
+            progress = progressTotal;
+    }
+    
+    
     /**
      * Show a clue if is secret achiev and not completed, else show the name.
      * @return the name.
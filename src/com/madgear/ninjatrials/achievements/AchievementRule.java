@@ -0,0 +1,36 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.madgear.ninjatrials.achievements;
+
+/**
+ * Updates an achievement when an event it's subscribed to is published.
+ * The common rules are in AchievementRules.
+ *
+ * @author Madgear Games
+ *
+ */
+public interface AchievementRule {
+
+    /**
+     * @param achievement The achievement (never completed).
+     * @param value The event value.
+     * @return True if the achievement changed (progress or completed).
+     */
+    public boolean onEvent(Achievement achievement, int value);
+}
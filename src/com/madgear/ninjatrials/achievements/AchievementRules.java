@@ -0,0 +1,75 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.madgear.ninjatrials.achievements;
+
+/**
+ * Common achievement rules.
+ *
+ * @author Madgear Games
+ *
+ */
+public final class AchievementRules {
+
+    private AchievementRules() {}
+
+    /**
+     * Completes the achievement the first time the event value is min or more.
+     */
+    public static AchievementRule atLeast(final int min) {
+        return new AchievementRule() {
+            @Override
+            public boolean onEvent(Achievement achievement, int value) {
+                if (value < min)
+                    return false;
+                achievement.complete();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Completes the achievement the first time the event value is max or less.
+     */
+    public static AchievementRule atMost(final int max) {
+        return new AchievementRule() {
+            @Override
+            public boolean onEvent(Achievement achievement, int value) {
+                if (value > max)
+                    return false;
+                achievement.complete();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Adds 1 to the progress of the achievement on every event. Returns false if the progress
+     * didn't change (the achievement is not progressive).
+     */
+    public static AchievementRule count() {
+        return new AchievementRule() {
+            @Override
+            public boolean onEvent(Achievement achievement, int value) {
+                final int progress = achievement.progress;
+                achievement.progressIncrement(1);
+                return achievement.progress != progress || achievement.completed;
+            }
+        };
+    }
+}
@@ -31,6 +31,12 @@ public class AchievementSet implements Serializable {
     private static final long serialVersionUID = 1L;
     public Achievement[] achievements;
     
+    // Subscribed rules by event type, built the first time an event is published:
+    private transient Subscription[] subscriptions;
+    // Completed achievements, counted once and then updated by publish():
+    private transient int completedAchievements;
+    private transient boolean counted;
+    
     /**
      * Constructs an achievement set.
      * @param achievementNum The total number of achievements.
@@ -48,14 +54,110 @@ public class AchievementSet implements Serializable {
     }
     
     /**
-     * Computes the total number of achiements completed.
+     * The total number of achiements completed. They are only counted the first time, then
+     * publish() keeps the number. Call recount() after changing achievements directly.
      * @return The number of completed achiements.
      */
     public int getCompletedAchievements() {
-        int completedAchievements = 0;
+        if (!counted)
+            recount();
+        return completedAchievements;
+    }
+    
+    /**
+     * Counts the completed achievements again.
+     */
+    public void recount() {
+        completedAchievements = 0;
         for(int i = 0; i < achievements.length; i++)
             if (achievements[i].completed)
                 completedAchievements++;
-        return completedAchievements;
+        counted = true;
+    }
+    
+    /**
+     * Restores the state (progress and completed) of every achievement of a saved set into the
+     * achievement with the same index. The definitions are the ones of the game, so achievements
+     * added or changed after the set was saved keep their names and totals.
+     * @param saved A set read from a file.
+     */
+    public void restore(AchievementSet saved) {
+        for(int i = 0; i < saved.achievements.length; i++)
+            if (saved.achievements[i] != null)
+                restore(i, saved.achievements[i].completed, saved.achievements[i].progress);
+        recount();
+    }
+    
+    /**
+     * Restores the saved state of an achievement. Indexes out of the set are ignored.
+     * @param index The achievement index.
+     * @param completed The saved completed flag.
+     * @param progress The saved progress (only used by progressive achievements).
+     */
+    public void restore(int index, boolean completed, int progress) {
+        if (index < 0 || index >= achievements.length)
+            return;
+        Achievement achievement = achievements[index];
+        if (achievement.isProgressive)
+            achievement.progress = Math.max(0, Math.min(progress, achievement.progressTotal));
+        if (completed)
+            achievement.complete();
+        else
+            achievement.completed = false;
+    }
+    
+    /**
+     * Sends an event to the achievements subscribed to its type (only those, and only if they
+     * are not completed yet).
+     * @param eventType A TrialEvent type.
+     * @param value The event value.
+     * @return True if any achievement has changed (progress or completed), so it must be saved.
+     */
+    public boolean publish(int eventType, int value) {
+        if (subscriptions == null) {
+            subscriptions = new Subscription[TrialEvent.COUNT];
+            subscribe();
+        }
+        boolean changed = false;
+        for (Subscription s = subscriptions[eventType]; s != null; s = s.next) {
+            Achievement achievement = achievements[s.index];
+            if (!achievement.completed && s.rule.onEvent(achievement, value)) {
+                changed = true;
+                if (achievement.completed)
+                    completedAchievements++;
+            }
+        }
+        return changed;
+    }
+    
+    /**
+     * Subscribes the achievements to the events with subscribe(index, eventType, rule).
+     * The rules aren't saved with the achievements, this is called again after loading them.
+     */
+    protected void subscribe() {}
+    
+    /**
+     * Subscribes an achievement to an event type.
+     * @param index The achievement index.
+     * @param eventType A TrialEvent type.
+     * @param rule Updates the achievement with the event value.
+     */
+    protected void subscribe(int index, int eventType, AchievementRule rule) {
+        subscriptions[eventType] = new Subscription(index, rule, subscriptions[eventType]);
+    }
+    
+    /**
+     * An achievement subscribed to an event type. A list for every event type.
+     */
+    private static class Subscription {
+        final int index;
+        final AchievementRule rule;
+        final Subscription next;
+        
+        Subscription(int pIndex, AchievementRule pRule, Subscription pNext) {
+            index = pIndex;
+            rule = pRule;
+            next = pNext;
+        }
     }
 }
@@ -20,7 +20,9 @@ package com.madgear.ninjatrials.achievements;
 
 import java.io.Serializable;
 
+import com.madgear.ninjatrials.R;
 import com.madgear.ninjatrials.managers.GameManager;
+import com.madgear.ninjatrials.managers.ResourceManager;
 
 public class AchievementSetNinjaTrial extends AchievementSet implements Serializable {
 
@@ -30,6 +32,40 @@ public class AchievementSetNinjaTrial extends AchievementSet implements Serializ
     private static final long serialVersionUID = 1L;
     public static final int ACHIEV_NUM = 35;
     
+    // Achievements completed by the trial events:
+    public static final int ACHIEV_RUN_COMBO = 8;
+    public static final int ACHIEV_RUN_COMBO_TOTAL = 9;
+    public static final int ACHIEV_JUMP_PERFECT = 10;
+    public static final int ACHIEV_JUMP_PERFECT_ROW = 11;
+    public static final int ACHIEV_CUT_CONCENTRATION = 12;
+    public static final int ACHIEV_CUT_FULL_CONCENTRATION = 13;
+    public static final int ACHIEV_SHURIKEN_HITS = 14;
+    public static final int ACHIEV_SHURIKEN_DESTROYED = 15;
+    
+    // R.string texts of the trial achievements, from ACHIEV_RUN_COMBO: name, description,
+    // success sentence and, if secret, clue tittle and clue description:
+    private static final int[][] TRIAL_TEXTS = {
+        {R.string.achiev_run_combo_name, R.string.achiev_run_combo_desc,
+                R.string.achiev_run_combo_success},
+        {R.string.achiev_run_combo_total_name, R.string.achiev_run_combo_total_desc,
+                R.string.achiev_run_combo_total_success},
+        {R.string.achiev_jump_perfect_name, R.string.achiev_jump_perfect_desc,
+                R.string.achiev_jump_perfect_success},
+        {R.string.achiev_jump_perfect_row_name, R.string.achiev_jump_perfect_row_desc,
+                R.string.achiev_jump_perfect_row_success},
+        {R.string.achiev_cut_concentration_name, R.string.achiev_cut_concentration_desc,
+                R.string.achiev_cut_concentration_success},
+        {R.string.achiev_cut_full_concentration_name,
+                R.string.achiev_cut_full_concentration_desc,
+                R.string.achiev_cut_full_concentration_success,
+                R.string.achiev_cut_full_concentration_clue,
+                R.string.achiev_cut_full_concentration_clue_desc},
+        {R.string.achiev_shuriken_hits_name, R.string.achiev_shuriken_hits_desc,
+                R.string.achiev_shuriken_hits_success},
+        {R.string.achiev_shuriken_destroyed_name, R.string.achiev_shuriken_destroyed_desc,
+                R.string.achiev_shuriken_destroyed_success}
+    };
+    
     
     public AchievementSetNinjaTrial() {
         super(ACHIEV_NUM);
@@ -49,6 +85,60 @@ public class AchievementSetNinjaTrial extends AchievementSet implements Serializ
         
         // Remove when true achievements loaded.
         initTest();
+        
+        // Trial achievements (the texts are set by loadTexts()):
+        achievements[ACHIEV_RUN_COMBO] = new Achievement("", "", "");
+        achievements[ACHIEV_RUN_COMBO_TOTAL] = new Achievement("", "", "", 0, 600);
+        achievements[ACHIEV_JUMP_PERFECT] = new Achievement("", "", "");
+        achievements[ACHIEV_JUMP_PERFECT_ROW] = new Achievement("", "", "");
+        achievements[ACHIEV_CUT_CONCENTRATION] = new Achievement("", "", "");
+        achievements[ACHIEV_CUT_FULL_CONCENTRATION] = new Achievement("", "", "", "", "");
+        achievements[ACHIEV_SHURIKEN_HITS] = new Achievement("", "", "", 0, 100);
+        achievements[ACHIEV_SHURIKEN_DESTROYED] = new Achievement("", "", "");
+    }
+    
+    
+    /**
+     * Sets the texts of the trial achievements from the StringTable, in the game language.
+     * Call it before showing them. The testing set has no trial achievements.
+     */
+    public void loadTexts() {
+        if (GameManager.DEBUG_MODE)
+            return;
+        final ResourceManager res = ResourceManager.getInstance();
+        for (int i = 0; i < TRIAL_TEXTS.length; i++) {
+            final int[] texts = TRIAL_TEXTS[i];
+            final Achievement achievement = achievements[ACHIEV_RUN_COMBO + i];
+            achievement.name = res.getString(texts[0]);
+            achievement.description = res.getString(texts[1]);
+            achievement.successSentence = res.getString(texts[2]);
+            if (achievement.isSecret) {
+                achievement.clueTittle = res.getString(texts[3]);
+                achievement.clueDescription = res.getString(texts[4]);
+            }
+        }
+    }
+    
+    
+    /**
+     * Subscribes the trial achievements to the trial events. The testing set has only
+     * placeholders, which aren't subscribed.
+     */
+    @Override
+    protected void subscribe() {
+        if (GameManager.DEBUG_MODE)
+            return;
+        subscribe(ACHIEV_RUN_COMBO, TrialEvent.RUN_COMBO_TICK, AchievementRules.atLeast(50));
+        subscribe(ACHIEV_RUN_COMBO_TOTAL, TrialEvent.RUN_COMBO_TICK, AchievementRules.count());
+        subscribe(ACHIEV_JUMP_PERFECT, TrialEvent.JUMP_PERFECT, AchievementRules.atLeast(1));
+        subscribe(ACHIEV_JUMP_PERFECT_ROW, TrialEvent.JUMP_PERFECT, AchievementRules.atLeast(5));
+        subscribe(ACHIEV_CUT_CONCENTRATION, TrialEvent.CUT_CONCENTRATION,
+                AchievementRules.atLeast(95));
+        subscribe(ACHIEV_CUT_FULL_CONCENTRATION, TrialEvent.CUT_CONCENTRATION,
+                AchievementRules.atLeast(100));
+        subscribe(ACHIEV_SHURIKEN_HITS, TrialEvent.SHURIKEN_HIT, AchievementRules.count());
+        subscribe(ACHIEV_SHURIKEN_DESTROYED, TrialEvent.SHURIKEN_HIT,
+                AchievementRules.atMost(0));
     }
     
     
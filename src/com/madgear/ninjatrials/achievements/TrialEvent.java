@@ -0,0 +1,46 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.madgear.ninjatrials.achievements;
+
+/**
+ * Types of the events the trials publish for the achievements (see
+ * GameManager.achievementEvent()). Every event has an int value.
+ *
+ * @author Madgear Games
+ *
+ */
+public final class TrialEvent {
+
+    /** Run trial, every logic tick with the combo on. Value: combo time in tenths of second. */
+    public static final int RUN_COMBO_TICK = 0;
+
+    /** Jump trial, perfect jump. Value: perfect jumps in a row. */
+    public static final int JUMP_PERFECT = 1;
+
+    /** Cut trial, the cut is done. Value: concentration (0 to 100). */
+    public static final int CUT_CONCENTRATION = 2;
+
+    /** Shuriken trial, a shuriken hits an enemy. Value: lifes left to the enemy. */
+    public static final int SHURIKEN_HIT = 3;
+
+    /** Number of event types. */
+    public static final int COUNT = 4;
+
+    private TrialEvent() {}
+}
@@ -0,0 +1,185 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.hud;
+
+import com.madgear.ninjatrials.utils.FixedStepLoop;
+
+
+/**
+ * Position of the PrecisionAngleBar cursor, without the sprites: it goes up from MIN_VALUE to
+ * MAX_VALUE and, if it passes the end, starts again from the beginning with the jump value set to
+ * -1 (the jump was missed).
+ * The trial adds it to its FixedStepLoop and the bar draws it. The trial rules use it too, so
+ * they can run without a scene (see TrialSimulator in the benchmarks).
+ *
+ * @author Madgear Games
+ */
+public class AngleCursor implements FixedStepLoop.Stepper {
+    public static final float MIN_VALUE = 0f;
+    public static final float MAX_VALUE = 210f; //maybe dangerous. if doesnt work turn back to 200
+    public static final float MAX_SCORE = MAX_VALUE - 5f;
+    public static final float PERFECT_SCORE_RANGE = MAX_VALUE - 30f;
+    private final float speed;
+    private float value = MIN_VALUE;
+    private float previousValue = MIN_VALUE;
+    private boolean running = false;
+    private int direction = 1;
+    private int semicycle = 0;
+    private boolean tooHigh = false;
+    private float jump = 1;
+
+    /**
+     * @param timeRound Time in seconds used to calculate the cursor speed.
+     */
+    public AngleCursor(float timeRound) {
+        speed = 2.5f * (MAX_VALUE - MIN_VALUE) / timeRound;
+    }
+
+    /**
+     * Sets the cursor value, if it's in the range of the bar.
+     */
+    public void setValue(float value) {
+        if (value >= MIN_VALUE && value <= MAX_VALUE) {
+            this.value = value;
+            previousValue = value;
+        }
+    }
+
+    /**
+     * Puts the cursor at the beginning for a new jump.
+     */
+    public void setValueToBeginning() {
+        value = MIN_VALUE;
+        previousValue = MIN_VALUE;
+        direction = 1;
+        jump = 1;
+    }
+
+    public float getValue() {
+        return value;
+    }
+
+    /**
+     * @return The value in the previous step, to draw the cursor between the two.
+     */
+    public float getPreviousValue() {
+        return previousValue;
+    }
+
+    /**
+     * The cursor stops the next time it passes the end of the bar.
+     */
+    public void activateTooHigh() {
+        tooHigh = true;
+    }
+
+    /**
+     * Continue moving the cursor.
+     */
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * Stops moving the cursor.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Stops the cursor where it was some time ago, moving it back along its path.
+     * Used to stop it at the moment the button was pressed. The cursor isn't moved back past the
+     * start of the bar.
+     * @param late Seconds to move the cursor back.
+     */
+    public void stop(float late) {
+        running = false;
+        final float back = value - late * speed * direction;
+        if (back > MIN_VALUE) {
+            setValue(back);
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets the power value. Values out of the bar or in the perfect range are the maximum score.
+     * @return The cursor value, the rest to the end of the bar and the jump value.
+     */
+    public float[] getPowerValue() {
+        if (value <= 0)
+            value = MAX_SCORE;
+        if (value >= PERFECT_SCORE_RANGE)
+            value = MAX_SCORE;
+
+        float[] result = new float[] {value, MAX_VALUE - value, jump};
+
+        //to promote perfects a little bit more, then + 8f
+        if (Double.isNaN(result[0]) || Double.isNaN(result[1]) || value == MAX_SCORE)
+            result = new float[] { MAX_SCORE, MAX_VALUE - MAX_SCORE + 8f, jump};
+
+        return result;
+    }
+
+    /**
+     * Gets the number of semi-cycles of the bar.
+     */
+    public int getSemicycle() {
+        return semicycle;
+    }
+
+    public float getJumpValue() {
+        return jump;
+    }
+
+    public void setJumpValue(float jump) {
+        this.jump = jump;
+    }
+
+    /**
+     * Moves the cursor up. When it passes the end of the bar the jump is missed: the jump value
+     * is -1 and the cursor starts again from the beginning.
+     */
+    @Override
+    public void onStep(final float step) {
+        previousValue = value;
+        if (!running)
+            return;
+        value += step * speed * direction;
+
+        if (value > MAX_VALUE) {
+            direction = -1;
+            jump = -1;
+            semicycle++;
+            value = 0f;
+            // Don't draw the cursor going back through the bar:
+            previousValue = 0f;
+            if (tooHigh)
+                stop();
+        }
+        if (value <= (MAX_VALUE / 2.0f)) {
+            direction = 1;
+            semicycle++;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.hud;
+
+import com.madgear.ninjatrials.utils.FixedStepLoop;
+
+
+/**
+ * Position of the PrecisionBar cursor, without the sprites: it moves from MIN_VALUE to MAX_VALUE
+ * and back, making a whole cycle in a time "timeRound".
+ * The trial adds it to its FixedStepLoop and the bar draws it. The trial rules use it too, so
+ * they can run without a scene (see TrialSimulator in the benchmarks).
+ *
+ * @author Madgear Games
+ */
+public class BarCursor implements FixedStepLoop.Stepper {
+    public static final float MIN_VALUE = 0f;
+    public static final float MAX_VALUE = 200f;
+    private final float speed;
+    private float value = MIN_VALUE;
+    private float previousValue = MIN_VALUE;
+    private boolean running = false;
+    private int direction = 1;
+    private int semicycle = 0;
+
+    /**
+     * @param timeRound Time in seconds the cursor takes in complete a whole cycle.
+     */
+    public BarCursor(float timeRound) {
+        speed = 2 * (MAX_VALUE - MIN_VALUE) / timeRound;
+    }
+
+    /**
+     * Puts the cursor stopped at the start of the bar.
+     */
+    public void reset() {
+        value = MIN_VALUE;
+        previousValue = MIN_VALUE;
+        running = false;
+        direction = 1;
+        semicycle = 0;
+    }
+
+    /**
+     * Sets the cursor value, if it's in the range of the bar.
+     */
+    public void setValue(float value) {
+        if (value >= MIN_VALUE && value <= MAX_VALUE) {
+            this.value = value;
+            previousValue = value;
+        }
+    }
+
+    public float getValue() {
+        return value;
+    }
+
+    /**
+     * @return The value in the previous step, to draw the cursor between the two.
+     */
+    public float getPreviousValue() {
+        return previousValue;
+    }
+
+    /**
+     * Continue moving the cursor.
+     */
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * Stops moving the cursor.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Stops the cursor where it was some time ago, moving it back along its path.
+     * Used to stop it at the moment the button was pressed.
+     * @param late Seconds to move the cursor back.
+     */
+    public void stop(float late) {
+        running = false;
+        float back = value - late * speed * direction;
+        if (back < MIN_VALUE) {
+            back = 2 * MIN_VALUE - back;
+        }
+        else if (back > MAX_VALUE) {
+            back = 2 * MAX_VALUE - back;
+        }
+        setValue(Math.max(MIN_VALUE, Math.min(MAX_VALUE, back)));
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets the power value.
+     * @return An integer value from -100 (left) to 100 (right). 0 is the center value.
+     */
+    public int getPowerValue() {
+        return Math.round(value) - 100;
+    }
+
+    /**
+     * Gets the number of semi-cycles of the bar. A semi-cycle begins each time the cursor reach
+     * the bar edge and changes his direction. The first semi-cycle is 0;
+     */
+    public int getSemicycle() {
+        return semicycle;
+    }
+
+    /**
+     * Updates the value of the cursor position and controls when the cursor reach the left or
+     * right margin, changing the cursor direction.
+     */
+    @Override
+    public void onStep(final float step) {
+        previousValue = value;
+        if (!running)
+            return;
+        value += step * speed * direction;
+        if (value >= MAX_VALUE) {
+            direction = -1;
+            semicycle++;
+        }
+        if (value <= MIN_VALUE) {
+            direction = 1;
+            semicycle++;
+        }
+    }
+}
@@ -19,77 +19,127 @@
 
 package com.madgear.ninjatrials.hud;
 
-import java.text.DecimalFormat;
-
 import org.andengine.entity.Entity;
+import org.andengine.entity.IEntity;
+import org.andengine.entity.sprite.TiledSprite;
 import org.andengine.entity.text.Text;
 import org.andengine.entity.text.TextOptions;
+import org.andengine.opengl.texture.region.ITiledTextureRegion;
 import org.andengine.util.adt.align.HorizontalAlign;
 
 import com.madgear.ninjatrials.managers.ResourceManager;
-
-import android.util.Log;
+import com.madgear.ninjatrials.utils.FixedStepLoop;
 
 
 /**
- * Choronometer with 4 digits with format 00:00.
+ * Choronometer with format 00:00 (hundredths) or 00:000 (thousandths).
  * Each digit has his own position, this way the digits doesn't move if the lenght of the
  * string changes.
+ * The digits are calculated with TimeDigits and only the digits that change are updated, so
+ * drawing the time doesn't create objects. The digits can be Texts (the default) or TiledSprites
+ * of a digit strip: tiles 0 to 9 are the digits and tile 10 the colon.
+ * The chronometer also keeps split times (time elapsed since the initial value when split() is
+ * called), and the lap times between them.
+ * The time advances in the steps of the trial FixedStepLoop (add the chronometer to it), so the
+ * trial times don't depend on the frame rate.
  * 
  * @author Madgear Games
  */
-public class Chronometer extends Entity {
+public class Chronometer extends Entity implements FixedStepLoop.Stepper {
+    public final static int PRECISION_CENTIS = 2;
+    public final static int PRECISION_MILLIS = 3;
+    public final static int MAX_SPLITS = 32;
+    private final static int INT_DIGITS = 2;
+    private final static float DIGIT_SPACING = 50;
+    private final static String[] DIGITS = {"0", "1", "2", "3", "4", "5", "6", "7", "8", "9"};
     private float timeValue;
     private float initialValue;
     private float finalValue;
     private float direction;
     private float posX, posY;
     private boolean timeOut;
-    private Text digit1, digit2, digit3, digit4, colon;
-    private String timeString;
-    private DecimalFormat formatter = new java.text.DecimalFormat("00.00");
+    private boolean running = false;
+    private final int precision;
+    // Text digits or sprite digits, the other one is null:
+    private Text[] digitTexts;
+    private TiledSprite[] digitSprites;
+    private final char[] chars;
+    private final char[] shownChars;
+    private final float[] splits = new float[MAX_SPLITS];
+    private int splitCount = 0;
 
 
     /**
-     * Construct a chronometer.
+     * Construct a chronometer with hundredths of second.
      * @param posX Position axis X.
      * @param posY Position axis Y.
      * @param initialValue Initial time value.
      * @param finalValue Final time value.
      */
     public Chronometer(float posX, float posY, int initialValue, int finalValue) {
-        setIgnoreUpdate(true);
+        this(posX, posY, initialValue, finalValue, PRECISION_CENTIS, null);
+    }
+
+    /**
+     * Construct a chronometer.
+     * @param posX Position axis X.
+     * @param posY Position axis Y.
+     * @param initialValue Initial time value.
+     * @param finalValue Final time value.
+     * @param precision PRECISION_CENTIS or PRECISION_MILLIS.
+     */
+    public Chronometer(float posX, float posY, int initialValue, int finalValue, int precision) {
+        this(posX, posY, initialValue, finalValue, precision, null);
+    }
+
+    /**
+     * Construct a chronometer.
+     * @param posX Position axis X.
+     * @param posY Position axis Y.
+     * @param initialValue Initial time value.
+     * @param finalValue Final time value.
+     * @param precision PRECISION_CENTIS or PRECISION_MILLIS.
+     * @param digitStrip Tiled region with the digits 0 to 9 and the colon, or null to use Texts.
+     */
+    public Chronometer(float posX, float posY, int initialValue, int finalValue, int precision,
+            ITiledTextureRegion digitStrip) {
         this.initialValue = (float) initialValue;
         this.finalValue = (float) finalValue;
         this.timeValue = this.initialValue;
         this.posX = posX;
         this.posY = posY;
         this.timeOut = false;
-        digit1 = new Text(posX - 100, posY,
-                ResourceManager.getInstance().fontMedium, "0",
-                new TextOptions(HorizontalAlign.CENTER),
-                ResourceManager.getInstance().engine.getVertexBufferObjectManager());
-        digit2 = new Text(posX - 50, posY,
-                ResourceManager.getInstance().fontMedium, "0",
-                new TextOptions(HorizontalAlign.CENTER),
-                ResourceManager.getInstance().engine.getVertexBufferObjectManager());
-        digit3 = new Text(posX + 50, posY,
-                ResourceManager.getInstance().fontMedium, "0",
-                new TextOptions(HorizontalAlign.CENTER),
-                ResourceManager.getInstance().engine.getVertexBufferObjectManager());
-        digit4 = new Text(posX + 100, posY,
-                ResourceManager.getInstance().fontMedium, "0",
-                new TextOptions(HorizontalAlign.CENTER),
-                ResourceManager.getInstance().engine.getVertexBufferObjectManager());
-        colon = new Text(posX, posY,
-                ResourceManager.getInstance().fontMedium, ":",
-                new TextOptions(HorizontalAlign.CENTER),
-                ResourceManager.getInstance().engine.getVertexBufferObjectManager());
-        attachChild(digit1);
-        attachChild(digit2);
-        attachChild(digit3);
-        attachChild(digit4);
-        attachChild(colon);
+        this.precision = precision == PRECISION_MILLIS ? PRECISION_MILLIS : PRECISION_CENTIS;
+        final int length = TimeDigits.length(INT_DIGITS, this.precision);
+        chars = new char[length];
+        shownChars = new char[length];
+        if (digitStrip == null) {
+            digitTexts = new Text[length];
+        }
+        else {
+            digitSprites = new TiledSprite[length];
+        }
+        // The colon is in posX, the digits at both sides:
+        for (int i = 0; i < length; i++) {
+            final float x = posX + (i - INT_DIGITS) * DIGIT_SPACING;
+            final IEntity digit;
+            if (digitStrip == null) {
+                digitTexts[i] = new Text(x, posY,
+                        ResourceManager.getInstance().fontMedium,
+                        i == INT_DIGITS ? ":" : "0",
+                        new TextOptions(HorizontalAlign.CENTER),
+                        ResourceManager.getInstance().engine.getVertexBufferObjectManager());
+                digit = digitTexts[i];
+            }
+            else {
+                digitSprites[i] = new TiledSprite(x, posY, digitStrip,
+                        ResourceManager.getInstance().engine.getVertexBufferObjectManager());
+                digitSprites[i].setCurrentTileIndex(i == INT_DIGITS ? 10 : 0);
+                digit = digitSprites[i];
+            }
+            shownChars[i] = i == INT_DIGITS ? TimeDigits.SEPARATOR : '0';
+            attachChild(digit);
+        }
         if (initialValue < finalValue)
             direction = 1;
         else
@@ -117,14 +167,14 @@ public class Chronometer extends Entity {
      * Continue counting time.
      */
     public void start() {
-        setIgnoreUpdate(false);
+        running = true;
     }
 
     /**
      * Stop counting time.
      */
     public void stop() {
-        setIgnoreUpdate(true);
+        running = false;
     }
 
     /**
@@ -135,25 +185,97 @@ public class Chronometer extends Entity {
         return timeOut;
     }
 
+    /**
+     * @return PRECISION_CENTIS or PRECISION_MILLIS.
+     */
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * @return Time elapsed since the initial value (positive counting up or down).
+     */
+    public float getElapsedTime() {
+        return Math.abs(timeValue - initialValue);
+    }
+
+    /**
+     * Records a split time: the time elapsed since the initial value.
+     * @return The split index, or -1 if there are already MAX_SPLITS splits.
+     */
+    public int split() {
+        if (splitCount == MAX_SPLITS)
+            return -1;
+        splits[splitCount] = getElapsedTime();
+        return splitCount++;
+    }
+
+    /**
+     * @return Number of split times recorded.
+     */
+    public int getSplitCount() {
+        return splitCount;
+    }
+
+    /**
+     * @return The split time number index (time elapsed since the initial value).
+     */
+    public float getSplit(int index) {
+        return splits[index];
+    }
+
+    /**
+     * @return The lap time number index: time between the previous split (or the initial value)
+     * and this one.
+     */
+    public float getLap(int index) {
+        return index == 0 ? splits[0] : splits[index] - splits[index - 1];
+    }
+
+    /**
+     * Copies the split times to a new array (used to keep them in the trial results).
+     */
+    public float[] copySplits() {
+        final float[] copy = new float[splitCount];
+        System.arraycopy(splits, 0, copy, 0, splitCount);
+        return copy;
+    }
+
+    /**
+     * Removes the split times.
+     */
+    public void clearSplits() {
+        splitCount = 0;
+    }
+
     /**
      * Draw the chronometer in the screen with the current time value.
+     * Only the digits that have changed are updated.
      */
     private void draw() {
-        timeString = formatter.format(timeValue);
-        digit1.setText(timeString.substring(0, 1));
-        digit2.setText(timeString.substring(1, 2));
-        digit3.setText(timeString.substring(3, 4));
-        digit4.setText(timeString.substring(4));
+        final int length = TimeDigits.fill(timeValue, INT_DIGITS, precision, chars);
+        for (int i = 0; i < length; i++) {
+            if (chars[i] != shownChars[i]) {
+                shownChars[i] = chars[i];
+                final int value = chars[i] - '0';
+                if (digitTexts != null)
+                    digitTexts[i].setText(DIGITS[value]);
+                else
+                    digitSprites[i].setCurrentTileIndex(value);
+            }
+        }
     }
 
     /**
-     * Updates the value of current time and draws the chronometer. If the time exceds the final
+     * Updates the value of current time. If the time exceds the final
      * value then stop the chronometer.
      */
     @Override
-    protected void onManagedUpdate(final float pSecondsElapsed) {
+    public void onStep(final float step) {
+        if (!running)
+            return;
         if(direction == 1) {
-            timeValue += pSecondsElapsed;
+            timeValue += step;
             if(timeValue >= finalValue) {
                 timeValue = finalValue;
                 stop();
@@ -161,13 +283,20 @@ public class Chronometer extends Entity {
             }
         }
         else {
-            timeValue -= pSecondsElapsed;
+            timeValue -= step;
             if(timeValue <= finalValue) {
                 timeValue = finalValue;
                 stop();
                 timeOut = true;
             }
         }
+    }
+
+    /**
+     * Draws the current time value.
+     */
+    @Override
+    protected void onManagedUpdate(final float pSecondsElapsed) {
         draw();
         super.onManagedUpdate(pSecondsElapsed);
     }
@@ -20,51 +20,39 @@
 package com.madgear.ninjatrials.hud;
 
 import org.andengine.engine.camera.hud.HUD;
-import org.andengine.entity.modifier.AlphaModifier;
-import org.andengine.entity.modifier.DelayModifier;
-import org.andengine.entity.modifier.FadeInModifier;
-import org.andengine.entity.modifier.FadeOutModifier;
-import org.andengine.entity.modifier.ParallelEntityModifier;
-import org.andengine.entity.modifier.ScaleModifier;
-import org.andengine.entity.modifier.SequenceEntityModifier;
-import org.andengine.entity.text.AutoWrap;
-import org.andengine.entity.text.Text;
-import org.andengine.entity.text.TextOptions;
-import org.andengine.opengl.font.Font;
-import org.andengine.util.adt.align.HorizontalAlign;
 
 import com.madgear.ninjatrials.managers.ResourceManager;
 
 
 /**
  * This class controls the display of the game HUD of the game.
- * Can write only a text message at once. 
+ * Can write only a text message at once (see MessageChannel for the priorities).
  * @author Madgear Games
  *
  */
 public class GameHUD extends HUD {
-    private Text textMessage = null;
     public final static float DEF_FADE_IN_TIME = 0.1f;
     public final static float DEF_FADE_OUT_TIME = 0.1f;
     public final static float DEF_MESS_STAND_TIME = 2.0f;
     public final static float DEF_IN_DELAY_TIME = 0f;
-    private final static float SCALE_INIT = 0.9f;
-    private final static float SCALE_FINAL = 1.2f;
-    private final static int AUTOWRAP_SIZE = 10;
     private final static float WIDTH = ResourceManager.getInstance().cameraWidth;
     private final static float HEIGHT = ResourceManager.getInstance().cameraHeight;
-    private final static Font DEF_FONT = ResourceManager.getInstance().fontBig;
+    private final MessageChannel messages = new MessageChannel(
+            ResourceManager.getInstance().fontBig,
+            ResourceManager.getInstance().engine.getVertexBufferObjectManager());
 
     /**
      * GameHUD constructor
      */
-    public GameHUD() {}
+    public GameHUD() {
+        attachChild(messages);
+    }
     
     /**
      * Writes a message in the screen (centered).
      * @param message The text we want to display.
      */
-    public void showMessage(String message) {
+    public void showMessage(CharSequence message) {
         showMessage(message, DEF_IN_DELAY_TIME, DEF_FADE_IN_TIME, DEF_MESS_STAND_TIME,
                 DEF_FADE_OUT_TIME);
     }
@@ -76,10 +64,24 @@ public class GameHUD extends HUD {
      * @param msgDisplayTime Time for the text to stand in the screen (including fade in and
      * fade out time).
      */
-    public void showMessage(String message, float msgInDelayTime, float msgDisplayTime) {
+    public void showMessage(CharSequence message, float msgInDelayTime, float msgDisplayTime) {
         showMessage(message, msgInDelayTime, DEF_FADE_IN_TIME, msgDisplayTime,
                 DEF_FADE_OUT_TIME);
     }
+
+    /**
+     * Writes a message in the screen (centered) with a priority.
+     * @param message The text we want to display.
+     * @param priority MessageChannel.PRIORITY_LOW, PRIORITY_NORMAL or PRIORITY_HIGH.
+     * @param msgInDelayTime The time the message waits to be displayed.
+     * @param msgDisplayTime Time for the text to stand in the screen (including fade in and
+     * fade out time).
+     */
+    public void showMessage(CharSequence message, int priority, float msgInDelayTime,
+            float msgDisplayTime) {
+        showMessage(message, priority, msgInDelayTime, DEF_FADE_IN_TIME, msgDisplayTime,
+                DEF_FADE_OUT_TIME, WIDTH / 2, HEIGHT / 2);
+    }
     
     /**
      * Display a message in the screen (centered).
@@ -90,7 +92,7 @@ public class GameHUD extends HUD {
      * fade out time).
      * @param msgExitTime Time for the fade out time.
      */
-    public void showMessage(String message, float msgInDelayTime ,float msgEnterTime,
+    public void showMessage(CharSequence message, float msgInDelayTime ,float msgEnterTime,
             float msgDisplayTime, float msgExitTime) {
         
         showMessage(message, msgInDelayTime, msgEnterTime, msgDisplayTime, msgExitTime,
@@ -108,41 +110,42 @@ public class GameHUD extends HUD {
      * @param xPos The X position.
      * @param yPos The Y position.
      */
-    public void showMessage(String message, float msgInDelayTime, float msgEnterTime,
+    public void showMessage(CharSequence message, float msgInDelayTime, float msgEnterTime,
             float msgDisplayTime, float msgExitTime, float xPos, float yPos) {
-        
-        // if exists a previus text, destroy it.
-        if(textMessage != null) textMessage.detachSelf();
-        textMessage = new Text(xPos, yPos,
-                DEF_FONT, message,
-                new TextOptions(HorizontalAlign.CENTER),
-                ResourceManager.getInstance().engine.getVertexBufferObjectManager());
-        
+        showMessage(message, MessageChannel.PRIORITY_NORMAL, msgInDelayTime, msgEnterTime,
+                msgDisplayTime, msgExitTime, xPos, yPos);
+    }
+
+    /**
+     * Display a message in the screen with a priority.
+     * The message characters are copied, so the caller can reuse a StringBuilder.
+     * @param message The text we want to display.
+     * @param priority MessageChannel.PRIORITY_LOW, PRIORITY_NORMAL or PRIORITY_HIGH.
+     * @param msgInDelayTime The time the message waits to be displayed.
+     * @param msgEnterTime Time for the fade in text.
+     * @param msgDisplayTime Time for the text to stand in the screen (including fade in and
+     * fade out time).
+     * @param msgExitTime Time for the fade out text.
+     * @param xPos The X position.
+     * @param yPos The Y position.
+     */
+    public void showMessage(CharSequence message, int priority, float msgInDelayTime,
+            float msgEnterTime, float msgDisplayTime, float msgExitTime, float xPos,
+            float yPos) {
         if(msgInDelayTime <= 0) msgInDelayTime = DEF_IN_DELAY_TIME;
         if(msgEnterTime <= 0) msgEnterTime = DEF_FADE_IN_TIME;
         if(msgDisplayTime <= 0) msgDisplayTime = DEF_MESS_STAND_TIME;
         if(msgExitTime <= 0) msgExitTime = DEF_FADE_OUT_TIME;
-        
-        attachChild(textMessage);
-        textMessage.setAlpha(0);
-        textMessage.setScale(SCALE_INIT);        
-        textMessage.registerEntityModifier(new SequenceEntityModifier(
-                new DelayModifier(msgInDelayTime),
-                new ParallelEntityModifier(
-                        new ScaleModifier(msgEnterTime, SCALE_INIT, 1),
-                        new FadeInModifier(msgEnterTime)),
-                new DelayModifier(msgDisplayTime - msgEnterTime - msgExitTime),
-                new ParallelEntityModifier(
-                        new ScaleModifier(msgExitTime, 1f, SCALE_FINAL),
-                        new FadeOutModifier(msgExitTime))
-                ));
+        bringMessagesToFront();
+        messages.show(message, priority, msgInDelayTime, msgEnterTime, msgDisplayTime,
+                msgExitTime, false, xPos, yPos);
     }
 
     /**
      * Display a message permanently in the screen center.
      * @param message The message to display.
      */
-    public void showComboMessage(String message) {
+    public void showComboMessage(CharSequence message) {
         showComboMessage(message, WIDTH / 2, HEIGHT / 2);
     }
 
@@ -152,20 +155,25 @@ public class GameHUD extends HUD {
      * @param xPos Position X.
      * @param yPos Position Y.
      */
-    public void showComboMessage(String message, float xPos, float yPos) {
-        // if exists a previus text, destroy it.
-        if(textMessage != null) textMessage.detachSelf();
-        textMessage = new Text(xPos, yPos,
-                DEF_FONT, message,
-                new TextOptions(HorizontalAlign.CENTER),
-                ResourceManager.getInstance().engine.getVertexBufferObjectManager());
-        attachChild(textMessage);
+    public void showComboMessage(CharSequence message, float xPos, float yPos) {
+        bringMessagesToFront();
+        messages.show(message, MessageChannel.PRIORITY_NORMAL, 0, 0, 0, 0, true, xPos, yPos);
     }
 
     /**
      * Hides the message of the combo message.
      */
     public void hideComboMessage() {
-        textMessage.setAlpha(0);
+        messages.hide();
+    }
+
+    /**
+     * The messages are drawn over the HUD objects attached after the channel.
+     */
+    private void bringMessagesToFront() {
+        if(getLastChild() != messages) {
+            messages.detachSelf();
+            attachChild(messages);
+        }
     }
 }
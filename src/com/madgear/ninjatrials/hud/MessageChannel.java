@@ -0,0 +1,325 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.hud;
+
+import org.andengine.entity.Entity;
+import org.andengine.entity.text.Text;
+import org.andengine.entity.text.TextOptions;
+import org.andengine.opengl.font.Font;
+import org.andengine.opengl.vbo.VertexBufferObjectManager;
+import org.andengine.util.adt.align.HorizontalAlign;
+
+
+/**
+ * Shows the GameHUD messages without creating objects while the game runs.
+ * The Text objects are created once with room for MAX_CHARS characters and reused, the message
+ * characters are copied to StringBuilders owned by the channel, and the fade and scale are
+ * calculated every frame instead of using entity modifiers.
+ *
+ * Messages have a priority. A message replaces the one on screen if its priority is the same or
+ * higher (the old one fades out while the new one fades in). A message with a lower priority
+ * waits until the one on screen ends; only the last waiting message of every priority is kept.
+ *
+ * @author Madgear Games
+ */
+public class MessageChannel extends Entity {
+    public final static int PRIORITY_LOW = 0;
+    public final static int PRIORITY_NORMAL = 1;
+    public final static int PRIORITY_HIGH = 2;
+    private final static int PRIORITY_COUNT = 3;
+    // Characters of the longest message, longer messages are cut:
+    public final static int MAX_CHARS = 64;
+    // Texts on screen at once (the messages fading out and the current one):
+    private final static int SLOTS = 4;
+    private final static float SCALE_INIT = 0.9f;
+    private final static float SCALE_FINAL = 1.2f;
+
+    private final Slot[] slots = new Slot[SLOTS];
+    private final Message[] pending = new Message[PRIORITY_COUNT];
+    private Slot current = null;
+
+    /**
+     * Creates the texts of the channel.
+     * @param font The font of the messages.
+     * @param vbom The vertex buffer object manager.
+     */
+    public MessageChannel(final Font font, final VertexBufferObjectManager vbom) {
+        for (int i = 0; i < SLOTS; i++) {
+            slots[i] = new Slot(new Text(0, 0, font, "", MAX_CHARS,
+                    new TextOptions(HorizontalAlign.CENTER), vbom));
+            slots[i].text.setVisible(false);
+            attachChild(slots[i].text);
+        }
+        for (int i = 0; i < PRIORITY_COUNT; i++) {
+            pending[i] = new Message();
+        }
+    }
+
+    /**
+     * Shows a message, or keeps it waiting if the message on screen has a higher priority.
+     * The characters are copied, so the caller can reuse the message builder.
+     * @param message The text to display.
+     * @param priority PRIORITY_LOW, PRIORITY_NORMAL or PRIORITY_HIGH.
+     * @param delay Time before the message is displayed.
+     * @param enter Fade in time.
+     * @param display Time for the text to stand in the screen (including fade in and fade out).
+     * @param exit Fade out time.
+     * @param permanent If true the message is shown at once and stays until it's replaced or
+     * hidden (the times are ignored).
+     * @param x The X position.
+     * @param y The Y position.
+     */
+    public void show(final CharSequence message, final int priority, final float delay,
+            final float enter, final float display, final float exit, final boolean permanent,
+            final float x, final float y) {
+        final Message m = pending[clampPriority(priority)];
+        m.set(message, priority, delay, enter, display, exit, permanent, x, y);
+        if (current == null || m.priority >= current.message.priority) {
+            start(m);
+        }
+    }
+
+    /**
+     * Hides the message on screen at once. The next waiting message, if any, is shown.
+     */
+    public void hide() {
+        if (current != null) {
+            current.free();
+            current = null;
+        }
+        startNextPending();
+    }
+
+    /**
+     * Hides every message and removes the waiting ones.
+     */
+    public void clear() {
+        for (int i = 0; i < SLOTS; i++) {
+            slots[i].free();
+        }
+        for (int i = 0; i < PRIORITY_COUNT; i++) {
+            pending[i].waiting = false;
+        }
+        current = null;
+    }
+
+    @Override
+    protected void onManagedUpdate(final float pSecondsElapsed) {
+        super.onManagedUpdate(pSecondsElapsed);
+        for (int i = 0; i < SLOTS; i++) {
+            final Slot slot = slots[i];
+            if (slot.busy && !slot.update(pSecondsElapsed)) {
+                slot.free();
+                if (slot == current) {
+                    current = null;
+                    startNextPending();
+                }
+            }
+        }
+    }
+
+    /**
+     * Shows the waiting message with the highest priority.
+     */
+    private void startNextPending() {
+        for (int i = PRIORITY_COUNT - 1; i >= 0; i--) {
+            if (pending[i].waiting) {
+                start(pending[i]);
+                return;
+            }
+        }
+    }
+
+    private void start(final Message m) {
+        if (current != null) {
+            current.fadeOut();
+        }
+        current = getFreeSlot();
+        current.start(m);
+        m.waiting = false;
+    }
+
+    /**
+     * A free slot, or the one that is going to end first if all of them are in use.
+     */
+    private Slot getFreeSlot() {
+        Slot best = null;
+        for (int i = 0; i < SLOTS; i++) {
+            final Slot slot = slots[i];
+            if (!slot.busy) {
+                return slot;
+            }
+            if (slot != current && (best == null || slot.remaining() < best.remaining())) {
+                best = slot;
+            }
+        }
+        best.free();
+        return best;
+    }
+
+    private static int clampPriority(final int priority) {
+        return Math.max(PRIORITY_LOW, Math.min(PRIORITY_HIGH, priority));
+    }
+
+    /**
+     * A message and its times.
+     */
+    private static class Message {
+        final StringBuilder chars = new StringBuilder(MAX_CHARS);
+        int priority;
+        float delay, enter, display, exit, x, y;
+        boolean permanent;
+        boolean waiting = false;
+
+        void set(final CharSequence message, final int priority, final float delay,
+                final float enter, final float display, final float exit,
+                final boolean permanent, final float x, final float y) {
+            chars.setLength(0);
+            final int length = Math.min(message.length(), MAX_CHARS);
+            for (int i = 0; i < length; i++) {
+                chars.append(message.charAt(i));
+            }
+            this.priority = clampPriority(priority);
+            this.delay = delay;
+            this.enter = enter;
+            this.display = display;
+            this.exit = exit;
+            this.permanent = permanent;
+            this.x = x;
+            this.y = y;
+            waiting = true;
+        }
+
+        void copy(final Message m) {
+            set(m.chars, m.priority, m.delay, m.enter, m.display, m.exit, m.permanent, m.x, m.y);
+            waiting = false;
+        }
+    }
+
+    /**
+     * A text of the pool and the state of its animation.
+     */
+    private static class Slot {
+        final Text text;
+        // Own copy, the Text keeps a reference to the characters it shows:
+        final Message message = new Message();
+        boolean busy = false;
+        float elapsed;
+        // Fading out after being replaced, from these alpha and scale:
+        boolean fading;
+        float fadeAlpha, fadeScale;
+
+        Slot(final Text text) {
+            this.text = text;
+        }
+
+        void start(final Message m) {
+            message.copy(m);
+            busy = true;
+            fading = false;
+            elapsed = 0;
+            text.setText(message.chars);
+            text.setPosition(message.x, message.y);
+            text.setVisible(true);
+            if (message.permanent) {
+                text.setAlpha(1);
+                text.setScale(1);
+            } else {
+                text.setAlpha(0);
+                text.setScale(SCALE_INIT);
+            }
+        }
+
+        void fadeOut() {
+            if (text.getAlpha() <= 0) {
+                free();
+                return;
+            }
+            fading = true;
+            fadeAlpha = text.getAlpha();
+            fadeScale = text.getScaleX();
+            elapsed = 0;
+        }
+
+        void free() {
+            busy = false;
+            text.setVisible(false);
+        }
+
+        /**
+         * Seconds until the message ends.
+         */
+        float remaining() {
+            if (fading) {
+                return message.exit - elapsed;
+            }
+            if (message.permanent) {
+                return Float.MAX_VALUE;
+            }
+            return message.delay + standEnd() + message.exit - elapsed;
+        }
+
+        /**
+         * Advances the animation.
+         * @return False when the message has ended.
+         */
+        boolean update(final float pSecondsElapsed) {
+            elapsed += pSecondsElapsed;
+            if (fading) {
+                if (elapsed >= message.exit) {
+                    return false;
+                }
+                final float p = elapsed / message.exit;
+                text.setAlpha(fadeAlpha * (1 - p));
+                text.setScale(fadeScale + (SCALE_FINAL - fadeScale) * p);
+                return true;
+            }
+            if (message.permanent) {
+                return true;
+            }
+            final float t = elapsed - message.delay;
+            if (t < 0) {
+                return true;
+            }
+            if (t < message.enter) {
+                final float p = t / message.enter;
+                text.setAlpha(p);
+                text.setScale(SCALE_INIT + (1 - SCALE_INIT) * p);
+            } else if (t < standEnd()) {
+                text.setAlpha(1);
+                text.setScale(1);
+            } else if (t < standEnd() + message.exit) {
+                final float p = (t - standEnd()) / message.exit;
+                text.setAlpha(1 - p);
+                text.setScale(1 + (SCALE_FINAL - 1) * p);
+            } else {
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Time from the delay end to the fade out start.
+         */
+        private float standEnd() {
+            return message.enter + Math.max(0, message.display - message.enter - message.exit);
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.andengine.entity.sprite.Sprite;
 import org.andengine.util.math.MathUtils;
 
 import com.madgear.ninjatrials.managers.ResourceManager;
+import com.madgear.ninjatrials.utils.FixedStepLoop;
 
 
 
@@ -36,39 +37,31 @@ import com.madgear.ninjatrials.managers.ResourceManager;
  * Cursor moves from a minimum value to the maximum value (from 0 to 200), taking all the range
  * of values. The cursor makes a whole cycle in a time "timeRound".
  *
- * The cursor speed is calculated based on timeRound.
+ * The cursor position is an AngleCursor, moved in the steps of the trial FixedStepLoop (add the
+ * cursor to it). The bar only draws it, interpolated between the last two steps (add the bar to
+ * the loop with addInterpolated()).
  *
  * @author Madgear Games
  */
 @SuppressWarnings({ "static-access" })
-public class PrecisionAngleBar extends Entity {
-    private final float cursorMin = 0f;
-    private final float cursorMax = 210f; //maybe dangerous. if doesnt work turn back to 200
-    private float maxScore = cursorMax - 5f;
-    private float perfectScoreRange = cursorMax - 30f;
-    private float cursorValue = 0f;
-    private float speed;
-    private int direction = 1;
+public class PrecisionAngleBar extends Entity implements FixedStepLoop.Interpolated {
+    private final AngleCursor cursorPosition;
     private float curXInit;
     private float curYInit;
-    private int semicycle = 0;
     private Sprite angleBar, cursor;
 	private Rectangle rectangleCursor;
-	private boolean tooHigh = false;
-	private float jump = 1; 
 
     /**
      * Contruct a PowerBarCursor object.
      *
      * @param posX Position axis X.
      * @param posY Position axis Y.
-     * @param timeRound Time in seconds the cursor takes in complete a whole cycle. It's used to
-     * calculate the cursor speed.
+     * @param cursorPosition The cursor to draw.
      */
-    public PrecisionAngleBar(float posX, float posY, float timeRound) {
+    public PrecisionAngleBar(float posX, float posY, AngleCursor cursorPosition) {
+        this.cursorPosition = cursorPosition;
         curXInit = posX + 200;
         curYInit = posY - 100;
-        semicycle = 0;
         angleBar = new Sprite(posX, posY,
                 ResourceManager.getInstance().hudAngleBarCursor,
                 ResourceManager.getInstance().engine.getVertexBufferObjectManager());
@@ -79,8 +72,10 @@ public class PrecisionAngleBar extends Entity {
         attachChild(cursor);
         setCursorValueToBeginning();
         updateAngle();
-        speed = 2.5f * (cursorMax - cursorMin) / timeRound;
-        setIgnoreUpdate(true);
+    }
+
+    public AngleCursor getCursor() {
+        return cursorPosition;
     }
 
     /**
@@ -88,52 +83,45 @@ public class PrecisionAngleBar extends Entity {
      * @param value The new cursor value.
      */
     public void setCursorValue(float value) {
-        if (value >= cursorMin && value <= cursorMax)
-            cursorValue = value;
+        cursorPosition.setValue(value);
     }
     
     public void setCursorValueToBeginning(){
-    	cursorValue =  0f;
-    	direction = 1;
-    	jump = 1;
+    	cursorPosition.setValueToBeginning();
     }
     
     public void ActivateTooHigh(){
-    	tooHigh = true;
+    	cursorPosition.activateTooHigh();
     }
 
     /**
      * Continue moving the cursor.
      */
     public void start() {
-        setIgnoreUpdate(false);
+        cursorPosition.start();
     }
 
     /**
      * Stops moving the cursor.
      */
     public void stop() {
-        setIgnoreUpdate(true);
+        cursorPosition.stop();
+    }
+
+    /**
+     * Stops the cursor where it was some time ago (see AngleCursor.stop(float)).
+     * @param late Seconds to move the cursor back.
+     */
+    public void stop(float late) {
+        cursorPosition.stop(late);
     }
 
     /**
      * Gets the power value.
-     * @return An integer value from -100 (left) to 100 (right). 0 is the center value.
+     * @return The cursor value, the rest to the end of the bar and the jump value.
      */
     public float[] getPowerValue() {
-    	if (cursorValue <= 0 )
-    		cursorValue = maxScore;
-    	if (cursorValue >= perfectScoreRange) //cursorMax - 20f
-    		cursorValue = maxScore; //cursorMax - 5f if not changed up
-    	
-    	float[] result = new float[] {cursorValue, cursorMax - cursorValue, jump};
-    	
-    	//to promote perfects a little bit more, then + 8f
-    	if (Double.isNaN(result[0]) || Double.isNaN(result[1]) || cursorValue == maxScore)
-    		result = new float[] { maxScore, cursorMax - maxScore + 8f, jump};
-    	
-    	return result;
-        
+    	return cursorPosition.getPowerValue();
     }
     
     /**
@@ -142,61 +130,42 @@ public class PrecisionAngleBar extends Entity {
      * @return
      */
     public int getSemicycle() {
-        return semicycle;
+        return cursorPosition.getSemicycle();
     }
     
     public float getMaxScore() {
-    	return maxScore;
+    	return AngleCursor.MAX_SCORE;
     }
     
     public float getJumpValue() {
-    	return jump;
+    	return cursorPosition.getJumpValue();
     }
     
     public void setJumpValue(float jumpInput) {
-    	jump = jumpInput;
+    	cursorPosition.setJumpValue(jumpInput);
     }
 
     /**
-     * Updates the value of the cursor position and controls when the cursor reach the left or
-     * right margin, changing the cursor direction.
-     * Cursor doesn't move if the time passed is higher than 0.2 s from the last update.
+     * Draws the cursor between the last two steps.
      */
     @Override
-    protected void onManagedUpdate(final float pSecondsElapsed) {
+    public void onInterpolate(final float alpha) {
     	//finish the rectangle movement.
     	//rectangleCursor = new Rectangle(0, 0, 70, 30,  
     	//		ResourceManager.getInstance().engine.getVertexBufferObjectManager());
     	//rectangleCursor.setRotationCenter(0.0f, 0.0f);
     	//rectangleCursor.setRotation(10);
+    	final float previous = cursorPosition.getPreviousValue();
+    	final float value = previous + (cursorPosition.getValue() - previous) * alpha;
     	
-        // controlamos que no se vaya el cursor por el retraso:
-        if (pSecondsElapsed < 0.2)
-            cursorValue += pSecondsElapsed * speed * direction;
-        
-        if (cursorValue > cursorMax) {
-            direction = -1;
-            jump = -1;
-            semicycle++;
-            cursorValue = 0f;
-            if (tooHigh)
-            	stop();
-        }
-        if (cursorValue <= (cursorMax / 2.0f)) {
-            direction = 1;
-            semicycle++;
-        }
-        
       //the position of Y it's done relative to X to form a semicircle
         // the position of x should be adapted to the graphic with this 0.8 factor and the y with 1.2
-        float posX = curXInit - (cursorValue - 20f)  * 0.5f;
-        float posY = curYInit + 200 - ((float) cursorMax - cursorValue * 1.3f);
+        float posX = curXInit - (value - 20f)  * 0.5f;
+        float posY = curYInit + 200 - ((float) AngleCursor.MAX_VALUE - value * 1.3f);
         cursor.setX(posX);
         cursor.setY(posY);
         
         updateAngle();
-        
-        super.onManagedUpdate(pSecondsElapsed);
     }
     
     private void updateAngle() {
@@ -23,6 +23,7 @@ import org.andengine.entity.Entity;
 import org.andengine.entity.sprite.Sprite;
 
 import com.madgear.ninjatrials.managers.ResourceManager;
+import com.madgear.ninjatrials.utils.FixedStepLoop;
 
 
 /**
@@ -32,19 +33,18 @@ import com.madgear.ninjatrials.managers.ResourceManager;
  * Cursor moves from a minimum value to the maximum value (from 0 to 200), taking all the range
  * of values. The cursor makes a whole cycle in a time "timeRound".
  *
- * The cursor speed is calculated based on timeRound.
+ * The cursor position is a BarCursor, moved in the steps of the trial FixedStepLoop (add the
+ * cursor to it). The bar only draws it, interpolated between the last two steps (add the bar to
+ * the loop with addInterpolated()).
  *
  * @author Madgear Games
  */
 @SuppressWarnings({ "static-access" })
-public class PrecisionBar extends Entity {
-    public static final float CURSOR_MIN_VALUE = 0f;
-    public static final float CURSOR_MAX_VALUE = 200f;
-    private float cursorValue = CURSOR_MIN_VALUE;
-    private float speed;
-    private int direction = 1;
+public class PrecisionBar extends Entity implements FixedStepLoop.Interpolated {
+    public static final float CURSOR_MIN_VALUE = BarCursor.MIN_VALUE;
+    public static final float CURSOR_MAX_VALUE = BarCursor.MAX_VALUE;
+    private final BarCursor cursorPosition;
     private float curXInit;
-    private int semicycle = 0;
     private Sprite bar, cursor;
 
     /**
@@ -52,22 +52,23 @@ public class PrecisionBar extends Entity {
      *
      * @param posX Position axis X.
      * @param posY Position axis Y.
-     * @param timeRound Time in seconds the cursor takes in complete a whole cycle. It's used to
-     * calculate the cursor speed.
+     * @param cursorPosition The cursor to draw.
      */
-    public PrecisionBar(float posX, float posY, float timeRound) {
+    public PrecisionBar(float posX, float posY, BarCursor cursorPosition) {
+        this.cursorPosition = cursorPosition;
         curXInit = posX - 100;
-        semicycle = 0;
         bar = new Sprite(posX, posY,
                 ResourceManager.getInstance().hudPowerBarCursor,
                 ResourceManager.getInstance().engine.getVertexBufferObjectManager());
-        cursor = new Sprite(curXInit, posY + 60,
+        cursor = new Sprite(curXInit + cursorPosition.getValue(), posY + 60,
                 ResourceManager.getInstance().hudCursor,
                 ResourceManager.getInstance().engine.getVertexBufferObjectManager());
         attachChild(bar);
         attachChild(cursor);
-        speed = 2 * (CURSOR_MAX_VALUE - CURSOR_MIN_VALUE) / timeRound;
-        setIgnoreUpdate(true);
+    }
+
+    public BarCursor getCursor() {
+        return cursorPosition;
     }
 
     /**
@@ -75,22 +76,30 @@ public class PrecisionBar extends Entity {
      * @param value The new cursor value.
      */
     public void setCursorValue(float value) {
-        if (value >= CURSOR_MIN_VALUE && value <= CURSOR_MAX_VALUE)
-            cursorValue = value;
+        cursorPosition.setValue(value);
+        cursor.setX(curXInit + cursorPosition.getValue());
     }
 
     /**
      * Continue moving the cursor.
      */
     public void start() {
-        setIgnoreUpdate(false);
+        cursorPosition.start();
     }
 
     /**
      * Stops moving the cursor.
      */
     public void stop() {
-        setIgnoreUpdate(true);
+        cursorPosition.stop();
+    }
+
+    /**
+     * Stops the cursor where it was some time ago (see BarCursor.stop(float)).
+     * @param late Seconds to move the cursor back.
+     */
+    public void stop(float late) {
+        cursorPosition.stop(late);
     }
 
     /**
@@ -98,7 +107,7 @@ public class PrecisionBar extends Entity {
      * @return An integer value from -100 (left) to 100 (right). 0 is the center value.
      */
     public int getPowerValue() {
-        return Math.round(cursorValue) - 100;
+        return cursorPosition.getPowerValue();
     }
     
     /**
@@ -107,28 +116,15 @@ public class PrecisionBar extends Entity {
      * @return
      */
     public int getSemicycle() {
-        return semicycle;
+        return cursorPosition.getSemicycle();
     }
 
     /**
-     * Updates the value of the cursor position and controls when the cursor reach the left or
-     * right margin, changing the cursor direction.
-     * Cursor doesn't move if the time passed is higher than 0.2 s from the last update.
+     * Draws the cursor between the last two steps.
      */
     @Override
-    protected void onManagedUpdate(final float pSecondsElapsed) {
-        // controlamos que no se vaya el cursor por el retraso:
-        if (pSecondsElapsed < 0.2)
-            cursorValue += pSecondsElapsed * speed * direction;
-        cursor.setX(curXInit + cursorValue);
-        if (cursorValue >= CURSOR_MAX_VALUE) {
-            direction = -1;
-            semicycle++;
-        }
-        if (cursorValue <= CURSOR_MIN_VALUE) {
-            direction = 1;
-            semicycle++;
-        }
-        super.onManagedUpdate(pSecondsElapsed);
+    public void onInterpolate(final float alpha) {
+        final float previous = cursorPosition.getPreviousValue();
+        cursor.setX(curXInit + previous + (cursorPosition.getValue() - previous) * alpha);
     }
 }
@@ -0,0 +1,79 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.hud;
+
+
+/**
+ * Writes times as digits without creating strings: the time is rounded to a fixed point value
+ * (hundredths or thousandths of second) and the digits are calculated with integer divisions.
+ * The format is the one of the Chronometer, seconds and fraction separated by a colon: "09:57".
+ *
+ * @author Madgear Games
+ */
+public final class TimeDigits {
+    public static final char SEPARATOR = ':';
+    private static final long[] POWERS = {1, 10, 100, 1000, 10000, 100000, 1000000};
+
+    private TimeDigits() {
+    }
+
+    /**
+     * @return The number of chars written by fill() with this format.
+     */
+    public static int length(final int intDigits, final int fracDigits) {
+        return intDigits + 1 + fracDigits;
+    }
+
+    /**
+     * Rounds a time to units of 1 / 10^fracDigits seconds. Negative times are 0, and times that
+     * don't fit in intDigits show the highest value (99:99 for 2 + 2 digits).
+     */
+    public static long toFixed(final float seconds, final int intDigits, final int fracDigits) {
+        final long max = POWERS[intDigits + fracDigits] - 1;
+        if (!(seconds > 0)) {
+            return 0;
+        }
+        final long units = (long) (seconds * (double) POWERS[fracDigits] + 0.5);
+        return units > max ? max : units;
+    }
+
+    /**
+     * Writes the digits of a time.
+     * @param seconds The time.
+     * @param intDigits Digits of the seconds (at most 6 with the fraction).
+     * @param fracDigits Digits of the fraction: 2 for hundredths, 3 for thousandths.
+     * @param out Array with room for length(intDigits, fracDigits) chars.
+     * @return The number of chars written.
+     */
+    public static int fill(final float seconds, final int intDigits, final int fracDigits,
+            final char[] out) {
+        long units = toFixed(seconds, intDigits, fracDigits);
+        final int length = length(intDigits, fracDigits);
+        for (int i = length - 1; i >= 0; i--) {
+            if (i == intDigits) {
+                out[i] = SEPARATOR;
+            } else {
+                out[i] = (char) ('0' + units % 10);
+                units /= 10;
+            }
+        }
+        return length;
+    }
+}
@@ -67,7 +67,7 @@ public class GameOverLayer extends ManagedLayer {
 
         gameOver = new Text(WIDTH/2, HEIGHT/2,
                 ResourceManager.getInstance().fontXBig,  
-                ResourceManager.getInstance().loadAndroidRes().getString(R.string.result_lose_game_over),
+                ResourceManager.getInstance().getString(R.string.result_lose_game_over),
                 new TextOptions(HorizontalAlign.CENTER),
                 ResourceManager.getInstance().engine.getVertexBufferObjectManager());
         attachChild(gameOver);
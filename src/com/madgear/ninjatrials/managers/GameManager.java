@@ -19,6 +19,8 @@
 
 package com.madgear.ninjatrials.managers;
 
+import java.util.Locale;
+
 import com.madgear.ninjatrials.ResultTrial;
 import com.madgear.ninjatrials.achievements.AchievementSetNinjaTrial;
 import com.madgear.ninjatrials.records.RecordsTableSet;
@@ -35,6 +37,10 @@ public class GameManager {
     // Use OUYA_CONTROL = true for testing Ouya controls. Use OUYA_CONTROL = false for testing on smartphones
     public static final boolean OUYA_CONTROL = false;
 
+    // Use PROFILER_MODE = true for recording frame times. L3 (P key) shows the profiler overlay,
+    // R3 (O key) writes the recorded frames to a CSV file.
+    public static final boolean PROFILER_MODE = false;
+
     private static final int SCORE_INIT = 0;
     public static final int LIVES_INIT = 3;
 
@@ -101,7 +107,7 @@ public class GameManager {
         currentTrial = TRIAL_START;
         selectedCharacter = CHAR_SHO;
         selectedDiff = DIFF_MEDIUM;
-        gameLanguage = "en";
+        gameLanguage = Locale.getDefault().getLanguage();
         player1result = new ResultTrial();
         player2result = new ResultTrial();
         player1achiev = new AchievementSetNinjaTrial();
@@ -144,6 +150,14 @@ public class GameManager {
         return gameLanguage;
     }
 
+    /**
+     * Changes the language of the game strings (the StringTable is loaded again when used).
+     * @param language ISO 639 language code ("en", "es"...).
+     */
+    public static void setGameLanguage(String language) {
+        gameLanguage = language;
+    }
+
     public static void incrementScore(int pIncrementBy){
         score += pIncrementBy;
     }
@@ -179,4 +193,16 @@ public class GameManager {
     public static void setLives(int t) {
         lives = t;
     }
+
+    /**
+     * Publishes a trial event to the player achievements, and saves them if any has changed
+     * (progress or completed). The SaveWorker writes only the last of the saves posted in
+     * SaveWorker.COALESCE_MS, so the events of a trial don't cost a write each.
+     * @param type A TrialEvent type.
+     * @param value The event value.
+     */
+    public static void achievementEvent(int type, int value) {
+        if (player1achiev != null && player1achiev.publish(type, value))
+            UserData.saveAchiev(ResourceManager.getInstance().context);
+    }
 }
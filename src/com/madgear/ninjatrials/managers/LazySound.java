@@ -0,0 +1,74 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.madgear.ninjatrials.managers;
+
+import org.andengine.audio.sound.Sound;
+
+
+/**
+ * A sound effect registered in the SoundBank. Only the asset path and size are kept until the
+ * sound is played (or warmed up), then the bank decodes it in the SoundPool, and may release it
+ * again when it needs room for other sounds.
+ * Play it with SFXManager.playSound() like a normal Sound.
+ *
+ * @author Madgear Games
+ */
+public class LazySound {
+    final String file;
+    // Size of the sound decoded in the SoundPool, used for the memory budget:
+    final int size;
+    Sound sound;
+    long lastUsedMs = 0;
+    // Pinned sounds (warmed up) are never evicted:
+    int pins = 0;
+    boolean looping = false;
+
+    // Play requested while the SoundPool was still decoding the sound:
+    boolean pendingPlay = false;
+    float pendingVolume;
+    boolean pendingLoop;
+    float pendingTime;
+
+    LazySound(final String file, final int size) {
+        this.file = file;
+        this.size = size;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return True if the sound is decoded and can be played right now.
+     */
+    public boolean isLoaded() {
+        return sound != null && sound.isLoaded();
+    }
+
+    /**
+     * @return True if the sound is in the SoundPool (maybe still decoding).
+     */
+    boolean isResident() {
+        return sound != null && !sound.isReleased();
+    }
+}
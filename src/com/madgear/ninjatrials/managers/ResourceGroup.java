@@ -0,0 +1,277 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.managers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.andengine.opengl.texture.TextureOptions;
+import org.andengine.opengl.texture.bitmap.BitmapTextureFormat;
+
+
+/**
+ * Manifest of the resources used by a scene (textures, tiled textures, regions extracted from a
+ * texture, sounds, music and fonts). The group only describes the resources, the ResourceLoader
+ * loads and unloads them.
+ *
+ * Files are relative to the base path of the group, and the full asset path is the key used to
+ * get the loaded resource from the loader (fonts and regions use their name as key instead).
+ * An image loaded with other texture options than the default ones is another texture, its key
+ * is textureKey(path, options). The pixel format belongs to the image (see
+ * docs/texture_formats.md): declare it the same in every group that uses the image.
+ * The width and height of a texture are the size of the image.
+ *
+ * Declare it once as a constant:
+ * public static final ResourceGroup GROUP = new ResourceGroup("name", "gfx/dir/")
+ *         .texture("background.png", 1920, 1080).format(BitmapTextureFormat.RGB_565)
+ *         .tiledTexture("character.png", 1024, 512, 4, 2);
+ *
+ * @author Madgear Games
+ */
+public class ResourceGroup {
+    public static final TextureOptions DEFAULT_TEXTURE_OPTIONS = TextureOptions.BILINEAR;
+    public static final BitmapTextureFormat DEFAULT_FORMAT = BitmapTextureFormat.RGBA_8888;
+
+    public static final int TEXTURE = 0;
+    public static final int TILED_TEXTURE = 1;
+    public static final int REGION = 2;
+    public static final int SOUND = 3;
+    public static final int MUSIC = 4;
+    public static final int FONT = 5;
+
+    private final String name;
+    private String basePath;
+    private final ArrayList<Entry> entries = new ArrayList<Entry>();
+    private int pageSize = 0;
+
+    /**
+     * @param name Name of the group, used in the log.
+     * @param basePath Path of the files, relative to the assets dir (for example "gfx/hud/").
+     */
+    public ResourceGroup(final String name, final String basePath) {
+        this.name = name;
+        this.basePath = basePath;
+    }
+
+    /**
+     * Packs the textures of the group in shared pages instead of one texture per image, so the
+     * sprites drawn together share a texture (fewer texture binds per frame). Images with a side
+     * bigger than half the page size keep a texture of their own: full screen images waste VRAM
+     * when packed and save no binds.
+     * @param pageSize Max width and height of a page, a power of two.
+     */
+    public ResourceGroup packed(final int pageSize) {
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    /**
+     * Changes the base path of the next declared files.
+     */
+    public ResourceGroup path(final String basePath) {
+        this.basePath = basePath;
+        return this;
+    }
+
+    /**
+     * Declares an image of width x height pixels.
+     */
+    public ResourceGroup texture(final String file, final int width, final int height) {
+        return texture(file, width, height, DEFAULT_TEXTURE_OPTIONS);
+    }
+
+    public ResourceGroup texture(final String file, final int width, final int height,
+            final TextureOptions options) {
+        final Entry entry = new Entry(TEXTURE, textureKey(basePath + file, options),
+                basePath + file);
+        entry.width = width;
+        entry.height = height;
+        entry.options = options;
+        entries.add(entry);
+        return this;
+    }
+
+    /**
+     * Declares an image split in columns x rows tiles.
+     */
+    public ResourceGroup tiledTexture(final String file, final int width, final int height,
+            final int columns, final int rows) {
+        final Entry entry = new Entry(TILED_TEXTURE, basePath + file, basePath + file);
+        entry.width = width;
+        entry.height = height;
+        entry.columns = columns;
+        entry.rows = rows;
+        entry.options = DEFAULT_TEXTURE_OPTIONS;
+        entries.add(entry);
+        return this;
+    }
+
+    /**
+     * Changes the pixel format of the last declared image: RGB_565 for opaque images, RGBA_4444
+     * for flat art with alpha. Half the VRAM and upload time of the default RGBA_8888.
+     */
+    public ResourceGroup format(final BitmapTextureFormat format) {
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            final Entry entry = entries.get(i);
+            if (entry.type == TEXTURE || entry.type == TILED_TEXTURE) {
+                entry.format = format;
+                return this;
+            }
+        }
+        throw new IllegalStateException("format() must follow a texture of the group " + name);
+    }
+
+    /**
+     * Declares a region of an image declared before in the same group with texture().
+     * @param regionName Key of the region.
+     * @param file The image.
+     */
+    public ResourceGroup region(final String regionName, final String file, final int x,
+            final int y, final int width, final int height) {
+        final Entry entry = new Entry(REGION, regionName, basePath + file);
+        entry.parentKey = parentKey(basePath + file);
+        entry.x = x;
+        entry.y = y;
+        entry.width = width;
+        entry.height = height;
+        entries.add(entry);
+        return this;
+    }
+
+    public ResourceGroup sound(final String file) {
+        entries.add(new Entry(SOUND, basePath + file, basePath + file));
+        return this;
+    }
+
+    public ResourceGroup music(final String file) {
+        entries.add(new Entry(MUSIC, basePath + file, basePath + file));
+        return this;
+    }
+
+    /**
+     * Declares a stroke font.
+     * @param fontName Key of the font.
+     * @param file The ttf file.
+     * @param textureSize Width and height of the font texture.
+     */
+    public ResourceGroup font(final String fontName, final String file, final int textureSize,
+            final float size, final int color, final int strokeWidth, final int strokeColor) {
+        final Entry entry = new Entry(FONT, fontName, basePath + file);
+        entry.width = textureSize;
+        entry.height = textureSize;
+        entry.size = size;
+        entry.color = color;
+        entry.strokeWidth = strokeWidth;
+        entry.strokeColor = strokeColor;
+        entries.add(entry);
+        return this;
+    }
+
+    /**
+     * @return The key of an image loaded with these texture options: the asset path for the
+     * default options, the path and the options otherwise.
+     */
+    public static String textureKey(final String assetPath, final TextureOptions options) {
+        if (options == null || options == DEFAULT_TEXTURE_OPTIONS) {
+            return assetPath;
+        }
+        return assetPath + "#" + options.mMinFilter + "," + options.mMagFilter + ","
+                + options.mWrapS + "," + options.mWrapT + "," + options.mPreMultiplyAlpha;
+    }
+
+    /**
+     * @return The key of the last image of the group with this asset path.
+     */
+    private String parentKey(final String assetPath) {
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            final Entry entry = entries.get(i);
+            if (entry.type != REGION && entry.assetPath.equals(assetPath)) {
+                return entry.key;
+            }
+        }
+        return assetPath;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isPacked() {
+        return pageSize > 0;
+    }
+
+    /**
+     * @return Max size of the pages, 0 if the group isn't packed.
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * @return True if the group declares a resource with this key.
+     */
+    public boolean contains(final String key) {
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i).key.equals(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + entries.size() + " resources)";
+    }
+
+    /**
+     * A declared resource. Only the fields of its type are used.
+     */
+    public static class Entry {
+        public final int type;
+        public final String key;
+        public final String assetPath;
+        public int width;
+        public int height;
+        public int columns;
+        public int rows;
+        public int x;
+        public int y;
+        // Key of the image of a region:
+        public String parentKey;
+        public TextureOptions options;
+        public BitmapTextureFormat format = DEFAULT_FORMAT;
+        public float size;
+        public int color;
+        public int strokeWidth;
+        public int strokeColor;
+
+        Entry(final int type, final String key, final String assetPath) {
+            this.type = type;
+            this.key = key;
+            this.assetPath = assetPath;
+        }
+    }
+}
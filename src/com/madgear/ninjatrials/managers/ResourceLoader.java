@@ -0,0 +1,788 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.managers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.andengine.audio.music.Music;
+import org.andengine.audio.music.MusicFactory;
+import org.andengine.audio.sound.Sound;
+import org.andengine.audio.sound.SoundFactory;
+import org.andengine.engine.Engine;
+import org.andengine.engine.handler.IUpdateHandler;
+import org.andengine.opengl.font.Font;
+import org.andengine.opengl.font.FontFactory;
+import org.andengine.opengl.texture.TextureOptions;
+import org.andengine.opengl.texture.atlas.bitmap.BitmapTextureAtlas;
+import org.andengine.opengl.texture.atlas.bitmap.BitmapTextureAtlasTextureRegionFactory;
+import org.andengine.opengl.texture.bitmap.BitmapTextureFormat;
+import org.andengine.opengl.texture.atlas.bitmap.source.AssetBitmapTextureAtlasSource;
+import org.andengine.opengl.texture.region.ITextureRegion;
+import org.andengine.opengl.texture.region.ITiledTextureRegion;
+import org.andengine.opengl.texture.region.TextureRegionFactory;
+import org.andengine.util.StreamUtils;
+
+import android.content.Context;
+import android.content.res.AssetManager;
+import android.graphics.Bitmap;
+import android.graphics.Bitmap.Config;
+import android.graphics.BitmapFactory;
+import android.os.SystemClock;
+import android.util.Log;
+
+import com.madgear.ninjatrials.managers.ResourceGroup.Entry;
+import com.madgear.ninjatrials.utils.TexturePacker;
+
+
+/**
+ * Loads and unloads the resources declared in a ResourceGroup.
+ * Every resource is reference counted by its key: loading a group increments the count of all
+ * its resources and only the ones that weren't loaded are created, unloading decrements them
+ * and only the ones that reach zero are released. Resources shared by several groups (HUD, fonts,
+ * jingles) stay loaded while any of the groups is loaded. A group is the owner of its
+ * references: loading it again before unloading it, or unloading it when it isn't loaded, does
+ * nothing.
+ *
+ * Images are loaded in texture pages: one page per image, or a few pages shared by the small
+ * images of a packed group. When none of the images of a page is used the page isn't
+ * freed right away, it's kept in a cache of unused pages: going back to a scene that was shown
+ * a moment ago (map, trial, results, map...) finds its textures loaded. The least recently used
+ * pages are freed when the cache goes over its budget or the textures of the game go over the
+ * VramBudget, and any page unused for longer than the cache time. Other resources are freed when
+ * they aren't used.
+ *
+ * @author Madgear Games
+ */
+public class ResourceLoader {
+    // Empty pixels between the images of a packed page:
+    private static final int PAGE_SPACING = 2;
+    // Unused textures kept loaded:
+    public static final int DEFAULT_CACHE_MB = 64;
+    public static final float DEFAULT_CACHE_SECONDS = 60;
+
+    private final Engine engine;
+    private final Context context;
+    private final VramBudget vram;
+    private final HashMap<String, LoadedResource> resources = new HashMap<String, LoadedResource>();
+    private final ArrayList<TexturePage> pages = new ArrayList<TexturePage>();
+    private final ArrayList<ResourceGroup> loadedGroups = new ArrayList<ResourceGroup>();
+    // Cache of unused pages, the least recently used first:
+    private final ArrayList<TexturePage> unusedPages = new ArrayList<TexturePage>();
+    private final long cacheBytes;
+    private final long cacheMs;
+    // Prefetch:
+    private final LinkedList<DecodedBitmapTextureAtlasSource> decodeQueue =
+            new LinkedList<DecodedBitmapTextureAtlasSource>();
+    private final LinkedList<TexturePage> pendingPages = new LinkedList<TexturePage>();
+    private final ArrayList<String> prefetched = new ArrayList<String>();
+    private Thread decodeThread;
+    private int prefetchGeneration = 0;
+
+    public ResourceLoader(final Engine engine, final Context context) {
+        this(engine, context, new VramBudget(VramBudget.DEFAULT_BUDGET_MB), DEFAULT_CACHE_MB,
+                DEFAULT_CACHE_SECONDS);
+    }
+
+    /**
+     * @param vram Counts the textures of the loader. The cache is emptied while it's over budget.
+     * @param cacheMegabytes Max VRAM used by unused textures kept loaded, 0 frees them right away.
+     * @param cacheSeconds Max time an unused texture is kept loaded.
+     */
+    public ResourceLoader(final Engine engine, final Context context, final VramBudget vram,
+            final int cacheMegabytes, final float cacheSeconds) {
+        this.engine = engine;
+        this.context = context;
+        this.vram = vram;
+        this.cacheBytes = cacheMegabytes * 1024L * 1024L;
+        this.cacheMs = (long) (cacheSeconds * 1000);
+        engine.registerUpdateHandler(uploadHandler);
+    }
+
+    /**
+     * Loads the resources of the group that aren't loaded yet, and adds a reference to all of
+     * them. Does nothing if the group is already loaded.
+     */
+    public synchronized void load(final ResourceGroup group) {
+        if (loadedGroups.contains(group)) {
+            Log.w("ResourceLoader", "Group " + group.getName() + " is already loaded.");
+            return;
+        }
+        loadedGroups.add(group);
+        createTextures(group);
+        final List<Entry> entries = group.getEntries();
+        int created = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            final Entry entry = entries.get(i);
+            LoadedResource resource = resources.get(entry.key);
+            if (resource == null) {
+                resource = create(entry);
+                if (resource == null) {
+                    continue;
+                }
+                resources.put(entry.key, resource);
+            }
+            if (resource.refs == 0 && (resource.page == null || !resource.page.uploaded)) {
+                created++;
+            }
+            retain(resource);
+            if (resource.page != null && !resource.page.uploaded) {
+                resource.page.upload();
+            }
+        }
+        Log.i("ResourceLoader", "Loaded group " + group.getName() + ": " + created + " new, "
+                + (entries.size() - created) + " already loaded.");
+    }
+
+    /**
+     * Removes a reference to every resource of the group, and releases the ones that aren't
+     * used by any other loaded group. Does nothing if the group isn't loaded.
+     */
+    public synchronized void unload(final ResourceGroup group) {
+        if (!loadedGroups.remove(group)) {
+            return;
+        }
+        final List<Entry> entries = group.getEntries();
+        int released = 0;
+        // Regions are declared after their textures, release them in reverse order:
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            if (release(entries.get(i).key)) {
+                released++;
+            }
+        }
+        trimCache();
+        Log.i("ResourceLoader", "Unloaded group " + group.getName() + ": " + released
+                + " released, " + (entries.size() - released) + " still in use.");
+    }
+
+    /**
+     * Adds a reference to the resources of the group that are already loaded, without loading
+     * the others. Used when switching scenes: the resources shared by the previous and the next
+     * scene are retained before the previous scene is unloaded, so they aren't freed and loaded
+     * again, and the resources only used by the previous scene are freed before the next scene
+     * loads its own ones.
+     * @return The retained keys, give them back to release() when the next scene is loaded.
+     */
+    public synchronized ArrayList<String> retainLoaded(final ResourceGroup group) {
+        final List<Entry> entries = group.getEntries();
+        final ArrayList<String> retained = new ArrayList<String>();
+        for (int i = 0; i < entries.size(); i++) {
+            final LoadedResource resource = resources.get(entries.get(i).key);
+            if (resource != null) {
+                retain(resource);
+                retained.add(entries.get(i).key);
+            }
+        }
+        return retained;
+    }
+
+    /**
+     * Removes the references added by retainLoaded(), releasing the resources that aren't used.
+     */
+    public synchronized void release(final ArrayList<String> keys) {
+        for (int i = keys.size() - 1; i >= 0; i--) {
+            release(keys.get(i));
+        }
+        trimCache();
+        if (!keys.isEmpty()) {
+            Log.i("ResourceLoader", keys.size() + " shared resources kept between scenes.");
+        }
+    }
+
+    /**
+     * Starts loading the textures of a group that will be used soon, without adding references.
+     * The images are decoded in a background thread while the current scene keeps running, and
+     * when all the images of a page are decoded the page is uploaded in the update thread, one
+     * page per frame. When the group is loaded later the prefetched pages are already there, and
+     * the ones not prefetched yet are loaded as usual.
+     * Prefetched textures that no group claims are freed by discardPrefetched().
+     */
+    public synchronized void prefetch(final ResourceGroup group) {
+        final ArrayList<TexturePage> created = createTextures(group);
+        for (int i = 0; i < created.size(); i++) {
+            final TexturePage page = created.get(i);
+            pendingPages.add(page);
+            decodeQueue.addAll(page.sources);
+            for (int j = 0; j < page.sources.size(); j++) {
+                prefetched.add(page.sources.get(j).key);
+            }
+        }
+        Log.i("ResourceLoader", "Prefetching group " + group.getName() + ": " + created.size()
+                + " textures.");
+        if (!decodeQueue.isEmpty() && decodeThread == null) {
+            decodeThread = new Thread(decodeRunnable, "ResourceLoader prefetch");
+            decodeThread.setPriority(Thread.MIN_PRIORITY);
+            decodeThread.start();
+        }
+    }
+
+    /**
+     * Stops the pending prefetch and frees the prefetched textures that weren't claimed by any
+     * loaded group.
+     */
+    public synchronized void discardPrefetched() {
+        prefetchGeneration++;
+        decodeQueue.clear();
+        pendingPages.clear();
+        int freed = 0;
+        for (int i = 0; i < prefetched.size(); i++) {
+            final LoadedResource resource = resources.get(prefetched.get(i));
+            // The ones used and released since then are in the cache:
+            if (resource != null && resource.refs <= 0 && !unusedPages.contains(resource.page)) {
+                resources.remove(prefetched.get(i));
+                free(resource);
+                freed++;
+            }
+        }
+        prefetched.clear();
+        if (freed > 0) {
+            Log.i("ResourceLoader", freed + " prefetched textures weren't used, freed.");
+        }
+    }
+
+    /**
+     * @return True if the group is loaded (load() was called and unload() wasn't).
+     */
+    public synchronized boolean isLoaded(final ResourceGroup group) {
+        return loadedGroups.contains(group);
+    }
+
+    /**
+     * Frees all the unused textures kept in the cache (when the system is low on memory).
+     */
+    public synchronized void clearCache() {
+        while (!unusedPages.isEmpty()) {
+            evict(unusedPages.remove(0));
+        }
+    }
+
+    /**
+     * @return The number of loaded groups using the resource, 0 if it isn't loaded.
+     */
+    public synchronized int getRefCount(final String key) {
+        final LoadedResource resource = resources.get(key);
+        return resource == null ? 0 : resource.refs;
+    }
+
+    public synchronized int getLoadedCount() {
+        return resources.size();
+    }
+
+    /**
+     * @return The number of textures uploaded by the loader.
+     */
+    public synchronized int getTextureCount() {
+        int count = 0;
+        for (int i = 0; i < pages.size(); i++) {
+            if (pages.get(i).uploaded) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return The VRAM used by the unused textures kept in the cache, in bytes.
+     */
+    public synchronized long getCacheBytes() {
+        long bytes = 0;
+        for (int i = 0; i < unusedPages.size(); i++) {
+            bytes += unusedPages.get(i).getBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * @return The VRAM used by the textures uploaded by the loader, in bytes, including the unused
+     * ones in the cache.
+     */
+    public synchronized long getTextureBytes() {
+        long bytes = 0;
+        for (int i = 0; i < pages.size(); i++) {
+            if (pages.get(i).uploaded) {
+                bytes += pages.get(i).getBytes();
+            }
+        }
+        return bytes;
+    }
+
+    public synchronized ITextureRegion getTexture(final String key) {
+        return (ITextureRegion) get(key);
+    }
+
+    public synchronized ITiledTextureRegion getTiledTexture(final String key) {
+        return (ITiledTextureRegion) get(key);
+    }
+
+    public synchronized Sound getSound(final String key) {
+        return (Sound) get(key);
+    }
+
+    public synchronized Music getMusic(final String key) {
+        return (Music) get(key);
+    }
+
+    public synchronized Font getFont(final String key) {
+        return (Font) get(key);
+    }
+
+    private Object get(final String key) {
+        final LoadedResource resource = resources.get(key);
+        return resource == null ? null : resource.value;
+    }
+
+    /**
+     * Creates the pages of the group's images that aren't loaded, without uploading them.
+     * Packed groups put the images with the same texture options and format together in pages of
+     * the size used by the images. Images with a side bigger than half the page size (full screen
+     * backgrounds, big animation sheets) get a page of their own, like all the images of groups
+     * that aren't packed.
+     * @return The created pages.
+     */
+    private ArrayList<TexturePage> createTextures(final ResourceGroup group) {
+        final ArrayList<TexturePage> created = new ArrayList<TexturePage>();
+        final ArrayList<Entry> missing = new ArrayList<Entry>();
+        final List<Entry> entries = group.getEntries();
+        final int maxPackedSize = group.getPageSize() / 2;
+        for (int i = 0; i < entries.size(); i++) {
+            final Entry entry = entries.get(i);
+            if ((entry.type != ResourceGroup.TEXTURE && entry.type != ResourceGroup.TILED_TEXTURE)
+                    || resources.containsKey(entry.key)) {
+                continue;
+            }
+            if (entry.width > maxPackedSize || entry.height > maxPackedSize) {
+                final TexturePage page = new TexturePage(entry.key, entry.width, entry.height,
+                        entry.format, entry.options);
+                addToPage(page, entry, 0, 0);
+                created.add(page);
+            } else {
+                missing.add(entry);
+            }
+        }
+
+        long imageBytes = 0;
+        long pageBytes = 0;
+        int images = missing.size();
+        int pageCount = 0;
+        while (!missing.isEmpty()) {
+            // The images with the options and format of the first one:
+            final TextureOptions options = missing.get(0).options;
+            final BitmapTextureFormat format = missing.get(0).format;
+            final ArrayList<Entry> packed = new ArrayList<Entry>();
+            for (int i = 0; i < missing.size(); i++) {
+                if (missing.get(i).options == options && missing.get(i).format == format) {
+                    packed.add(missing.remove(i--));
+                }
+            }
+            final TexturePacker packer = new TexturePacker(group.getPageSize(), PAGE_SPACING);
+            for (int i = 0; i < packed.size(); i++) {
+                packer.add(packed.get(i).width, packed.get(i).height);
+                imageBytes += (long) packed.get(i).width * packed.get(i).height
+                        * format.getPixelFormat().getBitsPerPixel() / 8;
+            }
+            packer.pack();
+            final TexturePage[] packedPages = new TexturePage[packer.getPageCount()];
+            for (int p = 0; p < packedPages.length; p++) {
+                packedPages[p] = new TexturePage(group.getName() + " page " + pageCount++,
+                        packer.getUsedWidth(p), packer.getUsedHeight(p), format, options);
+                created.add(packedPages[p]);
+                pageBytes += packedPages[p].getBytes();
+            }
+            for (int i = 0; i < packed.size(); i++) {
+                addToPage(packedPages[packer.getPage(i)], packed.get(i), packer.getX(i),
+                        packer.getY(i));
+            }
+        }
+        if (pageCount > 0) {
+            Log.i("ResourceLoader", "Packed group " + group.getName() + ": " + images
+                    + " images in " + pageCount + " pages, " + pageBytes / 1024
+                    + " KB (one texture per image: " + imageBytes / 1024 + " KB).");
+        }
+        return created;
+    }
+
+    /**
+     * Puts the image of the entry in the page at x, y, and registers the region as loaded.
+     */
+    private void addToPage(final TexturePage page, final Entry entry, final int x, final int y) {
+        final DecodedBitmapTextureAtlasSource source = new DecodedBitmapTextureAtlasSource(
+                context.getAssets(), entry, page);
+        final ITextureRegion region;
+        if (entry.type == ResourceGroup.TILED_TEXTURE) {
+            region = BitmapTextureAtlasTextureRegionFactory.createTiledFromSource(page.atlas,
+                    source, x, y, entry.columns, entry.rows);
+        } else {
+            region = BitmapTextureAtlasTextureRegionFactory.createFromSource(page.atlas, source,
+                    x, y);
+        }
+        page.sources.add(source);
+        page.refs++;
+        resources.put(entry.key, new LoadedResource(entry.type, region, page));
+    }
+
+    /**
+     * Creates a resource that isn't an image.
+     */
+    private LoadedResource create(final Entry entry) {
+        switch (entry.type) {
+        case ResourceGroup.REGION: {
+            final LoadedResource parent = resources.get(entry.parentKey);
+            if (parent == null || parent.page == null) {
+                Log.e("ResourceLoader", "Region " + entry.key + " needs the texture "
+                        + entry.assetPath + " declared before it.");
+                return null;
+            }
+            // The image can be anywhere in its page:
+            final ITextureRegion image = (ITextureRegion) parent.value;
+            final ITextureRegion region = TextureRegionFactory.extractFromTexture(
+                    image.getTexture(), (int) image.getTextureX() + entry.x,
+                    (int) image.getTextureY() + entry.y, entry.width, entry.height, false);
+            return new LoadedResource(entry.type, region, null);
+        }
+        case ResourceGroup.SOUND:
+            try {
+                SoundFactory.setAssetBasePath("");
+                return new LoadedResource(entry.type, SoundFactory.createSoundFromAsset(
+                        engine.getSoundManager(), context, entry.assetPath), null);
+            } catch (final IOException e) {
+                Log.e("ResourceLoader", "Error loading sound " + entry.assetPath, e);
+                return null;
+            }
+        case ResourceGroup.MUSIC:
+            try {
+                MusicFactory.setAssetBasePath("");
+                return new LoadedResource(entry.type, MusicFactory.createMusicFromAsset(
+                        engine.getMusicManager(), context, entry.assetPath), null);
+            } catch (final IOException e) {
+                Log.e("ResourceLoader", "Error loading music " + entry.assetPath, e);
+                return null;
+            }
+        case ResourceGroup.FONT: {
+            FontFactory.setAssetBasePath("");
+            final Font font = FontFactory.createStrokeFromAsset(engine.getFontManager(),
+                    engine.getTextureManager(), entry.width, entry.height, context.getAssets(),
+                    entry.assetPath, entry.size, true, entry.color, entry.strokeWidth,
+                    entry.strokeColor);
+            vram.track(font.getTexture(), entry.key);
+            font.load();
+            return new LoadedResource(entry.type, font, null);
+        }
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Adds a reference to the resource, taking its page out of the cache.
+     */
+    private void retain(final LoadedResource resource) {
+        resource.refs++;
+        if (resource.page != null) {
+            unusedPages.remove(resource.page);
+        }
+    }
+
+    /**
+     * Removes a reference to the resource. An image that isn't used any more stays loaded, and
+     * its page goes to the cache when none of its images is used. Other resources are freed.
+     * @return True if the resource isn't used any more.
+     */
+    private boolean release(final String key) {
+        final LoadedResource resource = resources.get(key);
+        if (resource == null) {
+            return false;
+        }
+        resource.refs--;
+        if (resource.refs > 0) {
+            return false;
+        }
+        final TexturePage page = resource.page;
+        if (page == null) {
+            resources.remove(key);
+            free(resource);
+        } else if (!page.isUsed() && !unusedPages.contains(page)) {
+            page.unusedSinceMs = SystemClock.uptimeMillis();
+            unusedPages.add(page);
+        }
+        return true;
+    }
+
+    /**
+     * Frees the least recently used pages of the cache while it's over budget or the VRAM is,
+     * and the pages unused for longer than the cache time.
+     */
+    private void trimCache() {
+        if (unusedPages.isEmpty()) {
+            return;
+        }
+        final long now = SystemClock.uptimeMillis();
+        long bytes = getCacheBytes();
+        while (!unusedPages.isEmpty()) {
+            final TexturePage oldest = unusedPages.get(0);
+            if (bytes <= cacheBytes && now - oldest.unusedSinceMs < cacheMs
+                    && vram.getBytesOverBudget() == 0) {
+                return;
+            }
+            unusedPages.remove(0);
+            bytes -= oldest.getBytes();
+            evict(oldest);
+        }
+    }
+
+    /**
+     * Frees an unused page and forgets its images.
+     */
+    private void evict(final TexturePage page) {
+        for (int i = 0; i < page.sources.size(); i++) {
+            resources.remove(page.sources.get(i).key);
+        }
+        page.free();
+        pages.remove(page);
+        Log.i("ResourceLoader", "Freed an unused texture of " + page.getBytes() / 1024 + " KB.");
+    }
+
+    private void free(final LoadedResource resource) {
+        if (resource.page != null) {
+            resource.page.refs--;
+            if (resource.page.refs <= 0) {
+                resource.page.free();
+                pages.remove(resource.page);
+            }
+            return;
+        }
+        switch (resource.type) {
+        case ResourceGroup.SOUND: {
+            final Sound sound = (Sound) resource.value;
+            if (!sound.isReleased()) {
+                sound.release();
+            }
+            break;
+        }
+        case ResourceGroup.MUSIC: {
+            final Music music = (Music) resource.value;
+            if (!music.isReleased()) {
+                music.release();
+            }
+            break;
+        }
+        case ResourceGroup.FONT:
+            ((Font) resource.value).unload();
+            break;
+        default:
+            // Regions are freed with their page.
+            break;
+        }
+    }
+
+    /**
+     * Decodes the queued images in the prefetch thread, until the queue is empty.
+     */
+    private final Runnable decodeRunnable = new Runnable() {
+        @Override
+        public void run() {
+            while (true) {
+                final DecodedBitmapTextureAtlasSource source;
+                final int generation;
+                synchronized (ResourceLoader.this) {
+                    if (decodeQueue.isEmpty()) {
+                        decodeThread = null;
+                        return;
+                    }
+                    source = decodeQueue.removeFirst();
+                    if (source.page.uploaded) {
+                        continue;
+                    }
+                    generation = prefetchGeneration;
+                }
+                final Bitmap bitmap = decode(source.assetPath,
+                        source.page.format.getBitmapConfig());
+                synchronized (ResourceLoader.this) {
+                    if (bitmap == null) {
+                        continue;
+                    }
+                    // Uploaded or discarded while decoding:
+                    if (source.page.uploaded || generation != prefetchGeneration) {
+                        bitmap.recycle();
+                    } else {
+                        source.bitmap = bitmap;
+                        source.page.decoded++;
+                    }
+                }
+            }
+        }
+    };
+
+    /**
+     * Uploads one prefetched page per frame, when all its images are decoded, and frees the
+     * pages that stayed too long in the cache.
+     */
+    private final IUpdateHandler uploadHandler = new IUpdateHandler() {
+        @Override
+        public void onUpdate(final float pSecondsElapsed) {
+            synchronized (ResourceLoader.this) {
+                trimCache();
+                for (int i = 0; i < pendingPages.size(); i++) {
+                    final TexturePage page = pendingPages.get(i);
+                    if (page.uploaded) {
+                        pendingPages.remove(i--);
+                    } else if (page.decoded == page.sources.size()) {
+                        pendingPages.remove(i);
+                        page.upload();
+                        return;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void reset() {}
+    };
+
+    /**
+     * Decodes an image in the config of its page, the one the atlas asks for when uploading it.
+     */
+    private Bitmap decode(final String assetPath, final Config config) {
+        InputStream in = null;
+        try {
+            in = context.getAssets().open(assetPath);
+            final BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inPreferredConfig = config;
+            return BitmapFactory.decodeStream(in, null, options);
+        } catch (final IOException e) {
+            Log.e("ResourceLoader", "Error decoding " + assetPath, e);
+            return null;
+        } finally {
+            StreamUtils.close(in);
+        }
+    }
+
+    /**
+     * A texture with one or more images.
+     */
+    private class TexturePage {
+        final BitmapTextureAtlas atlas;
+        final BitmapTextureFormat format;
+        final ArrayList<DecodedBitmapTextureAtlasSource> sources =
+                new ArrayList<DecodedBitmapTextureAtlasSource>();
+        // Loaded images in the page:
+        int refs = 0;
+        // Images decoded by the prefetch thread:
+        int decoded = 0;
+        boolean uploaded = false;
+        // When the page went to the cache:
+        long unusedSinceMs = 0;
+
+        TexturePage(final String name, final int width, final int height,
+                final BitmapTextureFormat format, final TextureOptions options) {
+            atlas = new BitmapTextureAtlas(engine.getTextureManager(), width, height, format,
+                    options);
+            this.format = format;
+            vram.track(atlas, name);
+            pages.add(this);
+        }
+
+        void upload() {
+            atlas.load();
+            uploaded = true;
+        }
+
+        void free() {
+            if (uploaded) {
+                vram.unload(atlas);
+            }
+            for (int i = 0; i < sources.size(); i++) {
+                final Bitmap bitmap = sources.get(i).bitmap;
+                if (bitmap != null) {
+                    sources.get(i).bitmap = null;
+                    bitmap.recycle();
+                }
+            }
+        }
+
+        long getBytes() {
+            return (long) atlas.getWidth() * atlas.getHeight()
+                    * atlas.getPixelFormat().getBitsPerPixel() / 8;
+        }
+
+        /**
+         * @return True if any image of the page is used by a loaded group.
+         */
+        boolean isUsed() {
+            for (int i = 0; i < sources.size(); i++) {
+                final LoadedResource resource = resources.get(sources.get(i).key);
+                if (resource != null && resource.refs > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Texture source that gives the prefetched image the first time the texture is uploaded.
+     * The texture recycles the image after uploading it, so if the texture has to be uploaded
+     * again (the GL context was lost) the image is decoded from the asset as usual.
+     */
+    private static class DecodedBitmapTextureAtlasSource extends AssetBitmapTextureAtlasSource {
+        final String key;
+        final String assetPath;
+        final TexturePage page;
+        volatile Bitmap bitmap;
+
+        DecodedBitmapTextureAtlasSource(final AssetManager assetManager, final Entry entry,
+                final TexturePage page) {
+            super(assetManager, entry.assetPath, 0, 0, entry.width, entry.height);
+            this.key = entry.key;
+            this.assetPath = entry.assetPath;
+            this.page = page;
+        }
+
+        @Override
+        public Bitmap onLoadBitmap(final Config pBitmapConfig) {
+            final Bitmap decoded = bitmap;
+            if (decoded != null && decoded.getConfig() == pBitmapConfig) {
+                bitmap = null;
+                return decoded;
+            }
+            return super.onLoadBitmap(pBitmapConfig);
+        }
+    }
+
+    /**
+     * A loaded resource and the number of groups using it.
+     */
+    private static class LoadedResource {
+        final int type;
+        final Object value;
+        // The page of an image, null for other resources:
+        final TexturePage page;
+        int refs = 0;
+
+        LoadedResource(final int type, final Object value, final TexturePage page) {
+            this.type = type;
+            this.value = value;
+            this.page = page;
+        }
+    }
+}
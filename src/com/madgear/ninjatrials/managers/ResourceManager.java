@@ -23,16 +23,15 @@ import java.io.IOException;
 
 import org.andengine.audio.music.Music;
 import org.andengine.audio.music.MusicFactory;
-import org.andengine.audio.sound.Sound;
-import org.andengine.audio.sound.SoundFactory;
 import org.andengine.engine.Engine;
 import org.andengine.extension.svg.opengl.texture.atlas.bitmap.SVGBitmapTextureAtlasTextureRegionFactory;
 import org.andengine.opengl.font.Font;
-import org.andengine.opengl.font.FontFactory;
+import org.andengine.opengl.texture.ITexture;
 import org.andengine.opengl.texture.TextureManager;
 import org.andengine.opengl.texture.TextureOptions;
 import org.andengine.opengl.texture.atlas.bitmap.BitmapTextureAtlas;
 import org.andengine.opengl.texture.atlas.bitmap.BitmapTextureAtlasTextureRegionFactory;
+import org.andengine.opengl.texture.bitmap.BitmapTextureFormat;
 import org.andengine.opengl.texture.atlas.bitmap.BuildableBitmapTextureAtlas;
 import org.andengine.opengl.texture.atlas.bitmap.source.IBitmapTextureAtlasSource;
 import org.andengine.opengl.texture.atlas.buildable.builder.BlackPawnTextureAtlasBuilder;
@@ -44,6 +43,7 @@ import org.andengine.util.debug.Debug;
 
 import android.content.Context;
 import android.content.res.Resources;
+import android.graphics.Color;
 import android.util.Log;
 
 import com.madgear.ninjatrials.NinjaTrials;
@@ -64,6 +64,164 @@ public class ResourceManager {
     public float cameraWidth;
     public float cameraHeight;
     public TextureManager textureManager;
+    // Counts the textures in VRAM:
+    public VramBudget vram;
+    // Loads the resource groups declared below:
+    public ResourceLoader loader;
+    // Sound effects, loaded when played:
+    public SoundBank soundBank;
+
+    // RESOURCE GROUPS:
+    // Fonts, loaded for the whole game.
+    public static final ResourceGroup FONTS_GROUP = new ResourceGroup("fonts", "fonts/")
+            .font("fontSmall", "go3v2.ttf", 512, 64f, Color.WHITE, 3, Color.RED)
+            .font("fontMedium", "go3v2.ttf", 1024, 96f, Color.WHITE, 3, Color.RED)
+            .font("fontBig", "go3v2.ttf", 1024, 128f, Color.WHITE, 3, Color.RED)
+            .font("fontXBig", "go3v2.ttf", 1024, 192f, Color.WHITE, 3, Color.RED)
+            .font("fontLatinChrName", "DejaVuSans.ttf", 1024, 160f, Color.BLACK, 3, Color.WHITE)
+            .font("fontJPChrName", "sazanami-gothic.ttf", 1024, 128f, Color.BLUE, 3, Color.WHITE)
+            .font("fontLatinChrInfo", "DejaVuSans.ttf", 1024, 80f, Color.BLACK, 3, Color.WHITE);
+
+    // HUD, shared by all the trials. Small images drawn together, packed in one page.
+    // The scene groups are packed too: their small images share a page, the backgrounds and the
+    // big animation sheets keep their own texture (see ResourceGroup.packed()).
+    public static final String HUD_PATH = "gfx/hud/";
+    public static final ResourceGroup HUD_GROUP = new ResourceGroup("hud", HUD_PATH)
+            .packed(2048)
+            .texture("hud_precision_indicator.png", 240, 120)
+            .texture("hud_angle_indicator.png", 353, 257)
+            .texture("hud_angle_cursor.png", 59, 52)
+            .texture("hud_power_indicator.png", 120, 240)
+            .texture("run_line_bar.png", 1012, 80)
+            .texture("run_line_mark.png", 140, 116)
+            .region("runMarkP1", "run_line_mark.png", 0, 0, 70, 116)
+            .region("runMarkP2", "run_line_mark.png", 70, 0, 70, 116)
+            .tiledTexture("hud_head_run.png", 660, 440, 3, 2)
+            .tiledTexture("hud_head_cut.png", 660, 440, 3, 2)
+            .tiledTexture("hud_head_jump.png", 660, 440, 3, 2)
+            .tiledTexture("hud_head_shuriken.png", 660, 440, 3, 2);
+
+    // Jump trial. The bamboo and the bamboo forests are drawn in three pieces, regions of their
+    // images.
+    public static final String JUMP_PATH = "gfx/trial_jump/";
+    public static final ResourceGroup JUMP_GROUP = new ResourceGroup("jump", JUMP_PATH)
+            .packed(2048)
+            .texture("jump_bg_1_stone_statues.png", 442, 310)
+            .texture("jump_bg_1_bamboo.png", 89, 1080)
+            .region("jump_bg_1_bamboo_top", "jump_bg_1_bamboo.png", 0, 0, 89, 91)
+            .region("jump_bg_1_bamboo_middle", "jump_bg_1_bamboo.png", 0, 91, 89, 921)
+            .region("jump_bg_1_bamboo_bottom", "jump_bg_1_bamboo.png", 0, 1012, 89, 68)
+            .texture("jump_bg_2_bamboo_forest_1.png", 1920, 1080)
+            .region("jump_bg_2_bamboo_forest_1_top", "jump_bg_2_bamboo_forest_1.png",
+                    0, 0, 1920, 44)
+            .region("jump_bg_2_bamboo_forest_1_middle", "jump_bg_2_bamboo_forest_1.png",
+                    0, 44, 1920, 718)
+            .region("jump_bg_2_bamboo_forest_1_bottom", "jump_bg_2_bamboo_forest_1.png",
+                    0, 763, 1920, 318)
+            .texture("jump_bg_3_bamboo_forest_2.png", 1920, 1080)
+            .region("jump_bg_3_bamboo_forest_2_top", "jump_bg_3_bamboo_forest_2.png",
+                    0, 0, 1920, 80)
+            .region("jump_bg_3_bamboo_forest_2_middle", "jump_bg_3_bamboo_forest_2.png",
+                    0, 80, 1920, 536)
+            .region("jump_bg_3_bamboo_forest_2_bottom", "jump_bg_3_bamboo_forest_2.png",
+                    0, 616, 1920, 464)
+            .texture("jump_bg_4_mount.png", 1920, 794)
+            .texture("jump_bg_5_pagoda.png", 650, 952)
+            .texture("jump_bg_6_clouds.png", 1920, 503)
+            .texture("jump_bg_7_lake.png", 1920, 550).format(BitmapTextureFormat.RGB_565)
+            .texture("jump_bg_8_mount_fuji.png", 1920, 806)
+            .texture("jump_bg_9_sky.png", 1920, 1471).format(BitmapTextureFormat.RGB_565)
+            .tiledTexture("jump_ch_sho_mini.png", 687, 1024, 4, 6)
+            .tiledTexture("jump_effect_preparation.png", 590, 406, 2, 2)
+            .format(BitmapTextureFormat.RGBA_4444)
+            .tiledTexture("jump_effect_wall_kick.png", 406, 590, 2, 2)
+            .format(BitmapTextureFormat.RGBA_4444);
+
+    // Cut trial. The tree and the candle are cut in two, regions of their images.
+    public static final String CUT_PATH = "gfx/trial_cut/";
+    public static final ResourceGroup CUT_GROUP = new ResourceGroup("cut", CUT_PATH)
+            .packed(2048)
+            .tiledTexture("cut_ch_sho_cut_anim.png", 1742, 1720, 2, 2)
+            .texture("cut_breakable_tree.png", 640, 950)
+            .region("cut_tree_top", "cut_breakable_tree.png", 0, 0, 640, 403)
+            .region("cut_tree_bottom", "cut_breakable_tree.png", 0, 404, 640, 546)
+            .texture("cut_breakable_candle_base.png", 310, 860)
+            .region("cut_candle_top", "cut_breakable_candle_base.png", 0, 0, 310, 515)
+            .region("cut_candle_bottom", "cut_breakable_candle_base.png", 0, 516, 310, 344)
+            .texture("cut_breakable_candle_light.png", 760, 380)
+            .region("cut_candle_light", "cut_breakable_candle_light.png", 0, 0, 388, 380)
+            .tiledTexture("cut_sword_sparkle2.png", 1358, 1034, 2, 2)
+            .format(BitmapTextureFormat.RGBA_4444)
+            .texture("cut_ch_sho_eyes.png", 1416, 611)
+            .texture("cut_background.png", 1920, 1080).format(BitmapTextureFormat.RGB_565)
+            .texture("cut_ch_sweatdrop.png", 46, 107)
+            .tiledTexture("cut_ch_sparkle.png", 300, 100, 3, 1)
+            .format(BitmapTextureFormat.RGBA_4444)
+            .texture("cut_sword_sparkle1.png", 503, 345).format(BitmapTextureFormat.RGBA_4444);
+
+    // Run trial.
+    public static final String RUN_PATH = "gfx/trial_run/";
+    public static final ResourceGroup RUN_GROUP = new ResourceGroup("run", RUN_PATH)
+            .packed(2048)
+            .texture("run_background_floor.png", 1024, 326).format(BitmapTextureFormat.RGB_565)
+            .texture("run_background_trees_back.png", 1021, 510)
+            .texture("run_background_trees_front.png", 1024, 754)
+            .texture("run_dust_start.png", 1296, 1080)
+            .texture("run_dust_continuous.png", 600, 600)
+            .tiledTexture("run_ch_sho.png", 1058, 1014, 5, 4)
+            .tiledTexture("run_ch_ryoko.png", 1058, 1014, 5, 4);
+
+    // Shuriken trial.
+    public static final String SHURIKEN_PATH = "gfx/trial_shuriken/";
+    public static final ResourceGroup SHURIKEN_GROUP = new ResourceGroup("shuriken", SHURIKEN_PATH)
+            .packed(2048)
+            .texture("shuriken_background.png", 1920, 1080).format(BitmapTextureFormat.RGB_565)
+            .tiledTexture("shuriken_ryoko_hands.png", 740, 960, 1, 3)
+            .tiledTexture("shuriken_ryoko_lose.png", 1500, 978, 2, 1)
+            .tiledTexture("shuriken_ryoko_win.png", 1400, 1036, 2, 1)
+            .tiledTexture("shuriken_sho_hands.png", 740, 960, 1, 3)
+            .tiledTexture("shuriken_sho_lose.png", 1500, 978, 2, 1)
+            .tiledTexture("shuriken_sho_win.png", 1400, 1036, 2, 1)
+            .texture("shuriken_shuriken.png", 196, 418).format(BitmapTextureFormat.RGBA_4444)
+            .region("shuriken_shuriken_0", "shuriken_shuriken.png", 0, 0, 54, 26)
+            .region("shuriken_shuriken_1", "shuriken_shuriken.png", 0, 29, 58, 37)
+            .region("shuriken_shuriken_2", "shuriken_shuriken.png", 0, 67, 102, 54)
+            .region("shuriken_shuriken_3", "shuriken_shuriken.png", 0, 122, 114, 73)
+            .region("shuriken_shuriken_4", "shuriken_shuriken.png", 0, 197, 196, 106)
+            .region("shuriken_shuriken_5", "shuriken_shuriken.png", 0, 304, 196, 114)
+            .tiledTexture("shuriken_strawman_1.png", 1023, 640, 3, 1)
+            .tiledTexture("shuriken_strawman_2.png", 1688, 1056, 3, 1)
+            .texture("shuriken_strawman_3.png", 1068, 1635);
+
+    // Map menu.
+    public static final String MENUS_PATH = "gfx/menus/";
+    public static final ResourceGroup MENU_MAP_GROUP = new ResourceGroup("menu map", MENUS_PATH)
+            .packed(2048)
+            .tiledTexture("menu_map_background_marks.png", 94, 152, 1, 4)
+            .texture("menu_map_background.png", 1920, 1080).format(BitmapTextureFormat.RGB_565)
+            .tiledTexture("menu_map_ch_ryoko.png", 192, 330, 2, 2)
+            .tiledTexture("menu_map_ch_sho.png", 192, 330, 2, 2)
+            .tiledTexture("menu_map_drawings.png", 1106, 962, 2, 2)
+            .format(BitmapTextureFormat.RGBA_4444)
+            .tiledTexture("menu_map_scroll.png", 1568, 1632, 2, 2);
+
+    // Results.
+    public static final String RESULTS_PATH = "gfx/results/";
+    public static final ResourceGroup RESULT_WIN_GROUP = new ResourceGroup("result win", RESULTS_PATH)
+            .packed(2048)
+            .texture("results_win_background.png", 1920, 1080).format(BitmapTextureFormat.RGB_565)
+            .texture("results_win_scroll.png", 1064, 1029)
+            .texture("results_win_ch_sho.png", 437, 799)
+            .texture("results_win_ch_ryoko.png", 395, 767)
+            .tiledTexture("results_win_drawings.png", 1106, 962, 2, 2)
+            .format(BitmapTextureFormat.RGBA_4444)
+            .tiledTexture("results_win_stamp_ranking.png", 780, 400, 2, 2);
+    public static final ResourceGroup RESULT_LOSE_GROUP = new ResourceGroup("result lose",
+            RESULTS_PATH)
+            .packed(2048)
+            .texture("results_lose_background.png", 1920, 1080).format(BitmapTextureFormat.RGB_565)
+            .texture("results_lose_ch_sho.png", 797, 440).format(BitmapTextureFormat.RGBA_4444)
+            .texture("results_lose_ch_ryoko.png", 797, 440);
 
     // MAIN MENU:
     public static ITextureRegion mainTitle;
@@ -143,12 +301,12 @@ public class ResourceManager {
 
     // CUT SCENE SOUNDS:
     public static Music trialCut;
-    public static Sound trialCutEyesZoom;
-    public static Sound trialCutKatana1;
-    public static Sound trialCutKatana2;
-    public static Sound trialCutKatana3;
-    public static Sound trialCutKatanaWhoosh;
-    public static Sound trialCutKatanaWhoosh2;
+    public static LazySound trialCutEyesZoom;
+    public static LazySound trialCutKatana1;
+    public static LazySound trialCutKatana2;
+    public static LazySound trialCutKatana3;
+    public static LazySound trialCutKatanaWhoosh;
+    public static LazySound trialCutKatanaWhoosh2;
 
 
     // RUN SCENE
@@ -240,7 +398,7 @@ public class ResourceManager {
 
     // RESULTS SCENE LOSE SOUNDS
     public static Music loseMusic;
-    public static Sound loseYouLose;
+    public static LazySound loseYouLose;
 
 
     // RESULTS SCENE WIN
@@ -258,15 +416,15 @@ public class ResourceManager {
 
     // RESULTS SCENE WIN SOUNDS
     public static Music winMusic;
-    public static Sound winPointsSum;
-    public static Sound winYouWin;
-    public static Sound winPointsTotal;
+    public static LazySound winPointsSum;
+    public static LazySound winYouWin;
+    public static LazySound winPointsTotal;
 
     // SPLASH INTRO (MADGEAR LOGO)
     public static ITextureRegion splashLogo;
 
     // SPLASH INTRO (MADGEAR LOGO) SOUND
-    public static Sound menuLogoMadgear;
+    public static LazySound menuLogoMadgear;
 
     // INTRO1
     public static ITextureRegion intro1Gradient;
@@ -299,7 +457,7 @@ public class ResourceManager {
 
     // GAME OVER SOUNDS
     public static Music gameOverMusic;
-    public static Sound gameOver;
+    public static LazySound gameOver;
 
     // ENDING (placeholders)
     public static ITextureRegion endingRyokoEasyBg;
@@ -328,7 +486,7 @@ public class ResourceManager {
     //public ITextureRegion mSpriteTextureRegion;
 
     public Music music;
-    public Sound mSound;
+    public LazySound mSound;
 
     public float cameraScaleFactorX = 1;
     public float cameraScaleFactorY = 1;
@@ -346,92 +504,92 @@ public class ResourceManager {
     public static Music trialShurikens;
 
     // SOUNDS
-    public static Sound effectEyeGleam;
-    public static Sound effectMasterHit;
-    public static Sound effectSweatDrop;
-    public static Sound judge1;
-    public static Sound judge2;
-    public static Sound judge3;
-    public static Sound judge4;
-    public static Sound judge5;
-    public static Sound judge6;
-    public static Sound judge7;
-    public static Sound judge8;
-    public static Sound judge9;
-    public static Sound judgeExcellent;
-    public static Sound judgeGood;
-    public static Sound judgeGo;
-    public static Sound judgeGreat;
-    public static Sound judgeReady;
-    public static Sound menuAchievement;
-    public static Sound menuActivate;
-    public static Sound menuBack;
-    public static Sound menuFocus;
-    public static Sound menuIntro1;
-    public static Sound menuRank;
-    public static Sound ryokoCutCut;
-    public static Sound ryokoCutLose;
-    public static Sound ryokoCutWin;
-    public static Sound ryokoJumpCharge;
-    public static Sound ryokoJumpFall;
-    public static Sound ryokoJumpHop;
-    public static Sound ryokoJumpLose;
-    public static Sound ryokoJumpWin;
-    public static Sound ryokoMenuContinue;
-    public static Sound ryokoMenuGameOver;
-    public static Sound ryokoRunCharge;
-    public static Sound ryokoRunLose;
-    public static Sound ryokoRunStart;
-    public static Sound ryokoRunWin;
-    public static Sound ryokoShurikenLose;
-    public static Sound ryokoShurikenThrow;
-    public static Sound ryokoShurikenWin;
-    public static Sound shoCutCut;
-    public static Sound shoCutLose;
-    public static Sound shoCutWin;
-    public static Sound shoJumpCharge;
-    public static Sound shoJumpFall;
-    public static Sound shoJumpHop;
-    public static Sound shoJumpLose;
-    public static Sound shoJumpWin;
-    public static Sound shoMenuContinue;
-    public static Sound shoMenuGameOver;
-    public static Sound shoRunCharge;
-    public static Sound shoRunLose;
-    public static Sound shoRunStart;
-    public static Sound shoRunWin;
-    public static Sound shoShurikenLose;
-    public static Sound shoShurikenThrow;
-    public static Sound shoShurikenWin;
-    public static Sound trialCutCandleBlowOut;
-    public static Sound trialCutCandleShowingCut;
-    public static Sound trialCutCandleThud;
-    public static Sound trialCutCandleWobble;
-    public static Sound trialCutCandleWoobleThud;
-    public static Sound trialCutEyesZoomV2;
-    public static Sound trialCutKatanaWhoosh3;
-    public static Sound trialJumpFall;
-    public static Sound trialJumpReach;
-    public static Sound trialJumpSlip;
-    public static Sound trialJumpTap1;
-    public static Sound trialJumpTap2;
-    public static Sound trialJumpThud;
-    public static Sound trialJumpWhoosh1;
-    public static Sound trialJumpWhoosh2;
-    public static Sound trialJumpWhoosh3;
-    public static Sound trialJumpWobble;
-    public static Sound trialRunTap1;
-    public static Sound trialRunTap2;
-    public static Sound trialRunTap3;
-    public static Sound trialRunWind1Start;
-    public static Sound trialRunWind2Running;
-    public static Sound trialRunWind3End;
-    public static Sound trialShurikenStrawmanAscend;
-    public static Sound trialShurikenStrawmanDescend;
-    public static Sound trialShurikenStrawmanDestroyed;
-    public static Sound trialShurikenStrawmanHit;
-    public static Sound trialShurikenStrawmanMove;
-    public static Sound trialShurikenThrowing;
+    public static LazySound effectEyeGleam;
+    public static LazySound effectMasterHit;
+    public static LazySound effectSweatDrop;
+    public static LazySound judge1;
+    public static LazySound judge2;
+    public static LazySound judge3;
+    public static LazySound judge4;
+    public static LazySound judge5;
+    public static LazySound judge6;
+    public static LazySound judge7;
+    public static LazySound judge8;
+    public static LazySound judge9;
+    public static LazySound judgeExcellent;
+    public static LazySound judgeGood;
+    public static LazySound judgeGo;
+    public static LazySound judgeGreat;
+    public static LazySound judgeReady;
+    public static LazySound menuAchievement;
+    public static LazySound menuActivate;
+    public static LazySound menuBack;
+    public static LazySound menuFocus;
+    public static LazySound menuIntro1;
+    public static LazySound menuRank;
+    public static LazySound ryokoCutCut;
+    public static LazySound ryokoCutLose;
+    public static LazySound ryokoCutWin;
+    public static LazySound ryokoJumpCharge;
+    public static LazySound ryokoJumpFall;
+    public static LazySound ryokoJumpHop;
+    public static LazySound ryokoJumpLose;
+    public static LazySound ryokoJumpWin;
+    public static LazySound ryokoMenuContinue;
+    public static LazySound ryokoMenuGameOver;
+    public static LazySound ryokoRunCharge;
+    public static LazySound ryokoRunLose;
+    public static LazySound ryokoRunStart;
+    public static LazySound ryokoRunWin;
+    public static LazySound ryokoShurikenLose;
+    public static LazySound ryokoShurikenThrow;
+    public static LazySound ryokoShurikenWin;
+    public static LazySound shoCutCut;
+    public static LazySound shoCutLose;
+    public static LazySound shoCutWin;
+    public static LazySound shoJumpCharge;
+    public static LazySound shoJumpFall;
+    public static LazySound shoJumpHop;
+    public static LazySound shoJumpLose;
+    public static LazySound shoJumpWin;
+    public static LazySound shoMenuContinue;
+    public static LazySound shoMenuGameOver;
+    public static LazySound shoRunCharge;
+    public static LazySound shoRunLose;
+    public static LazySound shoRunStart;
+    public static LazySound shoRunWin;
+    public static LazySound shoShurikenLose;
+    public static LazySound shoShurikenThrow;
+    public static LazySound shoShurikenWin;
+    public static LazySound trialCutCandleBlowOut;
+    public static LazySound trialCutCandleShowingCut;
+    public static LazySound trialCutCandleThud;
+    public static LazySound trialCutCandleWobble;
+    public static LazySound trialCutCandleWoobleThud;
+    public static LazySound trialCutEyesZoomV2;
+    public static LazySound trialCutKatanaWhoosh3;
+    public static LazySound trialJumpFall;
+    public static LazySound trialJumpReach;
+    public static LazySound trialJumpSlip;
+    public static LazySound trialJumpTap1;
+    public static LazySound trialJumpTap2;
+    public static LazySound trialJumpThud;
+    public static LazySound trialJumpWhoosh1;
+    public static LazySound trialJumpWhoosh2;
+    public static LazySound trialJumpWhoosh3;
+    public static LazySound trialJumpWobble;
+    public static LazySound trialRunTap1;
+    public static LazySound trialRunTap2;
+    public static LazySound trialRunTap3;
+    public static LazySound trialRunWind1Start;
+    public static LazySound trialRunWind2Running;
+    public static LazySound trialRunWind3End;
+    public static LazySound trialShurikenStrawmanAscend;
+    public static LazySound trialShurikenStrawmanDescend;
+    public static LazySound trialShurikenStrawmanDestroyed;
+    public static LazySound trialShurikenStrawmanHit;
+    public static LazySound trialShurikenStrawmanMove;
+    public static LazySound trialShurikenThrowing;
 
     // Inicializa el manejador:
     public static void setup(NinjaTrials pActivity, Engine pEngine, Context pContext,
@@ -442,6 +600,12 @@ public class ResourceManager {
         getInstance().cameraWidth = pCameraWidth;
         getInstance().cameraHeight = pCameraHeight;
         getInstance().textureManager = pActivity.getTextureManager();
+        getInstance().vram = new VramBudget(VramBudget.DEFAULT_BUDGET_MB);
+        getInstance().loader = new ResourceLoader(pEngine, pContext, getInstance().vram,
+                ResourceLoader.DEFAULT_CACHE_MB, ResourceLoader.DEFAULT_CACHE_SECONDS);
+        getInstance().soundBank = new SoundBank(pActivity.getSoundManager(), pContext, "sounds/",
+                SoundBank.DEFAULT_BUDGET);
+        pEngine.registerUpdateHandler(getInstance().soundBank);
     }
 
     // Constructor:
@@ -449,6 +613,23 @@ public class ResourceManager {
         // The constructor is of no use to us
     }
 
+    /**
+     * Called when the GL context is recreated, before the engine uploads the textures again:
+     * frees the unused textures of the cache so they aren't uploaded for nothing.
+     */
+    public synchronized void onReloadResources() {
+        loader.clearCache();
+        vram.onContextLost();
+    }
+
+    /**
+     * Uploads a texture created by this class, counting it in the VRAM budget.
+     */
+    private void loadTexture(final ITexture texture, final String name) {
+        vram.track(texture, name);
+        texture.load();
+    }
+
     public synchronized static ResourceManager getInstance(){
         if(INSTANCE == null){
             INSTANCE = new ResourceManager();
@@ -472,7 +653,7 @@ public class ResourceManager {
                     textureManager, 756, 495, mTransparentTextureOption);
             mainTitle = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     mainTitleT, activity, "menu_main_title.png", 0, 0);
-            mainTitleT.load();
+            loadTexture(mainTitleT, "mainTitle");
         }
 
         // Main Menu Pattern:
@@ -484,7 +665,7 @@ public class ResourceManager {
             try {
                 mainTitlePattern1T.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
                         BitmapTextureAtlas>(0, 0, 0));
-                mainTitlePattern1T.load();
+                loadTexture(mainTitlePattern1T, "mainTitlePattern1");
             } catch (TextureAtlasBuilderException e) {
                 Debug.e(e);
             }
@@ -496,16 +677,12 @@ public class ResourceManager {
      */
     public synchronized void unloadMainMenuResources() {
         if(mainTitle!=null) {
-            if(mainTitle.getTexture().isLoadedToHardware()) {
-                mainTitle.getTexture().unload();
-                mainTitle = null;
-            }
+            mainTitle.getTexture().unload();
+            mainTitle = null;
         }
         if(mainTitlePattern1!=null) {
-            if(mainTitlePattern1.getTexture().isLoadedToHardware()) {
-                mainTitlePattern1.getTexture().unload();
-                mainTitlePattern1 = null;
-            }
+            mainTitlePattern1.getTexture().unload();
+            mainTitlePattern1 = null;
         }
     }
 
@@ -520,7 +697,7 @@ public class ResourceManager {
                 mTransparentTextureOption);
         BitmapTextureAtlasTextureRegionFactory.createFromAsset(mainOptionsSoundBarsT, activity,
         		"menu_options_volume.png", 0, 0);
-        mainOptionsSoundBarsT.load();
+        loadTexture(mainOptionsSoundBarsT, "mainOptionsSoundBars");
         mainOptionsSoundBarsActive = TextureRegionFactory.
                 extractFromTexture(mainOptionsSoundBarsT, 0, 0, 575, 110, false);
         mainOptionsSoundBarsInactive = TextureRegionFactory.
@@ -529,13 +706,14 @@ public class ResourceManager {
         // Option Menu Pattern:
         if (mainOptionsPattern == null) {
             BuildableBitmapTextureAtlas mainOptionsPatternT = new BuildableBitmapTextureAtlas(
-                    textureManager, 390, 361, TextureOptions.REPEATING_BILINEAR);
+                    textureManager, 390, 361, BitmapTextureFormat.RGB_565,
+                    TextureOptions.REPEATING_BILINEAR);
             mainOptionsPattern = BitmapTextureAtlasTextureRegionFactory
                     .createFromAsset(mainOptionsPatternT, activity, "menu_main_pattern_2.png");
             try {
                 mainOptionsPatternT.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
                         BitmapTextureAtlas>(0, 0, 0));
-                mainOptionsPatternT.load();
+                loadTexture(mainOptionsPatternT, "mainOptionsPattern");
             } catch (TextureAtlasBuilderException e) {
                 Debug.e(e);
             }
@@ -547,22 +725,16 @@ public class ResourceManager {
      */
     public synchronized void unloadOptionResources() {
         if(mainOptionsSoundBarsActive!=null) {
-            if(mainOptionsSoundBarsActive.getTexture().isLoadedToHardware()) {
-                mainOptionsSoundBarsActive.getTexture().unload();
-                mainOptionsSoundBarsActive = null;
-            }
+            mainOptionsSoundBarsActive.getTexture().unload();
+            mainOptionsSoundBarsActive = null;
         }
         if(mainOptionsSoundBarsInactive!=null) {
-            if(mainOptionsSoundBarsInactive.getTexture().isLoadedToHardware()) {
-                mainOptionsSoundBarsInactive.getTexture().unload();
-                mainOptionsSoundBarsInactive = null;
-            }
+            mainOptionsSoundBarsInactive.getTexture().unload();
+            mainOptionsSoundBarsInactive = null;
         }
         if(mainOptionsPattern!=null) {
-            if(mainOptionsPattern.getTexture().isLoadedToHardware()) {
-                mainOptionsPattern.getTexture().unload();
-                mainOptionsPattern = null;
-            }
+            mainOptionsPattern.getTexture().unload();
+            mainOptionsPattern = null;
         }
     }
 
@@ -580,29 +752,30 @@ public class ResourceManager {
                     mTransparentTextureOption);
             controllerOuya = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     controllerOuyaT, activity, "menu_options_controller_ouya.png", 0, 0);
-            controllerOuyaT.load();
+            loadTexture(controllerOuyaT, "controllerOuya");
         }
 
         // Controller marks:
         if(controllerMarks==null) {
             BitmapTextureAtlas controllerMarksT = new BitmapTextureAtlas(textureManager, 1195, 717,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGBA_4444, mTransparentTextureOption);
             controllerMarks = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     controllerMarksT, activity, "menu_options_controller_marks.png", 0, 0);
-            controllerMarksT.load();
+            loadTexture(controllerMarksT, "controllerMarks");
         }
 
         // Controller Option Pattern:
         if (controllerOptionsPattern == null) {
             BuildableBitmapTextureAtlas controllerOptionsPatternT = new BuildableBitmapTextureAtlas(
-                    textureManager, 319, 319, TextureOptions.REPEATING_BILINEAR);
+                    textureManager, 319, 319, BitmapTextureFormat.RGB_565,
+                    TextureOptions.REPEATING_BILINEAR);
             controllerOptionsPattern = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
             		controllerOptionsPatternT, activity, "menu_main_pattern_3.png");
             try {
                 controllerOptionsPatternT.build(
                         new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
                             BitmapTextureAtlas>(0, 0, 0));
-                controllerOptionsPatternT.load();
+                loadTexture(controllerOptionsPatternT, "controllerOptionsPattern");
             } catch (TextureAtlasBuilderException e) {
                 Debug.e(e);
             }
@@ -614,994 +787,248 @@ public class ResourceManager {
      */
     public synchronized void unloadControllerOptionResources() {
         if(controllerOuya!=null) {
-            if(controllerOuya.getTexture().isLoadedToHardware()) {
-                controllerOuya.getTexture().unload();
-                controllerOuya = null;
-            }
+            controllerOuya.getTexture().unload();
+            controllerOuya = null;
         }
         if(controllerMarks!=null) {
-            if(controllerMarks.getTexture().isLoadedToHardware()) {
-                controllerMarks.getTexture().unload();
-                controllerMarks = null;
-            }
+            controllerMarks.getTexture().unload();
+            controllerMarks = null;
         }
         if(controllerOptionsPattern!=null) {
-            if(controllerOptionsPattern.getTexture().isLoadedToHardware()) {
-                controllerOptionsPattern.getTexture().unload();
-                controllerOptionsPattern = null;
-            }
+            controllerOptionsPattern.getTexture().unload();
+            controllerOptionsPattern = null;
         }
     }
 
     public synchronized void loadHUDResources() {
-        BitmapTextureAtlasTextureRegionFactory.setAssetBasePath("gfx/hud/");
-
-        // Barra power cursor:
-        if(hudPowerBarCursor==null) {
-            BitmapTextureAtlas hudPowerBarCursorT = new BitmapTextureAtlas(
-                    textureManager, 240, 120, mTransparentTextureOption);
-            hudPowerBarCursor = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    hudPowerBarCursorT, activity, "hud_precision_indicator.png", 0, 0);
-            hudPowerBarCursorT.load();
-        }
-
-        // Angle Bar:
-        if (hudAngleBarCursor == null) {
-            BitmapTextureAtlas hudAngleBarCursorT = new BitmapTextureAtlas(
-                    textureManager, 353, 257, mTransparentTextureOption);
-            hudAngleBarCursor = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    hudAngleBarCursorT, activity, "hud_angle_indicator.png", 0, 0);
-            hudAngleBarCursorT.load();
-        }
-
-        if(hudCursor==null) {
-            BitmapTextureAtlas hudCursorT = new BitmapTextureAtlas(textureManager, 59, 52,
-                    mTransparentTextureOption);
-            hudCursor = BitmapTextureAtlasTextureRegionFactory.createFromAsset(hudCursorT,
-                    activity, "hud_angle_cursor.png", 0, 0);
-            hudCursorT.load();
-        }
-
-        // Cursor:
-        if(hudCursor==null) {
-            BitmapTextureAtlas hudCursorT = new BitmapTextureAtlas(textureManager, 59, 52,
-                    mTransparentTextureOption);
-            hudCursor = BitmapTextureAtlasTextureRegionFactory.createFromAsset(hudCursorT,
-                    activity, "hud_precision_cursor.png", 0, 0);
-            hudCursorT.load();
-        }
-
-        // Barra power push:
-        if(hudPowerBarPush==null) {
-            BitmapTextureAtlas hudPowerBarPushT = new BitmapTextureAtlas(textureManager, 120, 240,
-                    mTransparentTextureOption);
-            hudPowerBarPush = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    hudPowerBarPushT, activity, "hud_power_indicator.png", 0, 0);
-            hudPowerBarPushT.load();
-        }
-        // LineBar
-        if (runLineBar == null) {
-            BitmapTextureAtlas runLineBarBit = new BitmapTextureAtlas(textureManager, 1012, 80,
-                    mTransparentTextureOption);
-            runLineBar = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    runLineBarBit, activity, "run_line_bar.png", 0, 0);
-            runLineBarBit.load();
-        }
-        // LineMark
-        BitmapTextureAtlas runMarkBit = new BitmapTextureAtlas(textureManager, 140, 116,
-                mTransparentTextureOption);
-        BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                runMarkBit, activity, "run_line_mark.png", 0, 0);
-        runMarkBit.load();
-        if (runMarkP1 == null)
-            runMarkP1 = TextureRegionFactory.extractFromTexture(runMarkBit, 0, 0, 70, 116, false);
-        if (runMarkP2 == null)
-            runMarkP2 = TextureRegionFactory.extractFromTexture(runMarkBit, 70, 0, 140, 116, false);
-        // RunHead
-        if (runHead == null) {
-            BuildableBitmapTextureAtlas runHeadBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 660, 440, mTransparentTextureOption);
-            runHead = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    runHeadBit, context, "hud_head_run.png", 3, 2);
-            try {
-                runHeadBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            runHeadBit.load();
-        }
-        // CutHead
-        if (cutHead == null) {
-            BuildableBitmapTextureAtlas cutHeadBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 660, 440, mTransparentTextureOption);
-            cutHead = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    cutHeadBit, context, "hud_head_cut.png", 3, 2);
-            try {
-                cutHeadBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            cutHeadBit.load();
-        }
-        // JumpHead
-        if (jumpHead == null) {
-            BuildableBitmapTextureAtlas jumpHeadBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 660, 440, mTransparentTextureOption);
-            jumpHead = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    jumpHeadBit, context, "hud_head_jump.png", 3, 2);
-            try {
-                jumpHeadBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            jumpHeadBit.load();
-        }
-        // ShurikenHead
-        if (shurikenHead == null) {
-            BuildableBitmapTextureAtlas shurikenHeadBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 660, 440, mTransparentTextureOption);
-            shurikenHead = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    shurikenHeadBit, context, "hud_head_shuriken.png", 3, 2);
-            try {
-                shurikenHeadBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            shurikenHeadBit.load();
-        }
+        // The HUD is loaded once and shared by all the trials:
+        if (loader.isLoaded(HUD_GROUP)) {
+            return;
+        }
+        loader.load(HUD_GROUP);
+        hudPowerBarCursor = loader.getTexture(HUD_PATH + "hud_precision_indicator.png");
+        hudAngleBarCursor = loader.getTexture(HUD_PATH + "hud_angle_indicator.png");
+        hudCursor = loader.getTexture(HUD_PATH + "hud_angle_cursor.png");
+        hudPowerBarPush = loader.getTexture(HUD_PATH + "hud_power_indicator.png");
+        runLineBar = loader.getTexture(HUD_PATH + "run_line_bar.png");
+        runMarkP1 = loader.getTexture("runMarkP1");
+        runMarkP2 = loader.getTexture("runMarkP2");
+        runHead = loader.getTiledTexture(HUD_PATH + "hud_head_run.png");
+        cutHead = loader.getTiledTexture(HUD_PATH + "hud_head_cut.png");
+        jumpHead = loader.getTiledTexture(HUD_PATH + "hud_head_jump.png");
+        shurikenHead = loader.getTiledTexture(HUD_PATH + "hud_head_shuriken.png");
     }
 
     public synchronized void unloadHUDResources() {
-        if(hudPowerBarCursor!=null) {
-            if(hudPowerBarCursor.getTexture().isLoadedToHardware()) {
-                hudPowerBarCursor.getTexture().unload();
-                hudPowerBarCursor = null;
-            }
-        }
-        if(hudAngleBarCursor!=null) {
-            if(hudAngleBarCursor.getTexture().isLoadedToHardware()) {
-                hudAngleBarCursor.getTexture().unload();
-                hudAngleBarCursor = null;
-            }
-        }
-        if(hudCursor!=null) {
-            if(hudCursor.getTexture().isLoadedToHardware()) {
-                hudCursor.getTexture().unload();
-                hudCursor = null;
-            }
-        }
-        if(hudPowerBarPush!=null) {
-            if(hudPowerBarPush.getTexture().isLoadedToHardware()) {
-                hudPowerBarPush.getTexture().unload();
-                hudPowerBarPush = null;
-            }
-        }
-        if (runLineBar != null && runLineBar.getTexture().isLoadedToHardware()) {
-                runLineBar.getTexture().unload();
-                runLineBar = null;
-        }
-        if (runMarkP1 != null && runMarkP1.getTexture().isLoadedToHardware()) {
-                runMarkP1.getTexture().unload();
-                runMarkP1 = null;
-        }
-        if (runMarkP2 != null && runMarkP2.getTexture().isLoadedToHardware()) {
-                runMarkP2.getTexture().unload();
-                runMarkP2 = null;
-        }
-        if (runHead != null && runHead.getTexture().isLoadedToHardware()) {
-                runHead.getTexture().unload();
-                runHead = null;
-        }
-        if (cutHead != null && cutHead.getTexture().isLoadedToHardware()) {
-            cutHead.getTexture().unload();
+        if (!loader.isLoaded(HUD_GROUP)) {
+            return;
+        }
+        loader.unload(HUD_GROUP);
+        if (!loader.isLoaded(HUD_GROUP)) {
+            hudPowerBarCursor = null;
+            hudAngleBarCursor = null;
+            hudCursor = null;
+            hudPowerBarPush = null;
+            runLineBar = null;
+            runMarkP1 = null;
+            runMarkP2 = null;
+            runHead = null;
             cutHead = null;
-        }
-        if (jumpHead != null && jumpHead.getTexture().isLoadedToHardware()) {
-            jumpHead.getTexture().unload();
             jumpHead = null;
-        }
-        if (shurikenHead != null && shurikenHead.getTexture().isLoadedToHardware()) {
-            shurikenHead.getTexture().unload();
             shurikenHead = null;
         }
     }
 
     public synchronized void loadJumpSceneResources() {
-        BitmapTextureAtlasTextureRegionFactory.setAssetBasePath("gfx/trial_jump/");
-
-        if (jumpBg1StoneStatues == null) {
-            BitmapTextureAtlas jumpBg1StoneStatuesT = new BitmapTextureAtlas(textureManager, 442, 310,
-                    mTransparentTextureOption);
-            jumpBg1StoneStatues = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    jumpBg1StoneStatuesT, activity, "jump_bg_1_stone_statues.png", 0, 0);
-            jumpBg1StoneStatuesT.load();
-        }
-
-        if (jumpBg1Bamboo == null) { // borrable si no me equivoco
-            BitmapTextureAtlas jumpBg1BambooT = new BitmapTextureAtlas(textureManager, 89, 1080,
-                    mTransparentTextureOption);
-            jumpBg1Bamboo = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    jumpBg1BambooT, activity, "jump_bg_1_bamboo.png", 0, 0);
-            jumpBg1BambooT.load();
-        }
-        if (jumpBg2BambooForest1 == null) { // borrable
-            BitmapTextureAtlas jumpBg2BambooForest1T = new BitmapTextureAtlas(textureManager, 1920, 1080,
-                    mTransparentTextureOption);
-            jumpBg2BambooForest1 = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    jumpBg2BambooForest1T, activity, "jump_bg_2_bamboo_forest_1.png", 0, 0);
-            jumpBg2BambooForest1T.load();
-        }
-        if (jumpBg3BambooForest2 == null) {// borrable
-            BitmapTextureAtlas jumpBg3BambooForest2T = new BitmapTextureAtlas(textureManager, 1920, 1080,
-                    mTransparentTextureOption);
-            jumpBg3BambooForest2 = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    jumpBg3BambooForest2T, activity, "jump_bg_3_bamboo_forest_2.png", 0, 0);
-            jumpBg3BambooForest2T.load();
-        }
+        loader.load(JUMP_GROUP);
+        jumpBg1StoneStatues = loader.getTexture(JUMP_PATH + "jump_bg_1_stone_statues.png");
+        jumpBg1Bamboo = loader.getTexture(JUMP_PATH + "jump_bg_1_bamboo.png");
+        jumpBg2BambooForest1 = loader.getTexture(JUMP_PATH + "jump_bg_2_bamboo_forest_1.png");
+        jumpBg3BambooForest2 = loader.getTexture(JUMP_PATH + "jump_bg_3_bamboo_forest_2.png");
 
         // Bamboo in which the characters rebound (3 pieces)
          // ^ 91 px
          // | 921 px
          // v 68 px
-        BitmapTextureAtlas bTA_Bamboo = new BitmapTextureAtlas(textureManager, 89, 1080,
-                mTransparentTextureOption);
-        BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                bTA_Bamboo, activity, "jump_bg_1_bamboo.png", 0, 0);
-        bTA_Bamboo.load();
-        jumpBg1BambooTop = TextureRegionFactory.extractFromTexture(bTA_Bamboo, 0, 0, 89, 91);
-        jumpBg1BambooMiddle = TextureRegionFactory.extractFromTexture(bTA_Bamboo, 0, 91, 89, 921);
-        jumpBg1BambooBottom = TextureRegionFactory.extractFromTexture(bTA_Bamboo, 0, 1012, 89, 68);
+        jumpBg1BambooTop = loader.getTexture("jump_bg_1_bamboo_top");
+        jumpBg1BambooMiddle = loader.getTexture("jump_bg_1_bamboo_middle");
+        jumpBg1BambooBottom = loader.getTexture("jump_bg_1_bamboo_bottom");
 
         // Nearest bamboo forest
          // ^ 44 px
          // | 718 px
          // v 318 px
-        BitmapTextureAtlas bTABambooForest1 = new BitmapTextureAtlas(textureManager, 1920, 1080,
-                mTransparentTextureOption);
-        BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                bTABambooForest1, activity, "jump_bg_2_bamboo_forest_1.png", 0, 0);
-        bTABambooForest1.load();
-        jumpBg2BambooForest1Top = TextureRegionFactory.extractFromTexture(bTABambooForest1, 0, 0, 1920, 44);
-        jumpBg2BambooForest1Middle = TextureRegionFactory.extractFromTexture(bTABambooForest1, 0, 44, 1920, 718);
-        jumpBg2BambooForest1Bottom = TextureRegionFactory.extractFromTexture(bTABambooForest1, 0, 763, 1920, 318);
+        jumpBg2BambooForest1Top = loader.getTexture("jump_bg_2_bamboo_forest_1_top");
+        jumpBg2BambooForest1Middle = loader.getTexture("jump_bg_2_bamboo_forest_1_middle");
+        jumpBg2BambooForest1Bottom = loader.getTexture("jump_bg_2_bamboo_forest_1_bottom");
 
         // Farthest bamboo forest
          // ^ 80 px
          // | 536 px
          // v 464 px
-         BitmapTextureAtlas bTABambooForest2 = new BitmapTextureAtlas(textureManager, 1920, 1080,
-                mTransparentTextureOption);
-        BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                bTABambooForest2, activity, "jump_bg_3_bamboo_forest_2.png", 0, 0);
-        bTABambooForest2.load();
-        jumpBg3BambooForest2Top = TextureRegionFactory.extractFromTexture(bTABambooForest2, 0, 0, 1920, 80);
-        jumpBg3BambooForest2Middle = TextureRegionFactory.extractFromTexture(bTABambooForest2, 0, 80, 1920, 536);
-        jumpBg3BambooForest2Bottom = TextureRegionFactory.extractFromTexture(bTABambooForest2, 0, 80+536, 1920, 464);
-
-        if (jumpBg4Mount == null) {
-            BitmapTextureAtlas jumpBg4MountT = new BitmapTextureAtlas(textureManager, 1920, 794,
-                    mTransparentTextureOption);
-            jumpBg4Mount = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    jumpBg4MountT, activity, "jump_bg_4_mount.png", 0, 0);
-            jumpBg4MountT.load();
-        }
-        if (jumpBg5Pagoda == null) {
-            BitmapTextureAtlas jumpBg5PagodaT = new BitmapTextureAtlas(textureManager, 650, 952,
-                    mTransparentTextureOption);
-            jumpBg5Pagoda = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    jumpBg5PagodaT, activity, "jump_bg_5_pagoda.png", 0, 0);
-            jumpBg5PagodaT.load();
-        }
-        if (jumpBg6Clouds == null) {
-            BitmapTextureAtlas jumpBg6CloudsT = new BitmapTextureAtlas(textureManager, 1920, 503,
-                    mTransparentTextureOption);
-            jumpBg6Clouds = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    jumpBg6CloudsT, activity, "jump_bg_6_clouds.png", 0, 0);
-            jumpBg6CloudsT.load();
-        }
-        if (jumpBg7Lake == null) {
-            BitmapTextureAtlas jumpBg7LakeT = new BitmapTextureAtlas(textureManager, 1920, 550,
-                    mTransparentTextureOption);
-            jumpBg7Lake = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    jumpBg7LakeT, activity, "jump_bg_7_lake.png", 0, 0);
-            jumpBg7LakeT.load();
-        }
-        if (jumpBg8MountFuji == null) {
-            BitmapTextureAtlas jumpBg8MountFujiT = new BitmapTextureAtlas(textureManager, 1920, 806,
-                    mTransparentTextureOption);
-            jumpBg8MountFuji = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    jumpBg8MountFujiT, activity, "jump_bg_8_mount_fuji.png", 0, 0);
-            jumpBg8MountFujiT.load();
-        }
-        if (jumpBg9Sky == null) {
-            BitmapTextureAtlas jumpBg9SkyT = new BitmapTextureAtlas(textureManager, 1920, 1471,
-                    mTransparentTextureOption);
-            jumpBg9Sky = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    jumpBg9SkyT, activity, "jump_bg_9_sky.png", 0, 0);
-            jumpBg9SkyT.load();
-        }
-
-        //if (jumpChRyoko == null) {
-        //   BuildableBitmapTextureAtlas jumpChRyokoBit = new BuildableBitmapTextureAtlas(
-        //            textureManager, 2000, 2982, mTransparentTextureOption);
-        //    jumpChRyoko = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-        //            jumpChRyokoBit, context, "jump_ch_ryoko.png", 4, 6);
-        //    try {
-        //        jumpChRyokoBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-        //                BitmapTextureAtlas>(0, 0, 0));
-        //    }
-        //    catch (TextureAtlasBuilderException e) {
-        //        e.printStackTrace();
-        //    }
-        //    jumpChRyokoBit.load();
-        //}
-
-        if (jumpChSho == null) {
-            BuildableBitmapTextureAtlas jumpChShoBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 687, 1024, mTransparentTextureOption);
-            jumpChSho = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    jumpChShoBit, context, "jump_ch_sho_mini.png", 4, 6);
-            try {
-                jumpChShoBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            jumpChShoBit.load();
-        }
-
-        if (jumpEffectPreparation == null) {
-            BuildableBitmapTextureAtlas jumpEffectPreparationBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 590, 406, mTransparentTextureOption);
-            jumpEffectPreparation = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    jumpEffectPreparationBit, context, "jump_effect_preparation.png", 2, 2);
-            try {
-                jumpEffectPreparationBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            jumpEffectPreparationBit.load();
-        }
-
-        if (jumpEffectWallKick == null) {
-            BuildableBitmapTextureAtlas jumpEffectWallKickBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 406, 590, mTransparentTextureOption);
-            jumpEffectWallKick = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    jumpEffectWallKickBit, context, "jump_effect_wall_kick.png", 2, 2);
-            try {
-                jumpEffectWallKickBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            jumpEffectWallKickBit.load();
-        }
+        jumpBg3BambooForest2Top = loader.getTexture("jump_bg_3_bamboo_forest_2_top");
+        jumpBg3BambooForest2Middle = loader.getTexture("jump_bg_3_bamboo_forest_2_middle");
+        jumpBg3BambooForest2Bottom = loader.getTexture("jump_bg_3_bamboo_forest_2_bottom");
+
+        jumpBg4Mount = loader.getTexture(JUMP_PATH + "jump_bg_4_mount.png");
+        jumpBg5Pagoda = loader.getTexture(JUMP_PATH + "jump_bg_5_pagoda.png");
+        jumpBg6Clouds = loader.getTexture(JUMP_PATH + "jump_bg_6_clouds.png");
+        jumpBg7Lake = loader.getTexture(JUMP_PATH + "jump_bg_7_lake.png");
+        jumpBg8MountFuji = loader.getTexture(JUMP_PATH + "jump_bg_8_mount_fuji.png");
+        jumpBg9Sky = loader.getTexture(JUMP_PATH + "jump_bg_9_sky.png");
+
+        //jumpChRyoko = loader.getTiledTexture(JUMP_PATH + "jump_ch_ryoko.png");
+        jumpChSho = loader.getTiledTexture(JUMP_PATH + "jump_ch_sho_mini.png");
+        jumpEffectPreparation = loader.getTiledTexture(JUMP_PATH + "jump_effect_preparation.png");
+        jumpEffectWallKick = loader.getTiledTexture(JUMP_PATH + "jump_effect_wall_kick.png");
     }
 
 
     public synchronized void unloadJumpSceneResources() {
-        if (jumpBg1StoneStatues != null && jumpBg1StoneStatues.getTexture().isLoadedToHardware()) {
-                jumpBg1StoneStatues.getTexture().unload();
-                jumpBg1StoneStatues = null;
-        }
-        if (jumpBg1Bamboo != null && jumpBg1Bamboo.getTexture().isLoadedToHardware()) {
-            jumpBg1Bamboo.getTexture().unload();
+        loader.unload(JUMP_GROUP);
+        if (!loader.isLoaded(JUMP_GROUP)) {
+            jumpBg1StoneStatues = null;
             jumpBg1Bamboo = null;
-        }
-        if (jumpBg2BambooForest1 != null && jumpBg2BambooForest1.getTexture().isLoadedToHardware()) {
-                jumpBg2BambooForest1.getTexture().unload();
-                jumpBg2BambooForest1 = null;
-        }
-        if (jumpBg3BambooForest2 != null && jumpBg3BambooForest2.getTexture().isLoadedToHardware()) {
-                jumpBg3BambooForest2.getTexture().unload();
-                jumpBg3BambooForest2 = null;
-        }
-
-        // CAMBIOS JJ ******************************* INICIO
-        if (jumpBg1BambooTop != null && jumpBg1BambooTop.getTexture().isLoadedToHardware()) {
-            jumpBg1BambooTop.getTexture().unload();
+            jumpBg2BambooForest1 = null;
+            jumpBg3BambooForest2 = null;
             jumpBg1BambooTop = null;
-        }
-        if (jumpBg1BambooMiddle != null && jumpBg1BambooMiddle.getTexture().isLoadedToHardware()) {
-            jumpBg1BambooMiddle.getTexture().unload();
             jumpBg1BambooMiddle = null;
-        }
-        if (jumpBg1BambooBottom != null && jumpBg1BambooBottom.getTexture().isLoadedToHardware()) {
-            jumpBg1BambooBottom.getTexture().unload();
             jumpBg1BambooBottom = null;
-        }
-        if (jumpBg2BambooForest1Top != null && jumpBg2BambooForest1Top.getTexture().isLoadedToHardware()) {
-            jumpBg2BambooForest1Top.getTexture().unload();
             jumpBg2BambooForest1Top = null;
-        }
-        if (jumpBg2BambooForest1Middle != null && jumpBg2BambooForest1Middle.getTexture().isLoadedToHardware()) {
-            jumpBg2BambooForest1Middle.getTexture().unload();
             jumpBg2BambooForest1Middle = null;
-        }
-        if (jumpBg2BambooForest1Bottom != null && jumpBg2BambooForest1Bottom.getTexture().isLoadedToHardware()) {
-            jumpBg2BambooForest1Bottom.getTexture().unload();
             jumpBg2BambooForest1Bottom = null;
-        }
-        if (jumpBg3BambooForest2Top != null && jumpBg3BambooForest2Top.getTexture().isLoadedToHardware()) {
-            jumpBg3BambooForest2Top.getTexture().unload();
             jumpBg3BambooForest2Top = null;
-        }
-        if (jumpBg3BambooForest2Middle != null && jumpBg3BambooForest2Middle.getTexture().isLoadedToHardware()) {
-            jumpBg3BambooForest2Middle.getTexture().unload();
             jumpBg3BambooForest2Middle = null;
-        }
-        if (jumpBg3BambooForest2Bottom != null && jumpBg3BambooForest2Bottom.getTexture().isLoadedToHardware()) {
-            jumpBg3BambooForest2Bottom.getTexture().unload();
             jumpBg3BambooForest2Bottom = null;
-        }
-        // CAMBIOS JJ ******************************* FIN
-
-        if (jumpBg4Mount != null && jumpBg4Mount.getTexture().isLoadedToHardware()) {
-                jumpBg4Mount.getTexture().unload();
-                jumpBg4Mount = null;
-        }
-        if (jumpBg5Pagoda != null && jumpBg5Pagoda.getTexture().isLoadedToHardware()) {
-                jumpBg5Pagoda.getTexture().unload();
-                jumpBg5Pagoda = null;
-        }
-        if (jumpBg6Clouds != null && jumpBg6Clouds.getTexture().isLoadedToHardware()) {
-                jumpBg6Clouds.getTexture().unload();
-                jumpBg6Clouds = null;
-        }
-        if (jumpBg7Lake != null && jumpBg7Lake.getTexture().isLoadedToHardware()) {
-                jumpBg7Lake.getTexture().unload();
-                jumpBg7Lake = null;
-        }
-        if (jumpBg8MountFuji != null && jumpBg8MountFuji.getTexture().isLoadedToHardware()) {
-                jumpBg8MountFuji.getTexture().unload();
-                jumpBg8MountFuji = null;
-        }
-        if (jumpBg9Sky != null && jumpBg9Sky.getTexture().isLoadedToHardware()) {
-                jumpBg9Sky.getTexture().unload();
-                jumpBg9Sky = null;
-        }
-        if (jumpChRyoko != null && jumpChRyoko.getTexture().isLoadedToHardware()) {
-                jumpChRyoko.getTexture().unload();
-                jumpChRyoko = null;
-        }
-        if (jumpChSho != null && jumpChSho.getTexture().isLoadedToHardware()) {
-                jumpChSho.getTexture().unload();
-                jumpChSho = null;
-        }
-        if (jumpEffectPreparation != null && jumpEffectPreparation.getTexture().isLoadedToHardware()) {
-                jumpEffectPreparation.getTexture().unload();
-                jumpEffectPreparation = null;
-        }
-        if (jumpEffectWallKick != null && jumpEffectWallKick.getTexture().isLoadedToHardware()) {
-                jumpEffectWallKick.getTexture().unload();
-                jumpEffectWallKick = null;
+            jumpBg4Mount = null;
+            jumpBg5Pagoda = null;
+            jumpBg6Clouds = null;
+            jumpBg7Lake = null;
+            jumpBg8MountFuji = null;
+            jumpBg9Sky = null;
+            jumpChRyoko = null;
+            jumpChSho = null;
+            jumpEffectPreparation = null;
+            jumpEffectWallKick = null;
         }
     }
 
     // Recursos para la escena de corte:
     public synchronized void loadCutSceneResources() {
-        // Texturas:
-        BitmapTextureAtlasTextureRegionFactory.setAssetBasePath("gfx/trial_cut/");
-
+        loader.load(CUT_GROUP);
         // Sho:
-        if(cutSho==null) {
-            BuildableBitmapTextureAtlas cutShoT = new BuildableBitmapTextureAtlas(
-                    textureManager, 1742, 1720, mTransparentTextureOption);
-            cutSho = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    cutShoT, context, "cut_ch_sho_cut_anim.png", 2, 2);
-            try {
-                cutShoT.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            } catch (TextureAtlasBuilderException e) { e.printStackTrace(); }
-            cutShoT.load();
-        }
-
+        cutSho = loader.getTiledTexture(CUT_PATH + "cut_ch_sho_cut_anim.png");
         // Arbol:
-        BitmapTextureAtlas cutTreeT = new BitmapTextureAtlas(textureManager, 640, 950,
-                mTransparentTextureOption);
-        BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                cutTreeT, activity, "cut_breakable_tree.png", 0, 0);
-        cutTreeT.load();
-        cutTreeTop = TextureRegionFactory.extractFromTexture(cutTreeT, 0, 0, 640, 403, false);
-        cutTreeBottom = TextureRegionFactory.extractFromTexture(cutTreeT, 0, 404, 640, 546,
-                false);
-
+        cutTreeTop = loader.getTexture("cut_tree_top");
+        cutTreeBottom = loader.getTexture("cut_tree_bottom");
         // Farol:
-        BitmapTextureAtlas cutCandleT = new BitmapTextureAtlas(textureManager, 310, 860,
-                mTransparentTextureOption);
-        BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                cutCandleT, activity, "cut_breakable_candle_base.png", 0, 0);
-        cutCandleT.load();
-        cutCandleTop = TextureRegionFactory.extractFromTexture(cutCandleT, 0, 0, 310, 515, false);
-        cutCandleBottom = TextureRegionFactory.extractFromTexture(cutCandleT, 0, 516, 310, 344,
-                false);
-
+        cutCandleTop = loader.getTexture("cut_candle_top");
+        cutCandleBottom = loader.getTexture("cut_candle_bottom");
         // Luz del farol:
-        BitmapTextureAtlas cutCandleLightT = new BitmapTextureAtlas(textureManager, 760, 380,
-                mTransparentTextureOption);
-        BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                cutCandleLightT, activity, "cut_breakable_candle_light.png", 0, 0);
-        cutCandleLightT.load();
-        cutCandleLight = TextureRegionFactory.extractFromTexture(cutCandleLightT, 0, 0, 388, 380,
-                false);
-
-        // Espada 2:
-        if(cutSwordSparkle2==null) {
-            BuildableBitmapTextureAtlas cutSword2T = new BuildableBitmapTextureAtlas(
-                    textureManager, 1358, 1034, mTransparentTextureOption);
-            cutSwordSparkle2 = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    cutSword2T, context, "cut_sword_sparkle2.png", 2, 2);
-            try {
-                cutSword2T.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            } catch (TextureAtlasBuilderException e) { e.printStackTrace(); }
-            cutSword2T.load();
-        }
-
+        cutCandleLight = loader.getTexture("cut_candle_light");
+        // Espadas:
+        cutSwordSparkle1 = loader.getTexture(CUT_PATH + "cut_sword_sparkle1.png");
+        cutSwordSparkle2 = loader.getTiledTexture(CUT_PATH + "cut_sword_sparkle2.png");
         // Ojos:
-        if(cutEyes==null) {
-            BitmapTextureAtlas cutEyesT =  new BitmapTextureAtlas(textureManager, 1416, 611,
-                    mTransparentTextureOption);
-            cutEyes = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    cutEyesT, activity, "cut_ch_sho_eyes.png", 0, 0);
-            cutEyesT.load();
-        }
-
+        cutEyes = loader.getTexture(CUT_PATH + "cut_ch_sho_eyes.png");
         // Fondo:
-        if(cutBackground==null) {
-            BitmapTextureAtlas cutBackgroundT = new BitmapTextureAtlas(textureManager, 1920, 1080,
-                    mTransparentTextureOption);
-            cutBackground = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    cutBackgroundT, activity, "cut_background.png", 0, 0);
-            cutBackgroundT.load();
-        }
-
+        cutBackground = loader.getTexture(CUT_PATH + "cut_background.png");
         // Gota:
-        if(cutSweatDrop==null) {
-            BitmapTextureAtlas cutSweatDropT = new BitmapTextureAtlas(textureManager, 46, 107,
-                    mTransparentTextureOption);
-            cutSweatDrop = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    cutSweatDropT, activity, "cut_ch_sweatdrop.png", 0, 0);
-            cutSweatDropT.load();
-        }
-
+        cutSweatDrop = loader.getTexture(CUT_PATH + "cut_ch_sweatdrop.png");
         // Character eye sparkle:
-        if(cutCharSparkle==null) {
-            BuildableBitmapTextureAtlas cutCharSparkleT = new BuildableBitmapTextureAtlas(
-                    textureManager, 300, 100, mTransparentTextureOption);
-            cutCharSparkle = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    cutCharSparkleT, context, "cut_ch_sparkle.png", 3, 1);
-            try {
-                cutCharSparkleT.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            } catch (TextureAtlasBuilderException e) { e.printStackTrace(); }
-            cutCharSparkleT.load();
-        }
+        cutCharSparkle = loader.getTiledTexture(CUT_PATH + "cut_ch_sparkle.png");
 
-        // Espada 1:
-        if(cutSwordSparkle1==null) {
-            BitmapTextureAtlas cutSword1T = new BitmapTextureAtlas(textureManager, 503, 345,
-                    mTransparentTextureOption);
-            cutSwordSparkle1 = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    cutSword1T, activity, "cut_sword_sparkle1.png", 0, 0);
-            cutSword1T.load();
-        }
+        // Sonidos, tienen que sonar justo en el corte:
+        soundBank.warmUp(trialCutKatana1, trialCutKatana2, trialCutKatana3,
+                trialCutKatanaWhoosh, trialCutKatanaWhoosh2, trialCutEyesZoom);
     }
 
 
     // Liberamos los recursos de la escena de corte:
     public synchronized void unloadCutSceneResources() {
-        if(cutSho != null) {
-            if(cutSho.getTexture().isLoadedToHardware()) {
-                cutSho.getTexture().unload();
-                cutSho = null;
-            }
-        }
-        if(cutTreeTop!=null) {
-            if(cutTreeTop.getTexture().isLoadedToHardware()) {
-                cutTreeTop.getTexture().unload();
-                cutTreeTop = null;
-            }
-        }
-        if(cutTreeBottom!=null) {
-            if(cutTreeBottom.getTexture().isLoadedToHardware()) {
-                cutTreeBottom.getTexture().unload();
-                cutTreeBottom = null;
-            }
-        }
-        if(cutCandleTop!=null) {
-            if(cutCandleTop.getTexture().isLoadedToHardware()) {
-                cutCandleTop.getTexture().unload();
-                cutCandleTop = null;
-            }
-        }
-        if(cutCandleBottom!=null) {
-            if(cutCandleBottom.getTexture().isLoadedToHardware()) {
-                cutCandleBottom.getTexture().unload();
-                cutCandleBottom = null;
-            }
-        }
-        if(cutCandleLight!=null) {
-            if(cutCandleLight.getTexture().isLoadedToHardware()) {
-                cutCandleLight.getTexture().unload();
-                cutCandleLight = null;
-            }
-        }
-        if(cutEyes!=null) {
-            if(cutEyes.getTexture().isLoadedToHardware()) {
-                cutEyes.getTexture().unload();
-                cutEyes = null;
-            }
-        }
-        if(cutBackground!=null) {
-            if(cutBackground.getTexture().isLoadedToHardware()) {
-                cutBackground.getTexture().unload();
-                cutBackground = null;
-            }
-        }
-        if(cutSweatDrop!=null) {
-            if(cutSweatDrop.getTexture().isLoadedToHardware()) {
-                cutSweatDrop.getTexture().unload();
-                cutSweatDrop = null;
-            }
-        }
-        if(cutCharSparkle!=null) {
-            if(cutCharSparkle.getTexture().isLoadedToHardware()) {
-                cutCharSparkle.getTexture().unload();
-                cutCharSparkle = null;
-            }
-        }
-        if(cutSwordSparkle1!=null) {
-            if(cutSwordSparkle1.getTexture().isLoadedToHardware()) {
-                cutSwordSparkle1.getTexture().unload();
-                cutSwordSparkle1 = null;
-            }
-        }
-        if(cutSwordSparkle2!=null) {
-            if(cutSwordSparkle2.getTexture().isLoadedToHardware()) {
-                cutSwordSparkle2.getTexture().unload();
-                cutSwordSparkle2 = null;
-            }
-        }
-
-        // Garbage Collector:
-        System.gc();
+        loader.unload(CUT_GROUP);
+        if (!loader.isLoaded(CUT_GROUP)) {
+            cutSho = null;
+            cutTreeTop = null;
+            cutTreeBottom = null;
+            cutCandleTop = null;
+            cutCandleBottom = null;
+            cutCandleLight = null;
+            cutEyes = null;
+            cutBackground = null;
+            cutSweatDrop = null;
+            cutCharSparkle = null;
+            cutSwordSparkle1 = null;
+            cutSwordSparkle2 = null;
+        }
+
+        soundBank.coolDown(trialCutKatana1, trialCutKatana2, trialCutKatana3,
+                trialCutKatanaWhoosh, trialCutKatanaWhoosh2, trialCutEyesZoom);
     }
 
     public synchronized void loadRunSceneResources() {
-        BitmapTextureAtlasTextureRegionFactory.setAssetBasePath("gfx/trial_run/");
+        loader.load(RUN_GROUP);
         // Background
-        if (runBgFloor == null) {
-            BitmapTextureAtlas RunBg1 = new BitmapTextureAtlas(textureManager, 1024, 326,
-                    mTransparentTextureOption);
-            runBgFloor = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    RunBg1, activity, "run_background_floor.png", 0, 0);
-            RunBg1.load();
-        }
-        if (runBgTreesBack == null) {
-            BitmapTextureAtlas RunBg2 = new BitmapTextureAtlas(textureManager, 1021, 510,
-                    mTransparentTextureOption);
-            runBgTreesBack = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    RunBg2, activity, "run_background_trees_back.png", 0, 0);
-            RunBg2.load();
-        }
-        if (runBgTreesFront == null) {
-            BitmapTextureAtlas RunBg3 = new BitmapTextureAtlas(textureManager, 1024, 754,
-                    mTransparentTextureOption);
-            runBgTreesFront = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    RunBg3, activity, "run_background_trees_front.png", 0, 0);
-            RunBg3.load();
-        }
-
+        runBgFloor = loader.getTexture(RUN_PATH + "run_background_floor.png");
+        runBgTreesBack = loader.getTexture(RUN_PATH + "run_background_trees_back.png");
+        runBgTreesFront = loader.getTexture(RUN_PATH + "run_background_trees_front.png");
         // Dush
-        if (runDushStart == null) {
-            BitmapTextureAtlas runDush = new BitmapTextureAtlas(textureManager, 1296, 1080,
-                    mTransparentTextureOption);
-            runDushStart = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    runDush, activity, "run_dust_start.png", 0, 0);
-            runDush.load();
-        }
-        if (runDushContinue == null) {
-            BitmapTextureAtlas runDush = new BitmapTextureAtlas(textureManager, 600, 600,
-                    mTransparentTextureOption);
-            runDushContinue = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    runDush, activity, "run_dust_continuous.png", 0, 0);
-            runDush.load();
-        }
-
+        runDushStart = loader.getTexture(RUN_PATH + "run_dust_start.png");
+        runDushContinue = loader.getTexture(RUN_PATH + "run_dust_continuous.png");
         // Sho
-        if (runSho == null) {
-            BuildableBitmapTextureAtlas runShoBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 1058, 1014, mTransparentTextureOption);
-            runSho = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    runShoBit, context, "run_ch_sho.png", 5, 4);
-            try {
-                runShoBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            runShoBit.load();
-        }
-
+        runSho = loader.getTiledTexture(RUN_PATH + "run_ch_sho.png");
         // Ryoko
-        if (runRyoko == null) {
-            BuildableBitmapTextureAtlas runRyokoBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 1058, 1014, mTransparentTextureOption);
-            runRyoko = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    runRyokoBit, context, "run_ch_ryoko.png", 5, 4);
-            try {
-                runRyokoBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            runRyokoBit.load();
-        }
+        runRyoko = loader.getTiledTexture(RUN_PATH + "run_ch_ryoko.png");
     }
 
 
     public synchronized void unloadRunSceneResources() {
-        if (runSho != null && runSho.getTexture().isLoadedToHardware()) {
-                runSho.getTexture().unload();
-                runSho = null;
-        }
-        if (runRyoko != null && runRyoko.getTexture().isLoadedToHardware()) {
-                runRyoko.getTexture().unload();
-                runRyoko = null;
-        }
-        if (runBgFloor != null && runBgFloor.getTexture().isLoadedToHardware()) {
-                runBgFloor.getTexture().unload();
-                runBgFloor = null;
+        loader.unload(RUN_GROUP);
+        if (!loader.isLoaded(RUN_GROUP)) {
+            runSho = null;
+            runRyoko = null;
+            runBgFloor = null;
+            runBgTreesFront = null;
+            runBgTreesBack = null;
+            runDushStart = null;
+            runDushContinue = null;
         }
-        if (runBgTreesFront != null && runBgTreesFront.getTexture().isLoadedToHardware()) {
-                runBgTreesFront.getTexture().unload();
-                runBgTreesFront = null;
-        }
-        if (runBgTreesBack != null && runBgTreesBack.getTexture().isLoadedToHardware()) {
-                runBgTreesBack.getTexture().unload();
-                runBgTreesBack = null;
-        }
-        if (runDushStart != null && runDushStart.getTexture().isLoadedToHardware()) {
-                runDushStart.getTexture().unload();
-                runDushStart = null;
-        }
-        if (runDushContinue != null && runDushContinue.getTexture().isLoadedToHardware()) {
-                runDushContinue.getTexture().unload();
-                runDushContinue = null;
-        }
-        // Garbage Collector:
-        System.gc();
     }
 
     public synchronized void loadShurikenSceneResources() {
-        BitmapTextureAtlasTextureRegionFactory.setAssetBasePath("gfx/trial_shuriken/");
-        if (shurikenBackground == null) {
-            BitmapTextureAtlas shurikenBackgroundT = new BitmapTextureAtlas(textureManager, 1920, 1080,
-                    mTransparentTextureOption);
-            shurikenBackground = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    shurikenBackgroundT, activity, "shuriken_background.png", 0, 0);
-            shurikenBackgroundT.load();
-        }
-
-        if (shurikenRyokoHands == null) {
-            BuildableBitmapTextureAtlas shurikenRyokoHandsBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 740, 960, mTransparentTextureOption);
-            shurikenRyokoHands = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    shurikenRyokoHandsBit, context, "shuriken_ryoko_hands.png", 1, 3);
-            try {
-                shurikenRyokoHandsBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            shurikenRyokoHandsBit.load();
-        }
-
-        if (shurikenRyokoLose == null) {
-            BuildableBitmapTextureAtlas shurikenRyokoLoseBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 1500, 978, mTransparentTextureOption);
-            shurikenRyokoLose = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    shurikenRyokoLoseBit, context, "shuriken_ryoko_lose.png", 2, 1);
-            try {
-                shurikenRyokoLoseBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            shurikenRyokoLoseBit.load();
-        }
-
-        if (shurikenRyokoWin == null) {
-            BuildableBitmapTextureAtlas shurikenRyokoWinBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 1400, 1036, mTransparentTextureOption);
-            shurikenRyokoWin = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    shurikenRyokoWinBit, context, "shuriken_ryoko_win.png", 2, 1);
-            try {
-                shurikenRyokoWinBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            shurikenRyokoWinBit.load();
-        }
-
-        if (shurikenShoHands == null) {
-            BuildableBitmapTextureAtlas shurikenShoHandsBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 740, 960, mTransparentTextureOption);
-            shurikenShoHands = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    shurikenShoHandsBit, context, "shuriken_sho_hands.png", 1, 3);
-            try {
-                shurikenShoHandsBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            shurikenShoHandsBit.load();
-        }
-
-        if (shurikenShoLose == null) {
-            BuildableBitmapTextureAtlas shurikenShoLoseBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 1500, 978, mTransparentTextureOption);
-            shurikenShoLose = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    shurikenShoLoseBit, context, "shuriken_sho_lose.png", 2, 1);
-            try {
-                shurikenShoLoseBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            shurikenShoLoseBit.load();
-        }
-
-        if (shurikenShoWin == null) {
-            BuildableBitmapTextureAtlas shurikenShoWinBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 1400, 1036, mTransparentTextureOption);
-            shurikenShoWin = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    shurikenShoWinBit, context, "shuriken_sho_win.png", 2, 1);
-            try {
-                shurikenShoWinBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            shurikenShoWinBit.load();
-        }
-
-        if (shurikenShuriken == null) {
-            BitmapTextureAtlas shurikenShurikenT = new BitmapTextureAtlas(textureManager, 196, 418,
-                    mTransparentTextureOption);
-            shurikenShuriken = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    shurikenShurikenT, activity, "shuriken_shuriken.png", 0, 0);
-            shurikenShurikenT.load();
-            shurikenShurikens = new ITextureRegion[6];
-            shurikenShurikens[0] = TextureRegionFactory.extractFromTexture(shurikenShurikenT, 0, 0, 54, 26-0, false);
-            shurikenShurikens[1] = TextureRegionFactory.extractFromTexture(shurikenShurikenT, 0, 29, 58, 66-29, false);
-            shurikenShurikens[2] = TextureRegionFactory.extractFromTexture(shurikenShurikenT, 0, 67, 102, 121-67, false);
-            shurikenShurikens[3] = TextureRegionFactory.extractFromTexture(shurikenShurikenT, 0, 122, 114, 195-122, false);
-            shurikenShurikens[4] = TextureRegionFactory.extractFromTexture(shurikenShurikenT, 0, 197, 196, 303-197, false);
-            shurikenShurikens[5] = TextureRegionFactory.extractFromTexture(shurikenShurikenT, 0, 304, 196, 418-304, false);
-        }
-
-        if (shurikenStrawman1 == null) {
-            BuildableBitmapTextureAtlas shurikenStrawman1Bit = new BuildableBitmapTextureAtlas(
-                    textureManager, 1023, 640, mTransparentTextureOption);
-            shurikenStrawman1 = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    shurikenStrawman1Bit, context, "shuriken_strawman_1.png", 3, 1);
-            try {
-                shurikenStrawman1Bit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            shurikenStrawman1Bit.load();
-        }
-
-        if (shurikenStrawman2 == null) {
-            BuildableBitmapTextureAtlas shurikenStrawman2Bit = new BuildableBitmapTextureAtlas(
-                    textureManager, 1688, 1056, mTransparentTextureOption);
-            shurikenStrawman2 = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    shurikenStrawman2Bit, context, "shuriken_strawman_2.png", 3, 1);
-            try {
-                shurikenStrawman2Bit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            shurikenStrawman2Bit.load();
-        }
-        if (shurikenStrawman3 == null) {
-            BitmapTextureAtlas shurikenStrawman3T = new BitmapTextureAtlas(textureManager, 1068, 1635,
-                    mTransparentTextureOption);
-            shurikenStrawman3 = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    shurikenStrawman3T, activity, "shuriken_strawman_3.png", 0, 0);
-            shurikenStrawman3T.load();
-        }
+        loader.load(SHURIKEN_GROUP);
+        shurikenBackground = loader.getTexture(SHURIKEN_PATH + "shuriken_background.png");
+        shurikenRyokoHands = loader.getTiledTexture(SHURIKEN_PATH + "shuriken_ryoko_hands.png");
+        shurikenRyokoLose = loader.getTiledTexture(SHURIKEN_PATH + "shuriken_ryoko_lose.png");
+        shurikenRyokoWin = loader.getTiledTexture(SHURIKEN_PATH + "shuriken_ryoko_win.png");
+        shurikenShoHands = loader.getTiledTexture(SHURIKEN_PATH + "shuriken_sho_hands.png");
+        shurikenShoLose = loader.getTiledTexture(SHURIKEN_PATH + "shuriken_sho_lose.png");
+        shurikenShoWin = loader.getTiledTexture(SHURIKEN_PATH + "shuriken_sho_win.png");
+        shurikenShuriken = loader.getTexture(SHURIKEN_PATH + "shuriken_shuriken.png");
+        shurikenShurikens = new ITextureRegion[6];
+        for (int i = 0; i < shurikenShurikens.length; i++) {
+            shurikenShurikens[i] = loader.getTexture("shuriken_shuriken_" + i);
+        }
+        shurikenStrawman1 = loader.getTiledTexture(SHURIKEN_PATH + "shuriken_strawman_1.png");
+        shurikenStrawman2 = loader.getTiledTexture(SHURIKEN_PATH + "shuriken_strawman_2.png");
+        shurikenStrawman3 = loader.getTexture(SHURIKEN_PATH + "shuriken_strawman_3.png");
     }
 
     public synchronized void unloadShurikenSceneResources() {
-        if (shurikenBackground != null && shurikenBackground.getTexture().isLoadedToHardware()) {
-                shurikenBackground.getTexture().unload();
-                shurikenBackground = null;
-        }
-        if (shurikenRyokoHands != null && shurikenRyokoHands.getTexture().isLoadedToHardware()) {
-                shurikenRyokoHands.getTexture().unload();
-                shurikenRyokoHands = null;
-        }
-        if (shurikenRyokoLose != null && shurikenRyokoLose.getTexture().isLoadedToHardware()) {
-                shurikenRyokoLose.getTexture().unload();
-                shurikenRyokoLose = null;
-        }
-        if (shurikenRyokoWin != null && shurikenRyokoWin.getTexture().isLoadedToHardware()) {
-                shurikenRyokoWin.getTexture().unload();
-                shurikenRyokoWin = null;
-        }
-        if (shurikenShoHands != null && shurikenShoHands.getTexture().isLoadedToHardware()) {
-                shurikenShoHands.getTexture().unload();
-                shurikenShoHands = null;
-        }
-        if (shurikenShoLose != null && shurikenShoLose.getTexture().isLoadedToHardware()) {
-                shurikenShoLose.getTexture().unload();
-                shurikenShoLose = null;
-        }
-        if (shurikenShoWin != null && shurikenShoWin.getTexture().isLoadedToHardware()) {
-                shurikenShoWin.getTexture().unload();
-                shurikenShoWin = null;
-        }
-        if (shurikenShuriken != null && shurikenShuriken.getTexture().isLoadedToHardware()) {
-                shurikenShuriken.getTexture().unload();
-                shurikenShuriken = null;
-        }
-        if (shurikenShurikens != null) {
-            for (ITextureRegion shuriken: shurikenShurikens) {
-                if (shuriken != null && shuriken.getTexture().isLoadedToHardware()) {
-                    shuriken.getTexture().unload();
-                    shuriken = null;
-                }
-            }
+        loader.unload(SHURIKEN_GROUP);
+        if (!loader.isLoaded(SHURIKEN_GROUP)) {
+            shurikenBackground = null;
+            shurikenRyokoHands = null;
+            shurikenRyokoLose = null;
+            shurikenRyokoWin = null;
+            shurikenShoHands = null;
+            shurikenShoLose = null;
+            shurikenShoWin = null;
+            shurikenShuriken = null;
             shurikenShurikens = null;
-        }
-        if (shurikenStrawman1 != null && shurikenStrawman1.getTexture().isLoadedToHardware()) {
-                shurikenStrawman1.getTexture().unload();
-                shurikenStrawman1 = null;
-        }
-        if (shurikenStrawman2 != null && shurikenStrawman2.getTexture().isLoadedToHardware()) {
-                shurikenStrawman2.getTexture().unload();
-                shurikenStrawman2 = null;
-        }
-        if (shurikenStrawman3 != null && shurikenStrawman3.getTexture().isLoadedToHardware()) {
-                shurikenStrawman3.getTexture().unload();
-                shurikenStrawman3 = null;
-        }
-        if (shurikenTempShuriken != null && shurikenTempShuriken.getTexture().isLoadedToHardware()) {
-                shurikenTempShuriken.getTexture().unload();
-                shurikenTempShuriken = null;
-        }
-        if (shurikenTempStrawman != null && shurikenTempStrawman.getTexture().isLoadedToHardware()) {
-                shurikenTempStrawman.getTexture().unload();
-                shurikenTempStrawman = null;
+            shurikenStrawman1 = null;
+            shurikenStrawman2 = null;
+            shurikenStrawman3 = null;
         }
     }
 
@@ -1621,7 +1048,7 @@ public class ResourceManager {
                     mBuildableBitmapTextureAtlas.build(
                             new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
                             BitmapTextureAtlas>(0, 1, 0));
-                    mBuildableBitmapTextureAtlas.load();
+                    loadTexture(mBuildableBitmapTextureAtlas, "splashLogo");
             } catch (final TextureAtlasBuilderException e) {
                     Debug.e(e);
             }
@@ -1634,10 +1061,8 @@ public class ResourceManager {
     public synchronized void unloadSplashIntroResources() {
         // Texture of MadGear SVG logo
         if(splashLogo!=null) {
-            if(splashLogo.getTexture().isLoadedToHardware()) {
-                splashLogo.getTexture().unload();
-                splashLogo = null;
-            }
+            splashLogo.getTexture().unload();
+            splashLogo = null;
         }
     }
 
@@ -1649,63 +1074,63 @@ public class ResourceManager {
                     mTransparentTextureOption);
             intro1Gradient = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     intro1GradientT, activity, "intro1_gradient.jpg", 0, 0);
-            intro1GradientT.load();
+            loadTexture(intro1GradientT, "intro1Gradient");
         }
         if (intro1Logo == null) {
             BitmapTextureAtlas intro1LogoT = new BitmapTextureAtlas(textureManager, 756, 495,
                     mTransparentTextureOption);
             intro1Logo = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     intro1LogoT, activity, "intro1_logo.png", 0, 0);
-            intro1LogoT.load();
+            loadTexture(intro1LogoT, "intro1Logo");
         }
         if (intro1Ryoko == null) {
             BitmapTextureAtlas intro1RyokoT = new BitmapTextureAtlas(textureManager, 706, 1563,
                     mTransparentTextureOption);
             intro1Ryoko = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     intro1RyokoT, activity, "intro1_ryoko.png", 0, 0);
-            intro1RyokoT.load();
+            loadTexture(intro1RyokoT, "intro1Ryoko");
         }
         if (intro1Shapes == null) {
             BitmapTextureAtlas intro1ShapesT = new BitmapTextureAtlas(textureManager, 1900, 1651,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGBA_4444, mTransparentTextureOption);
             intro1Shapes = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     intro1ShapesT, activity, "intro1_shapes.png", 0, 0);
-            intro1ShapesT.load();
+            loadTexture(intro1ShapesT, "intro1Shapes");
         }
         if (intro1Sho == null) {
             BitmapTextureAtlas intro1ShoT = new BitmapTextureAtlas(textureManager, 981, 1734,
                     mTransparentTextureOption);
             intro1Sho = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     intro1ShoT, activity, "intro1_sho.png", 0, 0);
-            intro1ShoT.load();
+            loadTexture(intro1ShoT, "intro1Sho");
         }
         if (intro1TrialCut == null) {
             BitmapTextureAtlas intro1TrialCutT = new BitmapTextureAtlas(textureManager, 1260, 641,
                     mTransparentTextureOption);
             intro1TrialCut = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     intro1TrialCutT, activity, "intro1_trial_cut.jpg", 0, 0);
-            intro1TrialCutT.load();
+            loadTexture(intro1TrialCutT, "intro1TrialCut");
         }
         if (intro1TrialJump == null) {
             BitmapTextureAtlas intro1TrialJumpT = new BitmapTextureAtlas(textureManager, 1240, 637,
                     mTransparentTextureOption);
             intro1TrialJump = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     intro1TrialJumpT, activity, "intro1_trial_jump.jpg", 0, 0);
-            intro1TrialJumpT.load();
+            loadTexture(intro1TrialJumpT, "intro1TrialJump");
         }
         if (intro1TrialRun == null) {
             BitmapTextureAtlas intro1TrialRunT = new BitmapTextureAtlas(textureManager, 1258, 643,
                     mTransparentTextureOption);
             intro1TrialRun = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     intro1TrialRunT, activity, "intro1_trial_run.jpg", 0, 0);
-            intro1TrialRunT.load();
+            loadTexture(intro1TrialRunT, "intro1TrialRun");
         }
         if (intro1TrialShuriken == null) {
             BitmapTextureAtlas intro1TrialThrowT = new BitmapTextureAtlas(textureManager, 1242, 643,
                     mTransparentTextureOption);
             intro1TrialShuriken = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     intro1TrialThrowT, activity, "intro1_trial_shuriken.jpg", 0, 0);
-            intro1TrialThrowT.load();
+            loadTexture(intro1TrialThrowT, "intro1TrialThrow");
         }
         // SVG images
         SVGBitmapTextureAtlasTextureRegionFactory.setAssetBasePath("gfx/intro_1/");
@@ -1719,7 +1144,7 @@ public class ResourceManager {
                     mBuildableBitmapTextureAtlas.build(
                             new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
                             BitmapTextureAtlas>(0, 1, 0));
-                    mBuildableBitmapTextureAtlas.load();
+                    loadTexture(mBuildableBitmapTextureAtlas, "intro1WordmaskNinja");
             } catch (final TextureAtlasBuilderException e) {
                     Debug.e(e);
             }
@@ -1735,7 +1160,7 @@ public class ResourceManager {
                     mBuildableBitmapTextureAtlas.build(
                             new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
                             BitmapTextureAtlas>(0, 1, 0));
-                    mBuildableBitmapTextureAtlas.load();
+                    loadTexture(mBuildableBitmapTextureAtlas, "intro1WordmaskTrials");
             } catch (final TextureAtlasBuilderException e) {
                     Debug.e(e);
             }
@@ -1743,47 +1168,47 @@ public class ResourceManager {
     }
 
     public synchronized void unloadIntro1Resources() {
-        if (intro1Gradient != null && intro1Gradient.getTexture().isLoadedToHardware()) {
+        if (intro1Gradient != null) {
                 intro1Gradient.getTexture().unload();
                 intro1Gradient = null;
         }
-        if (intro1Logo != null && intro1Logo.getTexture().isLoadedToHardware()) {
+        if (intro1Logo != null) {
                 intro1Logo.getTexture().unload();
                 intro1Logo = null;
         }
-        if (intro1Ryoko != null && intro1Ryoko.getTexture().isLoadedToHardware()) {
+        if (intro1Ryoko != null) {
                 intro1Ryoko.getTexture().unload();
                 intro1Ryoko = null;
         }
-        if (intro1Shapes != null && intro1Shapes.getTexture().isLoadedToHardware()) {
+        if (intro1Shapes != null) {
                 intro1Shapes.getTexture().unload();
                 intro1Shapes = null;
         }
-        if (intro1Sho != null && intro1Sho.getTexture().isLoadedToHardware()) {
+        if (intro1Sho != null) {
                 intro1Sho.getTexture().unload();
                 intro1Sho = null;
         }
-        if (intro1TrialCut != null && intro1TrialCut.getTexture().isLoadedToHardware()) {
+        if (intro1TrialCut != null) {
                 intro1TrialCut.getTexture().unload();
                 intro1TrialCut = null;
         }
-        if (intro1TrialJump != null && intro1TrialJump.getTexture().isLoadedToHardware()) {
+        if (intro1TrialJump != null) {
                 intro1TrialJump.getTexture().unload();
                 intro1TrialJump = null;
         }
-        if (intro1TrialRun != null && intro1TrialRun.getTexture().isLoadedToHardware()) {
+        if (intro1TrialRun != null) {
                 intro1TrialRun.getTexture().unload();
                 intro1TrialRun = null;
         }
-        if (intro1TrialShuriken != null && intro1TrialShuriken.getTexture().isLoadedToHardware()) {
+        if (intro1TrialShuriken != null) {
                 intro1TrialShuriken.getTexture().unload();
                 intro1TrialShuriken = null;
         }
-        if (intro1WordmaskNinja != null && intro1WordmaskNinja.getTexture().isLoadedToHardware()) {
+        if (intro1WordmaskNinja != null) {
             intro1WordmaskNinja.getTexture().unload();
             intro1WordmaskNinja = null;
         }
-        if (intro1WordmaskTrials != null && intro1WordmaskTrials.getTexture().isLoadedToHardware()) {
+        if (intro1WordmaskTrials != null) {
             intro1WordmaskTrials.getTexture().unload();
             intro1WordmaskTrials = null;
         }
@@ -1796,10 +1221,10 @@ public class ResourceManager {
 
         if (intro2CommonBg == null) {
             BitmapTextureAtlas intro2CommonBgT = new BitmapTextureAtlas(textureManager, 1920, 1080,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGB_565, mTransparentTextureOption);
             intro2CommonBg = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     intro2CommonBgT, activity, "intro2_common_bg.png", 0, 0);
-            intro2CommonBgT.load();
+            loadTexture(intro2CommonBgT, "intro2CommonBg");
         }
 
         if (intro2CommonMaster == null) {
@@ -1814,14 +1239,14 @@ public class ResourceManager {
             catch (TextureAtlasBuilderException e) {
                 e.printStackTrace();
             }
-            intro2CommonMasterBit.load();
+            loadTexture(intro2CommonMasterBit, "intro2CommonMaster");
         }
         if (intro2CommonMasterTextBalloon == null) {
             BitmapTextureAtlas intro2CommonMasterTextBalloonT = new BitmapTextureAtlas(textureManager, 502, 236,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGBA_4444, mTransparentTextureOption);
             intro2CommonMasterTextBalloon = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     intro2CommonMasterTextBalloonT, activity, "intro2_common_master_text_balloon.png", 0, 0);
-            intro2CommonMasterTextBalloonT.load();
+            loadTexture(intro2CommonMasterTextBalloonT, "intro2CommonMasterTextBalloon");
         }
 
         if (intro2CommonRyoko == null) {
@@ -1836,14 +1261,14 @@ public class ResourceManager {
             catch (TextureAtlasBuilderException e) {
                 e.printStackTrace();
             }
-            intro2CommonRyokoBit.load();
+            loadTexture(intro2CommonRyokoBit, "intro2CommonRyoko");
         }
         if (intro2CommonRyokoTextBalloon == null) {
             BitmapTextureAtlas intro2CommonRyokoTextBalloonT = new BitmapTextureAtlas(textureManager, 598, 436,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGBA_4444, mTransparentTextureOption);
             intro2CommonRyokoTextBalloon = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     intro2CommonRyokoTextBalloonT, activity, "intro2_common_ryoko_text_balloon.png", 0, 0);
-            intro2CommonRyokoTextBalloonT.load();
+            loadTexture(intro2CommonRyokoTextBalloonT, "intro2CommonRyokoTextBalloon");
         }
 
         if (intro2CommonSho == null) {
@@ -1858,110 +1283,110 @@ public class ResourceManager {
             catch (TextureAtlasBuilderException e) {
                 e.printStackTrace();
             }
-            intro2CommonShoBit.load();
+            loadTexture(intro2CommonShoBit, "intro2CommonSho");
         }
         if (intro2CommonShoTextBalloon == null) {
             BitmapTextureAtlas intro2CommonShoTextBalloonT = new BitmapTextureAtlas(textureManager, 598, 436,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGBA_4444, mTransparentTextureOption);
             intro2CommonShoTextBalloon = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     intro2CommonShoTextBalloonT, activity, "intro2_common_sho_text_balloon.png", 0, 0);
-            intro2CommonShoTextBalloonT.load();
+            loadTexture(intro2CommonShoTextBalloonT, "intro2CommonShoTextBalloon");
         }
         if (intro2RyokoBalloonText == null) {
             BitmapTextureAtlas intro2RyokoBalloonTextT = new BitmapTextureAtlas(textureManager, 987, 505,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGBA_4444, mTransparentTextureOption);
             intro2RyokoBalloonText = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     intro2RyokoBalloonTextT, activity, "intro2_ryoko_balloon_text.png", 0, 0);
-            intro2RyokoBalloonTextT.load();
+            loadTexture(intro2RyokoBalloonTextT, "intro2RyokoBalloonText");
         }
         if (intro2RyokoBg == null) {
             BitmapTextureAtlas intro2RyokoBgT = new BitmapTextureAtlas(textureManager, 1920, 1080,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGB_565, mTransparentTextureOption);
             intro2RyokoBg = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     intro2RyokoBgT, activity, "intro2_ryoko_bg.png", 0, 0);
-            intro2RyokoBgT.load();
+            loadTexture(intro2RyokoBgT, "intro2RyokoBg");
         }
         if (intro2Ryoko == null) {
             BitmapTextureAtlas intro2RyokoT = new BitmapTextureAtlas(textureManager, 633, 989,
                     mTransparentTextureOption);
             intro2Ryoko = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     intro2RyokoT, activity, "intro2_ryoko.png", 0, 0);
-            intro2RyokoT.load();
+            loadTexture(intro2RyokoT, "intro2Ryoko");
         }
         if (intro2ShoBalloonText == null) {
             BitmapTextureAtlas intro2ShoBalloonTextT = new BitmapTextureAtlas(textureManager, 987, 505,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGBA_4444, mTransparentTextureOption);
             intro2ShoBalloonText = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     intro2ShoBalloonTextT, activity, "intro2_sho_balloon_text.png", 0, 0);
-            intro2ShoBalloonTextT.load();
+            loadTexture(intro2ShoBalloonTextT, "intro2ShoBalloonText");
         }
         if (intro2ShoBg == null) {
             BitmapTextureAtlas intro2ShoBgT = new BitmapTextureAtlas(textureManager, 1920, 1080,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGB_565, mTransparentTextureOption);
             intro2ShoBg = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     intro2ShoBgT, activity, "intro2_sho_bg.png", 0, 0);
-            intro2ShoBgT.load();
+            loadTexture(intro2ShoBgT, "intro2ShoBg");
         }
         if (intro2Sho == null) {
             BitmapTextureAtlas intro2ShoT = new BitmapTextureAtlas(textureManager, 813, 1049,
                     mTransparentTextureOption);
             intro2Sho = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     intro2ShoT, activity, "intro2_sho.png", 0, 0);
-            intro2ShoT.load();
+            loadTexture(intro2ShoT, "intro2Sho");
         }
     }
 
 
     public synchronized void unloadIntro2Resources() {
-        if (intro2CommonBg != null && intro2CommonBg.getTexture().isLoadedToHardware()) {
+        if (intro2CommonBg != null) {
                 intro2CommonBg.getTexture().unload();
                 intro2CommonBg = null;
         }
-        if (intro2CommonMaster != null && intro2CommonMaster.getTexture().isLoadedToHardware()) {
+        if (intro2CommonMaster != null) {
                 intro2CommonMaster.getTexture().unload();
                 intro2CommonMaster = null;
         }
-        if (intro2CommonMasterTextBalloon != null && intro2CommonMasterTextBalloon.getTexture().isLoadedToHardware()) {
+        if (intro2CommonMasterTextBalloon != null) {
                 intro2CommonMasterTextBalloon.getTexture().unload();
                 intro2CommonMasterTextBalloon = null;
         }
-        if (intro2CommonRyoko != null && intro2CommonRyoko.getTexture().isLoadedToHardware()) {
+        if (intro2CommonRyoko != null) {
                 intro2CommonRyoko.getTexture().unload();
                 intro2CommonRyoko = null;
         }
-        if (intro2CommonRyokoTextBalloon != null && intro2CommonRyokoTextBalloon.getTexture().isLoadedToHardware()) {
+        if (intro2CommonRyokoTextBalloon != null) {
                 intro2CommonRyokoTextBalloon.getTexture().unload();
                 intro2CommonRyokoTextBalloon = null;
         }
-        if (intro2CommonSho != null && intro2CommonSho.getTexture().isLoadedToHardware()) {
+        if (intro2CommonSho != null) {
                 intro2CommonSho.getTexture().unload();
                 intro2CommonSho = null;
         }
-        if (intro2CommonShoTextBalloon != null && intro2CommonShoTextBalloon.getTexture().isLoadedToHardware()) {
+        if (intro2CommonShoTextBalloon != null) {
                 intro2CommonShoTextBalloon.getTexture().unload();
                 intro2CommonShoTextBalloon = null;
         }
-        if (intro2RyokoBalloonText != null && intro2RyokoBalloonText.getTexture().isLoadedToHardware()) {
+        if (intro2RyokoBalloonText != null) {
                 intro2RyokoBalloonText.getTexture().unload();
                 intro2RyokoBalloonText = null;
         }
-        if (intro2RyokoBg != null && intro2RyokoBg.getTexture().isLoadedToHardware()) {
+        if (intro2RyokoBg != null) {
                 intro2RyokoBg.getTexture().unload();
                 intro2RyokoBg = null;
         }
-        if (intro2Ryoko != null && intro2Ryoko.getTexture().isLoadedToHardware()) {
+        if (intro2Ryoko != null) {
                 intro2Ryoko.getTexture().unload();
                 intro2Ryoko = null;
         }
-        if (intro2ShoBalloonText != null && intro2ShoBalloonText.getTexture().isLoadedToHardware()) {
+        if (intro2ShoBalloonText != null) {
                 intro2ShoBalloonText.getTexture().unload();
                 intro2ShoBalloonText = null;
         }
-        if (intro2ShoBg != null && intro2ShoBg.getTexture().isLoadedToHardware()) {
+        if (intro2ShoBg != null) {
                 intro2ShoBg.getTexture().unload();
                 intro2ShoBg = null;
         }
-        if (intro2Sho != null && intro2Sho.getTexture().isLoadedToHardware()) {
+        if (intro2Sho != null) {
                 intro2Sho.getTexture().unload();
                 intro2Sho = null;
         }
@@ -1974,14 +1399,15 @@ public class ResourceManager {
         BitmapTextureAtlasTextureRegionFactory.setAssetBasePath("gfx/endings/");
         if (endingCreditsBackground == null) {
             BitmapTextureAtlas endingCreditsBackgroundT = new BitmapTextureAtlas(textureManager,
-                    1920, 1080, mTransparentTextureOption);
+                    1920, 1080, BitmapTextureFormat.RGB_565, mTransparentTextureOption);
             endingCreditsBackground = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     endingCreditsBackgroundT, activity, "ending_credits_background.png", 0, 0);
-            endingCreditsBackgroundT.load();
+            loadTexture(endingCreditsBackgroundT, "endingCreditsBackground");
         }
         if (endingCreditsCategories == null) {
             BuildableBitmapTextureAtlas endingCredCategBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 1200, 1020, mTransparentTextureOption);
+                    textureManager, 1200, 1020, BitmapTextureFormat.RGBA_4444,
+                    mTransparentTextureOption);
             endingCreditsCategories = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
                     endingCredCategBit, context, "ending_credits_categories.png", 3, 3);
             try {
@@ -1991,82 +1417,82 @@ public class ResourceManager {
             catch (TextureAtlasBuilderException e) {
                 e.printStackTrace();
             }
-            endingCredCategBit.load();
+            loadTexture(endingCredCategBit, "endingCredCateg");
         }
         if (endingCreditsLogoAndengine == null) {
             BitmapTextureAtlas endingCreditsLogoAndengineT = new BitmapTextureAtlas(textureManager, 389, 389,
                     mTransparentTextureOption);
             endingCreditsLogoAndengine = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     endingCreditsLogoAndengineT, activity, "ending_credits_logo_andengine.png", 0, 0);
-            endingCreditsLogoAndengineT.load();
+            loadTexture(endingCreditsLogoAndengineT, "endingCreditsLogoAndengine");
         }
         if (endingCreditsLogoEstudioevergreen == null) {
             BitmapTextureAtlas endingCreditsLogoEstudioevergreenT = new BitmapTextureAtlas(textureManager, 389, 389,
                     mTransparentTextureOption);
             endingCreditsLogoEstudioevergreen = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     endingCreditsLogoEstudioevergreenT, activity, "ending_credits_logo_estudioevergreen.png", 0, 0);
-            endingCreditsLogoEstudioevergreenT.load();
+            loadTexture(endingCreditsLogoEstudioevergreenT, "endingCreditsLogoEstudioevergreen");
         }
         if (endingRyokoEasyBg == null) {
             BitmapTextureAtlas endingRyokoEasyBgT = new BitmapTextureAtlas(textureManager, 1920, 1080,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGB_565, mTransparentTextureOption);
             endingRyokoEasyBg = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     endingRyokoEasyBgT, activity, "ending_ryoko_easy_bg.png", 0, 0);
-            endingRyokoEasyBgT.load();
+            loadTexture(endingRyokoEasyBgT, "endingRyokoEasyBg");
         }
         if (endingRyokoEasy == null) {
             BitmapTextureAtlas endingRyokoEasyT = new BitmapTextureAtlas(textureManager, 633, 989,
                     mTransparentTextureOption);
             endingRyokoEasy = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     endingRyokoEasyT, activity, "ending_ryoko_easy.png", 0, 0);
-            endingRyokoEasyT.load();
+            loadTexture(endingRyokoEasyT, "endingRyokoEasy");
         }
         if (endingShoEasyBg == null) {
             BitmapTextureAtlas endingShoEasyBgT = new BitmapTextureAtlas(textureManager, 1920, 1080,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGB_565, mTransparentTextureOption);
             endingShoEasyBg = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     endingShoEasyBgT, activity, "ending_sho_easy_bg.png", 0, 0);
-            endingShoEasyBgT.load();
+            loadTexture(endingShoEasyBgT, "endingShoEasyBg");
         }
         if (endingShoEasy == null) {
             BitmapTextureAtlas endingShoEasyT = new BitmapTextureAtlas(textureManager, 813, 1049,
                     mTransparentTextureOption);
             endingShoEasy = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     endingShoEasyT, activity, "ending_sho_easy.png", 0, 0);
-            endingShoEasyT.load();
+            loadTexture(endingShoEasyT, "endingShoEasy");
         }
     }
 
     public synchronized void unloadEndingResources() {
-        if (endingCreditsBackground != null && endingCreditsBackground.getTexture().isLoadedToHardware()) {
+        if (endingCreditsBackground != null) {
                 endingCreditsBackground.getTexture().unload();
                 endingCreditsBackground = null;
         }
-        if (endingCreditsCategories != null && endingCreditsCategories.getTexture().isLoadedToHardware()) {
+        if (endingCreditsCategories != null) {
                 endingCreditsCategories.getTexture().unload();
                 endingCreditsCategories = null;
         }
-        if (endingCreditsLogoAndengine != null && endingCreditsLogoAndengine.getTexture().isLoadedToHardware()) {
+        if (endingCreditsLogoAndengine != null) {
                 endingCreditsLogoAndengine.getTexture().unload();
                 endingCreditsLogoAndengine = null;
         }
-        if (endingCreditsLogoEstudioevergreen != null && endingCreditsLogoEstudioevergreen.getTexture().isLoadedToHardware()) {
+        if (endingCreditsLogoEstudioevergreen != null) {
                 endingCreditsLogoEstudioevergreen.getTexture().unload();
                 endingCreditsLogoEstudioevergreen = null;
         }
-        if (endingRyokoEasyBg != null && endingRyokoEasyBg.getTexture().isLoadedToHardware()) {
+        if (endingRyokoEasyBg != null) {
                 endingRyokoEasyBg.getTexture().unload();
                 endingRyokoEasyBg = null;
         }
-        if (endingRyokoEasy != null && endingRyokoEasy.getTexture().isLoadedToHardware()) {
+        if (endingRyokoEasy != null) {
                 endingRyokoEasy.getTexture().unload();
                 endingRyokoEasy = null;
         }
-        if (endingShoEasyBg != null && endingShoEasyBg.getTexture().isLoadedToHardware()) {
+        if (endingShoEasyBg != null) {
                 endingShoEasyBg.getTexture().unload();
                 endingShoEasyBg = null;
         }
-        if (endingShoEasy != null && endingShoEasy.getTexture().isLoadedToHardware()) {
+        if (endingShoEasy != null) {
                 endingShoEasy.getTexture().unload();
                 endingShoEasy = null;
         }
@@ -2078,10 +1504,10 @@ public class ResourceManager {
         BitmapTextureAtlasTextureRegionFactory.setAssetBasePath("gfx/");
         if (howToPlayArrow == null) {
             BitmapTextureAtlas howToPlayArrowT = new BitmapTextureAtlas(textureManager, 149, 203,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGBA_4444, mTransparentTextureOption);
             howToPlayArrow = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     howToPlayArrowT, activity, "how_to_play_arrow.png", 0, 0);
-            howToPlayArrowT.load();
+            loadTexture(howToPlayArrowT, "howToPlayArrow");
         }
 
         if (howToPlayButton == null) {
@@ -2089,7 +1515,7 @@ public class ResourceManager {
                     mTransparentTextureOption);
             howToPlayButton = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     howToPlayButtonT, activity, "how_to_play_button.png", 0, 0);
-            howToPlayButtonT.load();
+            loadTexture(howToPlayButtonT, "howToPlayButton");
         }
 
         if (howToPlayDigitalPad == null) {
@@ -2097,22 +1523,22 @@ public class ResourceManager {
                     mTransparentTextureOption);
             howToPlayDigitalPad = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     howToPlayDigitalPadT, activity, "how_to_play_digital_pad.png", 0, 0);
-            howToPlayDigitalPadT.load();
+            loadTexture(howToPlayDigitalPadT, "howToPlayDigitalPad");
         }
     }
 
     public synchronized void unloadHowToPlayResources() {
-        if (howToPlayArrow != null && howToPlayArrow.getTexture().isLoadedToHardware()) {
+        if (howToPlayArrow != null) {
                 howToPlayArrow.getTexture().unload();
                 howToPlayArrow = null;
         }
 
-        if (howToPlayButton != null && howToPlayButton.getTexture().isLoadedToHardware()) {
+        if (howToPlayButton != null) {
                 howToPlayButton.getTexture().unload();
                 howToPlayButton = null;
         }
 
-        if (howToPlayDigitalPad != null && howToPlayDigitalPad.getTexture().isLoadedToHardware()) {
+        if (howToPlayDigitalPad != null) {
                 howToPlayDigitalPad.getTexture().unload();
                 howToPlayDigitalPad = null;
         }
@@ -2122,18 +1548,18 @@ public class ResourceManager {
         BitmapTextureAtlasTextureRegionFactory.setAssetBasePath("gfx/");
         if (characterProfileBackground1 == null) {
             BitmapTextureAtlas characterProfileBackground1T = new BitmapTextureAtlas(textureManager, 1920, 1080,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGB_565, mTransparentTextureOption);
             characterProfileBackground1 = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     characterProfileBackground1T, activity, "character_profile_background_1.png", 0, 0);
-            characterProfileBackground1T.load();
+            loadTexture(characterProfileBackground1T, "characterProfileBackground1");
         }
 
         if (characterProfileBackground2 == null) {
             BitmapTextureAtlas characterProfileBackground2T = new BitmapTextureAtlas(textureManager, 1920, 1080,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGB_565, mTransparentTextureOption);
             characterProfileBackground2 = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     characterProfileBackground2T, activity, "character_profile_background_2.png", 0, 0);
-            characterProfileBackground2T.load();
+            loadTexture(characterProfileBackground2T, "characterProfileBackground2");
         }
 
         if (characterProfileRyoko == null) {
@@ -2141,7 +1567,7 @@ public class ResourceManager {
                     mTransparentTextureOption);
             characterProfileRyoko = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     characterProfileRyokoT, activity, "character_profile_ryoko.png", 0, 0);
-            characterProfileRyokoT.load();
+            loadTexture(characterProfileRyokoT, "characterProfileRyoko");
         }
 
         if (characterProfileSho == null) {
@@ -2149,27 +1575,27 @@ public class ResourceManager {
                     mTransparentTextureOption);
             characterProfileSho = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     characterProfileShoT, activity, "character_profile_sho.png", 0, 0);
-            characterProfileShoT.load();
+            loadTexture(characterProfileShoT, "characterProfileSho");
         }
     }
 
     public synchronized void unloadCharacterProfileResources() {
-        if (characterProfileBackground1 != null && characterProfileBackground1.getTexture().isLoadedToHardware()) {
+        if (characterProfileBackground1 != null) {
                 characterProfileBackground1.getTexture().unload();
                 characterProfileBackground1 = null;
         }
 
-        if (characterProfileBackground2 != null && characterProfileBackground2.getTexture().isLoadedToHardware()) {
+        if (characterProfileBackground2 != null) {
                 characterProfileBackground2.getTexture().unload();
                 characterProfileBackground2 = null;
         }
 
-        if (characterProfileRyoko != null && characterProfileRyoko.getTexture().isLoadedToHardware()) {
+        if (characterProfileRyoko != null) {
                 characterProfileRyoko.getTexture().unload();
                 characterProfileRyoko = null;
         }
 
-        if (characterProfileSho != null && characterProfileSho.getTexture().isLoadedToHardware()) {
+        if (characterProfileSho != null) {
                 characterProfileSho.getTexture().unload();
                 characterProfileSho = null;
         }
@@ -2183,15 +1609,15 @@ public class ResourceManager {
                     mTransparentTextureOption);
             menuAchievementsContainerDescription = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     menuAchievementsContainerDescriptionT, activity, "menu_achievements_container_description.png", 0, 0);
-            menuAchievementsContainerDescriptionT.load();
+            loadTexture(menuAchievementsContainerDescriptionT, "menuAchievementsContainerDescription");
         }
 
         if (menuAchievementsContainerIcons == null) {
             BitmapTextureAtlas menuAchievementsContainerIconsT = new BitmapTextureAtlas(textureManager, 1063, 820,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGB_565, mTransparentTextureOption);
             menuAchievementsContainerIcons = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     menuAchievementsContainerIconsT, activity, "menu_achievements_container_icons.png", 0, 0);
-            menuAchievementsContainerIconsT.load();
+            loadTexture(menuAchievementsContainerIconsT, "menuAchievementsContainerIcons");
         }
 
         // Icons Big
@@ -2204,17 +1630,17 @@ public class ResourceManager {
                 menuAchievementsIconsBigT.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
                         BitmapTextureAtlas>(0, 0, 0));
             } catch (TextureAtlasBuilderException e) { e.printStackTrace(); }
-            menuAchievementsIconsBigT.load();
+            loadTexture(menuAchievementsIconsBigT, "menuAchievementsIconsBig");
         }
 
         // Icons Small
         if (menuAchievementsIconsSmall == null) {
         BitmapTextureAtlas menuAchievementsIconsSmallT = new BitmapTextureAtlas(textureManager,
-                952, 1360, mTransparentTextureOption);
+                952, 1360, BitmapTextureFormat.RGB_565, mTransparentTextureOption);
 
         ITextureRegion menuAchievementsIconsSmall = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                 menuAchievementsIconsSmallT, activity, "menu_achievements_icons_small.png", 0, 0);
-        menuAchievementsIconsSmallT.load();
+        loadTexture(menuAchievementsIconsSmallT, "menuAchievementsIconsSmall");
 
         // Fill TiledSprites matrix :)
         menuAchievementsIconsArray = new ITiledTextureRegion[MENU_ACHIEV_COLS][MENU_ACHIEV_ROWS];
@@ -2233,60 +1659,64 @@ public class ResourceManager {
         // Selection Mark:
         if(menuAchievementsSelectionMark == null) {
             BitmapTextureAtlas menuAchievementsSelectionMarkT = new BitmapTextureAtlas(textureManager, 136, 136,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGBA_4444, mTransparentTextureOption);
             menuAchievementsSelectionMark = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     menuAchievementsSelectionMarkT, activity, "menu_achievements_icons_small_selection_mark.png", 0, 0);
-            menuAchievementsSelectionMarkT.load();
+            loadTexture(menuAchievementsSelectionMarkT, "menuAchievementsSelectionMark");
         }
 
         if (menuAchievementsIngameContainer == null) {
             BitmapTextureAtlas menuAchievementsIngameContainerT = new BitmapTextureAtlas(textureManager, 806, 192,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGB_565, mTransparentTextureOption);
             menuAchievementsIngameContainer = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     menuAchievementsIngameContainerT, activity, "menu_achievements_ingame_container.png", 0, 0);
-            menuAchievementsIngameContainerT.load();
+            loadTexture(menuAchievementsIngameContainerT, "menuAchievementsIngameContainer");
         }
 
         if (menuAchievementsSuccessStamp == null) {
             BitmapTextureAtlas menuAchievementsSuccessStampT = new BitmapTextureAtlas(textureManager, 260, 260,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGBA_4444, mTransparentTextureOption);
             menuAchievementsSuccessStamp = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     menuAchievementsSuccessStampT, activity, "menu_achievements_success_stamp.png", 0, 0);
-            menuAchievementsSuccessStampT.load();
+            loadTexture(menuAchievementsSuccessStampT, "menuAchievementsSuccessStamp");
         }
     }
 
     public synchronized void unloadMenuAchievementsResources() {
-        // TODO: new textures added
-        if (menuAchievementsContainerDescription != null && menuAchievementsContainerDescription.getTexture().isLoadedToHardware()) {
+        if (menuAchievementsContainerDescription != null) {
                 menuAchievementsContainerDescription.getTexture().unload();
                 menuAchievementsContainerDescription = null;
         }
 
-        if (menuAchievementsContainerIcons != null && menuAchievementsContainerIcons.getTexture().isLoadedToHardware()) {
+        if (menuAchievementsContainerIcons != null) {
                 menuAchievementsContainerIcons.getTexture().unload();
                 menuAchievementsContainerIcons = null;
         }
 
-        if (menuAchievementsIconsBig != null && menuAchievementsIconsBig.getTexture().isLoadedToHardware()) {
+        if (menuAchievementsIconsBig != null) {
                 menuAchievementsIconsBig.getTexture().unload();
                 menuAchievementsIconsBig = null;
         }
 
-        if (menuAchievementsIconsSmall != null && menuAchievementsIconsSmall.getTexture().isLoadedToHardware()) {
+        if (menuAchievementsIconsSmall != null) {
                 menuAchievementsIconsSmall.getTexture().unload();
                 menuAchievementsIconsSmall = null;
         }
 
-        if (menuAchievementsIngameContainer != null && menuAchievementsIngameContainer.getTexture().isLoadedToHardware()) {
+        if (menuAchievementsIngameContainer != null) {
                 menuAchievementsIngameContainer.getTexture().unload();
                 menuAchievementsIngameContainer = null;
         }
 
-        if (menuAchievementsSuccessStamp != null && menuAchievementsSuccessStamp.getTexture().isLoadedToHardware()) {
+        if (menuAchievementsSuccessStamp != null) {
                 menuAchievementsSuccessStamp.getTexture().unload();
                 menuAchievementsSuccessStamp = null;
         }
+
+        if (menuAchievementsSelectionMark != null) {
+                menuAchievementsSelectionMark.getTexture().unload();
+                menuAchievementsSelectionMark = null;
+        }
     }
 
 
@@ -2297,7 +1727,7 @@ public class ResourceManager {
                 mTransparentTextureOption);
         BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                 recordHeadsT, activity, "results_records_winner_faces.png", 0, 0);
-        recordHeadsT.load();
+        loadTexture(recordHeadsT, "recordHeads");
 
         menuRecordsRyokoHead = TextureRegionFactory.
                 extractFromTexture(recordHeadsT, 0, 0, 50, 50, false);
@@ -2314,143 +1744,43 @@ public class ResourceManager {
 
 
     public synchronized void unloadRecordsResources() {
-        if (menuRecordsRyokoHead != null && menuRecordsRyokoHead.getTexture().isLoadedToHardware()) {
+        if (menuRecordsRyokoHead != null) {
             menuRecordsRyokoHead.getTexture().unload();
             menuRecordsRyokoHead = null;
         }
-        if (menuRecordsRyokoHeadGold != null && menuRecordsRyokoHeadGold.getTexture().isLoadedToHardware()) {
+        if (menuRecordsRyokoHeadGold != null) {
             menuRecordsRyokoHeadGold.getTexture().unload();
             menuRecordsRyokoHeadGold = null;
         }
-        if (menuRecordsShoHead != null && menuRecordsShoHead.getTexture().isLoadedToHardware()) {
+        if (menuRecordsShoHead != null) {
             menuRecordsShoHead.getTexture().unload();
             menuRecordsShoHead = null;
         }
-        if (menuRecordsShoHeadGold != null && menuRecordsShoHeadGold.getTexture().isLoadedToHardware()) {
+        if (menuRecordsShoHeadGold != null) {
             menuRecordsShoHeadGold.getTexture().unload();
             menuRecordsShoHeadGold = null;
         }
     }
 
     public synchronized void loadMenuMapResources() {
-        BitmapTextureAtlasTextureRegionFactory.setAssetBasePath("gfx/menus/");
-
-        if (menuMapBackgroundMarks == null) {
-            BuildableBitmapTextureAtlas menuMapBackgroundMarksBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 94, 152, mTransparentTextureOption);
-            menuMapBackgroundMarks = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    menuMapBackgroundMarksBit, context, "menu_map_background_marks.png", 1, 4);
-            try {
-                menuMapBackgroundMarksBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            menuMapBackgroundMarksBit.load();
-        }
-
-        if (menuMapBackground == null) {
-            BitmapTextureAtlas menuMapBackgroundT = new BitmapTextureAtlas(textureManager, 1920, 1080,
-                    mTransparentTextureOption);
-            menuMapBackground = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    menuMapBackgroundT, activity, "menu_map_background.png", 0, 0);
-            menuMapBackgroundT.load();
-        }
-
-
-        if (menuMapChRyoko == null) {
-            BuildableBitmapTextureAtlas menuMapChRyokoBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 192, 330, mTransparentTextureOption);
-            menuMapChRyoko = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    menuMapChRyokoBit, context, "menu_map_ch_ryoko.png", 2, 2);
-            try {
-                menuMapChRyokoBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            menuMapChRyokoBit.load();
-        }
-
-
-        if (menuMapChSho == null) {
-            BuildableBitmapTextureAtlas menuMapChShoBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 192, 330, mTransparentTextureOption);
-            menuMapChSho = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    menuMapChShoBit, context, "menu_map_ch_sho.png", 2, 2);
-            try {
-                menuMapChShoBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            menuMapChShoBit.load();
-        }
-
-
-        if (menuMapDrawings == null) {
-            BuildableBitmapTextureAtlas menuMapDrawingsBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 1106, 962, mTransparentTextureOption);
-            menuMapDrawings = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    menuMapDrawingsBit, context, "menu_map_drawings.png", 2, 2);
-            try {
-                menuMapDrawingsBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            menuMapDrawingsBit.load();
-        }
-
-        if (menuMapScroll == null) {
-            BuildableBitmapTextureAtlas menuMapScrollBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 1568, 1632, mTransparentTextureOption);
-            menuMapScroll = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    menuMapScrollBit, context, "menu_map_scroll.png", 2, 2);
-            try {
-                menuMapScrollBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            menuMapScrollBit.load();
-        }
+        loader.load(MENU_MAP_GROUP);
+        menuMapBackgroundMarks = loader.getTiledTexture(MENUS_PATH + "menu_map_background_marks.png");
+        menuMapBackground = loader.getTexture(MENUS_PATH + "menu_map_background.png");
+        menuMapChRyoko = loader.getTiledTexture(MENUS_PATH + "menu_map_ch_ryoko.png");
+        menuMapChSho = loader.getTiledTexture(MENUS_PATH + "menu_map_ch_sho.png");
+        menuMapDrawings = loader.getTiledTexture(MENUS_PATH + "menu_map_drawings.png");
+        menuMapScroll = loader.getTiledTexture(MENUS_PATH + "menu_map_scroll.png");
     }
 
     public synchronized void unloadMenuMapResources() {
-        if (menuMapBackgroundMarks != null && menuMapBackgroundMarks.getTexture().isLoadedToHardware()) {
-                menuMapBackgroundMarks.getTexture().unload();
-                menuMapBackgroundMarks = null;
-        }
-
-        if (menuMapBackground != null && menuMapBackground.getTexture().isLoadedToHardware()) {
-                menuMapBackground.getTexture().unload();
-                menuMapBackground = null;
-        }
-
-        if (menuMapChRyoko != null && menuMapChRyoko.getTexture().isLoadedToHardware()) {
-                menuMapChRyoko.getTexture().unload();
-                menuMapChRyoko = null;
-        }
-
-        if (menuMapChSho != null && menuMapChSho.getTexture().isLoadedToHardware()) {
-                menuMapChSho.getTexture().unload();
-                menuMapChSho = null;
-        }
-
-        if (menuMapDrawings != null && menuMapDrawings.getTexture().isLoadedToHardware()) {
-                menuMapDrawings.getTexture().unload();
-                menuMapDrawings = null;
-        }
-
-        if (menuMapScroll != null && menuMapScroll.getTexture().isLoadedToHardware()) {
-                menuMapScroll.getTexture().unload();
-                menuMapScroll = null;
+        loader.unload(MENU_MAP_GROUP);
+        if (!loader.isLoaded(MENU_MAP_GROUP)) {
+            menuMapBackgroundMarks = null;
+            menuMapBackground = null;
+            menuMapChRyoko = null;
+            menuMapChSho = null;
+            menuMapDrawings = null;
+            menuMapScroll = null;
         }
     }
 
@@ -2461,12 +1791,12 @@ public class ResourceManager {
                     mTransparentTextureOption);
             menuPauseBambooFrame = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     menuPauseBambooFrameT, activity, "menu_pause_bamboo_frame.png", 0, 0);
-            menuPauseBambooFrameT.load();
+            loadTexture(menuPauseBambooFrameT, "menuPauseBambooFrame");
         }
     }
 
     public synchronized void unloadMenuPauseResources() {
-        if (menuPauseBambooFrame != null && menuPauseBambooFrame.getTexture().isLoadedToHardware()) {
+        if (menuPauseBambooFrame != null) {
                 menuPauseBambooFrame.getTexture().unload();
                 menuPauseBambooFrame = null;
         }
@@ -2480,7 +1810,7 @@ public class ResourceManager {
                 new BitmapTextureAtlas(textureManager, 870, 1028, mTransparentTextureOption);
         BitmapTextureAtlasTextureRegionFactory.
                 createFromAsset(menuSelectChRyokoBit, activity, "menu_select_ch_ryoko.png", 0, 0);
-        menuSelectChRyokoBit.load();
+        loadTexture(menuSelectChRyokoBit, "menuSelectChRyoko");
         menuSelectChRyoko =
             TextureRegionFactory.extractFromTexture(menuSelectChRyokoBit, 0, 0, 435, 1028, false);
         menuSelectChRyokoOutline =
@@ -2491,7 +1821,7 @@ public class ResourceManager {
                 new BitmapTextureAtlas(textureManager, 1310, 1120, mTransparentTextureOption);
         BitmapTextureAtlasTextureRegionFactory.
                 createFromAsset(menuSelectChShoBit, activity, "menu_select_ch_sho.png", 0, 0);
-        menuSelectChShoBit.load();
+        loadTexture(menuSelectChShoBit, "menuSelectChSho");
         menuSelectChSho =
             TextureRegionFactory.extractFromTexture(menuSelectChShoBit, 0, 0, 655, 1028, false);
         menuSelectChShoOutline =
@@ -2502,7 +1832,7 @@ public class ResourceManager {
                 new BitmapTextureAtlas(textureManager, 1422, 537, mTransparentTextureOption);
         BitmapTextureAtlasTextureRegionFactory.
                 createFromAsset(menuSelectCloudsBit, activity, "menu_select_clouds.png", 0, 0);
-        menuSelectCloudsBit.load();
+        loadTexture(menuSelectCloudsBit, "menuSelectClouds");
         menuSelectClouds1 =
             TextureRegionFactory.extractFromTexture(menuSelectCloudsBit, 0, 0, 711, 537, false);
         menuSelectClouds2 =
@@ -2520,7 +1850,7 @@ public class ResourceManager {
             catch (TextureAtlasBuilderException e) {
                 e.printStackTrace();
             }
-            menuSelectChRyokoBit.load();
+            loadTexture(menuSelectChRyokoBit, "menuSelectChRyoko");
         }
         if (menuSelectChSho == null) {
             BuildableBitmapTextureAtlas menuSelectChShoBit = new BuildableBitmapTextureAtlas(
@@ -2534,7 +1864,7 @@ public class ResourceManager {
             catch (TextureAtlasBuilderException e) {
                 e.printStackTrace();
             }
-            menuSelectChShoBit.load();
+            loadTexture(menuSelectChShoBit, "menuSelectChSho");
         }
 
         if (menuSelectClouds == null) {
@@ -2542,7 +1872,7 @@ public class ResourceManager {
                     mTransparentTextureOption);
             menuSelectClouds = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     menuSelectCloudsT, activity, "menu_select_clouds.png", 0, 0);
-            menuSelectCloudsT.load();
+            loadTexture(menuSelectCloudsT, "menuSelectClouds");
         }
 
         */
@@ -2552,250 +1882,120 @@ public class ResourceManager {
                     mTransparentTextureOption);
             menuSelectDifficulty = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     menuSelectDifficultyT, activity, "menu_select_difficulty.png", 0, 0);
-            menuSelectDifficultyT.load();
+            loadTexture(menuSelectDifficultyT, "menuSelectDifficulty");
         }
         if (menuSelectMoon == null) {
             BitmapTextureAtlas menuSelectMoonT = new BitmapTextureAtlas(textureManager, 940, 905,
                     mTransparentTextureOption);
             menuSelectMoon = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     menuSelectMoonT, activity, "menu_select_moon.png", 0, 0);
-            menuSelectMoonT.load();
+            loadTexture(menuSelectMoonT, "menuSelectMoon");
         }
         if (menuSelectRoof == null) {
             BitmapTextureAtlas menuSelectRoofT = new BitmapTextureAtlas(textureManager, 1585, 385,
                     mTransparentTextureOption);
             menuSelectRoof = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     menuSelectRoofT, activity, "menu_select_roof.png", 0, 0);
-            menuSelectRoofT.load();
+            loadTexture(menuSelectRoofT, "menuSelectRoof");
         }
         if (menuSelectSky == null) {
             BitmapTextureAtlas menuSelectSkyT = new BitmapTextureAtlas(textureManager, 1920, 1080,
-                    mTransparentTextureOption);
+                    BitmapTextureFormat.RGB_565, mTransparentTextureOption);
             menuSelectSky = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
                     menuSelectSkyT, activity, "menu_select_sky.png", 0, 0);
-            menuSelectSkyT.load();
+            loadTexture(menuSelectSkyT, "menuSelectSky");
         }
     }
 
     public synchronized void unloadMenuSelectedResources() {
-        if (menuSelectChRyoko != null && menuSelectChRyoko.getTexture().isLoadedToHardware()) {
+        if (menuSelectChRyoko != null) {
             menuSelectChRyoko.getTexture().unload();
             menuSelectChRyoko = null;
         }
 
-        if (menuSelectChRyokoOutline != null && menuSelectChRyokoOutline.getTexture().isLoadedToHardware()) {
+        if (menuSelectChRyokoOutline != null) {
             menuSelectChRyokoOutline.getTexture().unload();
             menuSelectChRyokoOutline = null;
         }
 
-        if (menuSelectChSho != null && menuSelectChSho.getTexture().isLoadedToHardware()) {
+        if (menuSelectChSho != null) {
                 menuSelectChSho.getTexture().unload();
                 menuSelectChSho = null;
         }
 
-        if (menuSelectChShoOutline != null && menuSelectChShoOutline.getTexture().isLoadedToHardware()) {
+        if (menuSelectChShoOutline != null) {
             menuSelectChShoOutline.getTexture().unload();
             menuSelectChShoOutline = null;
         }
 
-        if (menuSelectClouds1 != null && menuSelectClouds1.getTexture().isLoadedToHardware()) {
+        if (menuSelectClouds1 != null) {
                 menuSelectClouds1.getTexture().unload();
                 menuSelectClouds1 = null;
         }
 
-        if (menuSelectClouds2 != null && menuSelectClouds2.getTexture().isLoadedToHardware()) {
+        if (menuSelectClouds2 != null) {
             menuSelectClouds2.getTexture().unload();
             menuSelectClouds2 = null;
         }
-        if (menuSelectDifficulty != null && menuSelectDifficulty.getTexture().isLoadedToHardware()) {
+        if (menuSelectDifficulty != null) {
                 menuSelectDifficulty.getTexture().unload();
                 menuSelectDifficulty = null;
         }
 
-        if (menuSelectMoon != null && menuSelectMoon.getTexture().isLoadedToHardware()) {
+        if (menuSelectMoon != null) {
                 menuSelectMoon.getTexture().unload();
                 menuSelectMoon = null;
         }
 
-        if (menuSelectRoof != null && menuSelectRoof.getTexture().isLoadedToHardware()) {
+        if (menuSelectRoof != null) {
                 menuSelectRoof.getTexture().unload();
                 menuSelectRoof = null;
         }
 
-        if (menuSelectSky != null && menuSelectSky.getTexture().isLoadedToHardware()) {
+        if (menuSelectSky != null) {
                 menuSelectSky.getTexture().unload();
                 menuSelectSky = null;
         }
     }
 
     public synchronized void loadResultLoseSceneResources() {
-        BitmapTextureAtlasTextureRegionFactory.setAssetBasePath("gfx/results/");
-
-        // Bg:
-        if(loseBg==null) {
-            BitmapTextureAtlas loseBgT =  new BitmapTextureAtlas(textureManager, 1920, 1080,
-                    mTransparentTextureOption);
-            loseBg = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    loseBgT, activity, "results_lose_background.png", 0, 0);
-            loseBgT.load();
-        }
-
-        // Sho:
-        if(loseCharSho==null) {
-            BitmapTextureAtlas loseCharShoT =  new BitmapTextureAtlas(textureManager, 797, 440,
-                    mTransparentTextureOption);
-            loseCharSho = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    loseCharShoT, activity, "results_lose_ch_sho.png", 0, 0);
-            loseCharShoT.load();
-        }
-
-        // Ryoko:
-        if(loseCharRyoko==null) {
-            BitmapTextureAtlas loseCharRyokoT =  new BitmapTextureAtlas(textureManager, 797, 440,
-                    mTransparentTextureOption);
-            loseCharRyoko = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    loseCharRyokoT, activity, "results_lose_ch_ryoko.png", 0, 0);
-            loseCharRyokoT.load();
-        }
+        loader.load(RESULT_LOSE_GROUP);
+        loseBg = loader.getTexture(RESULTS_PATH + "results_lose_background.png");
+        loseCharSho = loader.getTexture(RESULTS_PATH + "results_lose_ch_sho.png");
+        loseCharRyoko = loader.getTexture(RESULTS_PATH + "results_lose_ch_ryoko.png");
     }
 
     public synchronized void unloadResultLoseSceneResources() {
-        if(loseBg!=null) {
-            if(loseBg.getTexture().isLoadedToHardware()) {
-                loseBg.getTexture().unload();
-                loseBg = null;
-            }
-        }
-        if(loseCharSho!=null) {
-            if(loseCharSho.getTexture().isLoadedToHardware()) {
-                loseCharSho.getTexture().unload();
-                loseCharSho = null;
-            }
+        loader.unload(RESULT_LOSE_GROUP);
+        if (!loader.isLoaded(RESULT_LOSE_GROUP)) {
+            loseBg = null;
+            loseCharSho = null;
+            loseCharRyoko = null;
         }
-        if(loseCharRyoko!=null) {
-            if(loseCharRyoko.getTexture().isLoadedToHardware()) {
-                loseCharRyoko.getTexture().unload();
-                loseCharRyoko = null;
-            }
-        }
-
-        // Garbage Collector:
-        System.gc();
     }
 
 
     public synchronized void loadResultWinResources() {
-        BitmapTextureAtlasTextureRegionFactory.setAssetBasePath("gfx/results/");
-
-        // Bg:
-        if(winBg==null) {
-            BitmapTextureAtlas winBgT =  new BitmapTextureAtlas(textureManager, 1920, 1080,
-                    mTransparentTextureOption);
-            winBg = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    winBgT, activity, "results_win_background.png", 0, 0);
-            winBgT.load();
-        }
-
-        // Scroll:
-        if(winScroll==null) {
-            BitmapTextureAtlas winScrollT =  new BitmapTextureAtlas(textureManager, 1064, 1029,
-                    mTransparentTextureOption);
-            winScroll = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    winScrollT, activity, "results_win_scroll.png", 0, 0);
-            winScrollT.load();
-        }
-
-        // Sho:
-        if(winCharSho==null) {
-            BitmapTextureAtlas winCharShoT =  new BitmapTextureAtlas(textureManager, 437, 799,
-                    mTransparentTextureOption);
-            winCharSho = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    winCharShoT, activity, "results_win_ch_sho.png", 0, 0);
-            winCharShoT.load();
-        }
-
-        // Ryoko:
-        if(winCharRyoko==null) {
-            BitmapTextureAtlas winCharRyokoT =  new BitmapTextureAtlas(textureManager, 395, 767,
-                    mTransparentTextureOption);
-            winCharRyoko = BitmapTextureAtlasTextureRegionFactory.createFromAsset(
-                    winCharRyokoT, activity, "results_win_ch_ryoko.png", 0, 0);
-            winCharRyokoT.load();
-        }
-
-        // Drawings:
-        if (winDrawings == null) {
-            BuildableBitmapTextureAtlas winDrawingsBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 1106, 962, mTransparentTextureOption);
-            winDrawings = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    winDrawingsBit, context, "results_win_drawings.png", 2, 2);
-            try {
-                winDrawingsBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            winDrawingsBit.load();
-        }
-
-        // Stamps:
-        if (winStampRanking == null) {
-            BuildableBitmapTextureAtlas winStampRankingBit = new BuildableBitmapTextureAtlas(
-                    textureManager, 780, 400, mTransparentTextureOption);
-            winStampRanking = BitmapTextureAtlasTextureRegionFactory.createTiledFromAsset(
-                    winStampRankingBit, context, "results_win_stamp_ranking.png", 2, 2);
-            try {
-                winStampRankingBit.build(new BlackPawnTextureAtlasBuilder<IBitmapTextureAtlasSource,
-                        BitmapTextureAtlas>(0, 0, 0));
-            }
-            catch (TextureAtlasBuilderException e) {
-                e.printStackTrace();
-            }
-            winStampRankingBit.load();
-        }
+        loader.load(RESULT_WIN_GROUP);
+        winBg = loader.getTexture(RESULTS_PATH + "results_win_background.png");
+        winScroll = loader.getTexture(RESULTS_PATH + "results_win_scroll.png");
+        winCharSho = loader.getTexture(RESULTS_PATH + "results_win_ch_sho.png");
+        winCharRyoko = loader.getTexture(RESULTS_PATH + "results_win_ch_ryoko.png");
+        winDrawings = loader.getTiledTexture(RESULTS_PATH + "results_win_drawings.png");
+        winStampRanking = loader.getTiledTexture(RESULTS_PATH + "results_win_stamp_ranking.png");
     }
 
 
     public synchronized void unloadResultWinResources() {
-        if(winBg!=null) {
-            if(winBg.getTexture().isLoadedToHardware()) {
-                winBg.getTexture().unload();
-                winBg = null;
-            }
-        }
-        if(winScroll!=null) {
-            if(winScroll.getTexture().isLoadedToHardware()) {
-                winScroll.getTexture().unload();
-                winScroll = null;
-            }
-        }
-        if(winCharSho!=null) {
-            if(winCharSho.getTexture().isLoadedToHardware()) {
-                winCharSho.getTexture().unload();
-                winCharSho = null;
-            }
+        loader.unload(RESULT_WIN_GROUP);
+        if (!loader.isLoaded(RESULT_WIN_GROUP)) {
+            winBg = null;
+            winScroll = null;
+            winCharSho = null;
+            winCharRyoko = null;
+            winDrawings = null;
+            winStampRanking = null;
         }
-        if(winCharRyoko!=null) {
-            if(winCharRyoko.getTexture().isLoadedToHardware()) {
-                winCharRyoko.getTexture().unload();
-                winCharRyoko = null;
-            }
-        }
-        if(winDrawings!=null) {
-            if(winDrawings.getTexture().isLoadedToHardware()) {
-                winDrawings.getTexture().unload();
-                winDrawings = null;
-            }
-        }
-        if(winStampRanking!=null) {
-            if(winStampRanking.getTexture().isLoadedToHardware()) {
-                winStampRanking.getTexture().unload();
-                winStampRanking = null;
-            }
-        }
-        // Garbage Collector:
-        System.gc();
     }
 
 
@@ -2870,408 +2070,123 @@ public class ResourceManager {
             gameOverMusic.release();
     }
 
+    /**
+     * Registers the sound effects. They are loaded by the SoundBank the first time they are played.
+     * The judge calls are warmed up, they have to sound right on time.
+     */
     public synchronized void loadSoundsResources() {
-        SoundFactory.setAssetBasePath("sounds/");
-        try {
-            effectEyeGleam = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "effect_eye_gleam.ogg");
-            effectMasterHit = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "effect_master_hit.ogg");
-            effectSweatDrop = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "effect_sweat_drop.ogg");
-            judge1 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "judge_1.ogg");
-            judge2 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "judge_2.ogg");
-            judge3 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "judge_3.ogg");
-            judge4 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "judge_4.ogg");
-            judge5 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "judge_5.ogg");
-            judge6 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "judge_6.ogg");
-            judge7 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "judge_7.ogg");
-            judge8 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "judge_8.ogg");
-            judge9 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "judge_9.ogg");
-            judgeExcellent = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "judge_excellent.ogg");
-            judgeGood = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "judge_good.ogg");
-            judgeGo = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "judge_go.ogg");
-            judgeGreat = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "judge_great.ogg");
-            judgeReady = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "judge_ready.ogg");
-            menuAchievement = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "menu_achievement.ogg");
-            menuActivate = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "menu_activate.ogg");
-            menuBack = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "menu_back.ogg");
-            menuFocus = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "menu_focus.ogg");
-            menuIntro1 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "menu_intro1.ogg");
-            menuLogoMadgear = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "menu_logo_madgear.ogg");
-            menuRank = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "menu_rank.ogg");
-            ryokoCutCut = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "ryoko_cut_cut.ogg");
-            ryokoCutLose = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "ryoko_cut_lose.ogg");
-            ryokoCutWin = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "ryoko_cut_win.ogg");
-            ryokoJumpCharge = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "ryoko_jump_charge.ogg");
-            ryokoJumpFall = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "ryoko_jump_fall.ogg");
-            ryokoJumpHop = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "ryoko_jump_hop.ogg");
-            ryokoJumpLose = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "ryoko_jump_lose.ogg");
-            ryokoJumpWin = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "ryoko_jump_win.ogg");
-            ryokoMenuContinue = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "ryoko_menu_continue.ogg");
-            ryokoMenuGameOver = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "ryoko_menu_game_over.ogg");
-            ryokoRunCharge = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "ryoko_run_charge.ogg");
-            ryokoRunLose = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "ryoko_run_lose.ogg");
-            ryokoRunStart = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "ryoko_run_start.ogg");
-            ryokoRunWin = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "ryoko_run_win.ogg");
-            ryokoShurikenLose = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "ryoko_shuriken_lose.ogg");
-            ryokoShurikenThrow = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "ryoko_shuriken_throw.ogg");
-            ryokoShurikenWin = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "ryoko_shuriken_win.ogg");
-            shoCutCut = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "sho_cut_cut.ogg");
-            shoCutLose = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "sho_cut_lose.ogg");
-            shoCutWin = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "sho_cut_win.ogg");
-            shoJumpCharge = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "sho_jump_charge.ogg");
-            shoJumpFall = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "sho_jump_fall.ogg");
-            shoJumpHop = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "sho_jump_hop.ogg");
-            shoJumpLose = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "sho_jump_lose.ogg");
-            shoJumpWin = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "sho_jump_win.ogg");
-            shoMenuContinue = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "sho_menu_continue.ogg");
-            shoMenuGameOver = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "sho_menu_game_over.ogg");
-            shoRunCharge = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "sho_run_charge.ogg");
-            shoRunLose = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "sho_run_lose.ogg");
-            shoRunStart = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "sho_run_start.ogg");
-            shoRunWin = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "sho_run_win.ogg");
-            shoShurikenLose = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "sho_shuriken_lose.ogg");
-            shoShurikenThrow = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "sho_shuriken_throw.ogg");
-            shoShurikenWin = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "sho_shuriken_win.ogg");
-            trialCutCandleBlowOut = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_cut_candle_blow_out.ogg");
-            trialCutCandleShowingCut = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_cut_candle_showing_cut.ogg");
-            trialCutCandleThud = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_cut_candle_thud.ogg");
-            trialCutCandleWobble = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_cut_candle_wobble.ogg");
-            trialCutCandleWoobleThud = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_cut_candle_wooble_thud.ogg");
-            trialCutEyesZoomV2 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_cut_eyes_zoom_v2.ogg");
-            trialCutEyesZoom = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_cut_eyes_zoom.ogg");
-            trialCutKatana1 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_cut_katana_cut1.ogg");
-            trialCutKatana2 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_cut_katana_cut2.ogg");
-            trialCutKatana3 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_cut_katana_cut3.ogg");
-            trialCutKatanaWhoosh = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_cut_katana_whoosh1.ogg");
-            trialCutKatanaWhoosh2 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_cut_katana_whoosh2.ogg");
-            trialCutKatanaWhoosh3 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_cut_katana_whoosh3.ogg");
-            trialJumpFall = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_jump_fall.ogg");
-            trialJumpReach = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_jump_reach.ogg");
-            trialJumpSlip = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_jump_slip.ogg");
-            trialJumpTap1 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_jump_tap1.ogg");
-            trialJumpTap2 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_jump_tap2.ogg");
-            trialJumpThud = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_jump_thud.ogg");
-            trialJumpWhoosh1 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_jump_whoosh1.ogg");
-            trialJumpWhoosh2 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_jump_whoosh2.ogg");
-            trialJumpWhoosh3 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_jump_whoosh3.ogg");
-            trialJumpWobble = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_jump_wobble.ogg");
-            trialRunTap1 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_run_tap1.ogg");
-            trialRunTap2 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_run_tap2.ogg");
-            trialRunTap3 = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_run_tap3.ogg");
-            trialRunWind1Start = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_run_wind_1_start.ogg");
-            trialRunWind2Running = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_run_wind_2_running.ogg");
-            trialRunWind3End = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_run_wind_3_end.ogg");
-            trialShurikenStrawmanAscend = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_shuriken_strawman_ascend.ogg");
-            trialShurikenStrawmanDescend = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_shuriken_strawman_descend.ogg");
-            trialShurikenStrawmanDestroyed = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_shuriken_strawman_destroyed.ogg");
-            trialShurikenStrawmanHit = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_shuriken_strawman_hit.ogg");
-            trialShurikenStrawmanMove = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_shuriken_strawman_move.ogg");
-            trialShurikenThrowing = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "trial_shuriken_throwing.ogg");
-            loseYouLose = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "judge_you_lose.ogg");
-            winYouWin = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "judge_you_win.ogg");
-            winPointsSum = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "menu_points_sum.ogg");
-            winPointsTotal = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "menu_points_total.ogg");
-            gameOver = SoundFactory.createSoundFromAsset(
-                    activity.getSoundManager(), context, "judge_game_over.ogg");
-        }
-        catch (final IOException e) {
-            Log.v("Sounds Load","Exception:" + e.getMessage());
-        }
+        if (effectEyeGleam != null) {
+            return;
+        }
+        effectEyeGleam = soundBank.register("effect_eye_gleam.ogg");
+        effectMasterHit = soundBank.register("effect_master_hit.ogg");
+        effectSweatDrop = soundBank.register("effect_sweat_drop.ogg");
+        judge1 = soundBank.register("judge_1.ogg");
+        judge2 = soundBank.register("judge_2.ogg");
+        judge3 = soundBank.register("judge_3.ogg");
+        judge4 = soundBank.register("judge_4.ogg");
+        judge5 = soundBank.register("judge_5.ogg");
+        judge6 = soundBank.register("judge_6.ogg");
+        judge7 = soundBank.register("judge_7.ogg");
+        judge8 = soundBank.register("judge_8.ogg");
+        judge9 = soundBank.register("judge_9.ogg");
+        judgeExcellent = soundBank.register("judge_excellent.ogg");
+        judgeGood = soundBank.register("judge_good.ogg");
+        judgeGo = soundBank.register("judge_go.ogg");
+        judgeGreat = soundBank.register("judge_great.ogg");
+        judgeReady = soundBank.register("judge_ready.ogg");
+        menuAchievement = soundBank.register("menu_achievement.ogg");
+        menuActivate = soundBank.register("menu_activate.ogg");
+        menuBack = soundBank.register("menu_back.ogg");
+        menuFocus = soundBank.register("menu_focus.ogg");
+        menuIntro1 = soundBank.register("menu_intro1.ogg");
+        menuLogoMadgear = soundBank.register("menu_logo_madgear.ogg");
+        menuRank = soundBank.register("menu_rank.ogg");
+        ryokoCutCut = soundBank.register("ryoko_cut_cut.ogg");
+        ryokoCutLose = soundBank.register("ryoko_cut_lose.ogg");
+        ryokoCutWin = soundBank.register("ryoko_cut_win.ogg");
+        ryokoJumpCharge = soundBank.register("ryoko_jump_charge.ogg");
+        ryokoJumpFall = soundBank.register("ryoko_jump_fall.ogg");
+        ryokoJumpHop = soundBank.register("ryoko_jump_hop.ogg");
+        ryokoJumpLose = soundBank.register("ryoko_jump_lose.ogg");
+        ryokoJumpWin = soundBank.register("ryoko_jump_win.ogg");
+        ryokoMenuContinue = soundBank.register("ryoko_menu_continue.ogg");
+        ryokoMenuGameOver = soundBank.register("ryoko_menu_game_over.ogg");
+        ryokoRunCharge = soundBank.register("ryoko_run_charge.ogg");
+        ryokoRunLose = soundBank.register("ryoko_run_lose.ogg");
+        ryokoRunStart = soundBank.register("ryoko_run_start.ogg");
+        ryokoRunWin = soundBank.register("ryoko_run_win.ogg");
+        ryokoShurikenLose = soundBank.register("ryoko_shuriken_lose.ogg");
+        ryokoShurikenThrow = soundBank.register("ryoko_shuriken_throw.ogg");
+        ryokoShurikenWin = soundBank.register("ryoko_shuriken_win.ogg");
+        shoCutCut = soundBank.register("sho_cut_cut.ogg");
+        shoCutLose = soundBank.register("sho_cut_lose.ogg");
+        shoCutWin = soundBank.register("sho_cut_win.ogg");
+        shoJumpCharge = soundBank.register("sho_jump_charge.ogg");
+        shoJumpFall = soundBank.register("sho_jump_fall.ogg");
+        shoJumpHop = soundBank.register("sho_jump_hop.ogg");
+        shoJumpLose = soundBank.register("sho_jump_lose.ogg");
+        shoJumpWin = soundBank.register("sho_jump_win.ogg");
+        shoMenuContinue = soundBank.register("sho_menu_continue.ogg");
+        shoMenuGameOver = soundBank.register("sho_menu_game_over.ogg");
+        shoRunCharge = soundBank.register("sho_run_charge.ogg");
+        shoRunLose = soundBank.register("sho_run_lose.ogg");
+        shoRunStart = soundBank.register("sho_run_start.ogg");
+        shoRunWin = soundBank.register("sho_run_win.ogg");
+        shoShurikenLose = soundBank.register("sho_shuriken_lose.ogg");
+        shoShurikenThrow = soundBank.register("sho_shuriken_throw.ogg");
+        shoShurikenWin = soundBank.register("sho_shuriken_win.ogg");
+        trialCutCandleBlowOut = soundBank.register("trial_cut_candle_blow_out.ogg");
+        trialCutCandleShowingCut = soundBank.register("trial_cut_candle_showing_cut.ogg");
+        trialCutCandleThud = soundBank.register("trial_cut_candle_thud.ogg");
+        trialCutCandleWobble = soundBank.register("trial_cut_candle_wobble.ogg");
+        trialCutCandleWoobleThud = soundBank.register("trial_cut_candle_wooble_thud.ogg");
+        trialCutEyesZoomV2 = soundBank.register("trial_cut_eyes_zoom_v2.ogg");
+        trialCutEyesZoom = soundBank.register("trial_cut_eyes_zoom.ogg");
+        trialCutKatana1 = soundBank.register("trial_cut_katana_cut1.ogg");
+        trialCutKatana2 = soundBank.register("trial_cut_katana_cut2.ogg");
+        trialCutKatana3 = soundBank.register("trial_cut_katana_cut3.ogg");
+        trialCutKatanaWhoosh = soundBank.register("trial_cut_katana_whoosh1.ogg");
+        trialCutKatanaWhoosh2 = soundBank.register("trial_cut_katana_whoosh2.ogg");
+        trialCutKatanaWhoosh3 = soundBank.register("trial_cut_katana_whoosh3.ogg");
+        trialJumpFall = soundBank.register("trial_jump_fall.ogg");
+        trialJumpReach = soundBank.register("trial_jump_reach.ogg");
+        trialJumpSlip = soundBank.register("trial_jump_slip.ogg");
+        trialJumpTap1 = soundBank.register("trial_jump_tap1.ogg");
+        trialJumpTap2 = soundBank.register("trial_jump_tap2.ogg");
+        trialJumpThud = soundBank.register("trial_jump_thud.ogg");
+        trialJumpWhoosh1 = soundBank.register("trial_jump_whoosh1.ogg");
+        trialJumpWhoosh2 = soundBank.register("trial_jump_whoosh2.ogg");
+        trialJumpWhoosh3 = soundBank.register("trial_jump_whoosh3.ogg");
+        trialJumpWobble = soundBank.register("trial_jump_wobble.ogg");
+        trialRunTap1 = soundBank.register("trial_run_tap1.ogg");
+        trialRunTap2 = soundBank.register("trial_run_tap2.ogg");
+        trialRunTap3 = soundBank.register("trial_run_tap3.ogg");
+        trialRunWind1Start = soundBank.register("trial_run_wind_1_start.ogg");
+        trialRunWind2Running = soundBank.register("trial_run_wind_2_running.ogg");
+        trialRunWind3End = soundBank.register("trial_run_wind_3_end.ogg");
+        trialShurikenStrawmanAscend = soundBank.register("trial_shuriken_strawman_ascend.ogg");
+        trialShurikenStrawmanDescend = soundBank.register("trial_shuriken_strawman_descend.ogg");
+        trialShurikenStrawmanDestroyed =
+                soundBank.register("trial_shuriken_strawman_destroyed.ogg");
+        trialShurikenStrawmanHit = soundBank.register("trial_shuriken_strawman_hit.ogg");
+        trialShurikenStrawmanMove = soundBank.register("trial_shuriken_strawman_move.ogg");
+        trialShurikenThrowing = soundBank.register("trial_shuriken_throwing.ogg");
+        loseYouLose = soundBank.register("judge_you_lose.ogg");
+        winYouWin = soundBank.register("judge_you_win.ogg");
+        winPointsSum = soundBank.register("menu_points_sum.ogg");
+        winPointsTotal = soundBank.register("menu_points_total.ogg");
+        gameOver = soundBank.register("judge_game_over.ogg");
+
+        soundBank.warmUp(judgeReady, judgeGo, judge1, judge2, judge3, judge4, judge5, judge6,
+                judge7, judge8, judge9, judgeGood, judgeGreat, judgeExcellent);
     }
 
+    /**
+     * Releases the loaded sound effects (but the warmed up ones). They stay registered.
+     */
     public synchronized void unloadSoundsResources() {
-        if (!effectEyeGleam.isReleased())
-            effectEyeGleam.release();
-        if (!effectMasterHit.isReleased())
-            effectMasterHit.release();
-        if (!effectSweatDrop.isReleased())
-            effectSweatDrop.release();
-        if (!judge1.isReleased())
-            judge1.release();
-        if (!judge2.isReleased())
-            judge2.release();
-        if (!judge3.isReleased())
-            judge3.release();
-        if (!judge4.isReleased())
-            judge4.release();
-        if (!judge5.isReleased())
-            judge5.release();
-        if (!judge6.isReleased())
-            judge6.release();
-        if (!judge7.isReleased())
-            judge7.release();
-        if (!judge8.isReleased())
-            judge8.release();
-        if (!judge9.isReleased())
-            judge9.release();
-        if (!judgeExcellent.isReleased())
-            judgeExcellent.release();
-        if (!judgeGood.isReleased())
-            judgeGood.release();
-        if (!judgeGo.isReleased())
-            judgeGo.release();
-        if (!judgeGreat.isReleased())
-            judgeGreat.release();
-        if (!judgeReady.isReleased())
-            judgeReady.release();
-        if (!menuAchievement.isReleased())
-            menuAchievement.release();
-        if (!menuActivate.isReleased())
-            menuActivate.release();
-        if (!menuBack.isReleased())
-            menuBack.release();
-        if (!menuFocus.isReleased())
-            menuFocus.release();
-        if (!menuIntro1.isReleased())
-            menuIntro1.release();
-        if (!menuLogoMadgear.isReleased())
-            menuLogoMadgear.release();
-        if (!menuRank.isReleased())
-            menuRank.release();
-        if (!ryokoCutCut.isReleased())
-            ryokoCutCut.release();
-        if (!ryokoCutLose.isReleased())
-            ryokoCutLose.release();
-        if (!ryokoCutWin.isReleased())
-            ryokoCutWin.release();
-        if (!ryokoJumpCharge.isReleased())
-            ryokoJumpCharge.release();
-        if (!ryokoJumpFall.isReleased())
-            ryokoJumpFall.release();
-        if (!ryokoJumpHop.isReleased())
-            ryokoJumpHop.release();
-        if (!ryokoJumpLose.isReleased())
-            ryokoJumpLose.release();
-        if (!ryokoJumpWin.isReleased())
-            ryokoJumpWin.release();
-        if (!ryokoMenuContinue.isReleased())
-            ryokoMenuContinue.release();
-        if (!ryokoMenuGameOver.isReleased())
-            ryokoMenuGameOver.release();
-        if (!ryokoRunCharge.isReleased())
-            ryokoRunCharge.release();
-        if (!ryokoRunLose.isReleased())
-            ryokoRunLose.release();
-        if (!ryokoRunStart.isReleased())
-            ryokoRunStart.release();
-        if (!ryokoRunWin.isReleased())
-            ryokoRunWin.release();
-        if (!ryokoShurikenLose.isReleased())
-            ryokoShurikenLose.release();
-        if (!ryokoShurikenThrow.isReleased())
-            ryokoShurikenThrow.release();
-        if (!ryokoShurikenWin.isReleased())
-            ryokoShurikenWin.release();
-        if (!shoCutCut.isReleased())
-            shoCutCut.release();
-        if (!shoCutLose.isReleased())
-            shoCutLose.release();
-        if (!shoCutWin.isReleased())
-            shoCutWin.release();
-        if (!shoJumpCharge.isReleased())
-            shoJumpCharge.release();
-        if (!shoJumpFall.isReleased())
-            shoJumpFall.release();
-        if (!shoJumpHop.isReleased())
-            shoJumpHop.release();
-        if (!shoJumpLose.isReleased())
-            shoJumpLose.release();
-        if (!shoJumpWin.isReleased())
-            shoJumpWin.release();
-        if (!shoMenuContinue.isReleased())
-            shoMenuContinue.release();
-        if (!shoMenuGameOver.isReleased())
-            shoMenuGameOver.release();
-        if (!shoRunCharge.isReleased())
-            shoRunCharge.release();
-        if (!shoRunLose.isReleased())
-            shoRunLose.release();
-        if (!shoRunStart.isReleased())
-            shoRunStart.release();
-        if (!shoRunWin.isReleased())
-            shoRunWin.release();
-        if (!shoShurikenLose.isReleased())
-            shoShurikenLose.release();
-        if (!shoShurikenThrow.isReleased())
-            shoShurikenThrow.release();
-        if (!shoShurikenWin.isReleased())
-            shoShurikenWin.release();
-        if (!trialCutCandleBlowOut.isReleased())
-            trialCutCandleBlowOut.release();
-        if (!trialCutCandleShowingCut.isReleased())
-            trialCutCandleShowingCut.release();
-        if (!trialCutCandleThud.isReleased())
-            trialCutCandleThud.release();
-        if (!trialCutCandleWobble.isReleased())
-            trialCutCandleWobble.release();
-        if (!trialCutCandleWoobleThud.isReleased())
-            trialCutCandleWoobleThud.release();
-        if (!trialCutEyesZoomV2.isReleased())
-            trialCutEyesZoomV2.release();
-        if (!trialCutKatanaWhoosh3.isReleased())
-            trialCutKatanaWhoosh3.release();
-        if (!trialJumpFall.isReleased())
-            trialJumpFall.release();
-        if (!trialJumpReach.isReleased())
-            trialJumpReach.release();
-        if (!trialJumpSlip.isReleased())
-            trialJumpSlip.release();
-        if (!trialJumpTap1.isReleased())
-            trialJumpTap1.release();
-        if (!trialJumpTap2.isReleased())
-            trialJumpTap2.release();
-        if (!trialJumpThud.isReleased())
-            trialJumpThud.release();
-        if (!trialJumpWhoosh1.isReleased())
-            trialJumpWhoosh1.release();
-        if (!trialJumpWhoosh2.isReleased())
-            trialJumpWhoosh2.release();
-        if (!trialJumpWhoosh3.isReleased())
-            trialJumpWhoosh3.release();
-        if (!trialJumpWobble.isReleased())
-            trialJumpWobble.release();
-        if(!trialCutEyesZoom.isReleased())
-            trialCutEyesZoom.release();
-        if(!trialCutKatana1.isReleased())
-            trialCutKatana1.release();
-        if(!trialCutKatana2.isReleased())
-            trialCutKatana2.release();
-        if(!trialCutKatana3.isReleased())
-            trialCutKatana3.release();
-        if(!trialCutKatanaWhoosh.isReleased())
-            trialCutKatanaWhoosh.release();
-        if(!trialCutEyesZoom.isReleased())
-            trialCutKatanaWhoosh2.release();
-        if (!trialRunTap1.isReleased())
-            trialRunTap1.release();
-        if (!trialRunTap2.isReleased())
-            trialRunTap2.release();
-        if (!trialRunTap3.isReleased())
-            trialRunTap3.release();
-        if (!trialRunWind1Start.isReleased())
-            trialRunWind1Start.release();
-        if (!trialRunWind2Running.isReleased())
-            trialRunWind2Running.release();
-        if (!trialRunWind3End.isReleased())
-            trialRunWind3End.release();
-        if (!trialShurikenStrawmanAscend.isReleased())
-            trialShurikenStrawmanAscend.release();
-        if (!trialShurikenStrawmanDescend.isReleased())
-            trialShurikenStrawmanDescend.release();
-        if (!trialShurikenStrawmanDestroyed.isReleased())
-            trialShurikenStrawmanDestroyed.release();
-        if (!trialShurikenStrawmanHit.isReleased())
-            trialShurikenStrawmanHit.release();
-        if (!trialShurikenStrawmanMove.isReleased())
-            trialShurikenStrawmanMove.release();
-        if (!trialShurikenThrowing.isReleased())
-            trialShurikenThrowing.release();
-        if(!loseYouLose.isReleased())
-            loseYouLose.release();
-        if(winYouWin != null && !winYouWin.isReleased())
-            winYouWin.release();
-        if(winPointsSum != null && !winPointsSum.isReleased())
-            winPointsSum.release();
-        if(winPointsTotal != null && !winPointsTotal.isReleased())
-            winPointsTotal.release();
-        if(!gameOver.isReleased())
-            gameOver.release();
+        soundBank.releaseUnpinned();
     }
 
     /* Loads Android resources from the "res" directory
@@ -3280,60 +2195,32 @@ public class ResourceManager {
         return context.getResources();
     }
 
+    /**
+     * Gets a string in the game language from the StringTable (cached, use it instead of
+     * loadAndroidRes().getString()).
+     * @param resId A R.string id.
+     */
+    public String getString(int resId) {
+        return StringTable.getInstance().get(resId);
+    }
+
     /* Loads fonts resources
      */
     public synchronized void loadFonts(Engine pEngine){
-        FontFactory.setAssetBasePath("fonts/");
-
-        // Small = 64
-        fontSmall = FontFactory.createStrokeFromAsset(pEngine.getFontManager(),
-                pEngine.getTextureManager(), 512, 512, activity.getAssets(), "go3v2.ttf",
-                64f, true, android.graphics.Color.WHITE, 3, android.graphics.Color.RED);
-        fontSmall.load();
-
-        // Medium = 96
-        fontMedium = FontFactory.createStrokeFromAsset(pEngine.getFontManager(),
-                pEngine.getTextureManager(), 1024, 1024, activity.getAssets(), "go3v2.ttf",
-                96f, true, android.graphics.Color.WHITE, 3, android.graphics.Color.RED);
-        fontMedium.load();
-
-        // Big = 128
-        fontBig = FontFactory.createStrokeFromAsset(pEngine.getFontManager(),
-                pEngine.getTextureManager(), 1024, 1024, activity.getAssets(), "go3v2.ttf",
-                128f, true, android.graphics.Color.WHITE, 3, android.graphics.Color.RED);
-        fontBig.load();
-
-        // XBig = 192
-        fontXBig = FontFactory.createStrokeFromAsset(pEngine.getFontManager(),
-                pEngine.getTextureManager(), 1024, 1024, activity.getAssets(), "go3v2.ttf",
-                192f, true, android.graphics.Color.WHITE, 3, android.graphics.Color.RED);
-        fontXBig.load();
-
-        // CharacterIntroScene fonts
-        fontLatinChrName = FontFactory.createStrokeFromAsset(pEngine.getFontManager(),
-                pEngine.getTextureManager(), 1024, 1024, activity.getAssets(), "DejaVuSans.ttf",
-                160f, true, android.graphics.Color.BLACK, 3, android.graphics.Color.WHITE);
-        fontLatinChrName.load();
-        fontJPChrName = FontFactory.createStrokeFromAsset(pEngine.getFontManager(),
-                pEngine.getTextureManager(), 1024, 1024, activity.getAssets(), "sazanami-gothic.ttf",
-                128f, true, android.graphics.Color.BLUE, 3, android.graphics.Color.WHITE);
-        fontJPChrName.load();
-        fontLatinChrInfo = FontFactory.createStrokeFromAsset(pEngine.getFontManager(),
-                pEngine.getTextureManager(), 1024, 1024, activity.getAssets(), "DejaVuSans.ttf",
-                80f, true, android.graphics.Color.BLACK, 3, android.graphics.Color.WHITE);
-        fontLatinChrInfo.load();
+        loader.load(FONTS_GROUP);
+        fontSmall = loader.getFont("fontSmall");
+        fontMedium = loader.getFont("fontMedium");
+        fontBig = loader.getFont("fontBig");
+        fontXBig = loader.getFont("fontXBig");
+        fontLatinChrName = loader.getFont("fontLatinChrName");
+        fontJPChrName = loader.getFont("fontJPChrName");
+        fontLatinChrInfo = loader.getFont("fontLatinChrInfo");
     }
 
     /* If an unloadFonts() method is necessary, we can provide one
      */
     public synchronized void unloadFonts(){
-        fontSmall.unload();
-        fontMedium.unload();
-        fontBig.unload();
-        fontXBig.unload();
-        fontLatinChrName.unload();
-        fontJPChrName.unload();
-        fontLatinChrInfo.unload();
+        loader.unload(FONTS_GROUP);
     }
 }
         //if (AAA == null) {
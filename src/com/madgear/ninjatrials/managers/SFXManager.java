@@ -52,6 +52,22 @@ public class SFXManager {
         }
     }
     
+    /**
+     * Plays a sound of the SoundBank, loading it if needed.
+     * @param s
+     */
+    public static void playSound(LazySound s) {
+        ResourceManager.getInstance().soundBank.play(s, getSoundVolume(), false);
+    }
+    
+    public static void playSoundLoop(LazySound s) {
+        ResourceManager.getInstance().soundBank.play(s, getSoundVolume(), true);
+    }
+    
+    public static void stopSound(LazySound s) {
+        ResourceManager.getInstance().soundBank.stop(s);
+    }
+    
     public static float getSoundVolume() {
         return soundVolume;
     }
@@ -0,0 +1,435 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.madgear.ninjatrials.managers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import com.madgear.ninjatrials.achievements.Achievement;
+import com.madgear.ninjatrials.achievements.AchievementSet;
+import com.madgear.ninjatrials.records.Leaderboard;
+import com.madgear.ninjatrials.records.Record;
+import com.madgear.ninjatrials.records.RecordsTable;
+import com.madgear.ninjatrials.records.RecordsTableSet;
+
+/**
+ * Binary format of the achievements and records files, used by UserData instead of Java
+ * serialization.
+ *
+ * File layout:
+ * - Header: "NTSD", format version (varint), data type (1 byte).
+ * - String table: number of strings, then every string as UTF-8 (length and bytes). The data
+ *   refers to strings by index + 1 (0 is null), so repeated names are stored once.
+ * - Data: achievements or records. Integers are varints, dates are epoch milliseconds.
+ * - CRC32 of everything above (4 bytes), so a damaged file is rejected instead of half read.
+ *
+ * Only plain Java classes are used, so the format can be benchmarked and checked in a JVM.
+ *
+ * @author Madgear Games
+ */
+public final class SaveFormat {
+    // Version 2: the records are the leaderboard, not three tables.
+    // Version 3: the achievements are only their state (completed and progress).
+    // Version 4: the records of the period tables that aren't in the leaderboard.
+    public static final int VERSION = 4;
+
+    private static final byte[] MAGIC = {'N', 'T', 'S', 'D'};
+    private static final int TYPE_ACHIEVEMENTS = 1;
+    private static final int TYPE_RECORDS = 2;
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    // Achievement flags (progressive and secret are only in files older than version 3):
+    private static final int FLAG_COMPLETED = 4;
+
+    // Smallest size of an encoded item (one byte per varint), to check the counts:
+    private static final int ACHIEVEMENT_MIN_BYTES = 2;
+    private static final int ACHIEVEMENT_V2_MIN_BYTES = 8;
+    private static final int RECORD_MIN_BYTES = 6;
+    private static final int RECORD_V1_MIN_BYTES = 5;
+
+    private SaveFormat() {
+    }
+
+    /**
+     * @return True if the data starts with the header of this format.
+     */
+    public static boolean isBinary(final byte[] data) {
+        if (data.length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return True if the data is a Java serialization stream (the files of older versions).
+     */
+    public static boolean isSerialized(final byte[] data) {
+        return data.length >= 2 && (data[0] & 0xFF) == 0xAC && (data[1] & 0xFF) == 0xED;
+    }
+
+    // ACHIEVEMENTS -----------------------------
+
+    /**
+     * Saves the state of the achievements: flags (completed) and progress. The definitions are
+     * in the game, so they aren't saved.
+     */
+    public static byte[] writeAchievements(final AchievementSet set) {
+        final Writer w = new Writer();
+        w.writeVarint(set.achievements.length);
+        for (int i = 0; i < set.achievements.length; i++) {
+            final Achievement a = set.achievements[i];
+            w.writeVarint(a.completed ? FLAG_COMPLETED : 0);
+            w.writeVarint(a.progress);
+        }
+        return w.toFile(TYPE_ACHIEVEMENTS);
+    }
+
+    /**
+     * Restores the state of the saved achievements (progress and completed) into the set,
+     * matched by index. Names, texts and totals are the ones defined in the game, so new or
+     * changed achievements keep their definitions; achievements not in the file keep their
+     * initial values. Files older than version 3 also have the definitions, which are skipped.
+     */
+    public static void readAchievements(final byte[] data, final AchievementSet set)
+            throws IOException {
+        final Reader r = new Reader(data, TYPE_ACHIEVEMENTS);
+        final boolean definitions = r.version < 3;
+        final int count = r.readCount(definitions ? ACHIEVEMENT_V2_MIN_BYTES
+                : ACHIEVEMENT_MIN_BYTES);
+        for (int i = 0; i < count; i++) {
+            final int flags = r.readVarint();
+            final int progress;
+            if (definitions) {
+                r.readString(); // name
+                r.readString(); // description
+                r.readString(); // success sentence
+                progress = r.readVarint();
+                r.readVarint(); // progress total
+                r.readString(); // clue tittle
+                r.readString(); // clue description
+            } else {
+                progress = r.readVarint();
+            }
+            set.restore(i, (flags & FLAG_COMPLETED) != 0, progress);
+        }
+        set.recount();
+    }
+
+    // RECORDS ----------------------------------
+
+    /**
+     * Saves the leaderboard, then the records of the today and month tables that aren't in it.
+     */
+    public static byte[] writeRecords(final RecordsTableSet set) {
+        final Writer w = new Writer();
+        final Leaderboard leaderboard = set.getLeaderboard();
+        w.writeVarint(leaderboard.size());
+        leaderboard.forEach(new Leaderboard.RecordVisitor() {
+            @Override
+            public void visit(final Record record) {
+                writeRecord(w, record);
+            }
+        });
+        final List<Record> periodRecords = set.getPeriodRecords();
+        w.writeVarint(periodRecords.size());
+        for (int i = 0; i < periodRecords.size(); i++) {
+            writeRecord(w, periodRecords.get(i));
+        }
+        return w.toFile(TYPE_RECORDS);
+    }
+
+    public static RecordsTableSet readRecords(final byte[] data) throws IOException {
+        final Reader r = new Reader(data, TYPE_RECORDS);
+        final Leaderboard leaderboard = new Leaderboard();
+        if (r.version == 1) {
+            final RecordsTable[] tables = {readTable(r), readTable(r), readTable(r)};
+            RecordsTableSet.mergeTables(tables, leaderboard);
+            return new RecordsTableSet(leaderboard);
+        }
+        final int count = r.readCount(RECORD_MIN_BYTES);
+        for (int i = 0; i < count; i++) {
+            leaderboard.insert(readRecord(r));
+        }
+        final ArrayList<Record> periodRecords = new ArrayList<Record>();
+        if (r.version >= 4) {
+            final int periodCount = r.readCount(RECORD_MIN_BYTES);
+            for (int i = 0; i < periodCount; i++) {
+                periodRecords.add(readRecord(r));
+            }
+        }
+        return new RecordsTableSet(leaderboard, periodRecords);
+    }
+
+    private static void writeRecord(final Writer w, final Record record) {
+        w.writeVarint(record.profileId);
+        w.writeString(record.profileName);
+        w.writeVarint(record.characterId);
+        w.writeVarint(record.score);
+        w.writeVarint(record.difficulty);
+        w.writeVarlong(record.date.getTime());
+    }
+
+    private static Record readRecord(final Reader r) throws IOException {
+        final int profileId = r.readVarint();
+        final String name = r.readString();
+        final int characterId = r.readVarint();
+        final int score = r.readVarint();
+        final int difficulty = r.readVarint();
+        final Record record = new Record(profileId, name, characterId, score, difficulty);
+        record.date = new Date(r.readVarlong());
+        return record;
+    }
+
+    /**
+     * Reads a table of version 1 files.
+     */
+    private static RecordsTable readTable(final Reader r) throws IOException {
+        final Date updateDate = new Date(r.readVarlong());
+        final Record[] records = new Record[r.readCount(RECORD_V1_MIN_BYTES)];
+        for (int i = 0; i < records.length; i++) {
+            final int profileId = r.readVarint();
+            final String name = r.readString();
+            final int characterId = r.readVarint();
+            final int score = r.readVarint();
+            records[i] = new Record(profileId, name, characterId, score);
+            records[i].date = new Date(r.readVarlong());
+        }
+        return new RecordsTable(records, updateDate);
+    }
+
+    // FILES ------------------------------------
+
+    public static byte[] readFile(final File file) throws IOException {
+        final FileInputStream in = new FileInputStream(file);
+        try {
+            final byte[] data = new byte[(int) file.length()];
+            int read = 0;
+            while (read < data.length) {
+                final int n = in.read(data, read, data.length - read);
+                if (n < 0) {
+                    throw new IOException("Unexpected end of " + file.getName());
+                }
+                read += n;
+            }
+            return data;
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Writes the data to a temporary file and renames it over the file, so the file has either
+     * the old or the new data even if the game dies while saving.
+     */
+    public static void writeFileAtomic(final File file, final byte[] data) throws IOException {
+        final File tmp = new File(file.getPath() + ".tmp");
+        final FileOutputStream out = new FileOutputStream(tmp);
+        try {
+            out.write(data);
+            out.flush();
+            out.getFD().sync();
+        } finally {
+            out.close();
+        }
+        if (!tmp.renameTo(file)) {
+            tmp.delete();
+            throw new IOException("Cannot rename " + tmp.getName() + " to " + file.getName());
+        }
+    }
+
+    // ENCODING ---------------------------------
+
+    /**
+     * Writes the data, collecting the strings for the string table.
+     */
+    private static final class Writer {
+        private final ByteArrayOutputStream data = new ByteArrayOutputStream(512);
+        private final HashMap<String, Integer> stringIndex = new HashMap<String, Integer>();
+        private final ArrayList<String> strings = new ArrayList<String>();
+
+        void writeVarint(final int value) {
+            writeVarint(data, value);
+        }
+
+        void writeVarlong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                data.write((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data.write((int) value);
+        }
+
+        void writeString(final String s) {
+            if (s == null) {
+                writeVarint(0);
+                return;
+            }
+            Integer index = stringIndex.get(s);
+            if (index == null) {
+                strings.add(s);
+                index = Integer.valueOf(strings.size());
+                stringIndex.put(s, index);
+            }
+            writeVarint(index.intValue());
+        }
+
+        byte[] toFile(final int type) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(data.size() + 256);
+            out.write(MAGIC, 0, MAGIC.length);
+            writeVarint(out, VERSION);
+            out.write(type);
+            writeVarint(out, strings.size());
+            for (int i = 0; i < strings.size(); i++) {
+                final byte[] utf8 = strings.get(i).getBytes(UTF8);
+                writeVarint(out, utf8.length);
+                out.write(utf8, 0, utf8.length);
+            }
+            final byte[] body = data.toByteArray();
+            out.write(body, 0, body.length);
+            final CRC32 crc = new CRC32();
+            final byte[] result = out.toByteArray();
+            crc.update(result, 0, result.length);
+            final long value = crc.getValue();
+            out.write((int) (value >>> 24));
+            out.write((int) (value >>> 16));
+            out.write((int) (value >>> 8));
+            out.write((int) value);
+            return out.toByteArray();
+        }
+
+        private static void writeVarint(final ByteArrayOutputStream out, int value) {
+            while ((value & ~0x7F) != 0) {
+                out.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write(value);
+        }
+    }
+
+    /**
+     * Checks the header and the CRC, reads the string table and then the data.
+     */
+    private static final class Reader {
+        private final byte[] data;
+        private final int end;
+        private int pos;
+        private final String[] strings;
+        final int version;
+
+        Reader(final byte[] data, final int type) throws IOException {
+            this.data = data;
+            end = data.length - 4;
+            if (!isBinary(data) || end < MAGIC.length) {
+                throw new IOException("Not a save file");
+            }
+            final CRC32 crc = new CRC32();
+            crc.update(data, 0, end);
+            final long stored = ((data[end] & 0xFFL) << 24) | ((data[end + 1] & 0xFFL) << 16)
+                    | ((data[end + 2] & 0xFFL) << 8) | (data[end + 3] & 0xFFL);
+            if (crc.getValue() != stored) {
+                throw new IOException("Save file damaged (bad CRC)");
+            }
+            pos = MAGIC.length;
+            version = readVarint();
+            if (version > VERSION) {
+                throw new IOException("Save file version " + version + " not supported");
+            }
+            if (readByte() != type) {
+                throw new IOException("Wrong save file type");
+            }
+            strings = new String[readCount(1)];
+            for (int i = 0; i < strings.length; i++) {
+                final int length = readVarint();
+                if (length < 0 || length > end - pos) {
+                    throw new IOException("Truncated save file");
+                }
+                strings[i] = new String(data, pos, length, UTF8);
+                pos += length;
+            }
+        }
+
+        int readByte() throws IOException {
+            if (pos >= end) {
+                throw new IOException("Truncated save file");
+            }
+            return data[pos++] & 0xFF;
+        }
+
+        int readVarint() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                final int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Bad varint in save file");
+        }
+
+        /**
+         * Reads the number of items that follow, each of them minBytes or more, and checks that
+         * they fit in the rest of the file before anything is allocated for them.
+         */
+        int readCount(final int minBytes) throws IOException {
+            final int count = readVarint();
+            if (count < 0 || count > (end - pos) / minBytes) {
+                throw new IOException("Bad count in save file");
+            }
+            return count;
+        }
+
+        long readVarlong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 70; shift += 7) {
+                final int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Bad varint in save file");
+        }
+
+        String readString() throws IOException {
+            final int index = readVarint();
+            if (index == 0) {
+                return null;
+            }
+            if (index > strings.length) {
+                throw new IOException("Bad string index in save file");
+            }
+            return strings[index - 1];
+        }
+    }
+}
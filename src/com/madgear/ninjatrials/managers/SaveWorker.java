@@ -0,0 +1,197 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.managers;
+
+import java.io.File;
+import java.io.IOException;
+
+import android.content.SharedPreferences;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+
+/**
+ * Background thread that writes the user data for UserData, so the update thread never waits for
+ * the disk.
+ * The data is encoded by the thread that saves it and posted here; if it's saved again before
+ * being written only the last version is written. Everything posted in COALESCE_MS is written
+ * together.
+ *
+ * @author Madgear Games
+ *
+ */
+class SaveWorker implements Runnable {
+
+    // Saves posted in this time are written together:
+    public static final long COALESCE_MS = 500;
+
+    private final File achievFile;
+    private final File recordsFile;
+    private final SharedPreferences.Editor editor;
+
+    // Pending data (null or false if there is nothing to write):
+    private byte[] achievData;
+    private byte[] recordsData;
+    private boolean prefsPending = false;
+    private float soundVolume;
+    private float musicVolume;
+
+    private long firstPostMs = 0;
+    private boolean flushRequested = false;
+    private boolean writing = false;
+    private Thread thread;
+
+    SaveWorker(File pAchievFile, File pRecordsFile, SharedPreferences.Editor pEditor) {
+        achievFile = pAchievFile;
+        recordsFile = pRecordsFile;
+        editor = pEditor;
+    }
+
+    synchronized void postAchiev(byte[] data) {
+        achievData = data;
+        posted();
+    }
+
+    synchronized void postRecords(byte[] data) {
+        recordsData = data;
+        posted();
+    }
+
+    synchronized void postPrefs(float pSoundVolume, float pMusicVolume) {
+        soundVolume = pSoundVolume;
+        musicVolume = pMusicVolume;
+        prefsPending = true;
+        posted();
+    }
+
+    /**
+     * Writes the pending data now and waits until it's written.
+     */
+    synchronized void flush() {
+        while (hasPending() || writing) {
+            flushRequested = true;
+            startThread();
+            notifyAll();
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+        while (true) {
+            byte[] achiev;
+            byte[] records;
+            boolean prefs;
+            float sound;
+            float music;
+            synchronized (this) {
+                try {
+                    while (!hasPending()) {
+                        wait();
+                    }
+                    long waitMs = firstPostMs + COALESCE_MS - SystemClock.uptimeMillis();
+                    while (!flushRequested && waitMs > 0) {
+                        wait(waitMs);
+                        waitMs = firstPostMs + COALESCE_MS - SystemClock.uptimeMillis();
+                    }
+                } catch (InterruptedException e) {
+                    // The next post starts a new thread:
+                    thread = null;
+                    notifyAll();
+                    return;
+                }
+                achiev = achievData;
+                records = recordsData;
+                prefs = prefsPending;
+                sound = soundVolume;
+                music = musicVolume;
+                achievData = null;
+                recordsData = null;
+                prefsPending = false;
+                firstPostMs = 0;
+                flushRequested = false;
+                writing = true;
+            }
+            try {
+                write(achiev, records, prefs, sound, music);
+            } catch (Throwable t) {
+                // Keep the thread alive, flush() would wait for it forever:
+                Log.e("UserData", "Cannot write user data.", t);
+            } finally {
+                synchronized (this) {
+                    writing = false;
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    private void write(byte[] achiev, byte[] records, boolean prefs, float sound, float music) {
+        if (achiev != null) {
+            try {
+                SaveFormat.writeFileAtomic(achievFile, achiev);
+                Log.i("UserData", "Achievs writed to machine.");
+            } catch (IOException e) {
+                Log.e("UserData", "Cannot perform output.");
+                e.printStackTrace();
+            }
+        }
+        if (records != null) {
+            try {
+                SaveFormat.writeFileAtomic(recordsFile, records);
+                Log.i("UserData", "Records writed to machine.");
+            } catch (IOException e) {
+                Log.e("UserData", "Cannot perform records output.");
+                e.printStackTrace();
+            }
+        }
+        if (prefs) {
+            editor.putFloat(UserData.SOUND_VOL_KEY, sound);
+            editor.putFloat(UserData.MUSIC_VOL_KEY, music);
+            editor.commit();
+        }
+    }
+
+    private boolean hasPending() {
+        return achievData != null || recordsData != null || prefsPending;
+    }
+
+    private void posted() {
+        if (firstPostMs == 0) {
+            firstPostMs = SystemClock.uptimeMillis();
+        }
+        startThread();
+        notifyAll();
+    }
+
+    private void startThread() {
+        if (thread == null) {
+            thread = new Thread(this, "SaveWorker");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+}
@@ -19,6 +19,8 @@
 
 package com.madgear.ninjatrials.managers;
 
+import java.util.ArrayList;
+
 import org.andengine.engine.Engine;
 import org.andengine.engine.camera.hud.HUD;
 import org.andengine.engine.handler.IUpdateHandler;
@@ -26,6 +28,7 @@ import org.andengine.entity.scene.Scene;
 
 import com.madgear.ninjatrials.ManagedLayer;
 import com.madgear.ninjatrials.ManagedScene;
+import com.madgear.ninjatrials.profiler.FrameProfiler;
 
 
 public class SceneManager extends Object {
@@ -69,13 +72,19 @@ public class SceneManager extends Object {
             mNextScene.elapsedLoadingScreenTime += pSecondsElapsed;
             // On the first frame AFTER the loading screen has been shown.
             if(mNumFramesPassed==1) {
-                // Hide and unload the previous scene if it exists.
+                // Hide and unload the previous scene if it exists, keeping the resources shared
+                // with the new scene.
+                final ArrayList<String> sharedResources = retainSharedResources(mNextScene);
                 if(mCurrentScene!=null) {
+                    tagTransition("unload", mCurrentScene);
                     mCurrentScene.onHideManagedScene();
                     mCurrentScene.onUnloadManagedScene();
                 }
                 // Load the new scene.
+                tagTransition("load", mNextScene);
                 mNextScene.onLoadManagedScene();
+                releaseSharedResources(sharedResources);
+                ResourceManager.getInstance().loader.discardPrefetched();
             }
             // On the first frame AFTER the scene has been completely loaded and the loading screen
             // has been shown for its minimum limit.
@@ -86,6 +95,7 @@ public class SceneManager extends Object {
                 // Tell the new scene to unload its loading screen.
                 mNextScene.onLoadingScreenUnloadAndHidden();
                 // Tell the new scene that it is shown.
+                tagTransition("show", mNextScene);
                 mNextScene.onShowManagedScene();
                 // Set the new scene to the current scene.
                 mCurrentScene = mNextScene;
@@ -144,17 +154,55 @@ public class SceneManager extends Object {
         // Set pManagedScene to mNextScene and apply the new scene to the engine.
         mNextScene = pManagedScene;
         mEngine.setScene(mNextScene);
-        // If a previous managed scene exists, hide and unload it.
+        // If a previous managed scene exists, hide and unload it, keeping the resources shared
+        // with the new scene.
+        final ArrayList<String> sharedResources = retainSharedResources(mNextScene);
         if(mCurrentScene!=null) {
+            tagTransition("unload", mCurrentScene);
             mCurrentScene.onHideManagedScene();
             mCurrentScene.onUnloadManagedScene();
         }
         // Load and show the new managed scene, and set it as the current scene.
+        tagTransition("load", mNextScene);
         mNextScene.onLoadManagedScene();
+        releaseSharedResources(sharedResources);
+        ResourceManager.getInstance().loader.discardPrefetched();
+        tagTransition("show", mNextScene);
         mNextScene.onShowManagedScene();
         mCurrentScene = mNextScene;
     }
 
+    // Starts loading the resources of a scene that will be shown soon, while the current scene
+    // keeps running. The images are decoded in a background thread and uploaded one per frame, so
+    // showScene() finds them loaded. Only scenes with a ResourceGroup can be prefetched, the
+    // prefetched resources not used by the next shown scene are freed.
+    public void prefetch(final ManagedScene pManagedScene) {
+        final ResourceGroup group = pManagedScene.getResourceGroup();
+        if(group!=null)
+            ResourceManager.getInstance().loader.prefetch(group);
+    }
+
+    // Retains the loaded resources of the scene's ResourceGroup, so unloading the previous scene
+    // doesn't free them.
+    private ArrayList<String> retainSharedResources(final ManagedScene pManagedScene) {
+        final ResourceGroup group = pManagedScene.getResourceGroup();
+        if(group==null || pManagedScene.isLoaded)
+            return new ArrayList<String>(0);
+        return ResourceManager.getInstance().loader.retainLoaded(group);
+    }
+
+    // Gives back the resources retained by retainSharedResources() once the scene is loaded.
+    private void releaseSharedResources(final ArrayList<String> pKeys) {
+        ResourceManager.getInstance().loader.release(pKeys);
+    }
+
+    // Tags the current frame in the FrameProfiler, so the scene switches (and their hitches) can
+    // be found in the trace.
+    private void tagTransition(final String pAction, final ManagedScene pManagedScene) {
+        if(GameManager.PROFILER_MODE)
+            FrameProfiler.getInstance().tag(pAction + " " + pManagedScene.getClass().getSimpleName());
+    }
+
     /*// Convenience method to quickly show the Main Menu.
     public void showMainMenu() {
         showScene(MainMenu.getInstance());
@@ -0,0 +1,355 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.madgear.ninjatrials.managers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+
+import org.andengine.audio.sound.SoundFactory;
+import org.andengine.audio.sound.SoundManager;
+import org.andengine.engine.handler.IUpdateHandler;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.os.SystemClock;
+import android.util.Log;
+
+
+/**
+ * Sound effects loaded on demand. Every sound is registered at startup (only its path and size),
+ * and it's decoded in the SoundPool the first time it's played. When the loaded sounds go over
+ * the budget the least recently used ones are released.
+ *
+ * The SoundPool keeps the sounds decoded, as 16 bit PCM, so the budget and the sizes are in
+ * decoded bytes: duration x channels x 2, read from the Ogg headers when the sound is
+ * registered. The game sounds take 5.3 times their ogg size decoded (from 2.6 to 7.5 times).
+ *
+ * The SoundPool decodes in the background, so a sound played before it's loaded is started in
+ * the next updates, or dropped if it takes too long. Sounds that must play right away (katana,
+ * judge calls) should be warmed up when their scene is loaded.
+ *
+ * It's registered as an update handler of the engine. Sounds can be played from the update thread
+ * and the UI thread, so every method is synchronized.
+ *
+ * @author Madgear Games
+ */
+public class SoundBank implements IUpdateHandler {
+    // Bytes of decoded sound kept loaded (about 580 KB of ogg files):
+    public static final int DEFAULT_BUDGET = 3 * 1024 * 1024;
+    // Bytes of a decoded sample of one channel:
+    private static final int PCM_BYTES = 2;
+    // Decoded size of a file whose headers can't be read, times its ogg size:
+    private static final int UNKNOWN_RATIO = 8;
+    // The last Ogg page starts in the last bytes of the file (a page is up to 65307 bytes):
+    private static final int OGG_TAIL = 65536;
+    // Sounds played in the last milliseconds are never evicted:
+    private static final long RECENT_MS = 3000;
+    // Seconds a play waits for its sound to be decoded:
+    private static final float PENDING_TIMEOUT = 0.5f;
+
+    private final SoundManager soundManager;
+    private final Context context;
+    private final String basePath;
+    private final int budget;
+    private final ArrayList<LazySound> sounds = new ArrayList<LazySound>();
+    private final ArrayList<LazySound> pending = new ArrayList<LazySound>();
+    private int loadedBytes = 0;
+
+    public SoundBank(final SoundManager soundManager, final Context context,
+            final String basePath, final int budget) {
+        this.soundManager = soundManager;
+        this.context = context;
+        this.basePath = basePath;
+        this.budget = budget;
+    }
+
+    /**
+     * Registers a sound without loading it. Registering the same file twice returns the same sound.
+     * @param file The file name, relative to the base path.
+     */
+    public synchronized LazySound register(final String file) {
+        for (int i = 0; i < sounds.size(); i++) {
+            if (sounds.get(i).file.equals(file)) {
+                return sounds.get(i);
+            }
+        }
+        int size = 0;
+        try {
+            final AssetFileDescriptor fd = context.getAssets().openFd(basePath + file);
+            final int length = (int) fd.getLength();
+            fd.close();
+            size = decodedSize(basePath + file, length);
+        } catch (final IOException e) {
+            Log.v("Sounds Load", "Exception:" + e.getMessage());
+        }
+        final LazySound sound = new LazySound(file, size);
+        sounds.add(sound);
+        return sound;
+    }
+
+    /**
+     * Loads the sounds and keeps them loaded until coolDown() is called.
+     */
+    public synchronized void warmUp(final LazySound... warmSounds) {
+        for (final LazySound s : warmSounds) {
+            if (s != null) {
+                s.pins++;
+                load(s);
+            }
+        }
+    }
+
+    /**
+     * Lets the sounds be evicted again. They stay loaded until the bank needs the room.
+     */
+    public synchronized void coolDown(final LazySound... warmSounds) {
+        for (final LazySound s : warmSounds) {
+            if (s != null && s.pins > 0) {
+                s.pins--;
+            }
+        }
+    }
+
+    /**
+     * Plays the sound, loading it first if needed.
+     */
+    public synchronized void play(final LazySound s, final float volume, final boolean loop) {
+        if (s == null) {
+            return;
+        }
+        s.lastUsedMs = SystemClock.uptimeMillis();
+        if (!load(s)) {
+            return;
+        }
+        if (s.sound.isLoaded()) {
+            start(s, volume, loop);
+        } else {
+            if (!s.pendingPlay) {
+                pending.add(s);
+            }
+            s.pendingPlay = true;
+            s.pendingVolume = volume;
+            s.pendingLoop = loop;
+            s.pendingTime = 0;
+        }
+    }
+
+    public synchronized void stop(final LazySound s) {
+        if (s == null) {
+            return;
+        }
+        if (s.pendingPlay) {
+            s.pendingPlay = false;
+            pending.remove(s);
+        }
+        s.looping = false;
+        if (s.isLoaded()) {
+            s.sound.stop();
+        }
+    }
+
+    /**
+     * Releases every loaded sound that isn't warmed up. They are loaded again when played.
+     */
+    public synchronized void releaseUnpinned() {
+        for (int i = 0; i < sounds.size(); i++) {
+            final LazySound s = sounds.get(i);
+            if (s.pins == 0 && s.isResident()) {
+                release(s);
+            }
+        }
+    }
+
+    public synchronized int getLoadedBytes() {
+        return loadedBytes;
+    }
+
+    public synchronized int getBudget() {
+        return budget;
+    }
+
+    @Override
+    public synchronized void onUpdate(final float pSecondsElapsed) {
+        for (int i = pending.size() - 1; i >= 0; i--) {
+            final LazySound s = pending.get(i);
+            if (s.isLoaded()) {
+                s.pendingPlay = false;
+                pending.remove(i);
+                start(s, s.pendingVolume, s.pendingLoop);
+            } else {
+                s.pendingTime += pSecondsElapsed;
+                if (s.pendingTime > PENDING_TIMEOUT || !s.isResident()) {
+                    Log.v("Sounds Load", "Play dropped, not loaded in time: " + s.file);
+                    s.pendingPlay = false;
+                    pending.remove(i);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+    }
+
+    private void start(final LazySound s, final float volume, final boolean loop) {
+        s.sound.setVolume(volume);
+        if (loop) {
+            s.sound.setLooping(true);
+            s.looping = true;
+        }
+        s.sound.play();
+    }
+
+    /**
+     * Puts the sound in the SoundPool if it isn't there.
+     * @return False if the file couldn't be loaded.
+     */
+    private boolean load(final LazySound s) {
+        if (s.isResident()) {
+            return true;
+        }
+        evict(s.size);
+        try {
+            final AssetFileDescriptor fd = context.getAssets().openFd(basePath + s.file);
+            s.sound = SoundFactory.createSoundFromAssetFileDescriptor(soundManager, fd);
+            fd.close();
+        } catch (final IOException e) {
+            Log.v("Sounds Load", "Exception:" + e.getMessage());
+            return false;
+        }
+        loadedBytes += s.size;
+        return true;
+    }
+
+    /**
+     * Releases the least recently used sounds until there is room for the given bytes. Pinned,
+     * looping, waiting and recently played sounds are kept, even if that means going over budget.
+     */
+    private void evict(final int bytes) {
+        final long now = SystemClock.uptimeMillis();
+        while (loadedBytes + bytes > budget) {
+            LazySound oldest = null;
+            for (int i = 0; i < sounds.size(); i++) {
+                final LazySound s = sounds.get(i);
+                if (s.isResident() && s.pins == 0 && !s.looping && !s.pendingPlay
+                        && now - s.lastUsedMs > RECENT_MS
+                        && (oldest == null || s.lastUsedMs < oldest.lastUsedMs)) {
+                    oldest = s;
+                }
+            }
+            if (oldest == null) {
+                return;
+            }
+            release(oldest);
+        }
+    }
+
+    /**
+     * Estimates the memory taken by the sound decoded in the SoundPool. The channels are in the
+     * Vorbis identification header, at the start of the file, and the length in samples is the
+     * granule position of the last Ogg page.
+     * @param length Size of the ogg file.
+     * @return Decoded bytes, or UNKNOWN_RATIO times the file size if it isn't an Ogg Vorbis file.
+     */
+    private int decodedSize(final String path, final int length) throws IOException {
+        final InputStream in = context.getAssets().open(path);
+        try {
+            final byte[] head = new byte[Math.min(length, 512)];
+            final int headLength = read(in, head, 0, head.length);
+            // Page header, segment table, then the identification packet:
+            final int packet = headLength > 26 ? 27 + (head[26] & 0xff) : headLength;
+            if (!isOggPage(head, 0) || packet + 16 > headLength || head[packet] != 1
+                    || head[packet + 1] != 'v' || head[packet + 6] != 's') {
+                return length * UNKNOWN_RATIO;
+            }
+            final int channels = head[packet + 11] & 0xff;
+
+            // The end of the file, or the whole file if it's small:
+            final int tailStart = Math.max(0, length - OGG_TAIL);
+            final byte[] tail = new byte[length - tailStart];
+            int tailLength;
+            if (tailStart < headLength) {
+                System.arraycopy(head, tailStart, tail, 0, headLength - tailStart);
+                tailLength = headLength - tailStart;
+            } else {
+                long skip = tailStart - headLength;
+                while (skip > 0) {
+                    final long skipped = in.skip(skip);
+                    if (skipped <= 0) {
+                        return length * UNKNOWN_RATIO;
+                    }
+                    skip -= skipped;
+                }
+                tailLength = 0;
+            }
+            tailLength += read(in, tail, tailLength, tail.length - tailLength);
+            for (int i = tailLength - 14; i >= 0; i--) {
+                if (isOggPage(tail, i)) {
+                    long samples = 0;
+                    for (int b = 7; b >= 0; b--) {
+                        samples = (samples << 8) | (tail[i + 6 + b] & 0xff);
+                    }
+                    if (samples > 0) {
+                        return (int) Math.min(Integer.MAX_VALUE, samples * channels * PCM_BYTES);
+                    }
+                }
+            }
+            return length * UNKNOWN_RATIO;
+        } finally {
+            in.close();
+        }
+    }
+
+    private static boolean isOggPage(final byte[] data, final int at) {
+        return at + 4 <= data.length && data[at] == 'O' && data[at + 1] == 'g'
+                && data[at + 2] == 'g' && data[at + 3] == 'S';
+    }
+
+    /**
+     * Reads up to count bytes into the buffer, from the offset.
+     * @return The bytes read, less than count at the end of the stream.
+     */
+    private static int read(final InputStream in, final byte[] buffer, final int offset,
+            final int count) throws IOException {
+        int total = 0;
+        while (total < count) {
+            final int n = in.read(buffer, offset + total, count - total);
+            if (n < 0) {
+                break;
+            }
+            total += n;
+        }
+        return total;
+    }
+
+    private void release(final LazySound s) {
+        if (s.pendingPlay) {
+            s.pendingPlay = false;
+            pending.remove(s);
+        }
+        if (s.isLoaded()) {
+            s.sound.stop();
+        }
+        s.sound.release();
+        s.sound = null;
+        s.looping = false;
+        loadedBytes -= s.size;
+    }
+}
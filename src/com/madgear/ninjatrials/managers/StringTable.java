@@ -0,0 +1,142 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.managers;
+
+import java.lang.reflect.Field;
+import java.util.Locale;
+
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.util.Log;
+
+import com.madgear.ninjatrials.R;
+
+
+/**
+ * The game strings in the language of GameManager.getGameLanguage().
+ * All the strings of R.string are read once when the language is first used, and then got from
+ * an array indexed by the resource id, without going through the Android resources.
+ * The table is loaded again when the game language changes (every change increases the
+ * generation, so the StringTemplates know they must read their pattern again).
+ *
+ * @author Madgear Games
+ */
+public class StringTable {
+    private static final StringTable INSTANCE = new StringTable();
+    private static final String TAG = "StringTable";
+    // The entry index is the low 16 bits of a resource id:
+    private static final int ENTRY_MASK = 0xFFFF;
+
+    private String language = null;
+    private String[] strings = new String[0];
+    private int generation = 0;
+    private Resources resources;
+
+    private StringTable() {
+    }
+
+    public static StringTable getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param resId A R.string id.
+     * @return The string in the game language.
+     */
+    public synchronized String get(final int resId) {
+        checkLanguage();
+        final int entry = resId & ENTRY_MASK;
+        String s = entry < strings.length ? strings[entry] : null;
+        if (s == null) {
+            // Not found by the loader, read it and keep it:
+            s = resources.getString(resId);
+            if (entry < strings.length) {
+                strings[entry] = s;
+            }
+        }
+        return s;
+    }
+
+    /**
+     * @return A number that changes every time the table is loaded.
+     */
+    public synchronized int getGeneration() {
+        checkLanguage();
+        return generation;
+    }
+
+    /**
+     * Forces the table to be loaded again the next time it's used (for example after a
+     * configuration change).
+     */
+    public synchronized void invalidate() {
+        language = null;
+    }
+
+    private void checkLanguage() {
+        final String gameLanguage = GameManager.getGameLanguage();
+        if (language == null || !language.equals(gameLanguage)) {
+            load(gameLanguage);
+        }
+    }
+
+    /**
+     * Reads all the R.string strings in a language.
+     */
+    private void load(final String newLanguage) {
+        final long start = System.currentTimeMillis();
+        final Resources base = ResourceManager.getInstance().context.getResources();
+        if (newLanguage == null) {
+            resources = base;
+        } else {
+            final Configuration config = new Configuration(base.getConfiguration());
+            config.locale = new Locale(newLanguage);
+            resources = new Resources(base.getAssets(), base.getDisplayMetrics(), config);
+        }
+        final Field[] fields = R.string.class.getFields();
+        int size = 0;
+        final int[] ids = new int[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            try {
+                ids[i] = fields[i].getInt(null);
+            } catch (final IllegalAccessException e) {
+                ids[i] = 0;
+            }
+            size = Math.max(size, (ids[i] & ENTRY_MASK) + 1);
+        }
+        final String[] loaded = new String[size];
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] != 0) {
+                loaded[ids[i] & ENTRY_MASK] = resources.getString(ids[i]);
+            }
+        }
+        if (resources != base) {
+            // The new Resources share the AssetManager, give it back the app configuration:
+            base.updateConfiguration(base.getConfiguration(), base.getDisplayMetrics());
+        }
+        strings = loaded;
+        language = newLanguage;
+        generation++;
+        if (GameManager.DEBUG_MODE) {
+            Log.d(TAG, "Loaded " + ids.length + " strings for language " + newLanguage + " in "
+                    + (System.currentTimeMillis() - start) + " ms");
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.managers;
+
+import java.util.ArrayList;
+
+
+/**
+ * A string resource with numbers, written to a StringBuilder without String.format().
+ * The pattern is split once in literal parts and placeholders (%d, or %1$d and %2$d for the
+ * first and second number), and is split again only when the StringTable changes language.
+ * A pattern without placeholders gets the number at the end ("COMBO\n" gives "COMBO\n1.5").
+ *
+ * @author Madgear Games
+ */
+public class StringTemplate {
+    private static final long[] POWERS = {1, 10, 100, 1000, 10000, 100000, 1000000};
+    private final int resId;
+    private int generation = -1;
+    // Literal parts, one more than the placeholders:
+    private String[] literals;
+    // Number used by every placeholder (0 first, 1 second):
+    private int[] args;
+
+    /**
+     * @param resId A R.string id.
+     */
+    public StringTemplate(final int resId) {
+        this.resId = resId;
+    }
+
+    /**
+     * Writes the message with an integer.
+     * @return out.
+     */
+    public StringBuilder format(final StringBuilder out, final long value) {
+        return write(out, value, 0, 0);
+    }
+
+    /**
+     * Writes the message with two integers.
+     * @return out.
+     */
+    public StringBuilder format(final StringBuilder out, final long first, final long second) {
+        return write(out, first, second, 0);
+    }
+
+    /**
+     * Writes the message with a fixed point number.
+     * @param units The number in units of 1 / 10^decimals (15 and 1 decimal is "1.5").
+     * @param decimals Number of decimals, up to 6.
+     * @return out.
+     */
+    public StringBuilder formatFixed(final StringBuilder out, final long units,
+            final int decimals) {
+        return write(out, units, 0, decimals);
+    }
+
+    private StringBuilder write(final StringBuilder out, final long first, final long second,
+            final int decimals) {
+        final StringTable table = StringTable.getInstance();
+        final int current = table.getGeneration();
+        if (current != generation) {
+            parse(table.get(resId));
+            generation = current;
+        }
+        out.append(literals[0]);
+        for (int i = 0; i < args.length; i++) {
+            appendNumber(out, args[i] == 0 ? first : second, decimals);
+            out.append(literals[i + 1]);
+        }
+        return out;
+    }
+
+    /**
+     * Splits the pattern in literals and placeholders.
+     */
+    void parse(final String pattern) {
+        final StringBuilder literal = new StringBuilder();
+        final ArrayList<String> literalList = new ArrayList<String>();
+        final ArrayList<Integer> argList = new ArrayList<Integer>();
+        int next = 0;
+        int i = 0;
+        while (i < pattern.length()) {
+            final char c = pattern.charAt(i);
+            if (c == '%' && i + 1 < pattern.length()) {
+                if (pattern.charAt(i + 1) == '%') {
+                    literal.append('%');
+                    i += 2;
+                    continue;
+                }
+                if (pattern.charAt(i + 1) == 'd') {
+                    literalList.add(literal.toString());
+                    literal.setLength(0);
+                    argList.add(Math.min(next++, 1));
+                    i += 2;
+                    continue;
+                }
+                if (i + 3 < pattern.length() && Character.isDigit(pattern.charAt(i + 1))
+                        && pattern.charAt(i + 2) == '$' && pattern.charAt(i + 3) == 'd') {
+                    literalList.add(literal.toString());
+                    literal.setLength(0);
+                    argList.add(Math.max(0, Math.min(pattern.charAt(i + 1) - '1', 1)));
+                    i += 4;
+                    continue;
+                }
+            }
+            literal.append(c);
+            i++;
+        }
+        if (argList.isEmpty()) {
+            literalList.add(literal.toString());
+            literal.setLength(0);
+            argList.add(0);
+        }
+        literalList.add(literal.toString());
+        literals = literalList.toArray(new String[literalList.size()]);
+        args = new int[argList.size()];
+        for (int a = 0; a < args.length; a++) {
+            args[a] = argList.get(a);
+        }
+    }
+
+    private static void appendNumber(final StringBuilder out, long value, final int decimals) {
+        if (value < 0) {
+            out.append('-');
+            value = -value;
+        }
+        if (decimals <= 0) {
+            out.append(value);
+            return;
+        }
+        final long power = POWERS[Math.min(decimals, POWERS.length - 1)];
+        out.append(value / power).append('.');
+        // Leading zeros of the fraction:
+        final long fraction = value % power;
+        for (long p = power / 10; p > 1 && fraction < p; p /= 10) {
+            out.append('0');
+        }
+        out.append(fraction);
+    }
+}
@@ -19,13 +19,12 @@
 
 package com.madgear.ninjatrials.managers;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 
+import com.madgear.ninjatrials.achievements.AchievementSet;
 import com.madgear.ninjatrials.achievements.AchievementSetNinjaTrial;
 import com.madgear.ninjatrials.records.RecordsTableSet;
 
@@ -49,12 +48,15 @@ public class UserData {
     public static final String RECORDS_FILE_NAME = "NINJATRIALS_RECORDS_DATA";
 
     // DATA KEYS:
-    private static final String SOUND_VOL_KEY = "soundVolKey";
-    private static final String MUSIC_VOL_KEY = "musicVolKey";
+    static final String SOUND_VOL_KEY = "soundVolKey";
+    static final String MUSIC_VOL_KEY = "musicVolKey";
     
     /* Create our shared preferences object & editor which will be used to save and load data */
     private static SharedPreferences mSettings;
     private static SharedPreferences.Editor mEditor;
+    
+    /* Writes the data in background, the save methods only post it */
+    private static volatile SaveWorker mSaveWorker;
 
 
     /**
@@ -66,6 +68,8 @@ public class UserData {
         if (mSettings == null) {
             mSettings = c.getSharedPreferences(PREFS_FILE_NAME, Context.MODE_PRIVATE);
             mEditor = mSettings.edit();
+            mSaveWorker = new SaveWorker(c.getFileStreamPath(ACHIEV_FILE_NAME),
+                    c.getFileStreamPath(RECORDS_FILE_NAME), mEditor);
         }
         loadPrefs(c);
         loadAchiev(c);
@@ -83,30 +87,53 @@ public class UserData {
     }
 
     /**
-     * Writes prefs to local drive.
+     * Writes prefs to local drive (in background).
      */
     public static synchronized void savePrefs() {
-        mEditor.putFloat(SOUND_VOL_KEY, SFXManager.getSoundVolume());
-        mEditor.putFloat(MUSIC_VOL_KEY, SFXManager.getMusicVolume());
-        mEditor.commit();
+        if (!checkInit()) {
+            return;
+        }
+        mSaveWorker.postPrefs(SFXManager.getSoundVolume(), SFXManager.getMusicVolume());
+    }
+
+    /**
+     * Writes now all the data saved and not written yet. Called when the game is paused.
+     */
+    public static void flush() {
+        if (mSaveWorker != null) {
+            mSaveWorker.flush();
+        }
     }
 
 
     /**
      * Restore user achievments from file or create new file.
+     * Files written by older versions (Java serialization) are read and saved again in the
+     * binary format.
      * @param c context
      */
     public static synchronized void loadAchiev(Context c) {
-        try {
-            FileInputStream fis = c.openFileInput(ACHIEV_FILE_NAME);
-            ObjectInputStream is = new ObjectInputStream(fis);
-            GameManager.player1achiev = (AchievementSetNinjaTrial) is.readObject();
-            is.close();
-            Log.i("UserData", "Achievs loaded from local machine. Path: " + c.getFilesDir());
-        }
-        catch(FileNotFoundException e) {
+        File file = c.getFileStreamPath(ACHIEV_FILE_NAME);
+        if (!file.exists()) {
             // If file dont exits then create it, and save achievs to file   :)
             saveAchiev(c);
+            return;
+        }
+        try {
+            byte[] data = SaveFormat.readFile(file);
+            if (SaveFormat.isSerialized(data)) {
+                AchievementSetNinjaTrial achiev = new AchievementSetNinjaTrial();
+                achiev.restore((AchievementSet) readSerialized(data));
+                GameManager.player1achiev = achiev;
+                saveAchiev(c);
+                Log.i("UserData", "Achievs file converted to binary format.");
+            }
+            else {
+                AchievementSetNinjaTrial achiev = new AchievementSetNinjaTrial();
+                SaveFormat.readAchievements(data, achiev);
+                GameManager.player1achiev = achiev;
+            }
+            Log.i("UserData", "Achievs loaded from local machine. Path: " + c.getFilesDir());
         }
         catch(IOException e){
             Log.e("UserData", "Cannot perform input.");
@@ -118,38 +145,39 @@ public class UserData {
     }
     
     /**
-     * Writes achievments to local drive.
+     * Writes achievments to local drive (in background).
      * @param c
      */
     public static synchronized void saveAchiev(Context c) {
-        try {
-            FileOutputStream fos = c.openFileOutput(ACHIEV_FILE_NAME, Context.MODE_PRIVATE);
-            ObjectOutputStream os = new ObjectOutputStream(fos);
-            os.writeObject(GameManager.player1achiev);
-            os.close();
-            Log.i("UserData", "Achievs writed to machine.");
-        }
-        catch(IOException e){
-            Log.e("UserData", "Cannot perform output.");
-            e.printStackTrace();
+        if (!checkInit()) {
+            return;
         }
+        mSaveWorker.postAchiev(SaveFormat.writeAchievements(GameManager.player1achiev));
     }
     
     /**
      * Restores records from local machine
+     * Files written by older versions are converted like the achievments.
      * @param c context
      */
     public static synchronized void loadRecords(Context c) {
-        try {
-            FileInputStream fis = c.openFileInput(RECORDS_FILE_NAME);
-            ObjectInputStream is = new ObjectInputStream(fis);
-            GameManager.recordsTableSet = (RecordsTableSet) is.readObject();
-            is.close();
-            Log.i("UserData", "Records loaded from local machine. Path: " + c.getFilesDir());
-        }
-        catch(FileNotFoundException e) {
+        File file = c.getFileStreamPath(RECORDS_FILE_NAME);
+        if (!file.exists()) {
             // If file dont exits then create it, and save records to file   :)
             saveRecords(c);
+            return;
+        }
+        try {
+            byte[] data = SaveFormat.readFile(file);
+            if (SaveFormat.isSerialized(data)) {
+                GameManager.recordsTableSet = (RecordsTableSet) readSerialized(data);
+                saveRecords(c);
+                Log.i("UserData", "Records file converted to binary format.");
+            }
+            else {
+                GameManager.recordsTableSet = SaveFormat.readRecords(data);
+            }
+            Log.i("UserData", "Records loaded from local machine. Path: " + c.getFilesDir());
         }
         catch(IOException e){
             Log.e("UserData", "Cannot perform records input.");
@@ -162,20 +190,40 @@ public class UserData {
 
 
     /**
-     * Writes records to local machine
+     * Writes records to local machine (in background).
      * @param c context
      */
     public static synchronized void saveRecords(Context c) {
-        try {
-            FileOutputStream fos = c.openFileOutput(RECORDS_FILE_NAME, Context.MODE_PRIVATE);
-            ObjectOutputStream os = new ObjectOutputStream(fos);
-            os.writeObject(GameManager.recordsTableSet);
-            os.close();
-            Log.i("UserData", "Records writed to machine.");
+        if (!checkInit()) {
+            return;
         }
-        catch(IOException e){
-            Log.e("UserData", "Cannot perform records output.");
-            e.printStackTrace();
+        mSaveWorker.postRecords(SaveFormat.writeRecords(GameManager.recordsTableSet));
+    }
+
+
+    /**
+     * The save worker is created by init(), saves before it are dropped.
+     * @return True if the data can be saved.
+     */
+    private static boolean checkInit() {
+        if (mSaveWorker == null) {
+            Log.w("UserData", "Save before UserData.init(), ignored.");
+            return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Reads a file written with Java serialization by older versions.
+     */
+    private static Object readSerialized(byte[] data)
+            throws IOException, ClassNotFoundException {
+        ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(data));
+        try {
+            return is.readObject();
+        } finally {
+            is.close();
         }
     }
 
@@ -0,0 +1,238 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.madgear.ninjatrials.managers;
+
+import java.util.ArrayList;
+
+import org.andengine.opengl.texture.ITexture;
+import org.andengine.opengl.texture.atlas.ITextureAtlas;
+import org.andengine.opengl.texture.atlas.ITextureAtlas.ITextureAtlasStateListener;
+import org.andengine.opengl.texture.atlas.bitmap.source.IBitmapTextureAtlasSource;
+
+import android.util.Log;
+
+
+/**
+ * Counts the VRAM used by the textures of the game. Every texture is tracked with a name when
+ * it's created, and a state listener adds its bytes when it's uploaded to the GPU and removes them
+ * when it's freed, so the count is right whoever unloads the texture.
+ *
+ * Textures of the loaded scenes are never evicted: the ResourceLoader frees the least recently
+ * used textures of its cache while the total is over the budget (see ResourceLoader.trimCache()).
+ *
+ * The listeners are called in the draw thread and the getters in the update thread, so every
+ * method is synchronized. Textures are unloaded out of the lock, the TextureManager calls the
+ * listeners with its own lock held.
+ *
+ * @author Madgear Games
+ */
+public class VramBudget {
+    public static final int DEFAULT_BUDGET_MB = 128;
+
+    private final long budget;
+    // Tracked textures, uploaded or waiting to be uploaded:
+    private final ArrayList<TrackedTexture> textures = new ArrayList<TrackedTexture>();
+    private long uploadedBytes = 0;
+    // Bytes of the uploaded textures waiting to be freed:
+    private long unloadingBytes = 0;
+    private long peakBytes = 0;
+    private boolean overBudget = false;
+
+    /**
+     * @param budgetMegabytes Max VRAM used by the textures.
+     */
+    public VramBudget(final int budgetMegabytes) {
+        this.budget = budgetMegabytes * 1024L * 1024L;
+    }
+
+    /**
+     * Counts the texture from now on. Call it before loading the texture.
+     * @param name Name shown in the log.
+     */
+    public synchronized void track(final ITexture texture, final String name) {
+        if (texture.getTextureStateListener() instanceof TrackedTexture) {
+            return;
+        }
+        final TrackedTexture tracked = new TrackedTexture(texture, name);
+        texture.setTextureStateListener(tracked);
+        textures.add(tracked);
+        if (texture.isLoadedToHardware()) {
+            onUploaded(tracked);
+        }
+    }
+
+    /**
+     * Unloads the texture. Its bytes don't count for the budget any more, even if the GPU frees
+     * it in a later frame.
+     */
+    public void unload(final ITexture texture) {
+        synchronized (this) {
+            if (texture.getTextureStateListener() instanceof TrackedTexture) {
+                final TrackedTexture tracked = (TrackedTexture) texture.getTextureStateListener();
+                if (tracked.uploaded && !tracked.unloading) {
+                    tracked.unloading = true;
+                    unloadingBytes += tracked.bytes;
+                }
+            }
+        }
+        texture.unload();
+    }
+
+    /**
+     * The GL context was lost: the textures aren't in VRAM any more, the engine uploads again the
+     * loaded ones, and the ones waiting to be freed are forgotten. Call it before reloading.
+     */
+    public synchronized void onContextLost() {
+        for (int i = textures.size() - 1; i >= 0; i--) {
+            final TrackedTexture tracked = textures.get(i);
+            tracked.uploaded = false;
+            if (tracked.unloading) {
+                tracked.texture.setTextureStateListener(null);
+                textures.remove(i);
+            }
+        }
+        uploadedBytes = 0;
+        unloadingBytes = 0;
+        overBudget = false;
+    }
+
+    /**
+     * @return Bytes over the budget, not counting the textures being freed. 0 if it's under.
+     */
+    public synchronized long getBytesOverBudget() {
+        return Math.max(0, uploadedBytes - unloadingBytes - budget);
+    }
+
+    public synchronized long getUploadedBytes() {
+        return uploadedBytes;
+    }
+
+    public synchronized long getPeakBytes() {
+        return peakBytes;
+    }
+
+    public long getBudgetBytes() {
+        return budget;
+    }
+
+    /**
+     * @return Number of textures in VRAM.
+     */
+    public synchronized int getUploadedCount() {
+        int count = 0;
+        for (int i = 0; i < textures.size(); i++) {
+            if (textures.get(i).uploaded) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes the textures in VRAM to the log, the biggest first.
+     */
+    public synchronized void logTextures() {
+        final ArrayList<TrackedTexture> sorted = new ArrayList<TrackedTexture>();
+        for (int i = 0; i < textures.size(); i++) {
+            final TrackedTexture tracked = textures.get(i);
+            if (!tracked.uploaded) {
+                continue;
+            }
+            int index = 0;
+            while (index < sorted.size() && sorted.get(index).bytes >= tracked.bytes) {
+                index++;
+            }
+            sorted.add(index, tracked);
+        }
+        Log.i("VramBudget", "VRAM: " + uploadedBytes / 1024 + " KB of " + budget / 1024
+                + " KB, peak " + peakBytes / 1024 + " KB, " + sorted.size() + " textures.");
+        for (int i = 0; i < sorted.size(); i++) {
+            final TrackedTexture tracked = sorted.get(i);
+            Log.i("VramBudget", tracked.bytes / 1024 + " KB " + tracked.name + " ("
+                    + tracked.texture.getWidth() + "x" + tracked.texture.getHeight()
+                    + (tracked.unloading ? ", unloading)" : ")"));
+        }
+    }
+
+    private synchronized void onUploaded(final TrackedTexture tracked) {
+        if (tracked.uploaded) {
+            // Uploaded again after a context loss, already counted.
+            return;
+        }
+        tracked.uploaded = true;
+        uploadedBytes += tracked.bytes;
+        peakBytes = Math.max(peakBytes, uploadedBytes);
+        if (uploadedBytes > budget && !overBudget) {
+            Log.w("VramBudget", "Over budget: " + uploadedBytes / 1024 + " KB of "
+                    + budget / 1024 + " KB, after uploading " + tracked.name + ".");
+        }
+        overBudget = uploadedBytes > budget;
+    }
+
+    private synchronized void onFreed(final TrackedTexture tracked) {
+        if (tracked.uploaded) {
+            uploadedBytes -= tracked.bytes;
+        }
+        if (tracked.unloading) {
+            unloadingBytes -= tracked.bytes;
+        }
+        tracked.uploaded = false;
+        tracked.unloading = false;
+        overBudget = uploadedBytes > budget;
+        // A texture is loaded again with a new object, this one won't be used:
+        tracked.texture.setTextureStateListener(null);
+        textures.remove(tracked);
+    }
+
+    /**
+     * A tracked texture, and its state listener. Atlases expect an atlas listener, it works for
+     * the other textures too.
+     */
+    private class TrackedTexture implements ITextureAtlasStateListener<IBitmapTextureAtlasSource> {
+        final ITexture texture;
+        final String name;
+        final long bytes;
+        boolean uploaded = false;
+        boolean unloading = false;
+
+        TrackedTexture(final ITexture texture, final String name) {
+            this.texture = texture;
+            this.name = name;
+            this.bytes = (long) texture.getWidth() * texture.getHeight()
+                    * texture.getPixelFormat().getBitsPerPixel() / 8;
+        }
+
+        @Override
+        public void onLoadedToHardware(final ITexture pTexture) {
+            onUploaded(this);
+        }
+
+        @Override
+        public void onUnloadedFromHardware(final ITexture pTexture) {
+            onFreed(this);
+        }
+
+        @Override
+        public void onTextureAtlasSourceLoadExeption(
+                final ITextureAtlas<IBitmapTextureAtlasSource> pTextureAtlas,
+                final IBitmapTextureAtlasSource pTextureAtlasSource, final Throwable pThrowable) {
+            Log.e("VramBudget", "Error loading an image of " + name, pThrowable);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.profiler;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.andengine.entity.IEntity;
+import org.andengine.entity.scene.Scene;
+
+import android.content.Context;
+import android.util.Log;
+
+
+/**
+ * Records the last frames of the game: frame time, update time, draw time, and the number of
+ * entities, update handlers and entity modifiers of the current scene (and the camera HUD).
+ * The ProfilingEngine feeds it every frame, and the SceneManager tags the frames where scenes are
+ * loaded and unloaded, so the load hitches can be found in the trace.
+ *
+ * The frames are kept in a ring buffer of primitive arrays, recording a frame allocates nothing.
+ * The update and draw threads both write to it, so every method is synchronized.
+ *
+ * @author Madgear Games
+ */
+public class FrameProfiler {
+    // Frames kept, about 17 seconds at 60 fps:
+    public static final int CAPACITY = 1024;
+
+    private static final FrameProfiler INSTANCE = new FrameProfiler();
+
+    private final long[] frameNs = new long[CAPACITY];
+    private final long[] updateNs = new long[CAPACITY];
+    private final long[] drawNs = new long[CAPACITY];
+    private final long[] timeMs = new long[CAPACITY];
+    private final int[] entities = new int[CAPACITY];
+    private final int[] updateHandlers = new int[CAPACITY];
+    private final int[] modifiers = new int[CAPACITY];
+    private final String[] scenes = new String[CAPACITY];
+    private final String[] tags = new String[CAPACITY];
+    // Next frame to write, and number of recorded frames:
+    private int head = 0;
+    private int count = 0;
+    private long frameNumber = 0;
+    private boolean recording = false;
+
+    // The frame being recorded:
+    private long currentUpdateNs = 0;
+    private int currentEntities = 0;
+    private int currentUpdateHandlers = 0;
+    private int currentModifiers = 0;
+    private String currentTag = null;
+    private long lastDrawStartNs = 0;
+    private final long startMs = System.currentTimeMillis();
+    private Scene lastScene;
+    private String lastSceneName = "";
+
+    // Used to sort the frame times when calculating percentiles:
+    private final long[] sortBuffer = new long[CAPACITY];
+
+    private FrameProfiler() {
+    }
+
+    public static FrameProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    public synchronized boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Starts or stops recording. The recorded frames are kept.
+     */
+    public synchronized void setRecording(final boolean recording) {
+        this.recording = recording;
+        lastDrawStartNs = 0;
+    }
+
+    /**
+     * Removes the recorded frames.
+     */
+    public synchronized void clear() {
+        head = 0;
+        count = 0;
+        Arrays.fill(scenes, null);
+        Arrays.fill(tags, null);
+        lastDrawStartNs = 0;
+    }
+
+    /**
+     * Adds a tag to the frame being recorded (for example "load TrialSceneRun").
+     */
+    public synchronized void tag(final String tag) {
+        if (!recording) {
+            return;
+        }
+        currentTag = currentTag == null ? tag : currentTag + " | " + tag;
+    }
+
+    /**
+     * Called in the update thread after updating the engine.
+     * @param nanos Time spent in the update handlers and the scene update.
+     * @param scene The current scene.
+     * @param hud The camera HUD, or null.
+     */
+    public synchronized void onUpdate(final long nanos, final Scene scene, final IEntity hud) {
+        if (!recording) {
+            return;
+        }
+        currentUpdateNs += nanos;
+        currentEntities = 0;
+        currentUpdateHandlers = 0;
+        currentModifiers = 0;
+        if (scene != null) {
+            countEntities(scene);
+        }
+        if (hud != null) {
+            countEntities(hud);
+        }
+        if (scene != lastScene) {
+            lastScene = scene;
+            lastSceneName = scene == null ? "" : scene.getClass().getSimpleName();
+        }
+    }
+
+    /**
+     * Called in the draw thread after drawing the scene. Closes the frame: the frame time is the
+     * time since the previous draw started.
+     * @param drawStartNs System.nanoTime() when the draw started.
+     * @param nanos Time spent drawing.
+     */
+    public synchronized void onDraw(final long drawStartNs, final long nanos) {
+        if (!recording) {
+            return;
+        }
+        if (lastDrawStartNs != 0) {
+            frameNs[head] = drawStartNs - lastDrawStartNs;
+            updateNs[head] = currentUpdateNs;
+            drawNs[head] = nanos;
+            timeMs[head] = System.currentTimeMillis() - startMs;
+            entities[head] = currentEntities;
+            updateHandlers[head] = currentUpdateHandlers;
+            modifiers[head] = currentModifiers;
+            scenes[head] = lastSceneName;
+            tags[head] = currentTag;
+            head = (head + 1) % CAPACITY;
+            if (count < CAPACITY) {
+                count++;
+            }
+            frameNumber++;
+            currentTag = null;
+        }
+        lastDrawStartNs = drawStartNs;
+        currentUpdateNs = 0;
+    }
+
+    public synchronized int getFrameCount() {
+        return count;
+    }
+
+    /**
+     * Calculates frame time percentiles of the recorded frames.
+     * @param percentiles The percentiles, from 0 to 1 (0.5 for the median).
+     * @param out The frame times in nanoseconds, one per percentile (0 if there are no frames).
+     */
+    public synchronized void getFramePercentiles(final float[] percentiles, final long[] out) {
+        if (count == 0) {
+            Arrays.fill(out, 0);
+            return;
+        }
+        System.arraycopy(frameNs, 0, sortBuffer, 0, count);
+        Arrays.sort(sortBuffer, 0, count);
+        for (int i = 0; i < percentiles.length; i++) {
+            final int index = (int) Math.ceil(percentiles[i] * count) - 1;
+            out[i] = sortBuffer[Math.max(0, Math.min(count - 1, index))];
+        }
+    }
+
+    /**
+     * Copies the values of the last recorded frame to out: update ns, draw ns, entities, update
+     * handlers and modifiers. All 0 if there are no frames.
+     */
+    public synchronized void getLastFrame(final long[] out) {
+        if (count == 0) {
+            Arrays.fill(out, 0);
+            return;
+        }
+        final int last = (head - 1 + CAPACITY) % CAPACITY;
+        out[0] = updateNs[last];
+        out[1] = drawNs[last];
+        out[2] = entities[last];
+        out[3] = updateHandlers[last];
+        out[4] = modifiers[last];
+    }
+
+    /**
+     * Writes the recorded frames to a CSV file in the app storage (the external files dir if
+     * there is one, the internal one otherwise).
+     * @return The file, or null if it couldn't be written.
+     */
+    public File dumpCsv(final Context context) {
+        File dir = context.getExternalFilesDir(null);
+        if (dir == null) {
+            dir = context.getFilesDir();
+        }
+        final File file = new File(dir, "frames_" + System.currentTimeMillis() + ".csv");
+        BufferedWriter writer = null;
+        try {
+            writer = new BufferedWriter(new FileWriter(file));
+            writer.write("frame,time_ms,scene,frame_ms,update_ms,draw_ms,entities,update_handlers,"
+                    + "modifiers,tag\n");
+            synchronized (this) {
+                final int first = (head - count + CAPACITY) % CAPACITY;
+                for (int i = 0; i < count; i++) {
+                    final int f = (first + i) % CAPACITY;
+                    writer.write((frameNumber - count + i) + "," + timeMs[f] + "," + scenes[f] + ","
+                            + frameNs[f] / 1000000f + "," + updateNs[f] / 1000000f + ","
+                            + drawNs[f] / 1000000f + "," + entities[f] + "," + updateHandlers[f]
+                            + "," + modifiers[f] + "," + (tags[f] == null ? "" : tags[f]) + "\n");
+                }
+            }
+            Log.i("FrameProfiler", "Frames written to " + file.getAbsolutePath());
+            return file;
+        } catch (final IOException e) {
+            Log.e("FrameProfiler", "Error writing " + file.getAbsolutePath(), e);
+            return null;
+        } finally {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (final IOException e) {
+                    // Nothing to do.
+                }
+            }
+        }
+    }
+
+    private void countEntities(final IEntity entity) {
+        currentEntities++;
+        currentUpdateHandlers += entity.getUpdateHandlerCount();
+        currentModifiers += entity.getEntityModifierCount();
+        final int children = entity.getChildCount();
+        for (int i = 0; i < children; i++) {
+            countEntities(entity.getChildByIndex(i));
+        }
+        if (entity instanceof Scene && ((Scene) entity).hasChildScene()) {
+            countEntities(((Scene) entity).getChildScene());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.profiler;
+
+import org.andengine.engine.camera.Camera;
+import org.andengine.entity.text.Text;
+import org.andengine.entity.text.TextOptions;
+import org.andengine.opengl.font.Font;
+import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.vbo.VertexBufferObjectManager;
+import org.andengine.util.adt.align.HorizontalAlign;
+
+import com.madgear.ninjatrials.managers.ResourceManager;
+import com.madgear.ninjatrials.managers.VramBudget;
+
+
+/**
+ * Text in the top left corner of the screen with the frame time percentiles, the values of
+ * the last frame and the VRAM used by the textures. It isn't attached to any scene: the ProfilingEngine updates it and draws it
+ * after the scene and the HUD, so it's shown over every scene.
+ *
+ * @author Madgear Games
+ */
+public class ProfilerOverlay {
+    private static final float REFRESH_TIME = 0.5f;
+    private static final float TEXT_SCALE = 0.4f;
+    private static final int MAX_CHARS = 220;
+    private static final float[] PERCENTILES = {0.5f, 0.95f, 0.99f};
+
+    private final Text text;
+    private final StringBuilder builder = new StringBuilder(MAX_CHARS);
+    private final long[] percentileValues = new long[PERCENTILES.length];
+    private final long[] lastFrame = new long[5];
+    private float elapsed = REFRESH_TIME;
+    private boolean visible = false;
+
+    public ProfilerOverlay(final Font font, final float cameraHeight,
+            final VertexBufferObjectManager vbom) {
+        text = new Text(20, cameraHeight - 20, font, "", MAX_CHARS,
+                new TextOptions(HorizontalAlign.LEFT), vbom);
+        text.setOffsetCenter(0, 1);
+        text.setScaleCenter(0, 1);
+        text.setScale(TEXT_SCALE);
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public void setVisible(final boolean visible) {
+        this.visible = visible;
+        elapsed = REFRESH_TIME;
+    }
+
+    /**
+     * Refreshes the text twice per second. Call it in the update thread.
+     */
+    public void onUpdate(final float pSecondsElapsed) {
+        if (!visible) {
+            return;
+        }
+        elapsed += pSecondsElapsed;
+        if (elapsed < REFRESH_TIME) {
+            return;
+        }
+        elapsed = 0;
+        final FrameProfiler profiler = FrameProfiler.getInstance();
+        profiler.getFramePercentiles(PERCENTILES, percentileValues);
+        profiler.getLastFrame(lastFrame);
+        builder.setLength(0);
+        builder.append("frame p50 ");
+        appendMs(percentileValues[0]);
+        builder.append(" p95 ");
+        appendMs(percentileValues[1]);
+        builder.append(" p99 ");
+        appendMs(percentileValues[2]);
+        builder.append("\nupdate ");
+        appendMs(lastFrame[0]);
+        builder.append(" draw ");
+        appendMs(lastFrame[1]);
+        builder.append("\nentities ").append(lastFrame[2]);
+        builder.append(" handlers ").append(lastFrame[3]);
+        builder.append(" modifiers ").append(lastFrame[4]);
+        final VramBudget vram = ResourceManager.getInstance().vram;
+        builder.append("\nvram ");
+        appendMb(vram.getUploadedBytes());
+        builder.append(" / ");
+        appendMb(vram.getBudgetBytes());
+        builder.append(" (").append(vram.getUploadedCount()).append(" textures) cache ");
+        appendMb(ResourceManager.getInstance().loader.getCacheBytes());
+        builder.append(" peak ");
+        appendMb(vram.getPeakBytes());
+        text.setText(builder);
+    }
+
+    /**
+     * Draws the text in screen coordinates. Call it in the draw thread.
+     */
+    public void onDraw(final GLState pGLState, final Camera pCamera) {
+        if (!visible) {
+            return;
+        }
+        pGLState.pushProjectionGLMatrix();
+        pCamera.onApplyCameraSceneMatrix(pGLState);
+        text.onDraw(pGLState, pCamera);
+        pGLState.popProjectionGLMatrix();
+    }
+
+    /**
+     * Appends nanoseconds as milliseconds with one decimal, without creating strings.
+     */
+    private void appendMs(final long nanos) {
+        final long tenths = (nanos + 50000) / 100000;
+        builder.append(tenths / 10).append('.').append(tenths % 10).append(" ms");
+    }
+
+    /**
+     * Appends bytes as megabytes with one decimal, without creating strings.
+     */
+    private void appendMb(final long bytes) {
+        final long tenths = (bytes * 10 + 512 * 1024) / (1024 * 1024);
+        builder.append(tenths / 10).append('.').append(tenths % 10).append(" MB");
+    }
+}
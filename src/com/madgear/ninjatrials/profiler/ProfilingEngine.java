@@ -0,0 +1,118 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.profiler;
+
+import org.andengine.engine.LimitedFPSEngine;
+import org.andengine.engine.camera.Camera;
+import org.andengine.engine.options.EngineOptions;
+import org.andengine.opengl.util.GLState;
+
+import tv.ouya.console.api.OuyaController;
+
+import android.view.KeyEvent;
+
+import com.madgear.ninjatrials.managers.ResourceManager;
+
+
+/**
+ * LimitedFPSEngine that measures every frame for the FrameProfiler.
+ * The update time covers the update handlers and the scene update, the draw time the scene and
+ * the HUD (the time the engine sleeps to limit the fps isn't counted in either).
+ * Used instead of the LimitedFPSEngine when GameManager.PROFILER_MODE is true.
+ *
+ * Keys: L3 (or P) shows/hides the overlay, R3 (or O) writes the recorded frames to a CSV file and
+ * the textures in VRAM to the log.
+ *
+ * @author Madgear Games
+ */
+public class ProfilingEngine extends LimitedFPSEngine {
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+    // Created in the UI thread when the overlay key is pressed:
+    private volatile ProfilerOverlay overlay;
+    private long updateHandlersNs = 0;
+
+    public ProfilingEngine(final EngineOptions pEngineOptions, final int pFramesPerSecond) {
+        super(pEngineOptions, pFramesPerSecond);
+        profiler.setRecording(true);
+    }
+
+    /**
+     * Handles the profiler keys.
+     * @return True if the key was used by the profiler.
+     */
+    public boolean onKeyDown(final int keyCode) {
+        if (keyCode == OuyaController.BUTTON_L3 || keyCode == KeyEvent.KEYCODE_P) {
+            final ProfilerOverlay current = getOverlay();
+            if (current != null) {
+                current.setVisible(!current.isVisible());
+            }
+            return true;
+        }
+        if (keyCode == OuyaController.BUTTON_R3 || keyCode == KeyEvent.KEYCODE_O) {
+            profiler.dumpCsv(ResourceManager.getInstance().context);
+            ResourceManager.getInstance().vram.logTextures();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected void onUpdateUpdateHandlers(final float pSecondsElapsed) {
+        final long start = System.nanoTime();
+        super.onUpdateUpdateHandlers(pSecondsElapsed);
+        updateHandlersNs = System.nanoTime() - start;
+    }
+
+    @Override
+    protected void onUpdateScene(final float pSecondsElapsed) {
+        final long start = System.nanoTime();
+        super.onUpdateScene(pSecondsElapsed);
+        final long nanos = System.nanoTime() - start + updateHandlersNs;
+        final Camera camera = getCamera();
+        profiler.onUpdate(nanos, getScene(), camera.hasHUD() ? camera.getHUD() : null);
+        final ProfilerOverlay current = overlay;
+        if (current != null) {
+            current.onUpdate(pSecondsElapsed);
+        }
+    }
+
+    @Override
+    protected void onDrawScene(final GLState pGLState, final Camera pFirstCamera) {
+        final long start = System.nanoTime();
+        super.onDrawScene(pGLState, pFirstCamera);
+        final long nanos = System.nanoTime() - start;
+        final ProfilerOverlay current = overlay;
+        if (current != null) {
+            current.onDraw(pGLState, pFirstCamera);
+        }
+        profiler.onDraw(start, nanos);
+    }
+
+    /**
+     * Creates the overlay the first time, once the fonts are loaded.
+     */
+    private synchronized ProfilerOverlay getOverlay() {
+        if (overlay == null && ResourceManager.getInstance().fontSmall != null) {
+            overlay = new ProfilerOverlay(ResourceManager.getInstance().fontSmall,
+                    ResourceManager.getInstance().cameraHeight, getVertexBufferObjectManager());
+        }
+        return overlay;
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.madgear.ninjatrials.records;
+
+import java.util.Random;
+
+/**
+ * All the records of the game, sorted by score (the best first). Records with the same score are
+ * sorted by date, the oldest first.
+ *
+ * The records are kept in a treap (a binary search tree balanced with random priorities) where
+ * every node knows the size of its subtree, so inserting a record, dropping the lowest one and
+ * getting a record by rank are O(log n). When the leaderboard is full the lowest record is
+ * dropped.
+ * The tables shown in the records scene are views of the best records that pass a filter.
+ *
+ * @author Madgear Games
+ *
+ */
+public class Leaderboard {
+
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    private final int capacity;
+    private final Random random = new Random();
+    private Node root;
+    // Insertion order, sorts records with the same score and date:
+    private long nextSequence = 0;
+
+    public Leaderboard() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param pCapacity Records kept, the lowest are dropped.
+     */
+    public Leaderboard(int pCapacity) {
+        capacity = pCapacity;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Inserts a record in its place.
+     * @return The rank of the record (0 is the best), or -1 if the leaderboard is full and the
+     * record is lower than all the others.
+     */
+    public int insert(Record record) {
+        Node node = new Node(record, nextSequence++, random.nextInt());
+        if (size(root) >= capacity) {
+            if (capacity == 0 || compare(node, last(root)) > 0)
+                return -1;
+            root = removeLast(root);
+        }
+        root = insert(root, node);
+        return rankOf(node);
+    }
+
+    /**
+     * @param rank From 0 (the best) to size() - 1.
+     */
+    public Record get(int rank) {
+        if (rank < 0 || rank >= size(root))
+            throw new IndexOutOfBoundsException("Rank " + rank + ", size " + size(root));
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (rank < leftSize) {
+                node = node.left;
+            }
+            else if (rank == leftSize) {
+                return node.record;
+            }
+            else {
+                rank -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * The rank a new record with the score would have.
+     * @return The number of records with a higher or equal score.
+     */
+    public int rankOf(int score) {
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.record.score >= score) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+            else {
+                node = node.left;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Fills the array with the best records that pass the filter, the best first.
+     * @param filter The records to get, or null for all.
+     * @param out The records, null after the last one.
+     * @return The number of records got.
+     */
+    public int top(RecordFilter filter, Record[] out) {
+        int count = top(root, filter, out, 0);
+        for (int i = count; i < out.length; i++)
+            out[i] = null;
+        return count;
+    }
+
+    /**
+     * Calls the visitor with every record, the best first.
+     */
+    public void forEach(RecordVisitor visitor) {
+        forEach(root, visitor);
+    }
+
+    public void clear() {
+        root = null;
+    }
+
+
+    // TREAP ------------------------------------
+
+    private static class Node {
+        final Record record;
+        final long sequence;
+        final int priority;
+        Node left;
+        Node right;
+        int size = 1;
+
+        Node(Record pRecord, long pSequence, int pPriority) {
+            record = pRecord;
+            sequence = pSequence;
+            priority = pPriority;
+        }
+
+        void updateSize() {
+            size = 1 + size(left) + size(right);
+        }
+    }
+
+    public interface RecordVisitor {
+        public void visit(Record record);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Negative if a goes before b.
+     */
+    private static int compare(Node a, Node b) {
+        if (a.record.score != b.record.score)
+            return a.record.score > b.record.score ? -1 : 1;
+        long dateA = a.record.date.getTime();
+        long dateB = b.record.date.getTime();
+        if (dateA != dateB)
+            return dateA < dateB ? -1 : 1;
+        return a.sequence < b.sequence ? -1 : (a.sequence == b.sequence ? 0 : 1);
+    }
+
+    private static Node insert(Node node, Node newNode) {
+        if (node == null)
+            return newNode;
+        if (compare(newNode, node) < 0) {
+            node.left = insert(node.left, newNode);
+            if (node.left.priority > node.priority)
+                node = rotateRight(node);
+        }
+        else {
+            node.right = insert(node.right, newNode);
+            if (node.right.priority > node.priority)
+                node = rotateLeft(node);
+        }
+        node.updateSize();
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.updateSize();
+        left.updateSize();
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.updateSize();
+        right.updateSize();
+        return right;
+    }
+
+    private static Node last(Node node) {
+        while (node.right != null)
+            node = node.right;
+        return node;
+    }
+
+    private static Node removeLast(Node node) {
+        if (node.right == null)
+            return node.left;
+        node.right = removeLast(node.right);
+        node.updateSize();
+        return node;
+    }
+
+    private int rankOf(Node target) {
+        int rank = 0;
+        Node node = root;
+        while (node != target) {
+            if (compare(target, node) < 0) {
+                node = node.left;
+            }
+            else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank + size(node.left);
+    }
+
+    private static int top(Node node, RecordFilter filter, Record[] out, int count) {
+        if (node == null || count >= out.length)
+            return count;
+        count = top(node.left, filter, out, count);
+        if (count < out.length && (filter == null || filter.accept(node.record)))
+            out[count++] = node.record;
+        return top(node.right, filter, out, count);
+    }
+
+    private static void forEach(Node node, RecordVisitor visitor) {
+        if (node == null)
+            return;
+        forEach(node.left, visitor);
+        visitor.visit(node.record);
+        forEach(node.right, visitor);
+    }
+}
@@ -31,15 +31,18 @@ public class Record implements Serializable {
     private static final long serialVersionUID = 1L;
     
     public int profileId = 0;
-    public String profileName = ResourceManager.getInstance().loadAndroidRes().
-            getString(R.string.record_default_name);
+    public String profileName;
     public int characterId = GameManager.CHAR_SHO;
     public int score = 0;
+    public int difficulty = GameManager.DIFF_MEDIUM;
     public Date date = new Date();
     
     
     // Empty Constructor for default tables:
-    public Record() {}
+    public Record() {
+        profileName = ResourceManager.getInstance().
+                getString(R.string.record_default_name);
+    }
     
     public Record(int profile, String name, int character, int pScore) {
         profileId = profile;
@@ -48,4 +51,9 @@ public class Record implements Serializable {
         score = pScore;
         date = new Date();
     }
+    
+    public Record(int profile, String name, int character, int pScore, int pDifficulty) {
+        this(profile, name, character, pScore);
+        difficulty = pDifficulty;
+    }
 }
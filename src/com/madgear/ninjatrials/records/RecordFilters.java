@@ -0,0 +1,79 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.madgear.ninjatrials.records;
+
+/**
+ * Common record filters.
+ *
+ * @author Madgear Games
+ *
+ */
+public final class RecordFilters {
+
+    private RecordFilters() {}
+
+    /**
+     * Records made at the given time or later.
+     * @param timeMs Epoch milliseconds.
+     */
+    public static RecordFilter since(final long timeMs) {
+        return new RecordFilter() {
+            @Override
+            public boolean accept(Record record) {
+                return record.date.getTime() >= timeMs;
+            }
+        };
+    }
+
+    /**
+     * Records made playing the character (GameManager.CHAR_*).
+     */
+    public static RecordFilter character(final int characterId) {
+        return new RecordFilter() {
+            @Override
+            public boolean accept(Record record) {
+                return record.characterId == characterId;
+            }
+        };
+    }
+
+    /**
+     * Records made in the difficulty (GameManager.DIFF_*).
+     */
+    public static RecordFilter difficulty(final int difficulty) {
+        return new RecordFilter() {
+            @Override
+            public boolean accept(Record record) {
+                return record.difficulty == difficulty;
+            }
+        };
+    }
+
+    /**
+     * Records that pass both filters.
+     */
+    public static RecordFilter and(final RecordFilter a, final RecordFilter b) {
+        return new RecordFilter() {
+            @Override
+            public boolean accept(Record record) {
+                return a.accept(record) && b.accept(record);
+            }
+        };
+    }
+}
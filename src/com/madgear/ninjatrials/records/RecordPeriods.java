@@ -0,0 +1,62 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.madgear.ninjatrials.records;
+
+import java.util.TimeZone;
+
+/**
+ * Periods of the records tables as ints: the local day (days since 1970-01-01) and the month
+ * (year * 12 + month from 0 to 11). Cheaper than a Calendar, and right across weeks and years.
+ *
+ * @author Madgear Games
+ *
+ */
+public final class RecordPeriods {
+
+    private static final long DAY_MS = 24 * 60 * 60 * 1000L;
+
+    private RecordPeriods() {}
+
+    /**
+     * @return The local day of the time, in days since 1970-01-01.
+     */
+    public static int epochDay(long timeMs) {
+        long local = timeMs + TimeZone.getDefault().getOffset(timeMs);
+        long day = local / DAY_MS;
+        if (local < 0 && local % DAY_MS != 0)
+            day--;
+        return (int) day;
+    }
+
+    /**
+     * @return year * 12 + month (0 to 11) of the day.
+     */
+    public static int yearMonth(int epochDay) {
+        // Days to civil date, from Howard Hinnant's date algorithms:
+        int z = epochDay + 719468;
+        int era = (z >= 0 ? z : z - 146096) / 146097;
+        int dayOfEra = z - era * 146097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int marchMonth = (5 * dayOfYear + 2) / 153;
+        int month = marchMonth < 10 ? marchMonth + 2 : marchMonth - 10;
+        int year = yearOfEra + era * 400 + (month <= 1 ? 1 : 0);
+        return year * 12 + month;
+    }
+}
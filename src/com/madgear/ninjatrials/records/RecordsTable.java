@@ -21,6 +21,13 @@ package com.madgear.ninjatrials.records;
 import java.io.Serializable;
 import java.util.Date;
 
+/**
+ * The best records of a period (see RecordsTableSet) or a view of the Leaderboard.
+ * Sorted from the lowest (index 0) to the best (the last index). Empty places are null.
+ *
+ * @author Madgear Games
+ *
+ */
 public class RecordsTable implements Serializable {
 
     //  Serial version:
@@ -30,37 +37,41 @@ public class RecordsTable implements Serializable {
     public Date updateDate;
     
     // Const:
-    public RecordsTable(int size) {
-        recordsTable = new Record[size];
-        for(int i = 0; i < recordsTable.length; i++)
-            recordsTable[i] = new Record();
-        updateDate = new Date();
+    public RecordsTable(Record[] records, Date pUpdateDate) {
+        recordsTable = records;
+        updateDate = pUpdateDate;
     }
     
-    public int getMin() {
-        int min = recordsTable[0].score;
-        for (int i = 0; i < recordsTable.length; i++) {
-            if (recordsTable[i].score < min) {
-                min = recordsTable[i].score;
-            }
+    /**
+     * Puts the record in its place if it's one of the best of the table, dropping the lowest.
+     * With the same score the records already in the table stay above.
+     * @return True if the record is in the table.
+     */
+    public boolean offer(Record record) {
+        // Number of places lower than the record (empty places first):
+        int low = 0;
+        int high = recordsTable.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (recordsTable[mid] == null || recordsTable[mid].score < record.score)
+                low = mid + 1;
+            else
+                high = mid;
         }
-        return min;
+        if (low == 0)
+            return false;
+        System.arraycopy(recordsTable, 1, recordsTable, 0, low - 1);
+        recordsTable[low - 1] = record;
+        updateDate = new Date();
+        return true;
     }
     
     /**
-     * Bubble insert method.
-     * @param record
+     * @return The lowest score (0 if the table isn't full).
      */
-    public void insert(Record record) {
-        if(record.score > getMin()) {
-            updateDate = new Date();  // updateDate = now
-            recordsTable[0] = record;
-            for(int i = 1; i < recordsTable.length; i++) {
-                if (record.score > recordsTable[i].score) {
-                    recordsTable[i-1] = recordsTable[i];
-                    recordsTable[i] = record;
-                }
-            }
-        }
+    public int getMin() {
+        if (recordsTable.length == 0 || recordsTable[0] == null)
+            return 0;
+        return recordsTable[0].score;
     }
 }
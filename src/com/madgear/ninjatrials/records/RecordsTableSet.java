@@ -18,14 +18,33 @@
 
 package com.madgear.ninjatrials.records;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
 
 import com.madgear.ninjatrials.managers.GameManager;
 
+/**
+ * The records of the game: a Leaderboard with all of them, and the today, month and all time
+ * tables shown in the records scene.
+ * The tables are indexed by period (RecordPeriods day and month) and every new record is put in
+ * its tables when inserted, so they are never rebuilt. update() only checks if the period has
+ * changed. A record dropped by a full leaderboard can still be one of the best of its day or
+ * month: getPeriodRecords() are those, saved with the leaderboard.
+ *
+ * @author Madgear Games
+ *
+ */
 public class RecordsTableSet implements Serializable {
 
-    // Serial version:
+    // Serial version (only used to read the files of older versions):
     private static final long serialVersionUID = 1L;
 
     // Number of records in a table:
@@ -33,13 +52,39 @@ public class RecordsTableSet implements Serializable {
     
     public RecordsTable todayRecords;
     public RecordsTable monthRecords;
-    public RecordsTable allTimeRecords;    
+    public RecordsTable allTimeRecords;
+    
+    private transient Leaderboard leaderboard;
+    
+    // Tables of every day and month, keyed by period. Tables of past periods are removed when
+    // the period changes:
+    private transient HashMap<Integer, RecordsTable> dayTables;
+    private transient HashMap<Integer, RecordsTable> monthTables;
+    private transient int currentDay;
+    private transient int currentMonth;
     
     // Const:
     public RecordsTableSet() {
-        todayRecords = new RecordsTable(SIZE);
-        monthRecords = new RecordsTable(SIZE);
-        allTimeRecords = new RecordsTable(SIZE);
+        this(new Leaderboard());
+    }
+    
+    public RecordsTableSet(Leaderboard pLeaderboard) {
+        leaderboard = pLeaderboard;
+        buildIndex();
+    }
+    
+    /**
+     * @param pLeaderboard The saved leaderboard.
+     * @param periodRecords The saved getPeriodRecords(), put only in their period tables.
+     */
+    public RecordsTableSet(Leaderboard pLeaderboard, List<Record> periodRecords) {
+        this(pLeaderboard);
+        for (Record record : periodRecords)
+            indexPeriods(record);
+    }
+    
+    public Leaderboard getLeaderboard() {
+        return leaderboard;
     }
     
     /**
@@ -50,32 +95,160 @@ public class RecordsTableSet implements Serializable {
         insert(new Record(
                 1, "Player1",
                 GameManager.getSelectedCharacter(),
-                GameManager.getCurrentScore()));
+                GameManager.getCurrentScore(),
+                GameManager.getSelectedDiff()));
     }
     
     /**
-     * Insert a record in a table in his proper order.
+     * Insert a record in the leaderboard and in its tables. A record dropped by the leaderboard
+     * (full and lower than all its records) isn't in the all time table, but it's still put in
+     * the today and month tables, which only compare it with the records of its period.
      * @param record
+     * @return The all time rank of the record (0 is the best), -1 if it isn't kept.
+     */
+    public int insert(Record record) {
+        update();
+        int rank = leaderboard.insert(record);
+        if (rank >= 0)
+            allTimeRecords.offer(record);
+        indexPeriods(record);
+        return rank;
+    }
+    
+    /**
+     * @return The records of the today and month tables that aren't in the leaderboard (they
+     * were dropped by it, or never got in).
      */
-    public void insert(Record record) {
-        todayRecords.insert(record);
-        monthRecords.insert(record);
-        allTimeRecords.insert(record);
+    public ArrayList<Record> getPeriodRecords() {
+        update();
+        final IdentityHashMap<Record, Boolean> inLeaderboard =
+                new IdentityHashMap<Record, Boolean>();
+        leaderboard.forEach(new Leaderboard.RecordVisitor() {
+            @Override
+            public void visit(Record record) {
+                inLeaderboard.put(record, Boolean.TRUE);
+            }
+        });
+        ArrayList<Record> periodRecords = new ArrayList<Record>();
+        IdentityHashMap<Record, Boolean> added = new IdentityHashMap<Record, Boolean>();
+        for (RecordsTable table : new RecordsTable[] {todayRecords, monthRecords})
+            for (Record record : table.recordsTable)
+                if (record != null && !inLeaderboard.containsKey(record)
+                        && added.put(record, Boolean.TRUE) == null)
+                    periodRecords.add(record);
+        return periodRecords;
     }
     
     
     /**
-     * Checks if the today or month table must be erased.
+     * Checks if the day or the month have changed. If so the today or month table is the one of
+     * the new period, and the tables of the past periods are removed.
      */
-    @SuppressWarnings("deprecation")
     public void update() {
-        Date currentDate = new Date();
-        
-        if(currentDate.getDay() > todayRecords.updateDate.getDay()) {
-            todayRecords = new RecordsTable(SIZE);
+        int today = RecordPeriods.epochDay(System.currentTimeMillis());
+        if (today == currentDay)
+            return;
+        currentDay = today;
+        removeBefore(dayTables, today);
+        todayRecords = getTable(dayTables, today);
+        int month = RecordPeriods.yearMonth(today);
+        if (month != currentMonth) {
+            currentMonth = month;
+            removeBefore(monthTables, month);
+            monthRecords = getTable(monthTables, month);
+        }
+    }
+    
+    /**
+     * Makes a table with the best records that pass the filter.
+     * @param filter A RecordFilters filter, null for all the records.
+     * @param size Places of the table.
+     */
+    public RecordsTable view(RecordFilter filter, int size) {
+        Record[] best = new Record[size];
+        int count = leaderboard.top(filter, best);
+        // Tables are sorted from the lowest to the best:
+        Record[] table = new Record[size];
+        for (int i = 0; i < count; i++)
+            table[size - 1 - i] = best[i];
+        return new RecordsTable(table, new Date());
+    }
+    
+    /**
+     * Makes the tables from the leaderboard, only for the current periods.
+     */
+    private void buildIndex() {
+        dayTables = new HashMap<Integer, RecordsTable>();
+        monthTables = new HashMap<Integer, RecordsTable>();
+        allTimeRecords = new RecordsTable(new Record[SIZE], new Date());
+        currentDay = RecordPeriods.epochDay(System.currentTimeMillis());
+        currentMonth = RecordPeriods.yearMonth(currentDay);
+        todayRecords = getTable(dayTables, currentDay);
+        monthRecords = getTable(monthTables, currentMonth);
+        leaderboard.forEach(new Leaderboard.RecordVisitor() {
+            @Override
+            public void visit(Record record) {
+                allTimeRecords.offer(record);
+                indexPeriods(record);
+            }
+        });
+    }
+    
+    /**
+     * Puts the record in the tables of its day and month if they are not past.
+     */
+    private void indexPeriods(Record record) {
+        int day = RecordPeriods.epochDay(record.date.getTime());
+        if (day >= currentDay)
+            getTable(dayTables, day).offer(record);
+        int month = RecordPeriods.yearMonth(day);
+        if (month >= currentMonth)
+            getTable(monthTables, month).offer(record);
+    }
+    
+    private static RecordsTable getTable(HashMap<Integer, RecordsTable> tables, int period) {
+        RecordsTable table = tables.get(period);
+        if (table == null) {
+            table = new RecordsTable(new Record[SIZE], new Date());
+            tables.put(period, table);
         }
-        if(currentDate.getMonth() > monthRecords.updateDate.getMonth()) {
-            monthRecords = new RecordsTable(SIZE);
+        return table;
+    }
+    
+    private static void removeBefore(HashMap<Integer, RecordsTable> tables, int period) {
+        Iterator<Integer> periods = tables.keySet().iterator();
+        while (periods.hasNext())
+            if (periods.next() < period)
+                periods.remove();
+    }
+    
+    /**
+     * Puts the records of the tables of older versions in the leaderboard. The same record was
+     * in several tables, and the empty places had default records: both are skipped.
+     */
+    public static void mergeTables(RecordsTable[] tables, Leaderboard into) {
+        HashSet<String> added = new HashSet<String>();
+        for (RecordsTable table : tables) {
+            if (table == null || table.recordsTable == null)
+                continue;
+            for (Record record : table.recordsTable) {
+                if (record == null || (record.profileId == 0 && record.score == 0))
+                    continue;
+                String key = record.score + "/" + record.date.getTime() + "/"
+                        + record.characterId + "/" + record.profileName;
+                if (added.add(key))
+                    into.insert(record);
+            }
         }
     }
+    
+    /**
+     * Reads the files of older versions (Java serialization), where only the tables were saved.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        leaderboard = new Leaderboard();
+        mergeTables(new RecordsTable[] {todayRecords, monthRecords, allTimeRecords}, leaderboard);
+        buildIndex();
+    }
 }
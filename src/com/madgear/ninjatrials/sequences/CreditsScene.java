@@ -319,7 +319,7 @@ public class CreditsScene extends GameScene {
                     public void onModifierStarted(IModifier<IEntity> pModifier, IEntity pItem) {
                         // Text: Title Programming
                         txtFontXBig.setPosition(SCREEN_WIDTH * 0.4f, SCREEN_HEIGHT * 0.85f);
-                        txtFontXBig.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontXBig.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_programming_title));
                         txtFontXBig.setAlpha(1);
                         // Sprite: Ninja Programmer
@@ -328,47 +328,47 @@ public class CreditsScene extends GameScene {
                         sprCategories.setAlpha(1);
                         // Text: Wargo
                         txtFontMedium01.setPosition(SCREEN_WIDTH * 0.33f, SCREEN_HEIGHT * 0.65f);
-                        txtFontMedium01.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontMedium01.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_programming_wargo));
                         txtFontMedium01.setAlpha(1);
                         txtFontSmall01.setPosition(SCREEN_WIDTH * 0.33f, SCREEN_HEIGHT * 0.57f);
-                        txtFontSmall01.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontSmall01.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_programming_wargo_name));
                         txtFontSmall01.setAlpha(1);
                         // Text: Bralmu
                         txtFontMedium02.setPosition(SCREEN_WIDTH * 0.25f, SCREEN_HEIGHT * 0.45f);
-                        txtFontMedium02.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontMedium02.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_programming_bralmu));
                         txtFontMedium02.setAlpha(1);
                         txtFontSmall02.setPosition(SCREEN_WIDTH * 0.25f, SCREEN_HEIGHT * 0.37f);
-                        txtFontSmall02.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontSmall02.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_programming_bralmu_name));
                         txtFontSmall02.setAlpha(1);
                         // Text: Danpelgar
                         txtFontMedium03.setPosition(SCREEN_WIDTH * 0.66f, SCREEN_HEIGHT * 0.65f);
-                        txtFontMedium03.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontMedium03.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_programming_danpelgar));
                         txtFontMedium03.setAlpha(1);
                         txtFontSmall03.setPosition(SCREEN_WIDTH * 0.66f, SCREEN_HEIGHT * 0.57f);
-                        txtFontSmall03.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontSmall03.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_programming_danpelgar_name));
                         txtFontSmall03.setAlpha(1);
                         // Text: Virako
                         txtFontMedium04.setPosition(SCREEN_WIDTH * 0.75f, SCREEN_HEIGHT * 0.45f);
-                        txtFontMedium04.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontMedium04.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_programming_virako));
                         txtFontMedium04.setAlpha(1);
                         txtFontSmall04.setPosition(SCREEN_WIDTH * 0.75f, SCREEN_HEIGHT * 0.37f);
-                        txtFontSmall04.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontSmall04.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_programming_virako));
                         txtFontSmall04.setAlpha(1);
                         // Text: JJHaggar
                         txtFontMedium05.setPosition(SCREEN_WIDTH * 0.5f, SCREEN_HEIGHT * 0.25f);
-                        txtFontMedium05.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontMedium05.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_programming_jjhaggar));
                         txtFontMedium05.setAlpha(1);
                         txtFontSmall05.setPosition(SCREEN_WIDTH * 0.5f, SCREEN_HEIGHT * 0.17f);
-                        txtFontSmall05.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontSmall05.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_programming_jjhaggar_name));
                         txtFontSmall05.setAlpha(1);
                     }
@@ -402,7 +402,7 @@ public class CreditsScene extends GameScene {
                     public void onModifierStarted(IModifier<IEntity> pModifier, IEntity pItem) {
                         // Text: Title Music
                         txtFontXBig.setPosition(SCREEN_WIDTH * 0.4f, SCREEN_HEIGHT * 0.85f);
-                        txtFontXBig.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontXBig.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_music_title));
                         txtFontXBig.setAlpha(1);
                         // Sprite: Ninja Musician
@@ -411,7 +411,7 @@ public class CreditsScene extends GameScene {
                         sprCategories.setAlpha(1);
                         // Text: Studio Evergreen
                         txtFontBig01.setPosition(SCREEN_WIDTH * 0.40f, SCREEN_HEIGHT * 0.68f);
-                        txtFontBig01.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontBig01.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_music_evergreen));
                         txtFontBig01.setAlpha(1);
                         // Sprite: Studio Evergreen
@@ -419,20 +419,20 @@ public class CreditsScene extends GameScene {
                         sprLogoEverGreen.setAlpha(1);
                         // Text: Musamic
                         txtFontMedium01.setPosition(SCREEN_WIDTH * 0.66f, SCREEN_HEIGHT * 0.55f);
-                        txtFontMedium01.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontMedium01.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_music_evergreen_musamic));
                         txtFontMedium01.setAlpha(1);
                         txtFontSmall01.setPosition(SCREEN_WIDTH * 0.66f, SCREEN_HEIGHT * 0.47f);
-                        txtFontSmall01.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontSmall01.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_music_evergreen_musamic_name));
                         txtFontSmall01.setAlpha(1);
                         // Text: Danpelgar
                         txtFontMedium02.setPosition(SCREEN_WIDTH * 0.66f, SCREEN_HEIGHT * 0.30f);
-                        txtFontMedium02.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontMedium02.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_music_evergreen_danpelgar));
                         txtFontMedium02.setAlpha(1);
                         txtFontSmall02.setPosition(SCREEN_WIDTH * 0.66f, SCREEN_HEIGHT * 0.22f);
-                        txtFontSmall02.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontSmall02.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_music_evergreen_danpelgar_name));
                         txtFontSmall02.setAlpha(1);
                     }
@@ -459,7 +459,7 @@ public class CreditsScene extends GameScene {
                     public void onModifierStarted(IModifier<IEntity> pModifier, IEntity pItem) {
                         // Text: Title Graphics
                         txtFontXBig.setPosition(SCREEN_WIDTH * 0.4f, SCREEN_HEIGHT * 0.85f);
-                        txtFontXBig.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontXBig.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_graphics_title));
                         txtFontXBig.setAlpha(1);
                         // Sprite: Ninja Graphics
@@ -468,11 +468,11 @@ public class CreditsScene extends GameScene {
                         sprCategories.setAlpha(1);
                         // Text: JJHaggar
                         txtFontMedium01.setPosition(SCREEN_WIDTH * 0.5f, SCREEN_HEIGHT * 0.55f);
-                        txtFontMedium01.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontMedium01.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_graphics_jjhaggar));
                         txtFontMedium01.setAlpha(1);
                         txtFontSmall01.setPosition(SCREEN_WIDTH * 0.5f, SCREEN_HEIGHT * 0.47f);
-                        txtFontSmall01.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontSmall01.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_graphics_jjhaggar_name));
                         txtFontSmall01.setAlpha(1);
                     }
@@ -495,7 +495,7 @@ public class CreditsScene extends GameScene {
                     public void onModifierStarted(IModifier<IEntity> pModifier, IEntity pItem) {
                         // Text: Title Thanks
                         txtFontXBig.setPosition(SCREEN_WIDTH * 0.4f, SCREEN_HEIGHT * 0.85f);
-                        txtFontXBig.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontXBig.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_thanks_title));
                         txtFontXBig.setAlpha(1);
                         // Sprite: Ninja Thanks 1
@@ -504,29 +504,29 @@ public class CreditsScene extends GameScene {
                         sprCategories.setAlpha(1);
                         // Text: PigSaint
                         txtFontMedium01.setPosition(SCREEN_WIDTH * 0.33f, SCREEN_HEIGHT * 0.60f);
-                        txtFontMedium01.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontMedium01.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_thanks_pigsaint));
                         txtFontMedium01.setAlpha(1);
                         txtFontSmall01.setPosition(SCREEN_WIDTH * 0.33f, SCREEN_HEIGHT * 0.52f);
-                        txtFontSmall01.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontSmall01.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_thanks_pigsaint_name));
                         txtFontSmall01.setAlpha(1);
                         // Text: Otaruk
                         txtFontMedium02.setPosition(SCREEN_WIDTH * 0.66f, SCREEN_HEIGHT * 0.60f);
-                        txtFontMedium02.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontMedium02.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_thanks_otaruk));
                         txtFontMedium02.setAlpha(1);
                         txtFontSmall02.setPosition(SCREEN_WIDTH * 0.66f, SCREEN_HEIGHT * 0.52f);
-                        txtFontSmall02.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontSmall02.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_thanks_otaruk_name));
                         txtFontSmall02.setAlpha(1);
                         // Text: Inixtrom
                         txtFontMedium03.setPosition(SCREEN_WIDTH * 0.5f, SCREEN_HEIGHT * 0.34f);
-                        txtFontMedium03.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontMedium03.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_thanks_inixtrom));
                         txtFontMedium03.setAlpha(1);
                         txtFontSmall03.setPosition(SCREEN_WIDTH * 0.5f, SCREEN_HEIGHT * 0.26f);
-                        txtFontSmall03.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontSmall03.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_thanks_inixtrom_name));
                         txtFontSmall03.setAlpha(1);
                     }
@@ -556,7 +556,7 @@ public class CreditsScene extends GameScene {
                         sprCategories.setAlpha(1);
                         // Text: AndEngine
                         txtFontBig01.setPosition(SCREEN_WIDTH * 0.4f, SCREEN_HEIGHT * 0.63f);
-                        txtFontBig01.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontBig01.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_thanks_engine_title));
                         txtFontBig01.setAlpha(1);
                         // Sprite: AndEngine Logo
@@ -564,11 +564,11 @@ public class CreditsScene extends GameScene {
                         sprLogoAndEngine.setAlpha(1);
                         // Text: Nicolas Gramlich
                         txtFontMedium01.setPosition(SCREEN_WIDTH * 0.66f, SCREEN_HEIGHT * 0.40f);
-                        txtFontMedium01.setText(ResourceManager.getInstance().loadAndroidRes()
+                        txtFontMedium01.setText(ResourceManager.getInstance()
                                 .getString(R.string.credits_thanks_engine_nicolas));
                         txtFontMedium01.setAlpha(1);
                         txtFontSmall01.setPosition(SCREEN_WIDTH * 0.66f, SCREEN_HEIGHT * 0.32f);
-                        txtFontSmall01.setText("("+ ResourceManager.getInstance().loadAndroidRes()
+                        txtFontSmall01.setText("("+ ResourceManager.getInstance()
                                 .getString(R.string.credits_thanks_engine_nicolas_andengine) + ")");
                         txtFontSmall01.setAlpha(1);
                     }
@@ -94,7 +94,7 @@ public class EndingSequenceRyokoEasy extends Entity implements Sequence{
         final Text txtEnding = new Text(
                 SCREEN_WIDTH * 0.5f, SCREEN_HEIGHT * 0.15f,
                 ResourceManager.getInstance().fontSmall,
-                ResourceManager.getInstance().loadAndroidRes()
+                ResourceManager.getInstance()
                 .getString(R.string.ending_ryoko_placeholder),
                 new TextOptions(HorizontalAlign.CENTER),
                 ResourceManager.getInstance().engine.getVertexBufferObjectManager());
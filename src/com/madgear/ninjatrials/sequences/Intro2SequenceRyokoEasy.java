@@ -116,7 +116,7 @@ public class Intro2SequenceRyokoEasy extends Entity implements Sequence{
         final Text txtMaster = new Text(
                 SCREEN_WIDTH * 0.20f, SCREEN_HEIGHT * 0.7f,
                 ResourceManager.getInstance().fontSmall,
-                ResourceManager.getInstance().loadAndroidRes()
+                ResourceManager.getInstance()
                 .getString(R.string.intro2_1p_ryoko_03_master), // TODO Complete the dialogs
                 new TextOptions(HorizontalAlign.CENTER),
                 ResourceManager.getInstance().engine.getVertexBufferObjectManager());
@@ -141,7 +141,7 @@ public class Intro2SequenceRyokoEasy extends Entity implements Sequence{
         final Text txtRyoko = new Text(
                 SCREEN_WIDTH * 0.8f, SCREEN_HEIGHT * 0.5f,
                 ResourceManager.getInstance().fontMedium,
-                ResourceManager.getInstance().loadAndroidRes()
+                ResourceManager.getInstance()
                     .getString(R.string.intro2_1p_ryoko_04_ryoko),
                 new TextOptions(HorizontalAlign.CENTER),
                 ResourceManager.getInstance().engine.getVertexBufferObjectManager());
@@ -204,7 +204,7 @@ public class Intro2SequenceRyokoEasy extends Entity implements Sequence{
         final Text txtRyoko = new Text(
                 SCREEN_WIDTH * 0.75f, SCREEN_HEIGHT * 0.75f,
                 ResourceManager.getInstance().fontBig,
-                ResourceManager.getInstance().loadAndroidRes()
+                ResourceManager.getInstance()
                 .getString(R.string.intro2_1p_ryoko_05_ryoko),
                 new TextOptions(HorizontalAlign.CENTER),
                 ResourceManager.getInstance().engine.getVertexBufferObjectManager());
@@ -116,7 +116,7 @@ public class Intro2SequenceShoEasy extends Entity implements Sequence{
         final Text txtMaster = new Text(
                 SCREEN_WIDTH * 0.20f, SCREEN_HEIGHT * 0.7f,
                 ResourceManager.getInstance().fontSmall,
-                ResourceManager.getInstance().loadAndroidRes()
+                ResourceManager.getInstance()
                 .getString(R.string.intro2_1p_sho_03_master), // TODO Complete the dialogs
                 new TextOptions(HorizontalAlign.CENTER),
                 ResourceManager.getInstance().engine.getVertexBufferObjectManager());
@@ -142,7 +142,7 @@ public class Intro2SequenceShoEasy extends Entity implements Sequence{
         final Text txtSho = new Text(
                 SCREEN_WIDTH * 0.8f, SCREEN_HEIGHT * 0.5f,
                 ResourceManager.getInstance().fontMedium,
-                ResourceManager.getInstance().loadAndroidRes()
+                ResourceManager.getInstance()
                     .getString(R.string.intro2_1p_sho_04_sho),
                 new TextOptions(HorizontalAlign.CENTER),
                 ResourceManager.getInstance().engine.getVertexBufferObjectManager());
@@ -206,7 +206,7 @@ public class Intro2SequenceShoEasy extends Entity implements Sequence{
         final Text txtSho = new Text(
                 SCREEN_WIDTH * 0.75f, SCREEN_HEIGHT * 0.75f,
                 ResourceManager.getInstance().fontBig,
-                ResourceManager.getInstance().loadAndroidRes()
+                ResourceManager.getInstance()
                 .getString(R.string.intro2_1p_sho_05_sho),
                 new TextOptions(HorizontalAlign.CENTER),
                 ResourceManager.getInstance().engine.getVertexBufferObjectManager());
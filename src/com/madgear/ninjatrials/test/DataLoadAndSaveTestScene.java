@@ -127,13 +127,7 @@ public class DataLoadAndSaveTestScene extends GameScene {
         Record r = new Record(0, "test", GameManager.CHAR_RYOKO, 1000);
         Record r2 = new Record(0, "test2", GameManager.CHAR_RYOKO, 2000);
 
-        GameManager.recordsTableSet.allTimeRecords.recordsTable[11] = r;
-        GameManager.recordsTableSet.allTimeRecords.recordsTable[10] = r;
-        GameManager.recordsTableSet.monthRecords.recordsTable[11] = r;
-        GameManager.recordsTableSet.monthRecords.recordsTable[10] = r;
-        GameManager.recordsTableSet.todayRecords.recordsTable[11] = r;
-        GameManager.recordsTableSet.todayRecords.recordsTable[10] = r;
-
+        GameManager.recordsTableSet.insert(r);
         GameManager.recordsTableSet.insert(r2);
         
         UserData.saveRecords(ResourceManager.getInstance().context);
@@ -19,7 +19,6 @@
 
 package com.madgear.ninjatrials.trials;
 
-import org.andengine.engine.handler.IUpdateHandler;
 import org.andengine.engine.handler.timer.ITimerCallback;
 import org.andengine.engine.handler.timer.TimerHandler;
 import org.andengine.entity.Entity;
@@ -46,15 +45,19 @@ import com.madgear.ninjatrials.MainMenuScene;
 import com.madgear.ninjatrials.R;
 import com.madgear.ninjatrials.ResultLoseScene;
 import com.madgear.ninjatrials.ResultWinScene;
+import com.madgear.ninjatrials.achievements.TrialEvent;
 import com.madgear.ninjatrials.hud.Chronometer;
 import com.madgear.ninjatrials.hud.GameHUD;
 import com.madgear.ninjatrials.hud.HeadCharacter;
 import com.madgear.ninjatrials.hud.PrecisionBar;
 import com.madgear.ninjatrials.managers.GameManager;
+import com.madgear.ninjatrials.managers.ResourceGroup;
 import com.madgear.ninjatrials.managers.ResourceManager;
 import com.madgear.ninjatrials.managers.SFXManager;
 import com.madgear.ninjatrials.managers.SceneManager;
 import com.madgear.ninjatrials.test.TestingScene;
+import com.madgear.ninjatrials.trials.cut.CutRules;
+import com.madgear.ninjatrials.utils.FixedStepLoop;
 
 /**
  * Cut trial scene.
@@ -64,13 +67,13 @@ import com.madgear.ninjatrials.test.TestingScene;
  */
 public class TrialSceneCut extends GameScene {
     
-    public static final int SCORE_THUG = 5000;
-    public static final int SCORE_NINJA = 7000;
-    public static final int SCORE_NINJA_MASTER = 9000;
-    public static final int SCORE_GRAND_MASTER = 9500;
-    public static final int SCORE_ROUND_MAX = 500;
-    public static final int SCORE_ROUND_PENALTY = 50;
-    public static final int SCORE_CONCENTRATION_MAX = 9500;
+    public static final int SCORE_THUG = CutRules.SCORE_THUG;
+    public static final int SCORE_NINJA = CutRules.SCORE_NINJA;
+    public static final int SCORE_NINJA_MASTER = CutRules.SCORE_NINJA_MASTER;
+    public static final int SCORE_GRAND_MASTER = CutRules.SCORE_GRAND_MASTER;
+    public static final int SCORE_ROUND_MAX = CutRules.SCORE_ROUND_MAX;
+    public static final int SCORE_ROUND_PENALTY = CutRules.SCORE_ROUND_PENALTY;
+    public static final int SCORE_CONCENTRATION_MAX = CutRules.SCORE_CONCENTRATION_MAX;
     
     private static final float SWEAT_DROP_X_SHIFT = 150;
     private static final float SWEAT_DROP_Y_SHIFT = 200;
@@ -87,12 +90,10 @@ public class TrialSceneCut extends GameScene {
     private final static float WIDTH = ResourceManager.getInstance().cameraWidth;
     private final static float HEIGHT = ResourceManager.getInstance().cameraHeight;
     
-    private float timeRound;  // tiempo para ciclo de powerbar
     public static float timeMax = 10; // Tiempo máximo para corte:
     public static int roundMax = (int)timeMax;
     private float timeCounter = timeMax; // Tiempo total que queda para el corte
     private int frameNum = 0; // Contador para la animación
-    private float timerStartedIn = 0; // control de tiempo
 
 
     private SpriteBackground bg;
@@ -108,13 +109,14 @@ public class TrialSceneCut extends GameScene {
     private CharSparkle charSparkle;
     private Rectangle blinkLayer;
     private HeadCharacterCut headCharacterCut;
-    private boolean cutEnabled = false;
     private TimerHandler trialTimerHandler;
-    private IUpdateHandler trialUpdateHandler;
+    // The trial logic (rules, chrono and sequences) runs in fixed steps:
+    private final FixedStepLoop simulation = new FixedStepLoop();
+    private CutRules cutRules;
+    private FixedStepLoop.Stepper trialStepper;
     private final float readyTime = 4f;
     private final float endingTime = 6f;
     private int score = 0;
-    private boolean isTimeOut = false;
 
     
     /**
@@ -133,7 +135,7 @@ public class TrialSceneCut extends GameScene {
         final Text loadingText = new Text(
                 ResourceManager.getInstance().cameraWidth * 0.5f,
                 ResourceManager.getInstance().cameraHeight * 0.3f,
-                ResourceManager.getInstance().fontBig, ResourceManager.getInstance().loadAndroidRes().getString(R.string.app_loading),
+                ResourceManager.getInstance().fontBig, ResourceManager.getInstance().getString(R.string.app_loading),
                 new TextOptions(HorizontalAlign.CENTER),
                 ResourceManager.getInstance().engine.getVertexBufferObjectManager());
         loadingScene.attachChild(loadingText);
@@ -143,6 +145,11 @@ public class TrialSceneCut extends GameScene {
     @Override
     public void onLoadingScreenUnloadAndHidden() {}
 
+    @Override
+    public ResourceGroup getResourceGroup() {
+        return ResourceManager.CUT_GROUP;
+    }
+
     /**
      * Loads all the Scene resources and create the main objects.
      */
@@ -160,6 +167,7 @@ public class TrialSceneCut extends GameScene {
         
         // Sets difficulty:
         setTrialDiff(GameManager.getSelectedDiff());
+        cutRules = new CutRules(GameManager.getSelectedDiff());
         
         // Sets trial:
         GameManager.setCurrentTrial(GameManager.TRIAL_CUT);
@@ -172,7 +180,7 @@ public class TrialSceneCut extends GameScene {
         candleLeft = new Candle(WIDTH * 0.5f - 500, HEIGHT * 0.5f + 200);
         candleRight = new Candle(WIDTH * 0.5f + 500, HEIGHT * 0.5f + 200);
         gameHUD = new GameHUD();
-        precisionBar = new PrecisionBar(200f, 100f, timeRound);
+        precisionBar = new PrecisionBar(200f, 100f, cutRules.getCursor());
         chrono = new Chronometer(WIDTH - 200, HEIGHT - 200, 10, 0);
         mCharacter = new Character(WIDTH / 2 - 120, HEIGHT / 2);
         mEyes = new Eyes();
@@ -195,6 +203,10 @@ public class TrialSceneCut extends GameScene {
         gameHUD.attachChild(precisionBar);
         gameHUD.attachChild(chrono);
         gameHUD.attachChild(headCharacterCut);
+        simulation.add(cutRules);
+        simulation.addInterpolated(precisionBar);
+        simulation.add(chrono);
+        registerUpdateHandler(simulation);
         attachChild(mCharacter);
         attachChild(mEyes);
         attachChild(blinkLayer);
@@ -223,41 +235,38 @@ public class TrialSceneCut extends GameScene {
      * action secuence begins.
      */
     private void readySequence() {
-        gameHUD.showMessage(ResourceManager.getInstance().loadAndroidRes().getString(R.string.trial_cut_ready), 1, readyTime - 1);
-        timerStartedIn = ResourceManager.getInstance().engine.getSecondsElapsedTotal(); 
-        trialUpdateHandler = new IUpdateHandler() {
+        gameHUD.showMessage(ResourceManager.getInstance().getString(R.string.trial_cut_ready), 1, readyTime - 1);
+        final int readySteps = simulation.stepsFor(readyTime);
+        trialStepper = new FixedStepLoop.Stepper() {
+            private int steps = 0;
             @Override
-            public void onUpdate(float pSecondsElapsed) {
-                if(ResourceManager.getInstance().engine.getSecondsElapsedTotal() >
-                timerStartedIn + readyTime) {
-                    TrialSceneCut.this.unregisterUpdateHandler(trialUpdateHandler);
+            public void onStep(float step) {
+                if(++steps >= readySteps) {
+                    simulation.remove(trialStepper);
                     actionSequence();
                   }
             }
-            @Override public void reset() {}
         };
-        registerUpdateHandler(trialUpdateHandler);
+        simulation.add(trialStepper);
     }
 
     /**
      * Main trial secuence. Shows a "Cut!" message, starts the Chronometer and enables the cut.
      */
     protected void actionSequence() {
-        trialUpdateHandler = new IUpdateHandler() {
+        trialStepper = new FixedStepLoop.Stepper() {
             @Override
-            public void onUpdate(float pSecondsElapsed) {
-                if(chrono.isTimeOut()) {
-                    TrialSceneCut.this.unregisterUpdateHandler(trialUpdateHandler);
+            public void onStep(float step) {
+                if(cutRules.isTimeOut()) {
+                    simulation.remove(trialStepper);
                     timeOut();
                 }
             }
-            @Override public void reset() {}
         };
-        registerUpdateHandler(trialUpdateHandler);
-        gameHUD.showMessage(ResourceManager.getInstance().loadAndroidRes().getString(R.string.trial_cut_go), 0, 1);
+        simulation.add(trialStepper);
+        gameHUD.showMessage(ResourceManager.getInstance().getString(R.string.trial_cut_go), 0, 1);
         chrono.start();
-        precisionBar.start();
-        cutEnabled = true;
+        cutRules.start();
     }
 
     /**
@@ -265,15 +274,17 @@ public class TrialSceneCut extends GameScene {
      * gets the trial score. After the secuence calls the ending secuence.
      */
     public void cutSequence() {
-        cutEnabled = false;
         chrono.stop();
-        precisionBar.stop();
         saveTrialResults();
         frameNum = 0;
-        trialTimerHandler = new TimerHandler(0.1f, new ITimerCallback() {
+        simulation.remove(trialStepper);
+        final int frameSteps = simulation.stepsFor(0.1f);
+        trialStepper = new FixedStepLoop.Stepper() {
+            private int steps = 0;
             @Override
-            public void onTimePassed(final TimerHandler pTimerHandler) {
-                pTimerHandler.reset();  // new frame each 0.1 second !
+            public void onStep(float step) {
+                if (++steps < frameSteps) return;
+                steps = 0;  // new frame each 0.1 second !
                 if (frameNum == 10) mEyes.cut();
                 if (frameNum == 14) mCharacter.cut();
                 if (frameNum == 16) blink();
@@ -286,13 +297,13 @@ public class TrialSceneCut extends GameScene {
                     candleRight.cut();
                 }
                 if (frameNum == 60) {
-                    TrialSceneCut.this.unregisterUpdateHandler(trialTimerHandler);
+                    simulation.remove(trialStepper);
                     endingSequence();
                 }
                 frameNum++;
             }
-        });
-        registerUpdateHandler(trialTimerHandler);
+        };
+        simulation.add(trialStepper);
 
         // Stop music:
         SFXManager.stopMusic(ResourceManager.getInstance().trialCut);
@@ -306,13 +317,13 @@ public class TrialSceneCut extends GameScene {
     private void endingSequence() {
         //GameManager.incrementScore(score);
         score = getScore();
-        if(score >= SCORE_GRAND_MASTER && !isTimeOut) {
+        if(score >= SCORE_GRAND_MASTER && !cutRules.isTimeOut()) {
             endingSequencePerfect();
         }
-        else if(score >= SCORE_NINJA_MASTER && !isTimeOut) {
+        else if(score >= SCORE_NINJA_MASTER && !cutRules.isTimeOut()) {
             endingSequenceGreat();
         }
-        else if(score >= SCORE_THUG && !isTimeOut) {
+        else if(score >= SCORE_THUG && !cutRules.isTimeOut()) {
             endingSequenceSuccess();
         } else {
             endingSequenceFail();
@@ -354,9 +365,6 @@ public class TrialSceneCut extends GameScene {
      * When time is out the cut is not enabled. Calls ending secuence.
      */
     private void timeOut() {
-        isTimeOut = true;
-        precisionBar.stop();
-        precisionBar.setCursorValue(PrecisionBar.CURSOR_MIN_VALUE);
         cutSequence();
     }
 
@@ -365,7 +373,7 @@ public class TrialSceneCut extends GameScene {
      */
     @Override
     public void onPressButtonO() {
-        if (cutEnabled) {
+        if (cutRules.cut(getInputDelay())) {
             cutSequence();
         }
     }
@@ -376,31 +384,29 @@ public class TrialSceneCut extends GameScene {
      */
     private void setTrialDiff(int diff) {
         if(diff == GameManager.DIFF_EASY) {
-            timeRound = 4;
             timeMax = TIME_MAX_EASY;
         }
         else if(diff == GameManager.DIFF_MEDIUM) {
-            timeRound = 2;
             timeMax = TIME_MAX_MEDIUM;
         }
         else if(diff == GameManager.DIFF_HARD) {
-            timeRound = 1;
             timeMax = TIME_MAX_HARD;
         }
     }
 
 
     public static int getScore() {
-        return getConcentrationScore() + getRoundScore();
+        return CutRules.getScore(GameManager.player1result.cutConcentration,
+                GameManager.player1result.cutRound);
     }
     
     
     public static int getConcentrationScore() {
-        return GameManager.player1result.cutConcentration * SCORE_CONCENTRATION_MAX / 100;
+        return CutRules.getConcentrationScore(GameManager.player1result.cutConcentration);
     }
     
     public static int getRoundScore() {
-        return SCORE_ROUND_MAX - GameManager.player1result.cutRound * SCORE_ROUND_PENALTY;
+        return CutRules.getRoundScore(GameManager.player1result.cutRound);
     }
     
     public static int getStamp(int score) {
@@ -420,8 +426,10 @@ public class TrialSceneCut extends GameScene {
      * Saves the trial results in the GameManager.
      */
     private void saveTrialResults() {
-        GameManager.player1result.cutRound = precisionBar.getSemicycle();
-        GameManager.player1result.cutConcentration = 100 - Math.abs(precisionBar.getPowerValue());
+        GameManager.player1result.cutRound = cutRules.getRound();
+        GameManager.player1result.cutConcentration = cutRules.getConcentration();
+        GameManager.achievementEvent(TrialEvent.CUT_CONCENTRATION,
+                GameManager.player1result.cutConcentration);
     }
 
     /**
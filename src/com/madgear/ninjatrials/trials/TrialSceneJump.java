@@ -57,15 +57,21 @@ import com.madgear.ninjatrials.MainMenuScene;
 import com.madgear.ninjatrials.R;
 import com.madgear.ninjatrials.ResultLoseScene;
 import com.madgear.ninjatrials.ResultWinScene;
+import com.madgear.ninjatrials.managers.ResourceGroup;
 import com.madgear.ninjatrials.managers.ResourceManager;
 import com.madgear.ninjatrials.managers.SFXManager;
 import com.madgear.ninjatrials.managers.SceneManager;
+import com.madgear.ninjatrials.achievements.TrialEvent;
+import com.madgear.ninjatrials.hud.AngleCursor;
 import com.madgear.ninjatrials.hud.Chronometer;
 import com.madgear.ninjatrials.hud.GameHUD;
 import com.madgear.ninjatrials.hud.PrecisionAngleBar;
 import com.madgear.ninjatrials.hud.PrecisionBar;
 
 import com.madgear.ninjatrials.test.TestingScene;
+import com.madgear.ninjatrials.trials.jump.JumpRules;
+import com.madgear.ninjatrials.utils.FixedStepLoop;
+import com.madgear.ninjatrials.utils.InputQueue;
 import com.madgear.ninjatrials.utils.ParallaxBackground2d;
 import com.madgear.ninjatrials.utils.ParallaxBackground2d.ParallaxBackground2dEntity;
 
@@ -76,16 +82,15 @@ import com.madgear.ninjatrials.utils.ParallaxBackground2d.ParallaxBackground2dEn
  *
  */
 public class TrialSceneJump extends GameScene {
-    public static final int SCORE_THUG = 5000;
-    public static final int SCORE_NINJA = 7000;
-    public static final int SCORE_NINJA_MASTER = 9000;
-    public static final int SCORE_GRAND_MASTER = 9500;
+    public static final int SCORE_THUG = JumpRules.SCORE_THUG;
+    public static final int SCORE_NINJA = JumpRules.SCORE_NINJA;
+    public static final int SCORE_NINJA_MASTER = JumpRules.SCORE_NINJA_MASTER;
+    public static final int SCORE_GRAND_MASTER = JumpRules.SCORE_GRAND_MASTER;
     
     private float timeRound;  // tiempo para ciclo de powerbar
     private float timeMax = 10; // Tiempo mÃƒÂ¡ximo para corte:
     private float timeCounter = timeMax; // Tiempo total que queda para el corte
     private int frameNum = 0; // Contador para la animaciÃƒÂ³n
-    private float timerStartedIn = 0; // control de tiempo
     private float origX, origY = 0.0f;
     private boolean jumpMessage = true;
     private boolean firstJump = false;
@@ -93,11 +98,7 @@ public class TrialSceneJump extends GameScene {
     private float seconds = 0.0f;
     private boolean die = false;
     private boolean finalAnimation = false;
-    
-    private int numberPerfectJumps = 0;
-    private int numberPerfectJumpsInARow = 0;
-    private int numberPerfectJumpsInARowMax = 0;
-    private boolean comboActive = true;
+    private int jumpResult = JumpRules.JUMPED;
     
     private float[] destinyg = {0, 0};
     private float[] lastDestinyg = {0, 0};
@@ -107,6 +108,8 @@ public class TrialSceneJump extends GameScene {
     private float HEIGHT = ResourceManager.getInstance().cameraHeight;
 
     private float[] origin = {WIDTH / 2 - 120, HEIGHT / 2};
+    // Perfect jump combos and jump heights, from the start height of the character:
+    private final JumpRules jumpRules = new JumpRules(origin[1]);
     private SpriteBackground bg;
     private Statue mStatue;
     
@@ -212,6 +215,9 @@ public class TrialSceneJump extends GameScene {
     private boolean cutEnabled = false;
     public TimerHandler trialTimerHandler; // era private, esto es una chapuza para poder salir de aquÃ­ pulsando Back
     private IUpdateHandler trialUpdateHandler;
+    // The trial logic (angle bar, chrono and ready sequence) runs in fixed steps:
+    private final FixedStepLoop simulation = new FixedStepLoop();
+    private FixedStepLoop.Stepper readyStepper;
     private final float readyTime = 4f;
     private final float endingTime = 2f;
     private int score = 0;
@@ -232,7 +238,7 @@ public class TrialSceneJump extends GameScene {
         final Text loadingText = new Text(
                 ResourceManager.getInstance().cameraWidth * 0.5f,
                 ResourceManager.getInstance().cameraHeight * 0.3f,
-                ResourceManager.getInstance().fontBig, ResourceManager.getInstance().loadAndroidRes().getString(R.string.app_loading),
+                ResourceManager.getInstance().fontBig, ResourceManager.getInstance().getString(R.string.app_loading),
                 new TextOptions(HorizontalAlign.CENTER),
                 ResourceManager.getInstance().engine.getVertexBufferObjectManager());
         loadingScene.attachChild(loadingText);
@@ -242,6 +248,11 @@ public class TrialSceneJump extends GameScene {
     @Override
     public void onLoadingScreenUnloadAndHidden() {}
 
+    @Override
+    public ResourceGroup getResourceGroup() {
+        return ResourceManager.JUMP_GROUP;
+    }
+
     /**
      * Loads all the Scene resources and create the main objects.
      */
@@ -261,7 +272,7 @@ public class TrialSceneJump extends GameScene {
        
        mCamera = ResourceManager.getInstance().engine.getCamera();
         gameHUD = new GameHUD();
-        angleBar = new PrecisionAngleBar(200f, 200f, timeRound);
+        angleBar = new PrecisionAngleBar(200f, 200f, new AngleCursor(timeRound));
         chrono = new Chronometer(WIDTH - 200, HEIGHT - 200, 0, 50);
         mShineOnFloor = new ShineOnFloor(WIDTH / 2 - 300, 150);
         mShineOnFloor.activate();
@@ -288,6 +299,10 @@ public class TrialSceneJump extends GameScene {
         ResourceManager.getInstance().engine.getCamera().setHUD(gameHUD);
         gameHUD.attachChild(angleBar);
         gameHUD.attachChild(chrono);
+        simulation.add(angleBar.getCursor());
+        simulation.addInterpolated(angleBar);
+        simulation.add(chrono);
+        registerUpdateHandler(simulation);
 
         readySequence();
     }
@@ -301,6 +316,9 @@ public class TrialSceneJump extends GameScene {
     @Override
     public void onUnloadScene() {
     //    ResourceManager.getInstance().unloadCutSceneResources();
+        if (parallaxLayer != null) {
+            parallaxLayer.disposeSpriteBatches();
+        }
         ResourceManager.getInstance().unloadJumpSceneResources();
     }
 
@@ -310,22 +328,21 @@ public class TrialSceneJump extends GameScene {
      * action secuence begins.
      */
     private void readySequence() {
-        gameHUD.showMessage(ResourceManager.getInstance().loadAndroidRes().getString(R.string.trial_jump_ready), 1, readyTime - 1);
+        gameHUD.showMessage(ResourceManager.getInstance().getString(R.string.trial_jump_ready), 1, readyTime - 1);
         mCharacter.start(); // <-
         mShineOnFloor.shine();
-        timerStartedIn = ResourceManager.getInstance().engine.getSecondsElapsedTotal(); 
-        trialUpdateHandler = new IUpdateHandler() {
+        final int readySteps = simulation.stepsFor(readyTime);
+        readyStepper = new FixedStepLoop.Stepper() {
+            private int steps = 0;
             @Override
-            public void onUpdate(float pSecondsElapsed) {
-                if(ResourceManager.getInstance().engine.getSecondsElapsedTotal() >
-                timerStartedIn + readyTime) {
-                    TrialSceneJump.this.unregisterUpdateHandler(trialUpdateHandler);
+            public void onStep(float step) {
+                if(++steps >= readySteps) {
+                    simulation.remove(readyStepper);
                     actionSequence();
                   }
             }
-            @Override public void reset() {}
         };
-        registerUpdateHandler(trialUpdateHandler);
+        simulation.add(readyStepper);
     }
 
     /**
@@ -349,7 +366,7 @@ public class TrialSceneJump extends GameScene {
     	        //System.out.println("destiny"+lastDestinyg[1]);
     	        seconds = 0f;
     			}
-    			else if (lastDestinyg[1] > destinyg[1] && scoreJump [2] == -1 && lastDestinyg[1] != 0f && !die) {
+    			else if (lastDestinyg[1] > destinyg[1] && jumpResult == JumpRules.FELL && lastDestinyg[1] != 0f && !die) {
     				lastDestinyg[1] += (destinyg[1] - lastDestinyg[1]) * 0.05f - pSecondsElapsed * 100f;
     				parallaxLayer.setParallaxValue(0, lastDestinyg[1] / 10f);
     				mCamera.setCenter(WIDTH / 2, lastDestinyg[1] + 200);
@@ -357,7 +374,7 @@ public class TrialSceneJump extends GameScene {
     				
     			
     			if (seconds >= 0.5f && jumpMessage) {
-    				gameHUD.showMessage(ResourceManager.getInstance().loadAndroidRes().getString(R.string.trial_jump_go), 0, 1);
+    				gameHUD.showMessage(ResourceManager.getInstance().getString(R.string.trial_jump_go), 0, 1);
     				SFXManager.playMusic(ResourceManager.getInstance().trialJump);
     		         // Dani, lo de "Jump!" sÃ³lo tiene que mostrarse una vez al principio, no cada vez que se salte :)
     		        	chrono.stop();
@@ -373,7 +390,7 @@ public class TrialSceneJump extends GameScene {
     				cutEnabled = false;
     				angleBar.stop();
     				chrono.stop();
-    				GameManager.player1result.jumpTime = 50f;
+    				GameManager.player1result.jumpTime = JumpRules.TIME_LIMIT;
     				endingSequence();
     			}
     			if (destinyg[1] > 0)
@@ -400,15 +417,19 @@ public class TrialSceneJump extends GameScene {
         cutEnabled = false;
         angleBar.setAlpha(1);
         chrono.stop();
+        chrono.split();
     //    precisionBar.stop();
         angleBar.stop();
         scoreJump = getScoreJump();
+        jumpResult = jumpRules.jump(scoreJump);
+        if (jumpRules.isPerfectJump())
+        	GameManager.achievementEvent(TrialEvent.JUMP_PERFECT, jumpRules.getPerfectJumpsInARow());
         frameNum = 0;
         
         //delete in final (now used to test perfects ;)
         boolean itShined = false;
         //
-        if (scoreJump[2] == 1) {
+        if (jumpResult == JumpRules.JUMPED || jumpResult == JumpRules.REACHED_TOP) {
         	if (scoreJump[0] == angleBar.getMaxScore() && destinyg[1] != 0) {
         		SFXManager.playSound(ResourceManager.getInstance().trialJumpWhoosh3);
         		mShineOnWall.shine();
@@ -419,13 +440,13 @@ public class TrialSceneJump extends GameScene {
         	else 
         		SFXManager.playSound(ResourceManager.getInstance().trialJumpWhoosh1);
         		
-        	origin = mCharacter.jump(origin, scoreJump); // <-
+        	origin = mCharacter.jump(origin); // <-
         	//delete in final (now used to test perfects ;)
         	System.out.println("score = "+ scoreJump[0] + "maxScore="+ angleBar.getMaxScore()+ "itShined="+ itShined);
         	//
         }
         else
-        	origin = mCharacter.fall(origin, scoreJump);
+        	origin = mCharacter.fall(origin);
         
         trialTimerHandler = new TimerHandler(0.1f, new ITimerCallback() {
             @Override
@@ -439,7 +460,7 @@ public class TrialSceneJump extends GameScene {
         
         chrono.start();
         seconds = 0.0f;
-        if (destinyg[1] < 9040f && !falling)
+        if (destinyg[1] < JumpRules.FINISH_HEIGHT && !falling)
         	actionSequence();
         else {
         	//actionSequence();
@@ -463,24 +484,6 @@ public class TrialSceneJump extends GameScene {
         if (trialScore[2] == -1 && !firstJump)
         	falling = true;
         
-        //max score in x is 195 (capped if above)
-        if (trialScore[0] == angleBar.getMaxScore() && comboActive) {
-        	numberPerfectJumps++;
-        	numberPerfectJumpsInARow++;
-        	if (numberPerfectJumpsInARow > numberPerfectJumpsInARowMax)
-        		numberPerfectJumpsInARowMax = numberPerfectJumpsInARow;
-        }
-        else if (trialScore[0] == angleBar.getMaxScore())
-        {
-        	numberPerfectJumps++;
-        	numberPerfectJumpsInARow++;
-        	comboActive = true;
-        }
-        else
-        {
-        	numberPerfectJumpsInARow = 0;
-        	comboActive = false;
-        }
         return trialScore;
     }
 
@@ -491,13 +494,14 @@ public class TrialSceneJump extends GameScene {
     	if (!falling)
     		saveTrialResults();
     	else
-    		GameManager.player1result.jumpTime = 50;
+    		GameManager.player1result.jumpTime = JumpRules.TIME_LIMIT;
     	endingSequence();
     }
     public void saveTrialResults() {
     	 GameManager.player1result.jumpTime = chrono.getTimeValue();
-         GameManager.player1result.jumpPerfectJumpCombo = numberPerfectJumps;
-         GameManager.player1result.jumpMaxPerfectJumpCombo = numberPerfectJumpsInARowMax;
+         GameManager.player1result.jumpPerfectJumpCombo = jumpRules.getPerfectJumps();
+         GameManager.player1result.jumpMaxPerfectJumpCombo = jumpRules.getPerfectJumpsInARowMax();
+         GameManager.player1result.jumpSplits = chrono.copySplits();
     }
     
     /**
@@ -529,7 +533,7 @@ public class TrialSceneJump extends GameScene {
     	//poner cabeza (cambia con cursor).
     	//  que cuando alf termine los logros se guarde.
     	//las dificultades (pixeles de perfect y tiempo maximo)
-    	int timeScore = Math.round((50 - (GameManager.player1result.jumpTime - 8)) * 150); //8 seg es el minimo
+    	int timeScore = JumpRules.getTimeScore(GameManager.player1result.jumpTime); //8 seg es el minimo
     	System.out.println("time="+(int) GameManager.player1result.jumpTime);
     	return (int) timeScore;
     }
@@ -537,13 +541,13 @@ public class TrialSceneJump extends GameScene {
     public static int getPerfectJumpScore() {
         
     	System.out.println("perfects"+GameManager.player1result.jumpPerfectJumpCombo);
-    	return GameManager.player1result.jumpPerfectJumpCombo * 75;
+    	return JumpRules.getPerfectJumpScore(GameManager.player1result.jumpPerfectJumpCombo);
     }
 
     public static int getMaxPerfectJumpScore() {
         
     	System.out.println("MaxPerfects"+GameManager.player1result.jumpMaxPerfectJumpCombo);
-    	return GameManager.player1result.jumpMaxPerfectJumpCombo * 425;
+    	return JumpRules.getMaxPerfectJumpScore(GameManager.player1result.jumpMaxPerfectJumpCombo);
     }
     
     /**
@@ -555,15 +559,15 @@ public class TrialSceneJump extends GameScene {
         //different animations when winning in the future
         if(score >= SCORE_GRAND_MASTER) {
             //endingSequencePerfect();
-        	//gameHUD.showMessage(ResourceManager.getInstance().loadAndroidRes().getString(R.string.trial_jump_go), 0, 1);
+        	//gameHUD.showMessage(ResourceManager.getInstance().getString(R.string.trial_jump_go), 0, 1);
         }
         else if(score >= SCORE_NINJA_MASTER) {
-        	//gameHUD.showMessage(ResourceManager.getInstance().loadAndroidRes().getString(R.string.trial_jump_go), 0, 1);
+        	//gameHUD.showMessage(ResourceManager.getInstance().getString(R.string.trial_jump_go), 0, 1);
         }
         else if(score >= SCORE_THUG) {
-        	//gameHUD.showMessage(ResourceManager.getInstance().loadAndroidRes().getString(R.string.trial_jump_go), 0, 1);
+        	//gameHUD.showMessage(ResourceManager.getInstance().getString(R.string.trial_jump_go), 0, 1);
         } else {
-        	//gameHUD.showMessage(ResourceManager.getInstance().loadAndroidRes().getString(R.string.trial_jump_go), 0, 1);
+        	//gameHUD.showMessage(ResourceManager.getInstance().getString(R.string.trial_jump_go), 0, 1);
         }
 
         trialTimerHandler= new TimerHandler(endingTime, new ITimerCallback()
@@ -600,6 +604,7 @@ public class TrialSceneJump extends GameScene {
     @Override
     public void onPressButtonO() {
         if (cutEnabled) {
+        	angleBar.stop(getInputDelay());
         	jumpSequence();
         }
     }
@@ -641,7 +646,7 @@ public class TrialSceneJump extends GameScene {
 			SceneManager.getInstance().showScene(new TestingScene());
         }
 		if ((keyCode == OuyaController.BUTTON_O)) // Chapucilla para que el mando OUYA funcione
-			onPressButtonO();
+			postInput(InputQueue.BUTTON_O, true, event.getEventTime());
         return true;
     }
     // Para salir del trial y volver al menu de selecciÃ³n de escenas
@@ -694,14 +699,13 @@ public class TrialSceneJump extends GameScene {
         
         public void start() {
         	charSprite.animate(new long[] { 300, 300 }, new int[] {1, 2}, true);
-        	numberPerfectJumps = 0;
-        	numberPerfectJumpsInARow = 0;
+        	jumpRules.resetPerfectJumps();
         //	Path path = new Path(2).to(0f, 0f).to(0f,0f);
         	
         //	charSprite.registerEntityModifier(new PathModifier(.0f, path));
         }
         
-        public float[] fall(float[] origin, float[] score) {
+        public float[] fall(float[] origin) {
         	angleBar.setJumpValue(1);
         	float[] destiny = new float[] {0, 0};
         	if (origin[0] == jumpLeft){
@@ -717,7 +721,7 @@ public class TrialSceneJump extends GameScene {
         		charSprite.setFlippedHorizontal(true);
         	}
         	
-        	if (origin[1] > 2000f){
+        	if (jumpResult == JumpRules.DIED){
         		//fall and lose
         		falling = true;
         		die = true;
@@ -805,8 +809,7 @@ public class TrialSceneJump extends GameScene {
         	return destiny;
         }
         
-        public float[] jump(float[] origin, float[] score) {
-        	float angle = (float) Math.atan(score[0]/score[1]);
+        public float[] jump(float[] origin) {
         	//float xDistance = 1270f;
         	// x will be 0 or 100 always
         	float[] destiny = new float[] {0, 0};
@@ -820,14 +823,10 @@ public class TrialSceneJump extends GameScene {
         	}
         	
         	
-        	destiny[1] = ((float) (Math.tan(angle) * jumpRight)) * 0.1f + origin[1]; // its correct (float) (Math.tan(angle) * xDistance) + origin[1];
-        	
-        	if (destiny[1] - origin[1] > 1000f)
-        		destiny[1] = origin[1] + 1000f;
+        	destiny[1] = jumpRules.getHeight();
         		
-        	if (destiny[1] > 9050f)
+        	if (destiny[1] >= JumpRules.TOP_HEIGHT)
         	{
-        		destiny[1] = 9050f;
         		finalAnimation = true;//do another animation
         	}
         	
@@ -851,7 +850,7 @@ public class TrialSceneJump extends GameScene {
 						public void onAnimationFrameChanged(
 								AnimatedSprite pAnimatedSprite,
 								int pOldFrameIndex, int pNewFrameIndex) {
-							if (pNewFrameIndex == 6 && destinyg[1] < 9040f) {
+							if (pNewFrameIndex == 6 && destinyg[1] < JumpRules.FINISH_HEIGHT) {
 								angleBar.setCursorValueToBeginning();
 								angleBar.start();
 								cutEnabled = true;
@@ -1161,6 +1160,8 @@ public class TrialSceneJump extends GameScene {
 		// Estatuas
 		parallaxLayer.attachParallaxEntity(new ParallaxBackground2d.ParallaxBackground2dEntity(fFPL01, fFPL01, mSpr_bg01_statues, false, false));
 
+		// Las capas que comparten textura se dibujan en un solo SpriteBatch
+		parallaxLayer.setSpriteBatching(true);
 		// AÃ±adimos el fondo parallax a la escena
 		this.setBackground(parallaxLayer); 
 		
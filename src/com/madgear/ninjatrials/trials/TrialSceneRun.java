@@ -30,16 +30,21 @@ import org.andengine.util.adt.align.HorizontalAlign;
 import com.madgear.ninjatrials.GameScene;
 import com.madgear.ninjatrials.R;
 import com.madgear.ninjatrials.ResultWinScene;
+import com.madgear.ninjatrials.achievements.TrialEvent;
 import com.madgear.ninjatrials.hud.Chronometer;
 import com.madgear.ninjatrials.hud.GameHUD;
 import com.madgear.ninjatrials.hud.HeadCharacter;
+import com.madgear.ninjatrials.hud.MessageChannel;
 import com.madgear.ninjatrials.hud.PowerBar;
 import com.madgear.ninjatrials.managers.GameManager;
+import com.madgear.ninjatrials.managers.ResourceGroup;
 import com.madgear.ninjatrials.managers.ResourceManager;
 import com.madgear.ninjatrials.managers.SceneManager;
+import com.madgear.ninjatrials.managers.StringTemplate;
 import com.madgear.ninjatrials.test.TestingScene;
 import com.madgear.ninjatrials.trials.run.RunBg;
 import com.madgear.ninjatrials.trials.run.RunCharacter;
+import com.madgear.ninjatrials.utils.FixedStepLoop;
 
 
 /**
@@ -63,6 +68,9 @@ public class TrialSceneRun extends GameScene {
     private int distanceReached = 0;
     private int distanceTotal = 100;
     private boolean distanceCompleted = false;
+    // A split time is recorded every quarter of the distance:
+    private int splitDistance = distanceTotal / 4;
+    private int nextSplit = splitDistance;
 
     private float timeLoopLogic = 0.1f;
     private int timeTrial = 10;
@@ -76,6 +84,12 @@ public class TrialSceneRun extends GameScene {
     private RunBg parallaxBackground;
     private RunCharacter character;
     private TimerHandler trialTimerHandler;
+    // The trial logic (chrono, power and distance) runs in fixed steps:
+    private final FixedStepLoop simulation = new FixedStepLoop();
+    private FixedStepLoop.Stepper trialStepper;
+    // Reused for the combo message, updated every logic tick:
+    private final StringBuilder comboMessage = new StringBuilder(MessageChannel.MAX_CHARS);
+    private final StringTemplate comboTemplate = new StringTemplate(R.string.trial_run_combo);
 
 
     /**
@@ -95,7 +109,7 @@ public class TrialSceneRun extends GameScene {
         Scene loadingScene = new Scene();
         loadingScene.getBackground().setColor(0.3f, 0.3f, 0.6f);
         final Text loadingText = new Text(width * 0.5f, height * 0.3f,
-                ResourceManager.getInstance().fontBig, ResourceManager.getInstance().loadAndroidRes().getString(R.string.app_loading),
+                ResourceManager.getInstance().fontBig, ResourceManager.getInstance().getString(R.string.app_loading),
                 new TextOptions(HorizontalAlign.CENTER),
                 ResourceManager.getInstance().engine.getVertexBufferObjectManager());
         loadingScene.attachChild(loadingText);
@@ -105,6 +119,11 @@ public class TrialSceneRun extends GameScene {
     @Override
     public void onLoadingScreenUnloadAndHidden() {}
 
+    @Override
+    public ResourceGroup getResourceGroup() {
+        return ResourceManager.RUN_GROUP;
+    }
+
     /**
      * Loads all the Scene resources and create the main objects.
      */
@@ -141,6 +160,8 @@ public class TrialSceneRun extends GameScene {
         gameHUD.attachChild(chrono);
         gameHUD.attachChild(powerBar);
         gameHUD.attachChild(head);
+        simulation.add(chrono);
+        registerUpdateHandler(simulation);
         // TODO loading screen stolen me time by the face
         runPreparation();
     }
@@ -149,18 +170,22 @@ public class TrialSceneRun extends GameScene {
      * Control time, handler and objects before of start the trial.
      */
     private void runPreparation() {
-		this.registerUpdateHandler(new TimerHandler(1, true, new ITimerCallback() {
+        final int secondSteps = simulation.stepsFor(1);
+		trialStepper = new FixedStepLoop.Stepper() {
+            private int steps = 0;
 			@Override
-			public void onTimePassed(final TimerHandler pTimerHandler) {
+			public void onStep(float step) {
+                if (++steps < secondSteps) return;
+                steps = 0;
 				if (seconds == 4) {
-                    gameHUD.showMessage(ResourceManager.getInstance().loadAndroidRes().getString(R.string.trial_run_ready), 0, 1);
+                    gameHUD.showMessage(ResourceManager.getInstance().getString(R.string.trial_run_ready), 0, 1);
                 }
 				else if (1 <= seconds && seconds <= 3) {
                     gameHUD.showMessage("" + seconds);
                     canGainPower = true;
                 }
 				else if (seconds == 0) {
-                    gameHUD.showMessage(ResourceManager.getInstance().loadAndroidRes().getString(R.string.trial_run_go), 0, 1);
+                    gameHUD.showMessage(ResourceManager.getInstance().getString(R.string.trial_run_go), 0, 1);
                     runStart();
                 }
                 else {
@@ -168,24 +193,33 @@ public class TrialSceneRun extends GameScene {
                 }
                 seconds--;
 			}
-		}));
+		};
+		simulation.add(trialStepper);
     }
 
     /**
      * Control the time, handler and objects in the course trial.
      */
 	private void runStart(){
-		clearUpdateHandlers();
+		simulation.remove(trialStepper);
         chrono.start();
-		this.registerUpdateHandler(new TimerHandler(timeLoopLogic, true, new ITimerCallback() {
+        final int logicSteps = simulation.stepsFor(timeLoopLogic);
+		trialStepper = new FixedStepLoop.Stepper() {
+            private int steps = 0;
 			@Override
-			public void onTimePassed(final TimerHandler pTimerHandler) {
+			public void onStep(float step) {
+                if (++steps < logicSteps) return;
+                steps = 0;
                 chrono.setTimeValue(chrono.getTimeValue() - timeLoopLogic);
                 updatePower(-powerDecrement);
 				if (power >= powerHight) {
                     comboActual += timeLoopLogic;
                     comboTotal += timeLoopLogic;
-                    gameHUD.showMessage(ResourceManager.getInstance().loadAndroidRes().getString(R.string.trial_run_combo) + comboActual, 0, 1);
+                    final int comboTenths = Math.round(comboActual * 10);
+                    comboMessage.setLength(0);
+                    comboTemplate.formatFixed(comboMessage, comboTenths, 1);
+                    gameHUD.showMessage(comboMessage, 0, 1);
+                    GameManager.achievementEvent(TrialEvent.RUN_COMBO_TICK, comboTenths);
 				}
 				else {
 					comboActual = 0;
@@ -197,7 +231,8 @@ public class TrialSceneRun extends GameScene {
                     runFinish();
 				}
 			}
-		}));
+		};
+		simulation.add(trialStepper);
 	}
 
     /**
@@ -206,6 +241,10 @@ public class TrialSceneRun extends GameScene {
 	private void incrementDistance(){
         assert distanceReached < 0;
 		distanceReached += power / 100;
+        if (distanceReached >= nextSplit) {
+            chrono.split();
+            nextSplit += splitDistance;
+        }
         if (distanceReached >= distanceTotal) {
             distanceCompleted = true;
         }
@@ -243,7 +282,7 @@ public class TrialSceneRun extends GameScene {
      * Show the result of trial in screen.
      */
 	private void runShowResults() { // JJ: Results must be showed by using ResultWinScene and ResultLoseScene
-		clearUpdateHandlers();
+		simulation.remove(trialStepper);
 		canGainPower = false;
 		gameHUD.showMessage("Results:" + "\n"
                 + "Dist: " + distanceReached + "m" + "\n"
@@ -264,6 +303,7 @@ public class TrialSceneRun extends GameScene {
      * Calculate the score when you finish the trials or finish the trial time.
      */
 private void runFinish() {
+        GameManager.player1result.runSplits = chrono.copySplits();
         runShowResults();
         trialTimerHandler= new TimerHandler(endingTime, new ITimerCallback() {
             @Override
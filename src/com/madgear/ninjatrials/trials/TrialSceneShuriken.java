@@ -1,10 +1,5 @@
 package com.madgear.ninjatrials.trials;
 
-import java.util.ArrayList;
-import java.util.Timer;
-import java.util.TimerTask;
-
-import org.andengine.engine.handler.IUpdateHandler;
 import org.andengine.engine.handler.timer.ITimerCallback;
 import org.andengine.engine.handler.timer.TimerHandler;
 import org.andengine.entity.Entity;
@@ -34,9 +29,11 @@ import com.madgear.ninjatrials.GameScene;
 import com.madgear.ninjatrials.R;
 import com.madgear.ninjatrials.ResultLoseScene;
 import com.madgear.ninjatrials.ResultWinScene;
+import com.madgear.ninjatrials.achievements.TrialEvent;
 import com.madgear.ninjatrials.hud.GameHUD;
 import com.madgear.ninjatrials.hud.ShurikenEnemyCounter;
 import com.madgear.ninjatrials.managers.GameManager;
+import com.madgear.ninjatrials.managers.ResourceGroup;
 import com.madgear.ninjatrials.managers.ResourceManager;
 import com.madgear.ninjatrials.managers.SFXManager;
 import com.madgear.ninjatrials.managers.SceneManager;
@@ -44,7 +41,12 @@ import com.madgear.ninjatrials.test.MusicTest;
 import com.madgear.ninjatrials.test.TestingScene;
 import com.madgear.ninjatrials.trials.shuriken.ShurikenCoordinates;
 import com.madgear.ninjatrials.trials.shuriken.ShurikenEnemy;
+import com.madgear.ninjatrials.trials.shuriken.ShurikenEnemyRegistry;
 import com.madgear.ninjatrials.trials.shuriken.ShurikenHands;
+import com.madgear.ninjatrials.trials.shuriken.ShurikenRules;
+import com.madgear.ninjatrials.utils.EntityPool;
+import com.madgear.ninjatrials.utils.FixedStepLoop;
+import com.madgear.ninjatrials.utils.FrameScheduler;
 
 /**
  * Trial Scene Shuriken for Ninja Trials
@@ -58,37 +60,52 @@ public class TrialSceneShuriken extends GameScene{
 	
 	private final float SCRNWIDTH = ResourceManager.getInstance().cameraWidth;
 	private final float SCRNHEIGHT = ResourceManager.getInstance().cameraHeight;
-	private int AllowedImpactsOnPlayer = 1;
-	private int impactsOnPlayer = 0;
+	// Enemy schedule and route, hits and end of the game:
+	private final ShurikenRules rules = new ShurikenRules();
 	private ShurikenEnemyCounter shurikenEnemyCounterHUD;
-	private int enemyCount = 10;
-	private int enemiesLeft = enemyCount;
-	private int enemyInsertionInterval = 5; // seconds
+	private int enemyCount = ShurikenRules.ENEMY_COUNT;
+	private int enemyLanes = 10; // lanes of the hit detection index
 	private float enemySpeed = 0.25f; // % of horizontal screen size per second
 	private int enemyLifes = 1;
 	private float shurikenSpeed = 0.5f; // % of vertical screen size per second
+	private int shurikenPoolSize = 8; // max shurikens flying at the same time
 	private int currentImpactsOnPlayer = 0;
-	private int enemiesDefeated = 0;
-	private int shurikensLaunched = 0;
 	private float gameStartTime;
 	private float gameEndTime;
-	IUpdateHandler trialUpdateHandler;
 	private GameHUD gameHUD;
-	private boolean readyShow = false;
 	private boolean gameStarted = false;
 	private boolean gameFinished = false;
-	private float timeScore;
-	private float precissionScore;
-	private float score;
-	private float maxTime = 100; // seconds to get a 0 time score
 	private ShurikenHands hands;
-	private ArrayList<ShurikenEnemy> enemies;
+	private ShurikenEnemyRegistry enemies;
 	private int shurikenAnimationCounter;
-	Timer generateEnemiesTimer;
+	private static final float READY_MESSAGE_DELAY = 2f;
+	private static final float GO_MESSAGE_DELAY = 5f;
+	// The trial logic runs in fixed steps: the scheduler, the enemies, the hands and shurikens:
+	private final FixedStepLoop simulation = new FixedStepLoop();
+	private FrameScheduler scheduler;
+	private final ReadyMessage readyMessage = new ReadyMessage();
+	private final GoMessage goMessage = new GoMessage();
+	private final EnemyStatusChecker enemyStatusChecker = new EnemyStatusChecker();
+	private final EntityPool<ShurikenEnemy> enemyPool = new EntityPool<ShurikenEnemy>("enemies") {
+		@Override
+		protected ShurikenEnemy onCreateEntity() {
+			ShurikenEnemy enemy = new ShurikenEnemy(enemyLifes, enemySpeed);
+			simulation.add(enemy);
+			return enemy;
+		}
+		
+		@Override
+		protected void onRelease(ShurikenEnemy enemy) {
+			enemy.resetEnemy();
+		}
+	};
 	
 	public TrialSceneShuriken(){		
 		super(1f);
-		generateEnemiesTimer = new Timer();
+		scheduler = new FrameScheduler();
+		simulation.add(scheduler);
+		registerUpdateHandler(simulation);
+		enemies = new ShurikenEnemyRegistry(enemyCount, SCRNWIDTH, enemyLanes);
 	}
 	
 	/**
@@ -105,10 +122,16 @@ public class TrialSceneShuriken extends GameScene{
 	@Override
 	public void onLoadingScreenUnloadAndHidden() {}
 
+	@Override
+	public ResourceGroup getResourceGroup() {
+		return ResourceManager.SHURIKEN_GROUP;
+	}
+
 	/**
 	 * Shows background.
 	 * Creates gamehud.
 	 * Creates hands.
+	 * Prewarms the enemy and shuriken pools.
 	 */
 	@Override
 	public void onLoadScene() {
@@ -116,9 +139,11 @@ public class TrialSceneShuriken extends GameScene{
 		ResourceManager.getInstance().loadShurikenSceneResources();
 		setBackground(getBG());
 		gameHUD = new GameHUD();
-		shurikenEnemyCounterHUD = new ShurikenEnemyCounter(SCRNWIDTH*.84f, SCRNHEIGHT*.92f, enemiesLeft);
-		hands = new ShurikenHands();
+		shurikenEnemyCounterHUD = new ShurikenEnemyCounter(SCRNWIDTH*.84f, SCRNHEIGHT*.92f, rules.getEnemiesLeft());
+		hands = new ShurikenHands(simulation);
 		hands.setZIndex(99);
+		hands.prewarmShurikens(shurikenPoolSize);
+		enemyPool.prewarm(enemyCount);
 	}
 	
 	/**
@@ -164,11 +189,19 @@ public class TrialSceneShuriken extends GameScene{
 	 */
 	private void sortEnemiesZIndex() {
 		if (enemies != null && enemies.size() > 1) {
-			int temp = enemies.get(enemies.size() - 1).getZIndex();			
-			for (int i = enemies.size() - 1; i > 0; i--) {
-				enemies.get(i).setZIndex(enemies.get(i - 1).getZIndex());
+			int last = enemies.lastUsed();
+			int first = enemies.nextUsed(0);
+			int temp = enemies.get(last).getZIndex();
+			for (int i = last; i > first; i--) {
+				if (enemies.isUsed(i)) {
+					int previous = i - 1;
+					while (!enemies.isUsed(previous)) {
+						previous--;
+					}
+					enemies.get(i).setZIndex(enemies.get(previous).getZIndex());
+				}
 			}
-			enemies.get(0).setZIndex(temp);			
+			enemies.get(first).setZIndex(temp);
 		}		
 	}
 	
@@ -176,67 +209,68 @@ public class TrialSceneShuriken extends GameScene{
 	 * Shows Ready and Go messages and then starts the game.
 	 */
 	private void start() {
-		gameStartTime = ResourceManager.getInstance().engine.getSecondsElapsedTotal();
-		trialUpdateHandler = new IUpdateHandler() {
-            @Override
-            public void onUpdate(float pSecondsElapsed) {
-            	float waitPeriodForReadyMsg = 2f;
-            	float waitPeriodForGoMsg = 5f;
-                if(ResourceManager.getInstance().engine.getSecondsElapsedTotal() >
-                gameStartTime + waitPeriodForReadyMsg) {
-                	if (!readyShow){
-                		readyShow = true;
-                		gameHUD.showMessage(ResourceManager.getInstance().loadAndroidRes().getString(R.string.trial_shuriken_ready), 0, 2);
-                	}
-                }
-                if(ResourceManager.getInstance().engine.getSecondsElapsedTotal() >
-                gameStartTime + waitPeriodForGoMsg) {
-                    TrialSceneShuriken.this.unregisterUpdateHandler(trialUpdateHandler);
-                    gameHUD.showMessage(ResourceManager.getInstance().loadAndroidRes().getString(R.string.trial_shuriken_go), 0, 1);
-                    gameStarted = true;
-                    SFXManager.playMusic(ResourceManager.getInstance().trialShurikens);
-                    generateEnemies();
-                    checkEnemiesStatus();
-                    gameStartTime = ResourceManager.getInstance().engine.getSecondsElapsedTotal();
-                }
-            }
-            @Override public void reset() {}
-        };
-        registerUpdateHandler(trialUpdateHandler);
+		scheduler.schedule(readyMessage, READY_MESSAGE_DELAY);
+		scheduler.schedule(goMessage, GO_MESSAGE_DELAY);
 	}
 	
 	/**
-	 * Adds an enemy every enemyInsertionInterval seconds.
+	 * Shows the Ready message.
 	 */
-	private void generateEnemies() {
-		if (enemies == null){
-			enemies = new ArrayList<ShurikenEnemy>(enemyCount);
-			ShurikenEnemy enemy = new ShurikenEnemy(1, enemySpeed);
-			enemies.add(enemy);
-			attachChild(enemy);
+	private class ReadyMessage implements Runnable {
+
+		@Override
+		public void run() {
+			gameHUD.showMessage(ResourceManager.getInstance().getString(R.string.trial_shuriken_ready), 0, 2);
 		}
-		generateEnemiesTimer.schedule(new EnemyGenerator(), enemyInsertionInterval*1000);
+		
 	}
 	
 	/**
-	 * Aux. class for generateEnemies()
+	 * Shows the Go message and starts the enemies.
 	 */
-	private class EnemyGenerator extends TimerTask {
+	private class GoMessage implements Runnable {
 
 		@Override
 		public void run() {
-			ShurikenEnemy enemy = new ShurikenEnemy(1, enemySpeed);
-			enemies.add(enemy);
-			attachChild(enemy);
-			if (!gameFinished && enemies.size() < enemyCount){
-				generateEnemies();
-			}			
+			gameHUD.showMessage(ResourceManager.getInstance().getString(R.string.trial_shuriken_go), 0, 1);
+			gameStarted = true;
+			SFXManager.playMusic(ResourceManager.getInstance().trialShurikens);
+			gameStartTime = (float) simulation.getTime();
+			generateEnemies();
+			checkEnemiesStatus();
 		}
 		
 	}
 	
 	/**
-	 * Checks enemies current status every checkInterval seconds.
+	 * Adds an enemy when the rules say so: at the start and every insertion interval.
+	 */
+	private void generateEnemies() {
+		if (rules.isSpawnTime((float) simulation.getTime() - gameStartTime)) {
+			spawnEnemy();
+		}
+	}
+	
+	/**
+	 * Takes an enemy from the pool, registers it and starts its movement.
+	 * The enemy goes back to the pool when it's defeated or leaves the screen (releaseEnemy()).
+	 */
+	private void spawnEnemy() {
+		ShurikenEnemy enemy = enemyPool.acquire();
+		if (enemies.add(enemy) < 0) {
+			// Registry full:
+			enemyPool.release(enemy);
+			return;
+		}
+		rules.enemySpawned();
+		if (!enemy.hasParent()) {
+			attachChild(enemy);
+		}
+		enemy.start();
+	}
+	
+	/**
+	 * Checks enemies current status every checkInterval seconds, and adds the new enemies.
 	 * The following cases are checked:
 	 * - The enemy has impacted on player.
 	 * - The enemy has been defeated.
@@ -244,44 +278,35 @@ public class TrialSceneShuriken extends GameScene{
 	 */
 	private void checkEnemiesStatus() {
 		float checkInterval = .1f;
-		Timer timer = new Timer();
-		timer.schedule(new enemyStatusChecker(), (int)(checkInterval*1000));
+		scheduler.scheduleRepeating(enemyStatusChecker, checkInterval, checkInterval);
 	}
 	
 	/**
 	 * Aux. class for checkEnemiesStatus()
 	 */
-	private class enemyStatusChecker extends TimerTask {
+	private class EnemyStatusChecker implements Runnable {
 
 		@Override
 		public void run() {	
-			int tempEnemiesLeft = enemyCount;
-			int tempEnemiesDefeated = 0;
-			for (ShurikenEnemy enemy: enemies) {
-				if (enemy.hasHitPlayer()) {
-					enemy.hide();
-					tempEnemiesLeft--;
-					impactsOnPlayer++;
-					if (impactsOnPlayer >= AllowedImpactsOnPlayer) {
+			for (int i = enemies.nextUsed(0); i >= 0; i = enemies.nextUsed(i + 1)) {
+				if (enemies.get(i).hasHitPlayer()) {
+					// The enemy has left the screen:
+					releaseEnemy(i);
+					rules.enemyHitPlayer();
+					if (rules.isLost()) {
 						Log.d("Bruno", "The player has been impacted too many times.");
 						gameOver();
 					}
 				}
-				if (enemy.getLifes() <= 0) {					
-					tempEnemiesLeft--;
-					tempEnemiesDefeated++;
-				}
 			}
-			enemiesDefeated = tempEnemiesDefeated;
-			enemiesLeft = tempEnemiesLeft;
-			shurikenEnemyCounterHUD.setEnemiesLeft(enemiesLeft);
-			if (enemiesLeft <= 0) {
+			shurikenEnemyCounterHUD.setEnemiesLeft(rules.getEnemiesLeft());
+			if (rules.isFinished()) {
 				Log.d("Bruno", "There are no enemies left.");
 				gameOver();
 			}
-			if (!gameFinished){
-				checkEnemiesStatus();
-			}			
+			else {
+				generateEnemies();
+			}
 		}		
 	}
 	
@@ -292,20 +317,19 @@ public class TrialSceneShuriken extends GameScene{
 	 * Shows ResultWinScene or ResultsLoseScene
 	 */
 	private void gameOver() {
+		if (gameFinished) {
+			return;
+		}
 		Log.d("Bruno", "GameOver");
 		gameFinished = true;
-		generateEnemiesTimer.cancel();
+		scheduler.cancelAll();
 		SFXManager.pauseMusic(ResourceManager.getInstance().trialShurikens);
-		gameEndTime = ResourceManager.getInstance().engine.getSecondsElapsedTotal();
-		if (shurikensLaunched == 0) {
-			precissionScore = 0;
-		}
-		else {
-			precissionScore = enemiesDefeated / shurikensLaunched;
-		}		
-		timeScore = (maxTime - (gameEndTime - gameStartTime)) / maxTime;
+		gameEndTime = (float) simulation.getTime();
+		GameManager.player1result.shurikenTime = gameEndTime - gameStartTime;
+		GameManager.player1result.shurikenPrecission =
+				ShurikenRules.getPrecission(rules.getEnemiesDefeated(), rules.getShurikensLaunched());
 		hands.hide();
-		if (impactsOnPlayer >= AllowedImpactsOnPlayer) {
+		if (rules.isLost()) {
 			SceneManager.getInstance().showScene(new ResultLoseScene());
 		}
 		else {
@@ -313,46 +337,59 @@ public class TrialSceneShuriken extends GameScene{
 		}
 	}
 	
+	/**
+	 * Looks for the alive enemy closest to the hands in the lanes touched by the shuriken
+	 * and hits it.
+	 */
 	private void checkForImpact() {
-		Log.d("Bruno", "Checking for impact");
-		boolean hit = false;
-		float horizontalPreliminaryErrorMargin = .1f;
-		float horizontalErrorMargin = .1f;
-		for (ShurikenEnemy enemy: enemies) {
-			if (enemy.getLifes() > 0) {
-				if (Math.abs(hands.getPosition().x - enemy.getPosition().x) < SCRNWIDTH * horizontalPreliminaryErrorMargin) {
-					Log.d("Bruno", "Hands are aligned horizontally with an enemy (H, E)=("+hands.getPosition().x+", "+enemy.getPosition().x+") and it is moving "+enemy.getDirection());
-					/*
-					float timeToImpact = (enemy.getPosition().y - hands.getPosition().y) / (shurikenSpeed * SCRNHEIGHT);
-					Log.d("Bruno", "Predicted time to hypothetical impact is "+timeToImpact);
-					float enemyPredictedHorizontal;
-					if (enemy.getDirection() == 'r') {
-						enemyPredictedHorizontal = enemy.getPosition().x + enemySpeed * SCRNWIDTH * timeToImpact;
-						Log.d("Bruno", "(r)By then, the enemy will be at "+enemyPredictedHorizontal);
-					}
-					else if (enemy.getDirection() == 'l') {
-						enemyPredictedHorizontal = enemy.getPosition().x - enemySpeed * SCRNWIDTH * timeToImpact;
-						Log.d("Bruno", "(l)By then, the enemy will be at "+enemyPredictedHorizontal);
-					}
-					else {
-						enemyPredictedHorizontal = enemy.getPosition().x;
-						Log.d("Bruno", "(n)By then, the enemy will be at "+enemyPredictedHorizontal);
-					}
-
-					if (enemy.getDirection() != 'i' && Math.abs(hands.getPosition().x - enemyPredictedHorizontal) < SCRNWIDTH * horizontalErrorMargin) {
-						hit = true;
-						Log.d("Bruno", "Enemy hit!");
-					}
-					*/
-					hit = true;
-				}
-				if (hit) {
-					enemy.hit();
-					break;
-				}
-			}			
+		float horizontalPreliminaryErrorMargin = ShurikenRules.HIT_MARGIN;
+		int slot = enemies.findAliveNear(hands.getPosition().x,
+				SCRNWIDTH * horizontalPreliminaryErrorMargin);
+		if (slot >= 0) {
+			ShurikenEnemy enemy = enemies.get(slot);
+			/*
+			float horizontalErrorMargin = .1f;
+			float timeToImpact = (enemies.getY(slot) - hands.getPosition().y) / (shurikenSpeed * SCRNHEIGHT);
+			float enemyPredictedHorizontal;
+			if (enemy.getDirection() == 'r') {
+				enemyPredictedHorizontal = enemies.getX(slot) + enemySpeed * SCRNWIDTH * timeToImpact;
+			}
+			else if (enemy.getDirection() == 'l') {
+				enemyPredictedHorizontal = enemies.getX(slot) - enemySpeed * SCRNWIDTH * timeToImpact;
+			}
+			else {
+				enemyPredictedHorizontal = enemies.getX(slot);
+			}
+			if (enemy.getDirection() == 'i' || Math.abs(hands.getPosition().x - enemyPredictedHorizontal) >= SCRNWIDTH * horizontalErrorMargin) {
+				return;
+			}
+			*/
+			enemy.hit();
+			GameManager.achievementEvent(TrialEvent.SHURIKEN_HIT, enemy.getLifes());
+			if (enemy.getLifes() <= 0) {
+				rules.enemyDefeated();
+				releaseEnemy(slot);
+			}
 		}
-		
+	}
+	
+	/**
+	 * Removes the enemy from the registry and gives it back to the pool, that hides it and
+	 * resets it for the next spawnEnemy().
+	 */
+	private void releaseEnemy(int slot) {
+		ShurikenEnemy enemy = enemies.get(slot);
+		enemies.remove(slot);
+		enemyPool.release(enemy);
+	}
+	
+	/**
+	 * Keeps the enemy positions and the hit detection index up to date.
+	 */
+	@Override
+	protected void onManagedUpdate(final float pSecondsElapsed) {
+		enemies.syncPositions();
+		super.onManagedUpdate(pSecondsElapsed);
 	}
 	
 	/*
@@ -362,6 +399,7 @@ public class TrialSceneShuriken extends GameScene{
 	@Override
     public void onPressButtonMenu() {
 		gameFinished = true;
+		scheduler.cancelAll();
 		SFXManager.pauseMusic(ResourceManager.getInstance().trialShurikens);
 		SceneManager.getInstance().showScene(new TestingScene());
     }
@@ -369,11 +407,13 @@ public class TrialSceneShuriken extends GameScene{
 	/**
 	 * The player launches a shuriken, but only in the case that
 	 * the game already started it will be counted and checked for impact.
+	 * GameScene calls it from the input queue in the update thread, which owns the enemy
+	 * registry, so the launch is done right away.
 	 */
 	public void onPressButtonO() {
 		hands.launch();
 		if (gameStarted) {
-			shurikensLaunched++;
+			rules.shurikenLaunched();
 			checkForImpact();
 		}
 	}
@@ -394,23 +434,29 @@ public class TrialSceneShuriken extends GameScene{
     }
 	
 	public static int getScore() {
-	    // TODO Auto-generated method stub
-	    return 1;
+	    return ShurikenRules.getScore(GameManager.player1result.shurikenTime,
+	    		GameManager.player1result.shurikenPrecission);
 	}
 
-	public static int getStamp(int score2) {
-	    // TODO Auto-generated method stub
-	    return 0;
+	public static int getStamp(int score) {
+	    int stamp = ResultWinScene.STAMP_THUG;
+
+	    if (score >= ShurikenRules.SCORE_GRAND_MASTER)
+	        stamp = ResultWinScene.STAMP_GRAND_MASTER;
+	    else if (score >= ShurikenRules.SCORE_NINJA_MASTER)
+	        stamp = ResultWinScene.STAMP_NINJA_MASTER;
+	    else if (score >= ShurikenRules.SCORE_NINJA)
+	        stamp = ResultWinScene.STAMP_NINJA;
+
+	    return stamp;
 	}
 
 	public static int getTimeScore() {
-	    // TODO Auto-generated method stub
-	    return 0;
+	    return ShurikenRules.getTimeScore(GameManager.player1result.shurikenTime);
 	}
 
 	public static int getPrecissionScore() {
-	    // TODO Auto-generated method stub
-	    return 0;
+	    return ShurikenRules.getPrecissionScore(GameManager.player1result.shurikenPrecission);
 	}
 	
 	/**
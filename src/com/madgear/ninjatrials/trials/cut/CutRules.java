@@ -0,0 +1,199 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.trials.cut;
+
+import com.madgear.ninjatrials.hud.BarCursor;
+import com.madgear.ninjatrials.managers.GameManager;
+import com.madgear.ninjatrials.utils.FixedStepLoop;
+
+
+/**
+ * Rules of the Cut trial, without the scene: the precision bar cursor, the time limit, the cut
+ * and the score. TrialSceneCut adds them to its FixedStepLoop and draws them, and the
+ * TrialSimulator benchmark runs them alone with bots.
+ *
+ * The cursor starts moving with start(). The player cuts once: the concentration is how close
+ * the cursor is to the center of the bar, and every semi-cycle of the cursor before the cut is
+ * a penalty. If there is no cut in TIME_LIMIT seconds the cursor goes to the start of the bar
+ * (0 concentration).
+ *
+ * @author Madgear Games
+ */
+public class CutRules implements FixedStepLoop.Stepper {
+    public static final int SCORE_THUG = 5000;
+    public static final int SCORE_NINJA = 7000;
+    public static final int SCORE_NINJA_MASTER = 9000;
+    public static final int SCORE_GRAND_MASTER = 9500;
+    public static final int SCORE_ROUND_MAX = 500;
+    public static final int SCORE_ROUND_PENALTY = 50;
+    public static final int SCORE_CONCENTRATION_MAX = 9500;
+    // Seconds of the chronometer to cut:
+    public static final float TIME_LIMIT = 10;
+
+    private final BarCursor cursor;
+    private float time = 0;
+    private boolean running = false;
+    private boolean finished = false;
+    private boolean timeOut = false;
+    private int round = 0;
+    private int concentration = 0;
+
+    /**
+     * @param diff The game difficulty (GameManager.DIFF_EASY...).
+     */
+    public CutRules(int diff) {
+        cursor = new BarCursor(getTimeRound(diff));
+    }
+
+    /**
+     * @return Seconds of a whole cycle of the cursor for a difficulty.
+     */
+    public static float getTimeRound(int diff) {
+        if (diff == GameManager.DIFF_EASY)
+            return 4;
+        else if (diff == GameManager.DIFF_HARD)
+            return 1;
+        return 2;
+    }
+
+    /**
+     * Puts the rules back at the beginning, to play again.
+     */
+    public void reset() {
+        cursor.reset();
+        time = 0;
+        running = false;
+        finished = false;
+        timeOut = false;
+        round = 0;
+        concentration = 0;
+    }
+
+    public BarCursor getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Starts the cursor and the time.
+     */
+    public void start() {
+        running = true;
+        cursor.start();
+    }
+
+    /**
+     * @return True if the player can cut now.
+     */
+    public boolean canCut() {
+        return running;
+    }
+
+    /**
+     * The player cuts.
+     * @param late Seconds since the button was pressed, the cursor is stopped where it was then.
+     * @return False if the player can't cut now.
+     */
+    public boolean cut(float late) {
+        if (!running) {
+            return false;
+        }
+        cursor.stop(late);
+        finish();
+        return true;
+    }
+
+    /**
+     * Moves the cursor and ends the trial when the time is over.
+     */
+    @Override
+    public void onStep(float step) {
+        cursor.onStep(step);
+        if (!running) {
+            return;
+        }
+        time += step;
+        if (time >= TIME_LIMIT) {
+            timeOut = true;
+            cursor.stop();
+            cursor.setValue(BarCursor.MIN_VALUE);
+            finish();
+        }
+    }
+
+    private void finish() {
+        running = false;
+        finished = true;
+        round = cursor.getSemicycle();
+        concentration = getConcentration(cursor.getPowerValue());
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public boolean isTimeOut() {
+        return timeOut;
+    }
+
+    /**
+     * @return Seconds since start().
+     */
+    public float getTime() {
+        return time;
+    }
+
+    /**
+     * @return Semi-cycles of the cursor before the cut.
+     */
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * @return Concentration of the cut, from 0 to 100.
+     */
+    public int getConcentration() {
+        return concentration;
+    }
+
+    public int getScore() {
+        return getScore(concentration, round);
+    }
+
+    /**
+     * @param powerValue Power value of the cursor, from -100 to 100.
+     * @return The concentration, 100 in the center of the bar and 0 at the edges.
+     */
+    public static int getConcentration(int powerValue) {
+        return 100 - Math.abs(powerValue);
+    }
+
+    public static int getScore(int concentration, int round) {
+        return getConcentrationScore(concentration) + getRoundScore(round);
+    }
+
+    public static int getConcentrationScore(int concentration) {
+        return concentration * SCORE_CONCENTRATION_MAX / 100;
+    }
+
+    public static int getRoundScore(int round) {
+        return SCORE_ROUND_MAX - round * SCORE_ROUND_PENALTY;
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.trials.jump;
+
+import com.madgear.ninjatrials.hud.AngleCursor;
+import com.madgear.ninjatrials.managers.GameManager;
+
+
+/**
+ * Rules of the Jump trial, without the scene: the height of every jump, the perfect jump combos
+ * and the score. TrialSceneJump uses them between its character animations, and the
+ * TrialSimulator benchmark runs them alone with bots.
+ *
+ * Every jump takes the power value of the angle bar (AngleCursor.getPowerValue()). A jump with
+ * the cursor in the perfect range is a perfect jump. If the cursor passed the end of the bar the
+ * character falls: back to the floor, or the trial is lost if it was higher than DEATH_HEIGHT.
+ * The trial ends when the character reaches FINISH_HEIGHT.
+ *
+ * @author Madgear Games
+ */
+public class JumpRules {
+    public static final int SCORE_THUG = 5000;
+    public static final int SCORE_NINJA = 7000;
+    public static final int SCORE_NINJA_MASTER = 9000;
+    public static final int SCORE_GRAND_MASTER = 9500;
+    // Seconds of the chronometer, and the time of a lost trial:
+    public static final float TIME_LIMIT = 50;
+    // Horizontal distance between the two bamboos:
+    public static final float JUMP_DISTANCE = 1570f;
+    public static final float MAX_JUMP_HEIGHT = 1000f;
+    public static final float TOP_HEIGHT = 9050f;
+    public static final float FINISH_HEIGHT = 9040f;
+    public static final float DEATH_HEIGHT = 2000f;
+    // The cursor starts again in the frame 6 of the jump animation (75 ms per frame), and after
+    // the fall animation (8 frames of 125 ms):
+    public static final float JUMP_RESTART_TIME = 6 * 0.075f;
+    public static final float FALL_RESTART_TIME = 8 * 0.125f;
+
+    // Results of jump():
+    public static final int JUMPED = 0;
+    public static final int FELL = 1;
+    public static final int DIED = 2;
+    public static final int REACHED_TOP = 3;
+
+    private final float startHeight;
+    private float height;
+    private boolean perfectJump = false;
+    private int perfectJumps = 0;
+    private int perfectJumpsInARow = 0;
+    private int perfectJumpsInARowMax = 0;
+    private boolean comboActive = true;
+
+    /**
+     * @param startHeight Height of the character at the start, over the floor.
+     */
+    public JumpRules(float startHeight) {
+        this.startHeight = startHeight;
+        height = startHeight;
+    }
+
+    /**
+     * @return Seconds used to calculate the cursor speed for a difficulty.
+     */
+    public static float getTimeRound(int diff) {
+        if (diff == GameManager.DIFF_EASY)
+            return 4;
+        else if (diff == GameManager.DIFF_HARD)
+            return 1;
+        return 2;
+    }
+
+    /**
+     * Puts the rules back at the beginning, to play again.
+     */
+    public void reset() {
+        height = startHeight;
+        perfectJump = false;
+        perfectJumps = 0;
+        perfectJumpsInARow = 0;
+        perfectJumpsInARowMax = 0;
+        comboActive = true;
+    }
+
+    /**
+     * The perfect jumps start from 0 again (when the character starts or gets up after a fall).
+     * The longest combo is kept.
+     */
+    public void resetPerfectJumps() {
+        perfectJumps = 0;
+        perfectJumpsInARow = 0;
+    }
+
+    /**
+     * A jump with the cursor in a position.
+     * @param power The power value of the angle bar.
+     * @return JUMPED, REACHED_TOP, FELL or DIED.
+     */
+    public int jump(float[] power) {
+        perfectJump = countPerfectJump(power[0]);
+        if (power[2] == 1) {
+            height = Math.min(height + getJumpHeight(power), TOP_HEIGHT);
+            return height >= FINISH_HEIGHT ? REACHED_TOP : JUMPED;
+        }
+        if (height > DEATH_HEIGHT) {
+            height -= MAX_JUMP_HEIGHT;
+            return DIED;
+        }
+        height = 0;
+        resetPerfectJumps();
+        return FELL;
+    }
+
+    /**
+     * Counts a jump for the perfect jump combos.
+     * @param value The cursor value of the jump (the first power value).
+     * @return True if it's a perfect jump.
+     */
+    public boolean countPerfectJump(float value) {
+        //max score in x is 195 (capped if above)
+        if (value == AngleCursor.MAX_SCORE && comboActive) {
+            perfectJumps++;
+            perfectJumpsInARow++;
+            if (perfectJumpsInARow > perfectJumpsInARowMax)
+                perfectJumpsInARowMax = perfectJumpsInARow;
+            return true;
+        }
+        else if (value == AngleCursor.MAX_SCORE) {
+            perfectJumps++;
+            perfectJumpsInARow++;
+            comboActive = true;
+            return true;
+        }
+        perfectJumpsInARow = 0;
+        comboActive = false;
+        return false;
+    }
+
+    /**
+     * @return True if the last jump was a perfect jump.
+     */
+    public boolean isPerfectJump() {
+        return perfectJump;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+
+    public int getPerfectJumps() {
+        return perfectJumps;
+    }
+
+    public int getPerfectJumpsInARow() {
+        return perfectJumpsInARow;
+    }
+
+    public int getPerfectJumpsInARowMax() {
+        return perfectJumpsInARowMax;
+    }
+
+    /**
+     * @param power The power value of the angle bar.
+     * @return Height gained by a jump.
+     */
+    public static float getJumpHeight(float[] power) {
+        final float angle = (float) Math.atan(power[0] / power[1]);
+        final float height = ((float) (Math.tan(angle) * JUMP_DISTANCE)) * 0.1f;
+        return Math.min(height, MAX_JUMP_HEIGHT);
+    }
+
+    public static int getScore(float jumpTime, int perfectJumps, int perfectJumpsInARowMax) {
+        return getTimeScore(jumpTime) + getPerfectJumpScore(perfectJumps)
+                + getMaxPerfectJumpScore(perfectJumpsInARowMax);
+    }
+
+    /**
+     * 8 seconds is the minimum time.
+     */
+    public static int getTimeScore(float jumpTime) {
+        return Math.round((50 - (jumpTime - 8)) * 150);
+    }
+
+    public static int getPerfectJumpScore(int perfectJumps) {
+        return perfectJumps * 75;
+    }
+
+    public static int getMaxPerfectJumpScore(int perfectJumpsInARowMax) {
+        return perfectJumpsInARowMax * 425;
+    }
+}
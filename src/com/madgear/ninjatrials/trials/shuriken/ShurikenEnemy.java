@@ -1,19 +1,33 @@
 package com.madgear.ninjatrials.trials.shuriken;
 
-import org.andengine.engine.handler.IUpdateHandler;
 import org.andengine.entity.Entity;
 import org.andengine.entity.sprite.AnimatedSprite;
 import org.andengine.entity.sprite.Sprite;
-import org.andengine.opengl.texture.region.ITextureRegion;
-import org.andengine.opengl.texture.region.ITiledTextureRegion;
 
 import android.util.Log;
 
 import com.madgear.ninjatrials.managers.ResourceManager;
 import com.madgear.ninjatrials.managers.SFXManager;
 import com.madgear.ninjatrials.trials.TrialSceneShuriken;
+import com.madgear.ninjatrials.utils.FixedStepLoop;
 
-public class ShurikenEnemy extends Entity{
+/**
+ * Strawman enemy of the Shuriken trial.
+ * It follows the route of ShurikenRules: the horizontal position comes from
+ * ShurikenRules.getEnemyX() and the hit on the player from ShurikenRules.hasHitPlayer(), so the
+ * scene and the rules agree. Every route step only changes the sprites, the sounds and the
+ * falls and climbs between the lanes.
+ * The three sprites of the strawman (far, middle and final) are created with the enemy and only
+ * shown or hidden when it changes its route, so enemies can be prewarmed in an EntityPool and
+ * nothing is created while the trial is running.
+ *
+ * The enemy is a stepper of the FixedStepLoop of the scene: its route runs on the logic steps,
+ * from start() until it hits the player or resetEnemy() is called.
+ *
+ * @author Madgear Games
+ *
+ */
+public class ShurikenEnemy extends Entity implements FixedStepLoop.Stepper {
 	private final float SCRNWIDTH = ResourceManager.getInstance().cameraWidth;
 	private final float SCRENHEIGHT = ResourceManager.getInstance().cameraHeight;
 	private char direction; // r for right, l for left, n for none, i for invincible
@@ -22,8 +36,13 @@ public class ShurikenEnemy extends Entity{
 	private ShurikenCoordinates position;
 	private boolean playerHit = false;
 	private AnimatedSprite enemy;
-	private float startTime;
-	private IUpdateHandler enemyUpdateHandler;
+	private final AnimatedSprite enemyFar;
+	private final AnimatedSprite enemyMiddle;
+	private final Sprite enemyFinal;
+	private Sprite currentSprite;
+	private final int initialLifes;
+	private float age; // seconds since start()
+	private boolean running = false;
 	private int animationTimeCounter = 0;
 	private ShurikenCoordinates [] routes = {
 			new ShurikenCoordinates(SCRNWIDTH*9/10, SCRENHEIGHT*4/3), // [0] punto de entrada superior
@@ -39,15 +58,137 @@ public class ShurikenEnemy extends Entity{
 	};
 	
 	public ShurikenEnemy(int lifes, float speed) {
-		this.lifes = lifes;
+		this.initialLifes = lifes;
 		this.speed = speed;
-		this.direction = 'i';
 		this.position = new ShurikenCoordinates(routes[0].x, routes[0].y);
-		ITiledTextureRegion enemyITTR = ResourceManager.getInstance().shurikenStrawman1;
-		enemy = new AnimatedSprite(routes[0].x, routes[0].y, enemyITTR, ResourceManager.getInstance().engine.getVertexBufferObjectManager());
-		enemy.setCurrentTileIndex(2);
-		attachChild(enemy);
-		start();
+		enemyFar = new AnimatedSprite(routes[0].x, routes[0].y, ResourceManager.getInstance().shurikenStrawman1, ResourceManager.getInstance().engine.getVertexBufferObjectManager());
+		enemyMiddle = new AnimatedSprite(routes[4].x, routes[4].y, ResourceManager.getInstance().shurikenStrawman2, ResourceManager.getInstance().engine.getVertexBufferObjectManager());
+		enemyFinal = new Sprite(routes[8].x, routes[8].y, ResourceManager.getInstance().shurikenStrawman3, ResourceManager.getInstance().engine.getVertexBufferObjectManager());
+		attachChild(enemyFar);
+		attachChild(enemyMiddle);
+		attachChild(enemyFinal);
+		resetEnemy();
+	}
+	
+	/**
+	 * Advances the route of a started enemy.
+	 */
+	@Override
+	public void onStep(float step) {
+		if (!running) {
+			return;
+		}
+		age += step;
+		if (lifes > 0) {
+			currentSprite.setX(ShurikenRules.getEnemyX(age, SCRNWIDTH));
+			if (ShurikenRules.hasHitPlayer(age)) {
+				playerHit = true;
+				running = false;
+				return;
+			}
+		}
+		if(age > ShurikenRules.ENEMY_PERIOD*animationTimeCounter) {
+			if (animationTimeCounter == 0) {
+				// caer 1
+				SFXManager.playSound(ResourceManager.getInstance().trialShurikenStrawmanDescend);
+				TrialSceneShuriken.moveSprite(enemy, routes[0].x, routes[0].y, routes[1].x, routes[1].y, ShurikenRules.ENEMY_FALL_TIME);
+				direction = 'i';
+			}
+			else if (animationTimeCounter == 1) {
+				// expandirse 1
+				enemy.setCurrentTileIndex(1);
+			}
+			else if (animationTimeCounter == ShurikenRules.ENEMY_MOVE_LEFT_STEP && lifes > 0) {
+				// moverse <= 1
+				enemy.setScaleX(-1f);
+				enemy.setCurrentTileIndex(0);
+				SFXManager.playSound(ResourceManager.getInstance().trialShurikenStrawmanMove);
+				direction = 'l';
+			}
+			else if (animationTimeCounter == 6 && lifes > 0) {
+				// expandirse 1
+				enemy.setCurrentTileIndex(1);
+				direction = 'n';
+			}
+			else if (animationTimeCounter == 7 && lifes > 0) {
+				// subir 1
+				enemy.setCurrentTileIndex(2);
+				SFXManager.playSound(ResourceManager.getInstance().trialShurikenStrawmanAscend);
+				TrialSceneShuriken.moveSprite(enemy, routes[2].x, routes[2].y, routes[3].x, routes[3].y, ShurikenRules.ENEMY_FALL_TIME);
+				direction = 'i';
+			}
+			else if (animationTimeCounter == 8 && lifes > 0) {
+				// caer 2
+				enemy.setVisible(false);
+				enemy = enemyMiddle;
+				currentSprite = enemyMiddle;
+				enemy.setPosition(routes[4].x, routes[4].y);
+				enemy.setCurrentTileIndex(2);
+				enemy.setAlpha(1f);
+				enemy.setVisible(true);
+				SFXManager.playSound(ResourceManager.getInstance().trialShurikenStrawmanDescend);
+				TrialSceneShuriken.moveSprite(enemy, routes[4].x, routes[4].y, routes[5].x, routes[5].y, ShurikenRules.ENEMY_FALL_TIME);
+			}
+			else if (animationTimeCounter == 9 && lifes > 0) {
+				// expandirse 2
+				enemy.setCurrentTileIndex(1);
+				direction = 'n';
+			}
+			else if (animationTimeCounter == ShurikenRules.ENEMY_MOVE_RIGHT_STEP && lifes > 0) {
+				// moverse => 2
+				enemy.setCurrentTileIndex(0);
+				SFXManager.playSound(ResourceManager.getInstance().trialShurikenStrawmanMove);
+				direction = 'r';
+			}
+			else if (animationTimeCounter == 14 && lifes > 0) {
+				// expandirse 2
+				enemy.setCurrentTileIndex(1);
+				direction = 's';
+			}
+			else if (animationTimeCounter == 15 && lifes > 0) {
+				// subir 2
+				enemy.setCurrentTileIndex(2);
+				SFXManager.playSound(ResourceManager.getInstance().trialShurikenStrawmanAscend);
+				TrialSceneShuriken.moveSprite(enemy, routes[6].x, routes[6].y, routes[7].x, routes[7].y, ShurikenRules.ENEMY_FALL_TIME);
+				direction = 'i';
+			}
+			else if (animationTimeCounter == ShurikenRules.ENEMY_FINAL_STEP && lifes > 0){
+				// caer 3
+				enemy.setVisible(false);
+				currentSprite = enemyFinal;
+				enemyFinal.setPosition(routes[8].x, routes[8].y);
+				enemyFinal.setAlpha(1f);
+				enemyFinal.setVisible(true);
+				SFXManager.playSound(ResourceManager.getInstance().trialShurikenStrawmanDescend);
+				TrialSceneShuriken.moveSprite(enemyFinal, routes[8].x, routes[8].y, routes[9].x, routes[9].y, ShurikenRules.ENEMY_FALL_TIME);
+			}
+			animationTimeCounter++;
+		}
+	}
+	
+	/**
+	 * Puts the enemy back at the entry point with all its lifes, ready for start().
+	 * The route is stopped and its counter and time cleared, start() runs it again.
+	 */
+	public void resetEnemy() {
+		this.running = false;
+		this.age = 0;
+		this.lifes = initialLifes;
+		this.direction = 'i';
+		this.playerHit = false;
+		this.animationTimeCounter = 0;
+		enemyFar.clearEntityModifiers();
+		enemyMiddle.clearEntityModifiers();
+		enemyFinal.clearEntityModifiers();
+		enemyFar.setPosition(routes[0].x, routes[0].y);
+		enemyFar.setScaleX(1f);
+		enemyFar.setCurrentTileIndex(2);
+		enemyFar.setAlpha(1f);
+		enemyFar.setVisible(true);
+		enemyMiddle.setVisible(false);
+		enemyFinal.setVisible(false);
+		enemy = enemyFar;
+		currentSprite = enemyFar;
 	}
 	
 	public void start() {
@@ -65,105 +206,25 @@ public class ShurikenEnemy extends Entity{
 		 * y volvern a ascender a los rboles, tras
 		 * eso caer junto al personaje y mostrar el strawman con cartel     
 		 */
-		startTime = ResourceManager.getInstance().engine.getSecondsElapsedTotal();
-		enemyUpdateHandler = new IUpdateHandler() {
-            @Override
-            public void onUpdate(float pSecondsElapsed) {
-            	float period = 1f;
-                if(ResourceManager.getInstance().engine.getSecondsElapsedTotal() >
-                startTime + period*animationTimeCounter) {
-                	if (animationTimeCounter == 0) {
-                		// caer 1
-                		SFXManager.playSound(ResourceManager.getInstance().trialShurikenStrawmanDescend);
-                		TrialSceneShuriken.moveSprite(enemy, routes[0].x, routes[0].y, routes[1].x, routes[1].y, .9f);
-                		direction = 'i';
-                	}
-                	else if (animationTimeCounter == 1) {
-                		// expandirse 1
-                		enemy.setCurrentTileIndex(1);
-                	}
-                	else if (animationTimeCounter == 2 && lifes > 0) {
-                		// moverse <= 1
-                		enemy.setScaleX(-1f);
-                		enemy.setCurrentTileIndex(0);
-                		SFXManager.playSound(ResourceManager.getInstance().trialShurikenStrawmanMove);
-                		TrialSceneShuriken.moveSprite(enemy, routes[1].x, routes[1].y, routes[2].x, routes[2].y, 3.9f);
-                		direction = 'l';
-                	}
-                	else if (animationTimeCounter == 6 && lifes > 0) {
-                		// expandirse 1
-                		enemy.setCurrentTileIndex(1);
-                		direction = 'n';
-                	}
-                	else if (animationTimeCounter == 7 && lifes > 0) {
-                		// subir 1
-                		enemy.setCurrentTileIndex(2);
-                		SFXManager.playSound(ResourceManager.getInstance().trialShurikenStrawmanAscend);
-                		TrialSceneShuriken.moveSprite(enemy, routes[2].x, routes[2].y, routes[3].x, routes[3].y, .9f);
-                		direction = 'i';
-                	}
-                	else if (animationTimeCounter == 8 && lifes > 0) {
-                		// caer 2
-                		detachChild(enemy);
-                		ITiledTextureRegion enemyITTR = ResourceManager.getInstance().shurikenStrawman2;
-                		ShurikenEnemy.this.enemy = new AnimatedSprite(routes[4].x, routes[4].y, enemyITTR, ResourceManager.getInstance().engine.getVertexBufferObjectManager());
-                		enemy.setCurrentTileIndex(2);
-                		attachChild(enemy);
-                		SFXManager.playSound(ResourceManager.getInstance().trialShurikenStrawmanDescend);
-                		TrialSceneShuriken.moveSprite(enemy, routes[4].x, routes[4].y, routes[5].x, routes[5].y, .9f);
-                	}
-                	else if (animationTimeCounter == 9 && lifes > 0) {
-                		// expandirse 2
-                		enemy.setCurrentTileIndex(1);
-                		direction = 'n';
-                	}
-                	else if (animationTimeCounter == 10 && lifes > 0) {
-                		// moverse => 2
-                		enemy.setCurrentTileIndex(0);
-                		SFXManager.playSound(ResourceManager.getInstance().trialShurikenStrawmanMove);
-                		TrialSceneShuriken.moveSprite(enemy, routes[5].x, routes[5].y, routes[6].x, routes[6].y, 3.9f);
-                		direction = 'r';
-                	}
-                	else if (animationTimeCounter == 14 && lifes > 0) {
-                		// expandirse 2
-                		enemy.setCurrentTileIndex(1);
-                		direction = 's';
-                	}
-                	else if (animationTimeCounter == 15 && lifes > 0) {
-                		// subir 2
-                		enemy.setCurrentTileIndex(2);
-                		SFXManager.playSound(ResourceManager.getInstance().trialShurikenStrawmanAscend);
-                		TrialSceneShuriken.moveSprite(enemy, routes[6].x, routes[6].y, routes[7].x, routes[7].y, .9f);
-                		direction = 'i';
-                	}
-                	else if (animationTimeCounter == 16 && lifes > 0){
-                		// caer 3
-                		detachChild(enemy);
-                		ITextureRegion enemyITR = ResourceManager.getInstance().shurikenStrawman3;
-                		Sprite finalEnemy = new Sprite(routes[8].x, routes[8].y, enemyITR, ResourceManager.getInstance().engine.getVertexBufferObjectManager());
-                		attachChild(finalEnemy);
-                		SFXManager.playSound(ResourceManager.getInstance().trialShurikenStrawmanDescend);
-                		TrialSceneShuriken.moveSprite(finalEnemy, routes[8].x, routes[8].y, routes[9].x, routes[9].y, .9f);
-                	}
-                	else if (animationTimeCounter == 19 && lifes > 0) {
-                		playerHit = true;
-                		unregisterUpdateHandler(enemyUpdateHandler);
-                	}
-                	animationTimeCounter++;
-                }	                
-            }
-            @Override public void reset() {}
-        };
-        registerUpdateHandler(enemyUpdateHandler);
+		age = 0;
+		running = true;
 	}
 	
 	public ShurikenCoordinates getPosition() {
-		this.position = new ShurikenCoordinates(enemy.getX(), enemy.getY());
+		this.position = new ShurikenCoordinates(currentSprite.getX(), currentSprite.getY());
 		return position;
 	}
 	
+	public float getPositionX() {
+		return currentSprite.getX();
+	}
+	
+	public float getPositionY() {
+		return currentSprite.getY();
+	}
+	
 	public void hide() {
-		enemy.setAlpha(0f);
+		currentSprite.setAlpha(0f);
 	}
 	
 	public char getDirection() {
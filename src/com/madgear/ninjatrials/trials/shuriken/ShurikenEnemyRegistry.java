@@ -0,0 +1,244 @@
+package com.madgear.ninjatrials.trials.shuriken;
+
+/**
+ * Fixed capacity registry of the enemies of the Shuriken trial.
+ * Every enemy gets a stable slot when it's added. Two bitsets keep track of the used slots and
+ * the alive ones (enemies with lifes left), and the enemy positions are copied to primitive
+ * arrays so hit detection and status checks don't touch the boxed enemies more than needed.
+ * The alive enemies are also kept in a ShurikenSpatialIndex, which is updated every time the
+ * positions are synced, so hit queries only look at the lanes near the shuriken.
+ *
+ * The registry is owned by the first thread that modifies it (the update thread) and it's not
+ * synchronized, any access from another thread throws an IllegalStateException.
+ *
+ * Iterate with:
+ * for (int i = registry.nextUsed(0); i >= 0; i = registry.nextUsed(i + 1)) {...}
+ *
+ * @author Madgear Games
+ *
+ */
+public class ShurikenEnemyRegistry {
+	private final ShurikenEnemy[] enemies;
+	private final float[] posX;
+	private final float[] posY;
+	private final long[] usedBits;
+	private final long[] aliveBits;
+	private final ShurikenSpatialIndex spatialIndex;
+	private int size = 0;
+	private Thread owner;
+
+	/**
+	 * @param capacity Max number of enemies at the same time.
+	 * @param width Width of the area where the enemies move (usually the screen width).
+	 * @param lanes Number of lanes of the spatial index.
+	 */
+	public ShurikenEnemyRegistry(int capacity, float width, int lanes) {
+		spatialIndex = new ShurikenSpatialIndex(width, lanes, capacity);
+		enemies = new ShurikenEnemy[capacity];
+		posX = new float[capacity];
+		posY = new float[capacity];
+		usedBits = new long[(capacity + 63) / 64];
+		aliveBits = new long[usedBits.length];
+	}
+
+	/**
+	 * Puts the enemy in the first free slot.
+	 * @return The slot of the enemy, or -1 if the registry is full.
+	 */
+	public int add(ShurikenEnemy enemy) {
+		checkOwner();
+		int slot = nextFree();
+		if (slot < 0) {
+			return -1;
+		}
+		enemies[slot] = enemy;
+		posX[slot] = enemy.getPositionX();
+		posY[slot] = enemy.getPositionY();
+		set(usedBits, slot);
+		if (enemy.getLifes() > 0) {
+			set(aliveBits, slot);
+			spatialIndex.update(slot, posX[slot]);
+		}
+		size++;
+		return slot;
+	}
+
+	/**
+	 * Frees the slot. The slot can be reused by the next added enemy.
+	 */
+	public void remove(int slot) {
+		checkOwner();
+		if (isUsed(slot)) {
+			enemies[slot] = null;
+			clear(usedBits, slot);
+			clear(aliveBits, slot);
+			spatialIndex.remove(slot);
+			size--;
+		}
+	}
+
+	/**
+	 * Marks the enemy in the slot as defeated. It stays in the registry.
+	 */
+	public void markDead(int slot) {
+		checkOwner();
+		clear(aliveBits, slot);
+		spatialIndex.remove(slot);
+	}
+
+	/**
+	 * Removes all the enemies.
+	 */
+	public void clearAll() {
+		checkOwner();
+		for (int i = 0; i < enemies.length; i++) {
+			enemies[i] = null;
+		}
+		for (int i = 0; i < usedBits.length; i++) {
+			usedBits[i] = 0;
+			aliveBits[i] = 0;
+		}
+		spatialIndex.clear();
+		size = 0;
+	}
+
+	/**
+	 * Copies the current position of every used slot to the position arrays, and moves the
+	 * alive ones to their new lane in the spatial index.
+	 * Call it once per frame before reading getX() or getY().
+	 */
+	public void syncPositions() {
+		checkOwner();
+		for (int i = nextUsed(0); i >= 0; i = nextUsed(i + 1)) {
+			posX[i] = enemies[i].getPositionX();
+			posY[i] = enemies[i].getPositionY();
+			if (isAlive(i)) {
+				spatialIndex.update(i, posX[i]);
+			}
+		}
+	}
+
+	/**
+	 * Finds the alive enemy closest to x, using the spatial index.
+	 * @param x Horizontal position.
+	 * @param margin Max horizontal distance (exclusive).
+	 * @return The slot of the enemy, or -1 if no alive enemy is closer than margin.
+	 */
+	public int findAliveNear(float x, float margin) {
+		return spatialIndex.findNearest(x, margin);
+	}
+
+	public ShurikenEnemy get(int slot) {
+		return enemies[slot];
+	}
+
+	public float getX(int slot) {
+		return posX[slot];
+	}
+
+	public float getY(int slot) {
+		return posY[slot];
+	}
+
+	public boolean isUsed(int slot) {
+		return (usedBits[slot >> 6] & (1L << slot)) != 0;
+	}
+
+	public boolean isAlive(int slot) {
+		return (aliveBits[slot >> 6] & (1L << slot)) != 0;
+	}
+
+	/**
+	 * @return The number of enemies in the registry, dead or alive.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return The number of alive enemies.
+	 */
+	public int aliveCount() {
+		int count = 0;
+		for (int i = 0; i < aliveBits.length; i++) {
+			count += Long.bitCount(aliveBits[i]);
+		}
+		return count;
+	}
+
+	public int capacity() {
+		return enemies.length;
+	}
+
+	/**
+	 * @return The first used slot from "from" (inclusive), or -1 if there are no more.
+	 */
+	public int nextUsed(int from) {
+		return nextSet(usedBits, from);
+	}
+
+	/**
+	 * @return The first alive slot from "from" (inclusive), or -1 if there are no more.
+	 */
+	public int nextAlive(int from) {
+		return nextSet(aliveBits, from);
+	}
+
+	/**
+	 * @return The last used slot, or -1 if the registry is empty.
+	 */
+	public int lastUsed() {
+		for (int w = usedBits.length - 1; w >= 0; w--) {
+			if (usedBits[w] != 0) {
+				return (w << 6) + 63 - Long.numberOfLeadingZeros(usedBits[w]);
+			}
+		}
+		return -1;
+	}
+
+	private int nextSet(long[] bits, int from) {
+		if (from >= enemies.length) {
+			return -1;
+		}
+		int w = from >> 6;
+		long word = bits[w] & (-1L << from);
+		while (true) {
+			if (word != 0) {
+				return (w << 6) + Long.numberOfTrailingZeros(word);
+			}
+			if (++w == bits.length) {
+				return -1;
+			}
+			word = bits[w];
+		}
+	}
+
+	private int nextFree() {
+		for (int w = 0; w < usedBits.length; w++) {
+			long word = ~usedBits[w];
+			if (word != 0) {
+				int slot = (w << 6) + Long.numberOfTrailingZeros(word);
+				return slot < enemies.length ? slot : -1;
+			}
+		}
+		return -1;
+	}
+
+	private static void set(long[] bits, int slot) {
+		bits[slot >> 6] |= 1L << slot;
+	}
+
+	private static void clear(long[] bits, int slot) {
+		bits[slot >> 6] &= ~(1L << slot);
+	}
+
+	private void checkOwner() {
+		if (owner == null) {
+			owner = Thread.currentThread();
+		}
+		else if (owner != Thread.currentThread()) {
+			throw new IllegalStateException("ShurikenEnemyRegistry used from thread "
+					+ Thread.currentThread().getName() + ", owner is " + owner.getName());
+		}
+	}
+}
@@ -1,10 +1,7 @@
 package com.madgear.ninjatrials.trials.shuriken;
 
 import java.util.Random;
-import java.util.Timer;
-import java.util.TimerTask;
 
-import org.andengine.engine.handler.IUpdateHandler;
 import org.andengine.entity.Entity;
 import org.andengine.entity.sprite.AnimatedSprite;
 import org.andengine.entity.sprite.Sprite;
@@ -17,6 +14,9 @@ import com.madgear.ninjatrials.managers.GameManager;
 import com.madgear.ninjatrials.managers.ResourceManager;
 import com.madgear.ninjatrials.managers.SFXManager;
 import com.madgear.ninjatrials.trials.TrialSceneShuriken;
+import com.madgear.ninjatrials.utils.EntityPool;
+import com.madgear.ninjatrials.utils.FixedStepLoop;
+import com.madgear.ninjatrials.utils.FrameScheduler;
 
 public class ShurikenHands extends Entity{
 	private final float SCRNWIDTH = ResourceManager.getInstance().cameraWidth;
@@ -26,15 +26,32 @@ public class ShurikenHands extends Entity{
 	private boolean ignoreInputBecauseMoving = false;
 	private float movementDistanceDelta = 25; // pixels
 	private float movementTimeDelta = .020f; // seconds
-	private int movementAnimationExtraTimeMargin = 13; // miliseconds
-	private IUpdateHandler shurikenUpdateHandler;
-	private float shurikenLaunchTime;
+	private float movementAnimationExtraTimeMargin = .013f; // seconds
+	private float movementTriggerPeriod = .025f; // seconds
 	private AnimatedSprite hands;
 	private int shurikenAnimationCounter;
 	private boolean movingLeft = false;
 	private boolean movingRight = false;
+	private final FixedStepLoop simulation;
+	private FrameScheduler scheduler = new FrameScheduler();
+	private final HandsMovementWaiter movementWaiter = new HandsMovementWaiter(this);
+	private final HandsMovementTrigger movementTrigger = new HandsMovementTrigger(this);
+	private final EntityPool<ShurikenShuriken> shurikenPool =
+			new EntityPool<ShurikenShuriken>("shurikens") {
+		@Override
+		protected ShurikenShuriken onCreateEntity() {
+			ShurikenShuriken shuriken = new ShurikenShuriken(this);
+			attachChild(shuriken);
+			simulation.add(shuriken);
+			return shuriken;
+		}
+	};
 	
-	public ShurikenHands() {
+	/**
+	 * @param simulation The logic loop of the scene, that moves the hands and the shurikens.
+	 */
+	public ShurikenHands(FixedStepLoop simulation) {
+		this.simulation = simulation;
 		float posX = SCRNWIDTH/2;
 		float posY = 160f;
 		this.coordinates = new ShurikenCoordinates(posX, posY);
@@ -52,8 +69,8 @@ public class ShurikenHands extends Entity{
 		hands = new AnimatedSprite(posX, posY, handsITTR, ResourceManager.getInstance().engine.getVertexBufferObjectManager());
 		hands.setCurrentTileIndex(2);				
 		attachChild(hands);
-		Timer timer = new Timer();
-		timer.schedule(new HandsMovementTrigger(this), 50);
+		simulation.add(scheduler);
+		scheduler.scheduleRepeating(movementTrigger, .05f, movementTriggerPeriod);
 	}
 	public void moveLeft() {
 		movingLeft = true;		
@@ -62,8 +79,7 @@ public class ShurikenHands extends Entity{
 			ignoreInputBecauseMoving = true;
 			TrialSceneShuriken.moveSprite(hands, coordinates.x, coordinates.y, coordinates.x - movementDistanceDelta, coordinates.y, movementTimeDelta);
 			coordinates.x = coordinates.x - movementDistanceDelta;
-			Timer timer = new Timer();
-			timer.schedule(new HandsMovementWaiter(this), (int)(movementTimeDelta * 1000) + movementAnimationExtraTimeMargin);
+			scheduler.schedule(movementWaiter, movementTimeDelta + movementAnimationExtraTimeMargin);
 		}
 		*/
 	}
@@ -74,8 +90,7 @@ public class ShurikenHands extends Entity{
 			ignoreInputBecauseMoving = true;
 			TrialSceneShuriken.moveSprite(hands, coordinates.x, coordinates.y, coordinates.x + movementDistanceDelta, coordinates.y, movementTimeDelta);
 			coordinates.x = coordinates.x + movementDistanceDelta;
-			Timer timer = new Timer();
-			timer.schedule(new HandsMovementWaiter(this), (int)(movementTimeDelta * 1000) + movementAnimationExtraTimeMargin);
+			scheduler.schedule(movementWaiter, movementTimeDelta + movementAnimationExtraTimeMargin);
 		}
 		*/
 	}
@@ -89,6 +104,21 @@ public class ShurikenHands extends Entity{
 	public ShurikenCoordinates getPosition() {
 		return this.coordinates;
 	}
+	
+	/**
+	 * Creates the shurikens before the game starts, so launching doesn't create sprites.
+	 * @param count Max number of shurikens flying at the same time.
+	 */
+	public void prewarmShurikens(int count) {
+		shurikenPool.prewarm(count);
+	}
+	
+	/**
+	 * @return The shuriken pool, to read its hit and miss counters.
+	 */
+	public EntityPool<ShurikenShuriken> getShurikenPool() {
+		return shurikenPool;
+	}
 	public void launch() {
 		/*
 		 * el lanzamiento es puramente vertical
@@ -97,8 +127,7 @@ public class ShurikenHands extends Entity{
 		 * la velocidad vertical es constante (shurikenSpeed)
 		 */		
 		hands.animate(200, 0);
-		ShurikenShuriken shuriken = new ShurikenShuriken();
-		attachChild(shuriken);
+		ShurikenShuriken shuriken = shurikenPool.acquire();
 		shuriken.launch(this.coordinates.x);
 		SFXManager.playSound(ResourceManager.getInstance().trialShurikenThrowing);
 		if (generateCustomRandom(.25f)) {
@@ -123,9 +152,9 @@ public class ShurikenHands extends Entity{
 	
 	/**
 	 * Aux. class for class Hands.
-	 * TimerTask that enables input
+	 * Scheduled task that enables input
 	 */
-	private class HandsMovementWaiter extends TimerTask {		
+	private class HandsMovementWaiter implements Runnable {		
 		ShurikenHands hands;
 		
 		public HandsMovementWaiter(ShurikenHands hands){
@@ -138,7 +167,12 @@ public class ShurikenHands extends Entity{
 			hands.ignoreInputBecauseMoving = false;			
 		}		
 	}
-	private class HandsMovementTrigger extends TimerTask {		
+	
+	/**
+	 * Aux. class for class Hands.
+	 * Scheduled task that moves the hands every movementTriggerPeriod seconds
+	 */
+	private class HandsMovementTrigger implements Runnable {		
 		ShurikenHands hands;
 		
 		public HandsMovementTrigger(ShurikenHands hands){
@@ -156,8 +190,6 @@ public class ShurikenHands extends Entity{
 				TrialSceneShuriken.moveSprite(hands.hands, coordinates.x, coordinates.y, coordinates.x + movementDistanceDelta, coordinates.y, movementTimeDelta);
 				coordinates.x = coordinates.x + movementDistanceDelta;
 			}
-			Timer timer = new Timer();
-			timer.schedule(new HandsMovementTrigger(hands), 25);
 		}		
 	}
 }
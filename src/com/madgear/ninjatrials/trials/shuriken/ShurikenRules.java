@@ -0,0 +1,169 @@
+package com.madgear.ninjatrials.trials.shuriken;
+
+/**
+ * Rules of the Shuriken trial, without the scene: when the enemies appear, the route of the
+ * enemies, the hits, when the trial is won or lost, and the score. TrialSceneShuriken calls them
+ * from its scheduler and saves the trial time and precission with them, the result scenes show
+ * the scores, and the TrialSimulator benchmark runs them alone with bots.
+ *
+ * One enemy appears at the start and one more every ENEMY_INSERTION_INTERVAL. Every enemy
+ * follows the route of getEnemyX(), in steps of ENEMY_PERIOD, and hits the player at the end
+ * of it (hasHitPlayer()). ShurikenEnemy moves and animates its sprites on the same route. The trial is won when every enemy is defeated and lost after ALLOWED_IMPACTS_ON_PLAYER
+ * hits on the player.
+ *
+ * The score is a time part (SCORE_TIME_MAX for an instant game, 0 after MAX_TIME seconds) plus
+ * a precission part (SCORE_PRECISSION_MAX when every shuriken hits an enemy).
+ *
+ * @author Madgear Games
+ *
+ */
+public class ShurikenRules {
+	public static final int SCORE_THUG = 5000;
+	public static final int SCORE_NINJA = 7000;
+	public static final int SCORE_NINJA_MASTER = 9000;
+	public static final int SCORE_GRAND_MASTER = 9500;
+	public static final int SCORE_TIME_MAX = 5000;
+	public static final int SCORE_PRECISSION_MAX = 5000;
+	public static final float MAX_TIME = 100; // seconds to get a 0 time score
+	public static final int ENEMY_COUNT = 10;
+	public static final float ENEMY_INSERTION_INTERVAL = 5; // seconds
+	public static final float ENEMY_PERIOD = 1; // seconds of every step of the enemy route
+	public static final int ALLOWED_IMPACTS_ON_PLAYER = 1;
+	// Distance from the hands to the hit enemy, in % of the screen width:
+	public static final float HIT_MARGIN = .1f;
+	// Route of the enemies, in enemy periods since they appear:
+	public static final int ENEMY_MOVE_LEFT_STEP = 2;
+	public static final int ENEMY_MOVE_RIGHT_STEP = 10;
+	public static final int ENEMY_FINAL_STEP = 16;
+	public static final int ENEMY_HIT_PLAYER_STEP = 19;
+	// Seconds of a fall or a climb between the lanes:
+	public static final float ENEMY_FALL_TIME = .9f;
+	// Enemy periods of a move along a lane:
+	public static final float ENEMY_MOVE_TIME = 3.9f;
+
+	private int enemiesSpawned = 0;
+	private int enemiesDefeated = 0;
+	private int impactsOnPlayer = 0;
+	private int shurikensLaunched = 0;
+
+	/**
+	 * Puts the rules back at the beginning, to play again.
+	 */
+	public void reset() {
+		enemiesSpawned = 0;
+		enemiesDefeated = 0;
+		impactsOnPlayer = 0;
+		shurikensLaunched = 0;
+	}
+
+	/**
+	 * @param time Seconds since the start of the game.
+	 * @return True if a new enemy must appear now.
+	 */
+	public boolean isSpawnTime(float time) {
+		return !isFinished() && enemiesSpawned < ENEMY_COUNT
+				&& time >= enemiesSpawned * ENEMY_INSERTION_INTERVAL;
+	}
+
+	public void enemySpawned() {
+		enemiesSpawned++;
+	}
+
+	public void enemyDefeated() {
+		enemiesDefeated++;
+	}
+
+	public void enemyHitPlayer() {
+		impactsOnPlayer++;
+	}
+
+	public void shurikenLaunched() {
+		shurikensLaunched++;
+	}
+
+	/**
+	 * @param age Seconds since the enemy appeared.
+	 * @return True if the enemy reached the end of its route and hits the player.
+	 */
+	public static boolean hasHitPlayer(float age) {
+		return age >= ENEMY_HIT_PLAYER_STEP * ENEMY_PERIOD;
+	}
+
+	/**
+	 * Horizontal position of an enemy in its route: in at the right, to the left, back to the
+	 * right, and to the center in front of the player.
+	 * @param age Seconds since the enemy appeared.
+	 * @param width Screen width.
+	 */
+	public static float getEnemyX(float age, float width) {
+		final float step = age / ENEMY_PERIOD;
+		if (step < ENEMY_MOVE_LEFT_STEP)
+			return width * .9f;
+		if (step < ENEMY_MOVE_LEFT_STEP + ENEMY_MOVE_TIME)
+			return width * (.9f - .8f * (step - ENEMY_MOVE_LEFT_STEP) / ENEMY_MOVE_TIME);
+		if (step < ENEMY_MOVE_RIGHT_STEP)
+			return width * .1f;
+		if (step < ENEMY_MOVE_RIGHT_STEP + ENEMY_MOVE_TIME)
+			return width * (.1f + .8f * (step - ENEMY_MOVE_RIGHT_STEP) / ENEMY_MOVE_TIME);
+		if (step < ENEMY_FINAL_STEP)
+			return width * .9f;
+		return width * .5f;
+	}
+
+	public int getEnemiesLeft() {
+		return ENEMY_COUNT - enemiesDefeated - impactsOnPlayer;
+	}
+
+	public boolean isLost() {
+		return impactsOnPlayer >= ALLOWED_IMPACTS_ON_PLAYER;
+	}
+
+	public boolean isFinished() {
+		return isLost() || getEnemiesLeft() <= 0;
+	}
+
+	public int getEnemiesSpawned() {
+		return enemiesSpawned;
+	}
+
+	public int getEnemiesDefeated() {
+		return enemiesDefeated;
+	}
+
+	public int getImpactsOnPlayer() {
+		return impactsOnPlayer;
+	}
+
+	public int getShurikensLaunched() {
+		return shurikensLaunched;
+	}
+
+	/**
+	 * @return Percentage of the shurikens that defeated an enemy, from 0 to 100.
+	 */
+	public static int getPrecission(int enemiesDefeated, int shurikensLaunched) {
+		if (shurikensLaunched == 0) {
+			return 0;
+		}
+		return Math.min(100, enemiesDefeated * 100 / shurikensLaunched);
+	}
+
+	public static int getScore(float time, int precission) {
+		return getTimeScore(time) + getPrecissionScore(precission);
+	}
+
+	/**
+	 * @param time Seconds from the start of the game to the last enemy.
+	 */
+	public static int getTimeScore(float time) {
+		float part = (MAX_TIME - time) / MAX_TIME;
+		return Math.round(SCORE_TIME_MAX * Math.max(0f, Math.min(1f, part)));
+	}
+
+	/**
+	 * @param precission Percentage of shurikens that hit, from 0 to 100.
+	 */
+	public static int getPrecissionScore(int precission) {
+		return precission * SCORE_PRECISSION_MAX / 100;
+	}
+}
@@ -1,6 +1,5 @@
 package com.madgear.ninjatrials.trials.shuriken;
 
-import org.andengine.engine.handler.IUpdateHandler;
 import org.andengine.entity.Entity;
 import org.andengine.entity.sprite.Sprite;
 import org.andengine.opengl.texture.region.ITextureRegion;
@@ -8,17 +7,32 @@ import org.andengine.opengl.texture.region.ITextureRegion;
 import android.util.Log;
 
 import com.madgear.ninjatrials.managers.ResourceManager;
+import com.madgear.ninjatrials.utils.EntityPool;
+import com.madgear.ninjatrials.utils.FixedStepLoop;
 
-public class ShurikenShuriken extends Entity{
+/**
+ * A launched shuriken. Shurikens are reused through the EntityPool of ShurikenHands: the sprites
+ * are created only once, launch() restarts the animation and the shuriken goes back to the pool
+ * when the animation ends. The animation runs on the steps of the FixedStepLoop of the scene.
+ *
+ * @author Madgear Games
+ *
+ */
+public class ShurikenShuriken extends Entity implements FixedStepLoop.Stepper {
 	
 	private final float SCRNWIDTH = ResourceManager.getInstance().cameraWidth;
 	private final float SCRENHEIGHT = ResourceManager.getInstance().cameraHeight;	
 	private Sprite[] shurikenSprites = new Sprite[6];
 	int shurikenAnimationCounter;
-	float shurikenLaunchTime;
-	IUpdateHandler shurikenUpdateHandler;
+	float shurikenTime; // seconds since launch()
+	private final EntityPool<ShurikenShuriken> pool;
+	private boolean flying = false;
 
-	public ShurikenShuriken(){
+	/**
+	 * @param pool The pool the shuriken goes back to when the animation ends.
+	 */
+	public ShurikenShuriken(EntityPool<ShurikenShuriken> pool){
+		this.pool = pool;
 		ITextureRegion[] shurikenShurikens = ResourceManager.getInstance().shurikenShurikens;			
 		for (int i = 0; i < 6; i++) {
 			shurikenSprites[i] = new Sprite(SCRNWIDTH/2, SCRENHEIGHT-300-75*i, shurikenShurikens[i], ResourceManager.getInstance().engine.getVertexBufferObjectManager());
@@ -29,34 +43,47 @@ public class ShurikenShuriken extends Entity{
 	    }
 	}
 	
+	/**
+	 * Advances the animation of a flying shuriken.
+	 */
+	@Override
+	public void onStep(float step) {
+		float period = .12f;
+		if (!flying) {
+			return;
+		}
+		shurikenTime += step;
+		if(shurikenTime > period*shurikenAnimationCounter) {
+			if (shurikenAnimationCounter == 0) {
+				shurikenSprites[5-shurikenAnimationCounter].setAlpha(1f);
+			}
+			else if (shurikenAnimationCounter == 6) {
+				shurikenSprites[0].setAlpha(0f);
+				flying = false;
+				pool.release(this);
+			}
+			else {
+				shurikenSprites[5-shurikenAnimationCounter+1].setAlpha(0f);
+				shurikenSprites[5-shurikenAnimationCounter].setAlpha(1f);
+			}
+			shurikenAnimationCounter++;
+		}
+	}
+	
+	/**
+	 * Starts the shuriken animation from the x position.
+	 */
 	public void launch(float fromX) {
 		for (Sprite shuriken: shurikenSprites) {
 			shuriken.setX(fromX);
+			shuriken.setAlpha(0f);
 		}
 		shurikenAnimationCounter = 0;
-		shurikenLaunchTime = ResourceManager.getInstance().engine.getSecondsElapsedTotal();
-		shurikenUpdateHandler = new IUpdateHandler() {
-            @Override
-            public void onUpdate(float pSecondsElapsed) {
-            	float period = .12f;
-                if(ResourceManager.getInstance().engine.getSecondsElapsedTotal() >
-                shurikenLaunchTime + period*shurikenAnimationCounter) {
-                	if (shurikenAnimationCounter == 0) {
-                		shurikenSprites[5-shurikenAnimationCounter].setAlpha(1f);
-                	}
-                	else if (shurikenAnimationCounter == 6) {
-                		shurikenSprites[0].setAlpha(0f);
-                		ShurikenShuriken.this.unregisterUpdateHandler(shurikenUpdateHandler);
-                	}
-                	else {
-                		shurikenSprites[5-shurikenAnimationCounter+1].setAlpha(0f);
-                		shurikenSprites[5-shurikenAnimationCounter].setAlpha(1f);
-                	}
-                	shurikenAnimationCounter++;
-                }	                
-            }
-            @Override public void reset() {}
-        };
-        registerUpdateHandler(shurikenUpdateHandler);
+		shurikenTime = 0;
+		flying = true;
+	}
+	
+	public boolean isFlying() {
+		return flying;
 	}
 }
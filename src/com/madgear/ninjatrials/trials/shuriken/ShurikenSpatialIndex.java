@@ -0,0 +1,133 @@
+package com.madgear.ninjatrials.trials.shuriken;
+
+/**
+ * Spatial index for the shuriken hit detection.
+ * The screen is split in vertical lanes of the same width, and every enemy slot is kept in the
+ * bucket of the lane under it. Shurikens fly straight up, so a hit query only has to look at
+ * the lanes touched by the shuriken x position plus the error margin.
+ *
+ * Buckets are fixed arrays of slots, moving a slot between lanes is a swap-remove and an append,
+ * so nothing is allocated after the construction.
+ *
+ * @author Madgear Games
+ *
+ */
+public class ShurikenSpatialIndex {
+	private static final int NONE = -1;
+	private final float laneWidth;
+	private final int[][] buckets;
+	private final int[] bucketSizes;
+	private final int[] slotLane;
+	private final int[] slotIndexInBucket;
+	private final float[] slotX;
+
+	/**
+	 * @param width Width of the indexed area (usually the screen width).
+	 * @param lanes Number of lanes.
+	 * @param capacity Number of slots, the same capacity of the registry.
+	 */
+	public ShurikenSpatialIndex(float width, int lanes, int capacity) {
+		laneWidth = width / lanes;
+		buckets = new int[lanes][capacity];
+		bucketSizes = new int[lanes];
+		slotLane = new int[capacity];
+		slotIndexInBucket = new int[capacity];
+		slotX = new float[capacity];
+		for (int i = 0; i < capacity; i++) {
+			slotLane[i] = NONE;
+		}
+	}
+
+	/**
+	 * Puts the slot in the lane of x, or moves it if it was in another lane.
+	 */
+	public void update(int slot, float x) {
+		slotX[slot] = x;
+		int lane = laneOf(x);
+		if (lane != slotLane[slot]) {
+			remove(slot);
+			int index = bucketSizes[lane]++;
+			buckets[lane][index] = slot;
+			slotIndexInBucket[slot] = index;
+			slotLane[slot] = lane;
+		}
+	}
+
+	/**
+	 * Takes the slot out of the index, it will not be found by any query.
+	 */
+	public void remove(int slot) {
+		int lane = slotLane[slot];
+		if (lane == NONE) {
+			return;
+		}
+		int index = slotIndexInBucket[slot];
+		int last = --bucketSizes[lane];
+		int moved = buckets[lane][last];
+		buckets[lane][index] = moved;
+		slotIndexInBucket[moved] = index;
+		slotLane[slot] = NONE;
+	}
+
+	/**
+	 * Removes all the slots.
+	 */
+	public void clear() {
+		for (int i = 0; i < bucketSizes.length; i++) {
+			bucketSizes[i] = 0;
+		}
+		for (int i = 0; i < slotLane.length; i++) {
+			slotLane[i] = NONE;
+		}
+	}
+
+	/**
+	 * Finds the indexed slot closest to x, only looking at the lanes within the margin.
+	 * @param x Horizontal position of the shuriken.
+	 * @param margin Max horizontal distance (exclusive) between the shuriken and the enemy.
+	 * @return The slot, or -1 if there isn't any slot closer than margin.
+	 */
+	public int findNearest(float x, float margin) {
+		int firstLane = laneOf(x - margin);
+		int lastLane = laneOf(x + margin);
+		int nearest = NONE;
+		float nearestDistance = margin;
+		for (int lane = firstLane; lane <= lastLane; lane++) {
+			int[] bucket = buckets[lane];
+			for (int i = 0; i < bucketSizes[lane]; i++) {
+				int slot = bucket[i];
+				float distance = Math.abs(slotX[slot] - x);
+				if (distance < nearestDistance) {
+					nearestDistance = distance;
+					nearest = slot;
+				}
+			}
+		}
+		return nearest;
+	}
+
+	/**
+	 * @return The lane of the slot, or -1 if it isn't indexed.
+	 */
+	public int getLane(int slot) {
+		return slotLane[slot];
+	}
+
+	public int getLaneCount() {
+		return buckets.length;
+	}
+
+	/**
+	 * Lane of a horizontal position. Positions out of the screen go to the border lanes.
+	 */
+	private int laneOf(float x) {
+		int lane = (int) (x / laneWidth);
+		if (lane < 0) {
+			return 0;
+		}
+		if (lane >= buckets.length) {
+			return buckets.length - 1;
+		}
+		return lane;
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.utils;
+
+import org.andengine.entity.IEntity;
+import org.andengine.util.adt.pool.GenericPool;
+
+import android.util.Log;
+
+
+/**
+ * Pool of reusable entities (sprites, texts, or entities made of several sprites).
+ * Creating an entity builds its vertex buffers, so entities used in the middle of a trial
+ * should be created with prewarm() in onLoadScene() and then acquired and released.
+ *
+ * Released entities are not detached (detaching while the parent is being updated isn't safe),
+ * they are only hidden and stop updating. Override onAcquire() and onRelease() to reset the
+ * entity state.
+ *
+ * The pool counts hits (acquired from the pool) and misses (had to create a new entity) so the
+ * prewarm size can be tuned.
+ *
+ * @author Madgear Games
+ */
+public abstract class EntityPool<T extends IEntity> extends GenericPool<T> {
+    private final String name;
+    private int hits = 0;
+    private int misses = 0;
+    private int acquired = 0;
+
+    /**
+     * @param name Name of the pool, used in the log.
+     */
+    public EntityPool(final String name) {
+        super();
+        this.name = name;
+    }
+
+    /**
+     * Creates a new entity for the pool.
+     */
+    protected abstract T onCreateEntity();
+
+    /**
+     * Called when the entity is taken from the pool, after making it visible.
+     * @param entity The entity.
+     */
+    protected void onAcquire(final T entity) {}
+
+    /**
+     * Called when the entity goes back to the pool, after hiding it.
+     * @param entity The entity.
+     */
+    protected void onRelease(final T entity) {}
+
+    /**
+     * Creates entities until the pool has count of them available.
+     * Call it in onLoadScene().
+     * @param count The number of entities.
+     */
+    public void prewarm(final int count) {
+        final int missing = count - getAvailableItemCount();
+        if (missing > 0) {
+            batchAllocatePoolItems(missing);
+        }
+    }
+
+    /**
+     * Takes an entity from the pool, or creates a new one if the pool is empty.
+     * @return The visible entity.
+     */
+    public synchronized T acquire() {
+        if (getAvailableItemCount() > 0) {
+            hits++;
+        } else {
+            misses++;
+            Log.w("EntityPool", "Pool " + name + " is empty, creating a new entity.");
+        }
+        acquired++;
+        return obtainPoolItem();
+    }
+
+    /**
+     * Gives back an entity to the pool. The entity is hidden and stops updating.
+     * @param entity The entity.
+     */
+    public synchronized void release(final T entity) {
+        acquired--;
+        recyclePoolItem(entity);
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return The number of entities acquired and not released yet.
+     */
+    public int getAcquiredCount() {
+        return acquired;
+    }
+
+    public void resetCounters() {
+        hits = 0;
+        misses = 0;
+    }
+
+    @Override
+    public String toString() {
+        return name + " [hits=" + hits + ", misses=" + misses + ", acquired=" + acquired
+                + ", available=" + getAvailableItemCount() + "]";
+    }
+
+    @Override
+    protected T onAllocatePoolItem() {
+        final T entity = onCreateEntity();
+        entity.setVisible(false);
+        entity.setIgnoreUpdate(true);
+        return entity;
+    }
+
+    @Override
+    protected void onHandleObtainItem(final T entity) {
+        entity.setVisible(true);
+        entity.setIgnoreUpdate(false);
+        onAcquire(entity);
+    }
+
+    @Override
+    protected void onHandleRecycleItem(final T entity) {
+        entity.setVisible(false);
+        entity.setIgnoreUpdate(true);
+        onRelease(entity);
+    }
+}
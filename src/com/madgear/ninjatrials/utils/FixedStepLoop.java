@@ -0,0 +1,227 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.utils;
+
+import org.andengine.engine.handler.IUpdateHandler;
+
+
+/**
+ * Runs the trial logic in fixed time steps, whatever the frame rate.
+ * Register it on the scene: every frame the elapsed time is added to an accumulator and the
+ * steppers are called once per whole step in it (none in a short frame, several in a long one).
+ * The logic sees the same step every time, so a trial gives the same result at 30 or 60 fps and
+ * can be run without rendering, calling onUpdate() in a loop.
+ *
+ * After the steps, the Interpolated objects get the fraction of step left in the accumulator, so
+ * they can draw between the last two logic states.
+ *
+ * Frames longer than MAX_FRAME_TIME (loading hitches, a paused debugger) only advance that time.
+ *
+ * @author Madgear Games
+ */
+public class FixedStepLoop implements IUpdateHandler {
+    public static final float DEFAULT_STEP = 1f / 60f;
+    public static final float MAX_FRAME_TIME = 0.25f;
+
+    /**
+     * Logic advanced in fixed steps.
+     */
+    public interface Stepper {
+        /**
+         * @param step Seconds of the step, always the same for a loop.
+         */
+        void onStep(float step);
+    }
+
+    /**
+     * Drawing between the last two logic states.
+     */
+    public interface Interpolated {
+        /**
+         * @param alpha From 0 (previous state) to 1 (current state).
+         */
+        void onInterpolate(float alpha);
+    }
+
+    private final float step;
+    // Replaced when a stepper is added or removed, so they can be added or removed in a step:
+    private Stepper[] steppers = new Stepper[0];
+    private Interpolated[] interpolated = new Interpolated[0];
+    private float accumulator = 0;
+    private long stepCount = 0;
+    private boolean paused = false;
+
+    public FixedStepLoop() {
+        this(DEFAULT_STEP);
+    }
+
+    /**
+     * @param step Seconds of every step.
+     */
+    public FixedStepLoop(final float step) {
+        this.step = step;
+    }
+
+    /**
+     * Adds a stepper. If it's also Interpolated it's interpolated after the steps.
+     * Added in a step, it runs from the next one.
+     */
+    public void add(final Stepper stepper) {
+        if (contains(steppers, stepper)) {
+            return;
+        }
+        final Stepper[] newSteppers = new Stepper[steppers.length + 1];
+        System.arraycopy(steppers, 0, newSteppers, 0, steppers.length);
+        newSteppers[steppers.length] = stepper;
+        steppers = newSteppers;
+        if (stepper instanceof Interpolated) {
+            addInterpolated((Interpolated) stepper);
+        }
+    }
+
+    /**
+     * Adds an object that is only interpolated, drawing a state stepped by another stepper.
+     */
+    public void addInterpolated(final Interpolated item) {
+        if (contains(interpolated, item)) {
+            return;
+        }
+        final Interpolated[] newInterpolated = new Interpolated[interpolated.length + 1];
+        System.arraycopy(interpolated, 0, newInterpolated, 0, interpolated.length);
+        newInterpolated[interpolated.length] = item;
+        interpolated = newInterpolated;
+    }
+
+    /**
+     * Removes a stepper. Removed in a step, the steppers after it still run in that step.
+     */
+    public void remove(final Stepper stepper) {
+        steppers = without(steppers, stepper, new Stepper[Math.max(0, steppers.length - 1)]);
+        if (stepper instanceof Interpolated) {
+            removeInterpolated((Interpolated) stepper);
+        }
+    }
+
+    /**
+     * Removes an object added with addInterpolated().
+     */
+    public void removeInterpolated(final Interpolated item) {
+        interpolated = without(interpolated, item,
+                new Interpolated[Math.max(0, interpolated.length - 1)]);
+    }
+
+    /**
+     * Removes all the steppers.
+     */
+    public void clear() {
+        steppers = new Stepper[0];
+        interpolated = new Interpolated[0];
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * A paused loop doesn't step and drops the time that passes.
+     */
+    public void setPaused(final boolean paused) {
+        this.paused = paused;
+    }
+
+    public float getStep() {
+        return step;
+    }
+
+    /**
+     * @return Number of steps run since the loop was created.
+     */
+    public long getStepCount() {
+        return stepCount;
+    }
+
+    /**
+     * @return Simulated time: the number of steps by the step time.
+     */
+    public double getTime() {
+        return stepCount * (double) step;
+    }
+
+    /**
+     * @return The number of whole steps closest to a time (at least one).
+     */
+    public int stepsFor(final float seconds) {
+        return Math.max(1, Math.round(seconds / step));
+    }
+
+    /**
+     * Runs the steps that fit in the elapsed time and interpolates.
+     */
+    @Override
+    public void onUpdate(final float pSecondsElapsed) {
+        if (paused) {
+            return;
+        }
+        accumulator += Math.min(pSecondsElapsed, MAX_FRAME_TIME);
+        while (accumulator >= step) {
+            accumulator -= step;
+            stepCount++;
+            final Stepper[] current = steppers;
+            for (int i = 0; i < current.length; i++) {
+                current[i].onStep(step);
+            }
+        }
+        final float alpha = accumulator / step;
+        final Interpolated[] current = interpolated;
+        for (int i = 0; i < current.length; i++) {
+            current[i].onInterpolate(alpha);
+        }
+    }
+
+    /**
+     * Drops the accumulated time. The steppers are kept.
+     */
+    @Override
+    public void reset() {
+        accumulator = 0;
+    }
+
+    private static <T> boolean contains(final T[] array, final T item) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == item) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> T[] without(final T[] array, final T item, final T[] smaller) {
+        if (!contains(array, item)) {
+            return array;
+        }
+        int j = 0;
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] != item) {
+                smaller[j++] = array[i];
+            }
+        }
+        return smaller;
+    }
+}
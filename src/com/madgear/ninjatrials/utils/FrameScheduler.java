@@ -0,0 +1,178 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.utils;
+
+import java.util.ArrayList;
+
+import org.andengine.engine.handler.IUpdateHandler;
+import org.andengine.util.adt.pool.GenericPool;
+
+import com.madgear.ninjatrials.utils.FixedStepLoop.Stepper;
+
+
+/**
+ * Runs delayed and repeating tasks from the game loop instead of java.util.Timer threads.
+ * Register it on a scene or entity and the tasks run in the update thread, so they can touch
+ * entities safely. Task objects are recycled, scheduling creates no threads and no garbage once
+ * the pool is warm.
+ *
+ * Tasks are identified by their Runnable, so keep the Runnable in a field if you want to cancel
+ * it later.
+ *
+ * It can also be added to a FixedStepLoop instead, then the tasks run on the logic steps.
+ *
+ * @author Madgear Games
+ */
+public class FrameScheduler implements IUpdateHandler, Stepper {
+    private static final int INITIAL_POOL_SIZE = 8;
+
+    private final ArrayList<Task> tasks = new ArrayList<Task>(INITIAL_POOL_SIZE);
+    private final GenericPool<Task> taskPool = new GenericPool<Task>(INITIAL_POOL_SIZE) {
+        @Override
+        protected Task onAllocatePoolItem() {
+            return new Task();
+        }
+    };
+
+    /**
+     * Runs the runnable once after delay seconds.
+     * @param runnable The code to run.
+     * @param delay Seconds to wait.
+     */
+    public void schedule(final Runnable runnable, final float delay) {
+        scheduleRepeating(runnable, delay, 0f);
+    }
+
+    /**
+     * Runs the runnable after delay seconds and then every period seconds until it's cancelled.
+     * A repeating task runs at most once per frame, the time lost in a long frame is carried
+     * to the next run.
+     * @param runnable The code to run.
+     * @param delay Seconds to wait before the first run.
+     * @param period Seconds between runs. Use 0 for a one shot task.
+     */
+    public void scheduleRepeating(final Runnable runnable, final float delay,
+            final float period) {
+        final Task task = taskPool.obtainPoolItem();
+        task.runnable = runnable;
+        task.remaining = delay;
+        task.period = period;
+        task.cancelled = false;
+        tasks.add(task);
+    }
+
+    /**
+     * Cancels every pending task that runs this runnable.
+     * @param runnable The runnable used when scheduling.
+     */
+    public void cancel(final Runnable runnable) {
+        for (int i = 0; i < tasks.size(); i++) {
+            if (tasks.get(i).runnable == runnable) {
+                tasks.get(i).cancelled = true;
+            }
+        }
+    }
+
+    /**
+     * Cancels all the pending tasks.
+     */
+    public void cancelAll() {
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).cancelled = true;
+        }
+    }
+
+    /**
+     * @return True if the runnable has a pending task.
+     */
+    public boolean isScheduled(final Runnable runnable) {
+        for (int i = 0; i < tasks.size(); i++) {
+            final Task task = tasks.get(i);
+            if (task.runnable == runnable && !task.cancelled) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Advances the time of every task and runs the ones that are due.
+     * Tasks scheduled while running wait until the next frame.
+     */
+    @Override
+    public void onUpdate(final float pSecondsElapsed) {
+        final int count = tasks.size();
+        for (int i = 0; i < count; i++) {
+            final Task task = tasks.get(i);
+            if (task.cancelled) {
+                continue;
+            }
+            task.remaining -= pSecondsElapsed;
+            if (task.remaining <= 0) {
+                if (task.period > 0) {
+                    task.remaining += task.period;
+                    if (task.remaining < 0) {
+                        task.remaining = 0;
+                    }
+                } else {
+                    task.cancelled = true;
+                }
+                task.runnable.run();
+            }
+        }
+        // Recycle the finished tasks, keeping the order of the others:
+        int last = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            final Task task = tasks.get(i);
+            if (task.cancelled) {
+                task.runnable = null;
+                taskPool.recyclePoolItem(task);
+            } else {
+                tasks.set(last++, task);
+            }
+        }
+        for (int i = tasks.size() - 1; i >= last; i--) {
+            tasks.remove(i);
+        }
+    }
+
+    @Override
+    public void onStep(final float step) {
+        onUpdate(step);
+    }
+
+    /**
+     * Cancels all the tasks.
+     */
+    @Override
+    public void reset() {
+        cancelAll();
+    }
+
+    /**
+     * A pending run of a Runnable.
+     */
+    private static class Task {
+        Runnable runnable;
+        float remaining;
+        float period;
+        boolean cancelled;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.utils;
+
+
+/**
+ * Queue of button events, from the thread that receives them to the update thread.
+ * Android calls onKeyDown and the touch listener in the UI thread, while the trials change their
+ * state in the update thread. The scene offers the events here and drains them at the start of
+ * its update, so the press methods always run in the update thread, and every event keeps the
+ * time it happened at (SystemClock.uptimeMillis() base, as KeyEvent.getEventTime()).
+ *
+ * Lock free ring buffer of primitive arrays for one producer thread and one consumer thread:
+ * the producer only writes the tail and the consumer only writes the head. Offering and
+ * draining allocate nothing. When the queue is full the new events are dropped.
+ *
+ * @author Madgear Games
+ */
+public class InputQueue {
+    public static final int BUTTON_O = 0;
+    public static final int BUTTON_U = 1;
+    public static final int BUTTON_Y = 2;
+    public static final int BUTTON_A = 3;
+    public static final int BUTTON_MENU = 4;
+    public static final int DPAD_UP = 5;
+    public static final int DPAD_DOWN = 6;
+    public static final int DPAD_LEFT = 7;
+    public static final int DPAD_RIGHT = 8;
+
+    // Must be a power of two:
+    public static final int CAPACITY = 128;
+    private static final int MASK = CAPACITY - 1;
+    private static final int PRESSED = 0x100;
+
+    /**
+     * Receives the drained events.
+     */
+    public interface Listener {
+        /**
+         * @param button One of the BUTTON_ and DPAD_ constants.
+         * @param pressed True if pressed, false if released.
+         * @param time When the event happened, in SystemClock.uptimeMillis() milliseconds.
+         */
+        void onInput(int button, boolean pressed, long time);
+    }
+
+    private final int[] events = new int[CAPACITY];
+    private final long[] times = new long[CAPACITY];
+    // Count of events offered and drained. The slot of an event is its count & MASK:
+    private volatile int tail = 0;
+    private volatile int head = 0;
+    private volatile int dropped = 0;
+
+    /**
+     * Adds an event. Call it only from the producer thread.
+     * @param button One of the BUTTON_ and DPAD_ constants.
+     * @param pressed True if pressed, false if released.
+     * @param time When the event happened, in SystemClock.uptimeMillis() milliseconds.
+     * @return False if the queue was full and the event was dropped.
+     */
+    public boolean offer(final int button, final boolean pressed, final long time) {
+        final int t = tail;
+        if (t - head == CAPACITY) {
+            dropped++;
+            return false;
+        }
+        events[t & MASK] = pressed ? button | PRESSED : button;
+        times[t & MASK] = time;
+        // Publishes the slot to the consumer:
+        tail = t + 1;
+        return true;
+    }
+
+    /**
+     * Sends the queued events to the listener, oldest first. Call it only from the consumer
+     * thread. Events offered while draining are left for the next call.
+     * @return Number of events drained.
+     */
+    public int drain(final Listener listener) {
+        final int t = tail;
+        int h = head;
+        final int count = t - h;
+        while (h != t) {
+            final int event = events[h & MASK];
+            final long time = times[h & MASK];
+            // Frees the slot before the listener runs:
+            head = ++h;
+            listener.onInput(event & ~PRESSED, (event & PRESSED) != 0, time);
+        }
+        return count;
+    }
+
+    /**
+     * @return Number of events waiting.
+     */
+    public int size() {
+        return tail - head;
+    }
+
+    /**
+     * @return Number of events dropped because the queue was full.
+     */
+    public int getDroppedCount() {
+        return dropped;
+    }
+}
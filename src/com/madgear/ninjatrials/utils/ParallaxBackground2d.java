@@ -18,6 +18,9 @@ import java.util.ArrayList;
 import org.andengine.engine.camera.Camera;
 import org.andengine.entity.scene.background.Background;
 import org.andengine.entity.shape.IShape;
+import org.andengine.entity.sprite.Sprite;
+import org.andengine.entity.sprite.batch.SpriteBatch;
+import org.andengine.opengl.texture.ITexture;
 import org.andengine.opengl.util.GLState;
 
 
@@ -41,6 +44,10 @@ import org.andengine.opengl.util.GLState;
  * ...non repeating positioned item...
  * mParallaxBackground.addParallaxEntity(new ParallaxBackground2d.ParallaxBackground2dEntity(-0.4f,-0.4f, new Sprite(100, 100, this.mParallaxLayerSun),false,false,true));
  * 
+ * Madgear: with setSpriteBatching(true) the visible tiles of consecutive entities whose sprites
+ * share a texture are drawn with one SpriteBatch (one draw call) instead of one draw call per
+ * tile. Only plain sprites are batched (no rotation, scale, skew, flip or children), other
+ * shapes are drawn one by one as before.
  * 
  */
 @SuppressLint("WrongCall")
@@ -56,6 +63,10 @@ public class ParallaxBackground2d extends Background {
 	private final ArrayList<ParallaxBackground2dEntity> mParallaxEntities = new ArrayList<ParallaxBackground2dEntity>();
 	private int mParallaxEntityCount;
 
+	private boolean mSpriteBatching = false;
+	private final ArrayList<ParallaxBatch> mBatches = new ArrayList<ParallaxBatch>();
+	private boolean mBatchesDirty = true;
+
 	protected float mParallaxValueX;
 	protected float mParallaxValueY;
 
@@ -88,6 +99,27 @@ public class ParallaxBackground2d extends Background {
 		this.mParallaxValueY += pParallaxValueY;
 	}
 
+	public boolean isSpriteBatching() {
+		return this.mSpriteBatching;
+	}
+
+	/**
+	 * Draws the tiles of consecutive sprites with the same texture in one SpriteBatch.
+	 * The batches are built in the next frame, after attaching all the entities.
+	 */
+	public void setSpriteBatching(final boolean pSpriteBatching) {
+		this.mSpriteBatching = pSpriteBatching;
+		this.mBatchesDirty = true;
+	}
+
+	/**
+	 * @return The number of batches drawn per frame, one draw call each (an entity that can't be
+	 * batched is a batch of its own). Without batching, the number of entities.
+	 */
+	public int getBatchCount() {
+		return this.mSpriteBatching ? this.mBatches.size() : this.mParallaxEntityCount;
+	}
+
 	// ===========================================================
 	// Methods for/from SuperClass/Interfaces
 	// ===========================================================
@@ -100,8 +132,19 @@ public class ParallaxBackground2d extends Background {
 		final float parallaxValueY = this.mParallaxValueY;
 		final ArrayList<ParallaxBackground2dEntity> parallaxEntities = this.mParallaxEntities;
 
-		for(int i = 0; i < this.mParallaxEntityCount; i++) {
-			parallaxEntities.get(i).onDraw(pGLState, parallaxValueX, parallaxValueY, pCamera);
+		if (!this.mSpriteBatching) {
+			for(int i = 0; i < this.mParallaxEntityCount; i++) {
+				parallaxEntities.get(i).onDraw(pGLState, parallaxValueX, parallaxValueY, pCamera);
+			}
+			return;
+		}
+
+		if (this.mBatchesDirty) {
+			this.buildBatches();
+		}
+		final ArrayList<ParallaxBatch> batches = this.mBatches;
+		for(int i = 0; i < batches.size(); i++) {
+			batches.get(i).onDraw(pGLState, parallaxValueX, parallaxValueY, pCamera);
 		}
 	}
 	
@@ -113,6 +156,7 @@ public class ParallaxBackground2d extends Background {
 	public void attachParallaxEntity(final ParallaxBackground2dEntity pParallaxEntity) {
 		this.mParallaxEntities.add(pParallaxEntity);
 		this.mParallaxEntityCount++;
+		this.mBatchesDirty = true;
 	}
 
 	public boolean detachParallaxEntity(final ParallaxBackground2dEntity pParallaxEntity) {
@@ -121,14 +165,126 @@ public class ParallaxBackground2d extends Background {
 		if(!success) {
 			this.mParallaxEntityCount++;
 		}
+		this.mBatchesDirty = true;
 		return success;
 	}
+
+	/**
+	 * Frees the vertex buffers of the batches. Call it when the scene is unloaded.
+	 */
+	public void disposeSpriteBatches() {
+		for(int i = 0; i < this.mBatches.size(); i++) {
+			this.mBatches.get(i).dispose();
+		}
+		this.mBatches.clear();
+		this.mBatchesDirty = true;
+	}
+
+	/**
+	 * Groups the entities in batches: consecutive batchable sprites with the same texture go
+	 * in the same batch, so the drawing order of the layers doesn't change.
+	 */
+	private void buildBatches() {
+		this.disposeSpriteBatches();
+		ParallaxBatch batch = null;
+		for(int i = 0; i < this.mParallaxEntityCount; i++) {
+			final ParallaxBackground2dEntity entity = this.mParallaxEntities.get(i);
+			final ITexture texture = entity.isBatchable() ? ((Sprite) entity.mShape).getTextureRegion().getTexture() : null;
+			if (batch == null || texture == null || batch.mTexture != texture) {
+				batch = new ParallaxBatch(texture);
+				this.mBatches.add(batch);
+			}
+			batch.mEntities.add(entity);
+		}
+		this.mBatchesDirty = false;
+	}
 	
 	
 	// ===========================================================
 	// Inner and Anonymous Classes
 	// ===========================================================
 
+	/**
+	 * Consecutive entities drawn with one SpriteBatch, or a single entity that can't be batched
+	 * (null texture) drawn as usual.
+	 */
+	private static class ParallaxBatch {
+		final ITexture mTexture;
+		final ArrayList<ParallaxBackground2dEntity> mEntities = new ArrayList<ParallaxBackground2dEntity>();
+		private SpriteBatch mSpriteBatch;
+		private int mCapacity = 0;
+
+		ParallaxBatch(final ITexture pTexture) {
+			this.mTexture = pTexture;
+		}
+
+		void onDraw(final GLState pGLState, final float pParallaxValueX, final float pParallaxValueY, final Camera pCamera) {
+			if (this.mTexture == null) {
+				for(int i = 0; i < this.mEntities.size(); i++) {
+					this.mEntities.get(i).onDraw(pGLState, pParallaxValueX, pParallaxValueY, pCamera);
+				}
+				return;
+			}
+
+			int tileCount = 0;
+			for(int i = 0; i < this.mEntities.size(); i++) {
+				final ParallaxBackground2dEntity entity = this.mEntities.get(i);
+				entity.computeTiles(pParallaxValueX, pParallaxValueY, pCamera);
+				if (entity.mShape.isVisible()) {
+					tileCount += entity.mParallaxTiles.getCount();
+				}
+			}
+			if (tileCount == 0) {
+				return;
+			}
+			this.ensureCapacity(tileCount);
+
+			final SpriteBatch spriteBatch = this.mSpriteBatch;
+			for(int i = 0; i < this.mEntities.size(); i++) {
+				final ParallaxBackground2dEntity entity = this.mEntities.get(i);
+				final Sprite sprite = (Sprite) entity.mShape;
+				if (!sprite.isVisible()) {
+					continue;
+				}
+				final float width = sprite.getWidth();
+				final float height = sprite.getHeight();
+				// Bottom left corner of the sprite:
+				final float left = sprite.getX() - sprite.getOffsetCenterX() * width;
+				final float bottom = sprite.getY() - sprite.getOffsetCenterY() * height;
+				final float[] tiles = entity.mParallaxTiles.getTiles();
+				final int count = entity.mParallaxTiles.getCount();
+				for(int t = 0; t < count; t++) {
+					spriteBatch.draw(sprite.getTextureRegion(), tiles[2 * t] + left, tiles[2 * t + 1] + bottom,
+							width, height, sprite.getRed(), sprite.getGreen(), sprite.getBlue(), sprite.getAlpha());
+				}
+			}
+			spriteBatch.submit();
+			spriteBatch.onDraw(pGLState, pCamera);
+		}
+
+		/**
+		 * Creates the SpriteBatch, or a bigger one if the tiles don't fit.
+		 */
+		private void ensureCapacity(final int pTileCount) {
+			if (this.mSpriteBatch != null && pTileCount <= this.mCapacity) {
+				return;
+			}
+			this.dispose();
+			final Sprite first = (Sprite) this.mEntities.get(0).mShape;
+			this.mCapacity = Math.max(pTileCount, this.mCapacity * 2);
+			this.mSpriteBatch = new SpriteBatch(this.mTexture, this.mCapacity, first.getVertexBufferObjectManager());
+			this.mSpriteBatch.setBlendingEnabled(first.isBlendingEnabled());
+			this.mSpriteBatch.setBlendFunction(first.getBlendFunctionSource(), first.getBlendFunctionDestination());
+		}
+
+		void dispose() {
+			if (this.mSpriteBatch != null && !this.mSpriteBatch.isDisposed()) {
+				this.mSpriteBatch.dispose();
+			}
+			this.mSpriteBatch = null;
+		}
+	}
+
 	public static class ParallaxBackground2dEntity {
 		// ===========================================================
 		// Constants
@@ -138,16 +294,9 @@ public class ParallaxBackground2d extends Background {
 		// Fields
 		// ===========================================================
 
-		final float mParallaxFactorX;
-		final float mParallaxFactorY;
-		private Boolean mRepeatX; //final Boolean mRepeatX; // chapucillas JJ
-		private Boolean mRepeatY; //final Boolean mRepeatY; // chapucillas JJ		
 		final IShape mShape;
-		final Boolean mShouldCull;
-		private int mNumRepeatX = -1;
-		private int mNumRepeatY = -1;
-		private int mNumRepeatActualX = 0;
-		private int mNumRepeatActualY = 0;
+		// Offsets of the tiles drawn in this frame:
+		final ParallaxTiles mParallaxTiles;
 
 		// ===========================================================
 		// Constructors
@@ -155,44 +304,27 @@ public class ParallaxBackground2d extends Background {
 
 		// add a repeating x & y texture fill
 		public ParallaxBackground2dEntity(final float pParallaxFactorX, final float pParallaxFactorY, final IShape pShape) {
-			this.mParallaxFactorX = pParallaxFactorX;
-			this.mParallaxFactorY = pParallaxFactorY;
-			this.mRepeatX = true;
-			this.mRepeatY = true;
-			this.mShouldCull = false;
 			this.mShape = pShape;
+			this.mParallaxTiles = new ParallaxTiles(pParallaxFactorX, pParallaxFactorY, true, true, false, -1, -1);
 		}
 
 		// add an x or y only repeating strip
 		public ParallaxBackground2dEntity(final float pParallaxFactorX, final float pParallaxFactorY, final IShape pShape, final Boolean pRepeatX, final Boolean pRepeatY) {
-			this.mParallaxFactorX = pParallaxFactorX;
-			this.mParallaxFactorY = pParallaxFactorY;
-			this.mRepeatX = pRepeatX;
-			this.mRepeatY = pRepeatY;
-			this.mShouldCull = false;
 			this.mShape = pShape;
+			this.mParallaxTiles = new ParallaxTiles(pParallaxFactorX, pParallaxFactorY, pRepeatX, pRepeatY, false, -1, -1);
 		}			
 		
 		// add an x or y only repeating strip, also configurable number of Repeats
 		public ParallaxBackground2dEntity(final float pParallaxFactorX, final float pParallaxFactorY, final IShape pShape, final Boolean pRepeatX, final Boolean pRepeatY, int pNumRepeatX, int pNumRepeatY) {
-			this.mParallaxFactorX = pParallaxFactorX;
-			this.mParallaxFactorY = pParallaxFactorY;
-			this.mRepeatX = pRepeatX;
-			this.mRepeatY = pRepeatY;
-			this.mShouldCull = false;
 			this.mShape = pShape;
-			this.mNumRepeatX = pNumRepeatX;
-			this.mNumRepeatY = pNumRepeatY;
+			this.mParallaxTiles = new ParallaxTiles(pParallaxFactorX, pParallaxFactorY, pRepeatX, pRepeatY, false, pNumRepeatX, pNumRepeatY);
 		}	
 		
 		// add an x or y only repeating strip or non repeating feature that may be culled when off screen
 		public ParallaxBackground2dEntity(final float pParallaxFactorX, final float pParallaxFactorY, final IShape pShape, final Boolean pRepeatX, final Boolean pRepeatY, final Boolean pShouldCull) {
-			this.mParallaxFactorX = pParallaxFactorX;
-			this.mParallaxFactorY = pParallaxFactorY;
-			this.mRepeatX = pRepeatX;
-			this.mRepeatY = pRepeatY;
-			this.mShouldCull = (pRepeatX && pRepeatY)? false : pShouldCull;
 			this.mShape = pShape;
+			this.mParallaxTiles = new ParallaxTiles(pParallaxFactorX, pParallaxFactorY, pRepeatX, pRepeatY,
+					(pRepeatX && pRepeatY)? false : pShouldCull, -1, -1);
 		}
 
 		
@@ -201,13 +333,13 @@ public class ParallaxBackground2d extends Background {
 		// ===========================================================
 		
 		// Chapucillas para conocer y cambiar la repetici�n o no repetici�n de la textura al vuelo 
-		public Boolean getmRepeatX() { return mRepeatX; }
-		public void setmRepeatX(Boolean mRepeatX) { this.mRepeatX = mRepeatX; }
-		public Boolean tooglemRepeatX() { this.mRepeatX = !this.mRepeatX; return this.mRepeatX; }
+		public Boolean getmRepeatX() { return mParallaxTiles.isRepeatX(); }
+		public void setmRepeatX(Boolean mRepeatX) { mParallaxTiles.setRepeatX(mRepeatX); }
+		public Boolean tooglemRepeatX() { mParallaxTiles.setRepeatX(!mParallaxTiles.isRepeatX()); return mParallaxTiles.isRepeatX(); }
 
-		public Boolean getmRepeatY() { return mRepeatY; }
-		public void setmRepeatY(Boolean mRepeatY) { this.mRepeatY = mRepeatY; }
-		public Boolean tooglemRepeatY() { this.mRepeatY = !this.mRepeatY; return this.mRepeatY; }
+		public Boolean getmRepeatY() { return mParallaxTiles.isRepeatY(); }
+		public void setmRepeatY(Boolean mRepeatY) { mParallaxTiles.setRepeatY(mRepeatY); }
+		public Boolean tooglemRepeatY() { mParallaxTiles.setRepeatY(!mParallaxTiles.isRepeatY()); return mParallaxTiles.isRepeatY(); }
 		
 		// ===========================================================
 		// Methods for/from SuperClass/Interfaces
@@ -218,90 +350,49 @@ public class ParallaxBackground2d extends Background {
 		// ===========================================================
 
 		public void onDraw(final GLState pGLState, final float pParallaxValueX, final float pParallaxValueY, final Camera pCamera) {
+			final int tileCount = this.computeTiles(pParallaxValueX, pParallaxValueY, pCamera);
+			if (tileCount == 0) {
+				return;
+			}
+			final float[] tiles = this.mParallaxTiles.getTiles();
 			pGLState.pushModelViewGLMatrix();
 			{
-				final float cameraWidth = pCamera.getWidth();
-				final float cameraHeight = pCamera.getHeight();
-				final float shapeWidthScaled = this.mShape.getWidth(); // getWidthScaled();
-				final float shapeHeightScaled = this.mShape.getHeight();// getHeightScaled();
-
-				//reposition
-				float baseOffsetX = (pParallaxValueX * this.mParallaxFactorX);
-				Boolean culled = false;
-					if (this.mRepeatX && mNumRepeatX != -1) {
-						if (((baseOffsetX + (shapeWidthScaled*2)) * (mNumRepeatX / 2) < 0) || ((baseOffsetX * (mNumRepeatX / 2)) > cameraWidth)) {
-							culled = true;
-						}
-					}	
-				if (this.mRepeatX) {
-					mNumRepeatActualX ++;
-					baseOffsetX = baseOffsetX % shapeWidthScaled;
-					while(baseOffsetX > 0) {
-						baseOffsetX -= shapeWidthScaled;
-					}
-				}			
-				
-				float baseOffsetY = (pParallaxValueY * this.mParallaxFactorY);
-				//if a entity has a number of repeats on it, when all of them are passed then it will be culled from then on
-				// to calculate the actual position baseoffset divided by shape is used
-				if (this.mRepeatY && mNumRepeatY != -1) {
-						mNumRepeatActualY = (int)(-baseOffsetY / shapeHeightScaled);
-						
-					if (((baseOffsetY + (shapeHeightScaled*2) * (mNumRepeatY / 2)) < 0) || ((baseOffsetY * (mNumRepeatY / 2)) > cameraHeight)) {
-						culled = true;
-					}
-				}
-				if (this.mRepeatY) {
-					
-					baseOffsetY = baseOffsetY % shapeHeightScaled;
-					while(baseOffsetY > 0) {
-						mNumRepeatActualY ++;
-						baseOffsetY -= shapeHeightScaled;
-					}				
-				}
-				
-				
-				
-				//optionally screen cull non repeating items
-				
-				if (mShouldCull) {
-					if (!this.mRepeatX) {
-						if ((baseOffsetY + (shapeHeightScaled*2) < 0) || (baseOffsetY > cameraHeight)) {
-							culled = true;
-						}
-					}	
-					if (!this.mRepeatY) {
-						if ((baseOffsetX + (shapeWidthScaled*2) < 0) || (baseOffsetX > cameraWidth)) {
-							culled = true;
-						}
-					}
-				}
-				
-				if (!culled) {
-					//draw
-					pGLState.translateModelViewGLMatrixf(baseOffsetX, baseOffsetY, 0);
-					float currentMaxX = baseOffsetX;
-					float currentMaxY = baseOffsetY;
-					do {														//rows
-						this.mShape.onDraw(pGLState, pCamera);
-						// if an entity has a limited number of repeats, last time will not extend the image further
-						if (this.mRepeatY && mNumRepeatY != mNumRepeatActualY + 1) {
-							currentMaxY = baseOffsetY;							
-							do {												//columns
-								pGLState.translateModelViewGLMatrixf(0, shapeHeightScaled, 0);
-								currentMaxY += shapeHeightScaled;						
-								this.mShape.onDraw(pGLState, pCamera);
-							} while(currentMaxY < cameraHeight);				//end columns
-							pGLState.translateModelViewGLMatrixf(0, -currentMaxY + baseOffsetY, 0);					
-						} 
-						pGLState.translateModelViewGLMatrixf(shapeWidthScaled, 0, 0);
-						currentMaxX += shapeWidthScaled;
-					} while (this.mRepeatX && currentMaxX < cameraWidth);		//end rows
+				float lastX = 0;
+				float lastY = 0;
+				for(int t = 0; t < tileCount; t++) {
+					pGLState.translateModelViewGLMatrixf(tiles[2 * t] - lastX, tiles[2 * t + 1] - lastY, 0);
+					lastX = tiles[2 * t];
+					lastY = tiles[2 * t + 1];
+					this.mShape.onDraw(pGLState, pCamera);
 				}
 			}
 			pGLState.popModelViewGLMatrix();
 		}
 
+		/**
+		 * @return True if the shape is a sprite that can be drawn in a SpriteBatch: the batch only
+		 * knows the position, size and color of the sprite.
+		 */
+		boolean isBatchable() {
+			if (!(this.mShape instanceof Sprite)) {
+				return false;
+			}
+			final Sprite sprite = (Sprite) this.mShape;
+			return sprite.getRotation() == 0 && sprite.getScaleX() == 1 && sprite.getScaleY() == 1
+					&& sprite.getSkewX() == 0 && sprite.getSkewY() == 0 && sprite.getChildCount() == 0
+					&& !sprite.isFlippedHorizontal() && !sprite.isFlippedVertical();
+		}
+
+		/**
+		 * Calculates the offsets where the shape is drawn in this frame (one per repetition), and
+		 * keeps them in mParallaxTiles. Call it once per frame, it also counts the repetitions.
+		 * @return The number of tiles.
+		 */
+		int computeTiles(final float pParallaxValueX, final float pParallaxValueY, final Camera pCamera) {
+			return this.mParallaxTiles.compute(pParallaxValueX, pParallaxValueY, this.mShape.getWidth(), this.mShape.getHeight(),
+					pCamera.getWidth(), pCamera.getHeight());
+		}
+
 		// ===========================================================
 		// Inner and Anonymous Classes
 		// ===========================================================
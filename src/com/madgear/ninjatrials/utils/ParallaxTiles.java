@@ -0,0 +1,181 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package com.madgear.ninjatrials.utils;
+
+
+/**
+ * Offsets where a parallax layer is drawn in a frame, one per repetition of its shape. It's the
+ * tiling of ParallaxBackground2d.ParallaxBackground2dEntity without the shape: it only needs the
+ * sizes of the shape and the camera, so it runs without GL (see HotPathsBenchmark).
+ *
+ * The offsets are kept in an array that only grows, so computing them every frame doesn't
+ * allocate.
+ *
+ * @author Madgear Games
+ */
+public class ParallaxTiles {
+    private final float factorX;
+    private final float factorY;
+    private boolean repeatX;
+    private boolean repeatY;
+    private final boolean shouldCull;
+    private final int numRepeatX;
+    private final int numRepeatY;
+    private int numRepeatActualX = 0;
+    private int numRepeatActualY = 0;
+    // x, y pairs:
+    private float[] tiles = new float[16];
+    private int count = 0;
+
+    /**
+     * @param numRepeatX Repetitions of the shape in x, or -1 for no limit. The same in y.
+     * @param shouldCull True to skip a non repeating layer when it's off the screen.
+     */
+    public ParallaxTiles(float factorX, float factorY, boolean repeatX, boolean repeatY,
+            boolean shouldCull, int numRepeatX, int numRepeatY) {
+        this.factorX = factorX;
+        this.factorY = factorY;
+        this.repeatX = repeatX;
+        this.repeatY = repeatY;
+        this.shouldCull = shouldCull;
+        this.numRepeatX = numRepeatX;
+        this.numRepeatY = numRepeatY;
+    }
+
+    public boolean isRepeatX() {
+        return repeatX;
+    }
+
+    public void setRepeatX(boolean repeatX) {
+        this.repeatX = repeatX;
+    }
+
+    public boolean isRepeatY() {
+        return repeatY;
+    }
+
+    public void setRepeatY(boolean repeatY) {
+        this.repeatY = repeatY;
+    }
+
+    /**
+     * Calculates the offsets of this frame. Call it once per frame, it also counts the
+     * repetitions.
+     * @return The number of tiles.
+     */
+    public int compute(float parallaxValueX, float parallaxValueY, float shapeWidth,
+            float shapeHeight, float cameraWidth, float cameraHeight) {
+        count = 0;
+
+        //reposition
+        float baseOffsetX = parallaxValueX * factorX;
+        boolean culled = false;
+        if (repeatX && numRepeatX != -1) {
+            if (((baseOffsetX + (shapeWidth * 2)) * (numRepeatX / 2) < 0)
+                    || ((baseOffsetX * (numRepeatX / 2)) > cameraWidth)) {
+                culled = true;
+            }
+        }
+        if (repeatX) {
+            numRepeatActualX++;
+            baseOffsetX = baseOffsetX % shapeWidth;
+            while (baseOffsetX > 0) {
+                baseOffsetX -= shapeWidth;
+            }
+        }
+
+        float baseOffsetY = parallaxValueY * factorY;
+        //if a entity has a number of repeats on it, when all of them are passed then it will be culled from then on
+        // to calculate the actual position baseoffset divided by shape is used
+        if (repeatY && numRepeatY != -1) {
+            numRepeatActualY = (int) (-baseOffsetY / shapeHeight);
+            if (((baseOffsetY + (shapeHeight * 2) * (numRepeatY / 2)) < 0)
+                    || ((baseOffsetY * (numRepeatY / 2)) > cameraHeight)) {
+                culled = true;
+            }
+        }
+        if (repeatY) {
+            baseOffsetY = baseOffsetY % shapeHeight;
+            while (baseOffsetY > 0) {
+                numRepeatActualY++;
+                baseOffsetY -= shapeHeight;
+            }
+        }
+
+        //optionally screen cull non repeating items
+        if (shouldCull) {
+            if (!repeatX) {
+                if ((baseOffsetY + (shapeHeight * 2) < 0) || (baseOffsetY > cameraHeight)) {
+                    culled = true;
+                }
+            }
+            if (!repeatY) {
+                if ((baseOffsetX + (shapeWidth * 2) < 0) || (baseOffsetX > cameraWidth)) {
+                    culled = true;
+                }
+            }
+        }
+
+        if (!culled) {
+            float currentMaxX = baseOffsetX;
+            float currentMaxY;
+            do {                                                    //rows
+                add(currentMaxX, baseOffsetY);
+                // if an entity has a limited number of repeats, last time will not extend the image further
+                if (repeatY && numRepeatY != numRepeatActualY + 1) {
+                    currentMaxY = baseOffsetY;
+                    do {                                            //columns
+                        currentMaxY += shapeHeight;
+                        add(currentMaxX, currentMaxY);
+                    } while (currentMaxY < cameraHeight);           //end columns
+                }
+                currentMaxX += shapeWidth;
+            } while (repeatX && currentMaxX < cameraWidth);         //end rows
+        }
+        return count;
+    }
+
+    /**
+     * @return Number of tiles of the last compute().
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return The offsets of the last compute(), x and y of every tile. Only the first
+     * getCount() pairs are valid.
+     */
+    public float[] getTiles() {
+        return tiles;
+    }
+
+    private void add(float x, float y) {
+        if (2 * count + 1 >= tiles.length) {
+            final float[] grown = new float[tiles.length * 2];
+            System.arraycopy(tiles, 0, grown, 0, tiles.length);
+            tiles = grown;
+        }
+        tiles[2 * count] = x;
+        tiles[2 * count + 1] = y;
+        count++;
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.madgear.ninjatrials.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+
+
+/**
+ * Packs images in as few power of two pages as possible, using the same binary tree split
+ * (Black Pawn) as AndEngine's BlackPawnTextureAtlasBuilder. The builder only tells if the whole
+ * atlas fits after building it, and it needs the atlas size up front. This class chooses the size
+ * of every page and which images go in it before creating any texture: the smallest page where
+ * all the remaining images fit, or a max size page with as many images as fit.
+ *
+ * Usage: add() every image, pack(), and then read the page and position of each image.
+ * Images bigger than the max page size get a page of their own, of the size of the image.
+ *
+ * @author Madgear Games
+ */
+public class TexturePacker {
+    private final int maxPageSize;
+    private final int spacing;
+    private final ArrayList<int[]> sizes = new ArrayList<int[]>();
+    private int[] page;
+    private int[] x;
+    private int[] y;
+    private final ArrayList<int[]> pageSizes = new ArrayList<int[]>();
+
+    /**
+     * @param maxPageSize Max width and height of a page, a power of two (2048 works in every
+     * device we support).
+     * @param spacing Empty pixels between images, to avoid bleeding with bilinear filtering.
+     */
+    public TexturePacker(final int maxPageSize, final int spacing) {
+        this.maxPageSize = maxPageSize;
+        this.spacing = spacing;
+    }
+
+    /**
+     * @return The index of the image.
+     */
+    public int add(final int width, final int height) {
+        sizes.add(new int[] {width, height});
+        return sizes.size() - 1;
+    }
+
+    /**
+     * Places all the added images. The biggest images go first, it packs tighter.
+     * Each page is the smallest power of two size that holds all the remaining images, or a full
+     * max size page filled with as many images as fit.
+     */
+    public void pack() {
+        final int count = sizes.size();
+        page = new int[count];
+        x = new int[count];
+        y = new int[count];
+        pageSizes.clear();
+
+        final Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(final Integer a, final Integer b) {
+                final int[] sa = sizes.get(a);
+                final int[] sb = sizes.get(b);
+                final int delta = Math.max(sb[0], sb[1]) - Math.max(sa[0], sa[1]);
+                return delta != 0 ? delta : sb[0] * sb[1] - sa[0] * sa[1];
+            }
+        });
+
+        final ArrayList<Integer> remaining = new ArrayList<Integer>();
+        for (int i = 0; i < count; i++) {
+            final int[] size = sizes.get(order[i]);
+            if (size[0] > maxPageSize || size[1] > maxPageSize) {
+                // Too big, alone in a page of its own size:
+                addPage(size[0], size[1]);
+                setPlace(order[i], pageSizes.size() - 1, 0, 0);
+            } else {
+                remaining.add(order[i]);
+            }
+        }
+
+        while (!remaining.isEmpty()) {
+            if (!packAllInSmallestPage(remaining)) {
+                fillMaxPage(remaining);
+            }
+        }
+    }
+
+    public int getPageCount() {
+        return pageSizes.size();
+    }
+
+    /**
+     * @return Width of the page: the smallest power of two that holds its images.
+     */
+    public int getPageWidth(final int pageIndex) {
+        return pageSizes.get(pageIndex)[0];
+    }
+
+    public int getPageHeight(final int pageIndex) {
+        return pageSizes.get(pageIndex)[1];
+    }
+
+    /**
+     * @return Width of the part of the page used by its images. A texture of this size holds the
+     * same images with no empty border (GLES2 textures don't need power of two sizes).
+     */
+    public int getUsedWidth(final int pageIndex) {
+        int width = 0;
+        for (int i = 0; i < page.length; i++) {
+            if (page[i] == pageIndex) {
+                width = Math.max(width, x[i] + sizes.get(i)[0]);
+            }
+        }
+        return width;
+    }
+
+    public int getUsedHeight(final int pageIndex) {
+        int height = 0;
+        for (int i = 0; i < page.length; i++) {
+            if (page[i] == pageIndex) {
+                height = Math.max(height, y[i] + sizes.get(i)[1]);
+            }
+        }
+        return height;
+    }
+
+    public int getPage(final int image) {
+        return page[image];
+    }
+
+    public int getX(final int image) {
+        return x[image];
+    }
+
+    public int getY(final int image) {
+        return y[image];
+    }
+
+    /**
+     * Tries the power of two page sizes from the smallest area up, and places all the images in
+     * the first one where they fit.
+     * @return False if they don't fit in a max size page.
+     */
+    private boolean packAllInSmallestPage(final ArrayList<Integer> images) {
+        long area = 0;
+        int minWidth = 1;
+        int minHeight = 1;
+        for (int i = 0; i < images.size(); i++) {
+            final int[] size = sizes.get(images.get(i));
+            area += (long) (size[0] + spacing) * (size[1] + spacing);
+            minWidth = Math.max(minWidth, size[0]);
+            minHeight = Math.max(minHeight, size[1]);
+        }
+        final int[] candidates = powersOfTwo(maxPageSize);
+        // Candidates by area: for every area, the squarest size first.
+        for (int areaLog = 0; areaLog <= 2 * (candidates.length - 1); areaLog++) {
+            for (int offset = 0; offset <= areaLog; offset++) {
+                final int[] pairs = offset == 0 ? new int[] {0} : new int[] {offset, -offset};
+                for (int p = 0; p < pairs.length; p++) {
+                    if ((areaLog + pairs[p]) % 2 != 0) {
+                        continue;
+                    }
+                    final int widthLog = (areaLog + pairs[p]) / 2;
+                    final int heightLog = areaLog - widthLog;
+                    if (widthLog < 0 || heightLog < 0 || widthLog >= candidates.length
+                            || heightLog >= candidates.length) {
+                        continue;
+                    }
+                    final int width = candidates[widthLog];
+                    final int height = candidates[heightLog];
+                    if (width < minWidth || height < minHeight
+                            || (long) (width + spacing) * (height + spacing) < area) {
+                        continue;
+                    }
+                    if (tryPage(images, width, height)) {
+                        images.clear();
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Places all the images in a page of this size, or none of them if they don't fit.
+     */
+    private boolean tryPage(final ArrayList<Integer> images, final int width, final int height) {
+        // The tree is spacing pixels bigger so the images can touch the right and bottom borders:
+        final Node root = new Node(0, 0, width + spacing, height + spacing);
+        final Node[] nodes = new Node[images.size()];
+        for (int i = 0; i < images.size(); i++) {
+            final int[] size = sizes.get(images.get(i));
+            nodes[i] = root.insert(size[0] + spacing, size[1] + spacing);
+            if (nodes[i] == null) {
+                return false;
+            }
+        }
+        addPage(width, height);
+        for (int i = 0; i < images.size(); i++) {
+            setPlace(images.get(i), pageSizes.size() - 1, nodes[i].left, nodes[i].top);
+        }
+        return true;
+    }
+
+    /**
+     * Places in a max size page as many images as fit, and removes them from the list.
+     * The page is then shrunk to the smallest power of two size that holds them.
+     */
+    private void fillMaxPage(final ArrayList<Integer> images) {
+        final Node root = new Node(0, 0, maxPageSize + spacing, maxPageSize + spacing);
+        addPage(1, 1);
+        final int pageIndex = pageSizes.size() - 1;
+        final int[] pageSize = pageSizes.get(pageIndex);
+        for (int i = 0; i < images.size(); i++) {
+            final int image = images.get(i);
+            final int[] size = sizes.get(image);
+            final Node node = root.insert(size[0] + spacing, size[1] + spacing);
+            if (node != null) {
+                setPlace(image, pageIndex, node.left, node.top);
+                pageSize[0] = Math.max(pageSize[0], nextPowerOfTwo(node.left + size[0]));
+                pageSize[1] = Math.max(pageSize[1], nextPowerOfTwo(node.top + size[1]));
+                images.remove(i--);
+            }
+        }
+    }
+
+    private void addPage(final int width, final int height) {
+        pageSizes.add(new int[] {width, height});
+    }
+
+    private void setPlace(final int image, final int pageIndex, final int left, final int top) {
+        page[image] = pageIndex;
+        x[image] = left;
+        y[image] = top;
+    }
+
+    private static int[] powersOfTwo(final int max) {
+        int count = 1;
+        while ((1 << (count - 1)) < max) {
+            count++;
+        }
+        final int[] powers = new int[count];
+        for (int i = 0; i < count; i++) {
+            powers[i] = 1 << i;
+        }
+        return powers;
+    }
+
+    private static int nextPowerOfTwo(final int value) {
+        int power = 1;
+        while (power < value) {
+            power <<= 1;
+        }
+        return power;
+    }
+
+    /**
+     * Node of the Black Pawn tree: a free rectangle, or a used one split in two children.
+     */
+    private static class Node {
+        final int left;
+        final int top;
+        final int width;
+        final int height;
+        Node child1;
+        Node child2;
+        boolean used = false;
+
+        Node(final int left, final int top, final int width, final int height) {
+            this.left = left;
+            this.top = top;
+            this.width = width;
+            this.height = height;
+        }
+
+        Node insert(final int w, final int h) {
+            if (child1 != null) {
+                final Node node = child1.insert(w, h);
+                return node != null ? node : child2.insert(w, h);
+            }
+            if (used || w > width || h > height) {
+                return null;
+            }
+            if (w == width && h == height) {
+                used = true;
+                return this;
+            }
+            // Split along the side with more free space left:
+            if (width - w > height - h) {
+                child1 = new Node(left, top, w, height);
+                child2 = new Node(left + w, top, width - w, height);
+            } else {
+                child1 = new Node(left, top, width, h);
+                child2 = new Node(left, top + h, width, height - h);
+            }
+            return child1.insert(w, h);
+        }
+    }
+}
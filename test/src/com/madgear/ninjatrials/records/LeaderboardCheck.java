@@ -0,0 +1,393 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.madgear.ninjatrials.records;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Random;
+
+import com.madgear.ninjatrials.managers.GameManager;
+import com.madgear.ninjatrials.managers.SaveFormat;
+
+/**
+ * Checks Leaderboard and RecordsTableSet against a plain sorted list, with random records:
+ * the ranks, dropping the lowest record when full, ties (same score, and same score and date),
+ * the views by period, character and difficulty, and the tables after saving and loading them
+ * with SaveFormat. The periods of the reference are computed with a Calendar, so RecordPeriods
+ * is checked too. Runs in a desktop JVM (see README.md) and exits with status 1 on the first
+ * difference.
+ *
+ * @author Madgear Games
+ *
+ */
+public class LeaderboardCheck {
+    private static final int[] CAPACITIES = {0, 1, 12, 100, 1000};
+    private static final int INSERTS = 5000;
+    // A full check every CHECK_EVERY inserts (and after the last one):
+    private static final int CHECK_EVERY = 50;
+    // Few scores and dates rounded to the hour, so there are many ties:
+    private static final int SCORES = 200;
+    private static final long HOUR_MS = 60 * 60 * 1000L;
+    private static final long DAY_MS = 24 * HOUR_MS;
+    private static final int[] CHARACTERS = {GameManager.CHAR_RYOKO, GameManager.CHAR_SHO};
+    private static final int[] DIFFICULTIES =
+            {GameManager.DIFF_EASY, GameManager.DIFF_MEDIUM, GameManager.DIFF_HARD};
+    private static final int[] VIEW_SIZES = {1, 5, RecordsTableSet.SIZE, 50};
+
+    private static long seed;
+    private static long checks = 0;
+
+    public static void main(String[] args) {
+        seed = args.length > 0 ? Long.parseLong(args[0]) : System.nanoTime();
+        Random random = new Random(seed);
+        for (int capacity : CAPACITIES) {
+            checkLeaderboard(new Leaderboard(capacity), null, random);
+            RecordsTableSet set = new RecordsTableSet(new Leaderboard(capacity));
+            checkLeaderboard(set.getLeaderboard(), set, random);
+        }
+        System.out.println("OK, " + checks + " checks (seed " + seed + ")");
+    }
+
+    /**
+     * Inserts random records in the leaderboard (through the set if it isn't null) and in the
+     * reference, comparing them as it goes.
+     */
+    private static void checkLeaderboard(Leaderboard leaderboard, RecordsTableSet set,
+            Random random) {
+        // Records kept by the leaderboard, sorted:
+        ArrayList<Entry> kept = new ArrayList<Entry>();
+        // Records put in the all time table (the ones not dropped when inserted):
+        ArrayList<Entry> accepted = new ArrayList<Entry>();
+        // Records put in the period tables (all of them):
+        ArrayList<Entry> inserted = new ArrayList<Entry>();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < INSERTS; i++) {
+            Entry entry = new Entry(randomRecord(random, now), i);
+            int expected = insert(kept, entry, leaderboard.getCapacity());
+            int rank = set == null ? leaderboard.insert(entry.record) : set.insert(entry.record);
+            check(rank == expected, "insert " + i + " of capacity " + leaderboard.getCapacity()
+                    + ": rank " + rank + ", expected " + expected);
+            if (expected >= 0)
+                accepted.add(entry);
+            inserted.add(entry);
+            if (i % CHECK_EVERY == CHECK_EVERY - 1 || i == INSERTS - 1) {
+                checkContents(leaderboard, kept, random);
+                checkViews(leaderboard, kept, now);
+                if (set != null) {
+                    checkTables(set, kept, accepted, inserted);
+                    checkSaved(set, kept);
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserts in the reference like the leaderboard does.
+     * @return The rank, or -1 if the record is dropped.
+     */
+    private static int insert(ArrayList<Entry> list, Entry entry, int capacity) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (before(list.get(mid), entry))
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        if (low >= capacity)
+            return -1;
+        list.add(low, entry);
+        if (list.size() > capacity)
+            list.remove(list.size() - 1);
+        return low;
+    }
+
+    /**
+     * Best score first, then the oldest, then the first inserted.
+     */
+    private static boolean before(Entry a, Entry b) {
+        if (a.record.score != b.record.score)
+            return a.record.score > b.record.score;
+        long dateA = a.record.date.getTime();
+        long dateB = b.record.date.getTime();
+        if (dateA != dateB)
+            return dateA < dateB;
+        return a.sequence < b.sequence;
+    }
+
+    private static void checkContents(final Leaderboard leaderboard, final ArrayList<Entry> kept,
+            Random random) {
+        check(leaderboard.size() == kept.size(),
+                "size " + leaderboard.size() + ", expected " + kept.size());
+        for (int rank = 0; rank < kept.size(); rank++)
+            check(leaderboard.get(rank) == kept.get(rank).record, "get(" + rank + ")");
+        final int[] rank = {0};
+        leaderboard.forEach(new Leaderboard.RecordVisitor() {
+            @Override
+            public void visit(Record record) {
+                check(record == kept.get(rank[0]).record, "forEach, rank " + rank[0]);
+                rank[0]++;
+            }
+        });
+        check(rank[0] == kept.size(), "forEach visited " + rank[0] + " records");
+        for (int i = 0; i < 20; i++) {
+            int score = random.nextInt(SCORES + 2) - 1;
+            int expected = 0;
+            for (Entry entry : kept)
+                if (entry.record.score >= score)
+                    expected++;
+            check(leaderboard.rankOf(score) == expected, "rankOf(" + score + ") is "
+                    + leaderboard.rankOf(score) + ", expected " + expected);
+        }
+    }
+
+    /**
+     * The filtered views against the filtered reference, with several sizes.
+     */
+    private static void checkViews(Leaderboard leaderboard, ArrayList<Entry> kept, long now) {
+        ArrayList<Window> windows = new ArrayList<Window>();
+        windows.add(new Window("all", null, -1, -1, Long.MIN_VALUE));
+        long[] since = {startOfDay(now), now - 7 * DAY_MS, startOfMonth(now), now + DAY_MS};
+        for (long time : since)
+            windows.add(new Window("since " + new Date(time), RecordFilters.since(time),
+                    -1, -1, time));
+        for (int character : CHARACTERS) {
+            windows.add(new Window("character " + character,
+                    RecordFilters.character(character), character, -1, Long.MIN_VALUE));
+            for (int difficulty : DIFFICULTIES)
+                windows.add(new Window("character " + character + " difficulty " + difficulty,
+                        RecordFilters.and(RecordFilters.character(character),
+                                RecordFilters.difficulty(difficulty)),
+                        character, difficulty, Long.MIN_VALUE));
+        }
+        for (int difficulty : DIFFICULTIES)
+            windows.add(new Window("difficulty " + difficulty + " this month",
+                    RecordFilters.and(RecordFilters.difficulty(difficulty),
+                            RecordFilters.since(startOfMonth(now))),
+                    -1, difficulty, startOfMonth(now)));
+
+        for (Window window : windows) {
+            for (int size : VIEW_SIZES) {
+                Record[] out = new Record[size];
+                int count = leaderboard.top(window.filter, out);
+                int expected = 0;
+                for (Entry entry : kept) {
+                    if (expected == size)
+                        break;
+                    if (window.accept(entry.record)) {
+                        check(count > expected && out[expected] == entry.record,
+                                window.name + ", place " + expected + " of " + size);
+                        expected++;
+                    }
+                }
+                check(count == expected, window.name + ": " + count + " records, expected "
+                        + expected);
+                for (int i = count; i < size; i++)
+                    check(out[i] == null, window.name + ": place " + i + " not cleared");
+            }
+        }
+    }
+
+    /**
+     * The all time table has the best scores of the records not dropped when inserted (a record
+     * dropped later by a smaller leaderboard than the table stays in it). The today and month
+     * tables have the best scores of all the records of their periods, dropped by the
+     * leaderboard or not. Records with the same score can be in any order, so only the scores are
+     * compared.
+     */
+    private static void checkTables(RecordsTableSet set, ArrayList<Entry> kept,
+            ArrayList<Entry> accepted, ArrayList<Entry> inserted) {
+        set.update();
+        Calendar today = Calendar.getInstance();
+        ArrayList<Entry> todayEntries = new ArrayList<Entry>();
+        ArrayList<Entry> monthEntries = new ArrayList<Entry>();
+        ArrayList<Entry> allTimeEntries = new ArrayList<Entry>();
+        for (Entry entry : accepted)
+            insert(allTimeEntries, entry, Integer.MAX_VALUE);
+        for (Entry entry : inserted) {
+            Calendar date = calendar(entry.record.date.getTime());
+            if (sameMonth(date, today)) {
+                insert(monthEntries, entry, Integer.MAX_VALUE);
+                if (date.get(Calendar.DAY_OF_MONTH) == today.get(Calendar.DAY_OF_MONTH))
+                    insert(todayEntries, entry, Integer.MAX_VALUE);
+            }
+        }
+        checkTable("today", set.todayRecords, todayEntries);
+        checkTable("month", set.monthRecords, monthEntries);
+        checkTable("all time", set.allTimeRecords, allTimeEntries);
+        RecordsTable view = set.view(null, RecordsTableSet.SIZE);
+        checkTable("all time view", view, kept);
+    }
+
+    /**
+     * Saves the set and loads it: the leaderboard is the same, and so are the today and month
+     * tables (with the records dropped by the leaderboard). The all time table is made from the
+     * loaded leaderboard, so it's the best of the kept records.
+     */
+    private static void checkSaved(RecordsTableSet set, ArrayList<Entry> kept) {
+        RecordsTableSet loaded;
+        try {
+            loaded = SaveFormat.readRecords(SaveFormat.writeRecords(set));
+        } catch (IOException e) {
+            check(false, "saved records not read: " + e);
+            return;
+        }
+        Leaderboard leaderboard = loaded.getLeaderboard();
+        check(leaderboard.size() == kept.size(), "loaded size " + leaderboard.size()
+                + ", expected " + kept.size());
+        for (int rank = 0; rank < kept.size(); rank++)
+            check(leaderboard.get(rank).score == kept.get(rank).record.score
+                    && leaderboard.get(rank).date.equals(kept.get(rank).record.date),
+                    "loaded get(" + rank + ")");
+        loaded.update();
+        checkSameScores("loaded today", loaded.todayRecords, set.todayRecords);
+        checkSameScores("loaded month", loaded.monthRecords, set.monthRecords);
+        RecordsTable allTime = new RecordsTable(new Record[RecordsTableSet.SIZE], new Date());
+        for (Entry entry : kept)
+            allTime.offer(entry.record);
+        checkSameScores("loaded all time", loaded.allTimeRecords, allTime);
+    }
+
+    private static void checkSameScores(String name, RecordsTable table, RecordsTable expected) {
+        for (int place = 0; place < table.recordsTable.length; place++) {
+            Record record = table.recordsTable[place];
+            Record expectedRecord = expected.recordsTable[place];
+            check(record == null ? expectedRecord == null
+                    : expectedRecord != null && record.score == expectedRecord.score,
+                    name + " table, place " + place);
+        }
+    }
+
+    private static void checkTable(String name, RecordsTable table, ArrayList<Entry> best) {
+        int size = table.recordsTable.length;
+        for (int place = 0; place < size; place++) {
+            // The tables go from the lowest to the best:
+            Record record = table.recordsTable[size - 1 - place];
+            if (place < best.size())
+                check(record != null && record.score == best.get(place).record.score,
+                        name + " table, place " + place + ": "
+                        + (record == null ? "empty" : record.score) + ", expected "
+                        + best.get(place).record.score);
+            else
+                check(record == null, name + " table, place " + place + " should be empty");
+        }
+    }
+
+    /**
+     * A record of today, of this month or of the last 90 days, never in the future.
+     */
+    private static Record randomRecord(Random random, long now) {
+        long from;
+        switch (random.nextInt(3)) {
+        case 0:
+            from = startOfDay(now);
+            break;
+        case 1:
+            from = startOfMonth(now);
+            break;
+        default:
+            from = now - 90 * DAY_MS;
+            break;
+        }
+        long hours = (now - from) / HOUR_MS + 1;
+        long date = Math.max(from, now - (long) random.nextInt((int) hours) * HOUR_MS);
+        date -= (date - from) % HOUR_MS;
+        Record record = new Record(1, "Player" + random.nextInt(3),
+                CHARACTERS[random.nextInt(CHARACTERS.length)], random.nextInt(SCORES),
+                DIFFICULTIES[random.nextInt(DIFFICULTIES.length)]);
+        record.date = new Date(date);
+        return record;
+    }
+
+    private static Calendar calendar(long timeMs) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(timeMs);
+        return calendar;
+    }
+
+    private static boolean sameMonth(Calendar a, Calendar b) {
+        return a.get(Calendar.YEAR) == b.get(Calendar.YEAR)
+                && a.get(Calendar.MONTH) == b.get(Calendar.MONTH);
+    }
+
+    private static long startOfDay(long timeMs) {
+        Calendar calendar = calendar(timeMs);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+        return calendar.getTimeInMillis();
+    }
+
+    private static long startOfMonth(long timeMs) {
+        Calendar calendar = calendar(startOfDay(timeMs));
+        calendar.set(Calendar.DAY_OF_MONTH, 1);
+        return calendar.getTimeInMillis();
+    }
+
+    private static void check(boolean ok, String message) {
+        checks++;
+        if (!ok) {
+            System.out.println("FAILED: " + message + " (seed " + seed + ")");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * A record and its insertion order.
+     */
+    private static class Entry {
+        final Record record;
+        final long sequence;
+
+        Entry(Record pRecord, long pSequence) {
+            record = pRecord;
+            sequence = pSequence;
+        }
+    }
+
+    /**
+     * A filter and the same condition checked directly on the reference (-1 for any).
+     */
+    private static class Window {
+        final String name;
+        final RecordFilter filter;
+        final int character;
+        final int difficulty;
+        final long since;
+
+        Window(String pName, RecordFilter pFilter, int pCharacter, int pDifficulty,
+                long pSince) {
+            name = pName;
+            filter = pFilter;
+            character = pCharacter;
+            difficulty = pDifficulty;
+            since = pSince;
+        }
+
+        boolean accept(Record record) {
+            return (character < 0 || record.characterId == character)
+                    && (difficulty < 0 || record.difficulty == difficulty)
+                    && record.date.getTime() >= since;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Ninja Trials is an old school style Android Game developed for OUYA & using
+ * AndEngine. It features several minigames with simple gameplay.
+ * Copyright 2013 Mad Gear Games <madgeargames@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.madgear.ninjatrials.tools;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Offline step for the texture formats of the game (see docs/texture_formats.md).
+ *
+ * report dir: for every png of the dir, its size, its alpha (opaque, 1 bit or full), the quality
+ * of the 16 bit formats (PSNR in dB of the truncated pixels, what the device uploads) and the
+ * recommended format with its VRAM.
+ *
+ * dither format files...: quantizes the images to RGB_565 or RGBA_4444 with Floyd-Steinberg
+ * error diffusion and writes them back as png. The device truncates the pixels when it uploads
+ * a 16 bit texture: the dithered ones are uploaded without changes, and gradients (skies, fades)
+ * don't get bands.
+ *
+ * Runs in a desktop JVM, it only needs the JDK.
+ *
+ * @author Madgear Games
+ */
+public class TextureFormatTool {
+    // Min PSNR to recommend a 16 bit format. RGBA_4444 only keeps flat art (text, effects,
+    // stamps) looking right, antialiased characters between 32 and 45 dB show bands:
+    private static final double MIN_PSNR_565 = 38.0;
+    private static final double MIN_PSNR_4444 = 45.0;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 2 && args[0].equals("report")) {
+            report(new File(args[1]));
+        } else if (args.length >= 3 && args[0].equals("dither")) {
+            final int[] bits = bits(args[1]);
+            for (int i = 2; i < args.length; i++) {
+                dither(new File(args[i]), bits, args[1].equals("RGB_565"));
+            }
+        } else {
+            System.out.println("Usage: TextureFormatTool report <dir>");
+            System.out.println("       TextureFormatTool dither <RGB_565|RGBA_4444> <png>...");
+            System.exit(1);
+        }
+    }
+
+    private static void report(File dir) throws IOException {
+        final List<File> files = new ArrayList<File>();
+        listPngs(dir, files);
+        long totalBefore = 0;
+        long totalAfter = 0;
+        System.out.println(String.format("%-52s %9s %6s %6s %6s %-9s %8s", "image", "size",
+                "alpha", "565", "4444", "format", "KB"));
+        for (File file : files) {
+            final BufferedImage image = ImageIO.read(file);
+            if (image == null) {
+                continue;
+            }
+            final int w = image.getWidth();
+            final int h = image.getHeight();
+            final int[] argb = image.getRGB(0, 0, w, h, null, 0, w);
+            final String alpha = alpha(argb);
+            final double psnr565 = alpha.equals("opaque")
+                    ? psnr(argb, truncate(argb, bits("RGB_565"), true)) : 0;
+            final double psnr4444 = psnr(argb, truncate(argb, bits("RGBA_4444"), false));
+            String format = "RGBA_8888";
+            if (alpha.equals("opaque") && psnr565 >= MIN_PSNR_565) {
+                format = "RGB_565";
+            } else if (psnr4444 >= MIN_PSNR_4444) {
+                format = "RGBA_4444";
+            }
+            final long before = 4L * w * h;
+            final long after = format.equals("RGBA_8888") ? before : before / 2;
+            totalBefore += before;
+            totalAfter += after;
+            final String name = dir.toURI().relativize(file.toURI()).getPath();
+            System.out.println(String.format("%-52s %9s %6s %6s %6.1f %-9s %8d", name,
+                    w + "x" + h, alpha, alpha.equals("opaque") ? String.format("%.1f", psnr565)
+                            : "-", psnr4444, format, after / 1024));
+        }
+        System.out.println(String.format("%d images, %.1f MB at RGBA_8888, %.1f MB recommended",
+                files.size(), totalBefore / 1048576.0, totalAfter / 1048576.0));
+    }
+
+    private static void dither(File file, int[] bits, boolean opaque) throws IOException {
+        final BufferedImage image = ImageIO.read(file);
+        final int w = image.getWidth();
+        final int h = image.getHeight();
+        final int[] argb = image.getRGB(0, 0, w, h, null, 0, w);
+        if (opaque && !alpha(argb).equals("opaque")) {
+            System.out.println(file + " has transparent pixels, not converted to RGB_565.");
+            return;
+        }
+        final int[] out = quantize(argb, w, h, bits, opaque);
+        final BufferedImage result = new BufferedImage(w, h,
+                opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        result.setRGB(0, 0, w, h, out, 0, w);
+        ImageIO.write(result, "png", file);
+        System.out.println(String.format("%s: PSNR %.1f dB", file, psnr(argb, out)));
+    }
+
+    /**
+     * @return Bits of alpha, red, green and blue of the format.
+     */
+    private static int[] bits(String format) {
+        if (format.equals("RGB_565")) {
+            return new int[] {8, 5, 6, 5};
+        }
+        if (format.equals("RGBA_4444")) {
+            return new int[] {4, 4, 4, 4};
+        }
+        throw new IllegalArgumentException("Unknown format " + format);
+    }
+
+    /**
+     * @return "opaque", "1bit" (only fully transparent and opaque pixels) or "full".
+     */
+    private static String alpha(int[] argb) {
+        boolean transparent = false;
+        for (int pixel : argb) {
+            final int a = pixel >>> 24;
+            if (a != 255 && a != 0) {
+                return "full";
+            }
+            transparent |= a == 0;
+        }
+        return transparent ? "1bit" : "opaque";
+    }
+
+    /**
+     * Truncates every channel to its bits, like the device when it uploads the png to a 16 bit
+     * texture. The levels are written back to 8 bits as in quantize().
+     */
+    private static int[] truncate(int[] argb, int[] bits, boolean opaque) {
+        final int[] out = new int[argb.length];
+        for (int i = 0; i < argb.length; i++) {
+            int result = 0;
+            for (int c = 0; c < 4; c++) {
+                final int shift = 24 - c * 8;
+                final int q = ((argb[i] >>> shift) & 0xff) >> (8 - bits[c]);
+                final int value = (c == 0 && opaque) ? 255
+                        : (q << (8 - bits[c])) | (q >> (2 * bits[c] - 8));
+                result |= value << shift;
+            }
+            out[i] = result;
+        }
+        return out;
+    }
+
+    /**
+     * Quantizes every channel to its bits with Floyd-Steinberg error diffusion. The levels are
+     * written back to 8 bits repeating the high bits, the value the GPU reads from the 16 bit
+     * texture. Fully transparent pixels don't spread their error.
+     */
+    private static int[] quantize(int[] argb, int w, int h, int[] bits, boolean opaque) {
+        final int[] out = new int[argb.length];
+        // Error of the current and the next row, per channel:
+        float[][] current = new float[4][w + 2];
+        float[][] next = new float[4][w + 2];
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                final int pixel = argb[y * w + x];
+                final boolean hidden = (pixel >>> 24) == 0;
+                int result = 0;
+                for (int c = 0; c < 4; c++) {
+                    final int shift = 24 - c * 8;
+                    final float value = ((pixel >>> shift) & 0xff) + current[c][x + 1];
+                    final int quantized = (c == 0 && opaque) ? 255 : level(value, bits[c]);
+                    result |= quantized << shift;
+                    if (!hidden) {
+                        final float error = value - quantized;
+                        current[c][x + 2] += error * 7 / 16;
+                        next[c][x] += error * 3 / 16;
+                        next[c][x + 1] += error * 5 / 16;
+                        next[c][x + 2] += error * 1 / 16;
+                    }
+                }
+                out[y * w + x] = result;
+            }
+            final float[][] swap = current;
+            current = next;
+            next = swap;
+            for (float[] row : next) {
+                Arrays.fill(row, 0);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * @return The 8 bit value of the nearest level with these bits.
+     */
+    private static int level(float value, int bits) {
+        final int max = (1 << bits) - 1;
+        final int q = Math.max(0, Math.min(max, Math.round(value * max / 255f)));
+        // Repeats the high bits, so that value >> (8 - bits) gives q back:
+        return (q << (8 - bits)) | (q >> (2 * bits - 8));
+    }
+
+    /**
+     * @return PSNR of the color channels, premultiplied by alpha so the hidden pixels don't count.
+     */
+    private static double psnr(int[] original, int[] converted) {
+        double sum = 0;
+        for (int i = 0; i < original.length; i++) {
+            final int a = original[i] >>> 24;
+            for (int shift = 0; shift <= 24; shift += 8) {
+                final int o = (original[i] >>> shift) & 0xff;
+                final int q = (converted[i] >>> shift) & 0xff;
+                final double d = shift == 24 ? o - q : (o - q) * a / 255.0;
+                sum += d * d;
+            }
+        }
+        final double mse = sum / (original.length * 4.0);
+        return mse == 0 ? 99 : 10 * Math.log10(255.0 * 255.0 / mse);
+    }
+
+    private static void listPngs(File dir, List<File> files) {
+        final File[] children = dir.listFiles();
+        if (children == null) {
+            return;
+        }
+        Arrays.sort(children);
+        for (File child : children) {
+            if (child.isDirectory()) {
+                listPngs(child, files);
+            } else if (child.getName().endsWith(".png")) {
+                files.add(child);
+            }
+        }
+    }
+}